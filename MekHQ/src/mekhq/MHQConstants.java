@@ -72,7 +72,7 @@ public final class MHQConstants extends SuiteConstants {
     public static final String LONG_DISPLAY_DATE_FORMAT = "longDisplayDateFormat";
     public static final String HIDE_UNIT_FLUFF = "hideUnitFluff";
     public static final String HISTORICAL_DAILY_LOG = "historicalDailyLog";
-    public static final int MAX_HISTORICAL_LOG_DAYS = 120; // max number of days that will be stored in the history,
+    public static final int MAX_HISTORICAL_LOG_DAYS = 365; // max number of days that will be stored in the history,
     // also used as a limit in the UI
     public static final String COMPANY_GENERATOR_STARTUP = "companyGeneratorStartup";
     public static final String SHOW_COMPANY_GENERATOR = "showCompanyGenerator";
@@ -165,6 +165,7 @@ public final class MHQConstants extends SuiteConstants {
     public static final String SAVE_YEARLY_KEY = "saveYearly";
     public static final String SAVE_BEFORE_SCENARIOS_KEY = "saveBeforeScenarios";
     public static final String SAVE_BEFORE_MISSION_END = "saveBeforeMissionEnd";
+    public static final String SAVE_IN_BACKGROUND_KEY = "saveInBackground";
     public static final String MAXIMUM_NUMBER_SAVES_KEY = "maximumNumberAutoSaves";
     public static final int DEFAULT_NUMBER_SAVES = 5;
     // endregion Autosave
@@ -304,6 +305,7 @@ public final class MHQConstants extends SuiteConstants {
     public static final String USER_CAMPAIGN_PRESET_DIRECTORY = "userdata/data/campaignPresets/";
     public static final String STRAT_CON_MUL_FILES_DIRECTORY = "data/scenariotemplates/fixedmuls/";
     public static final String PLANETARY_SYSTEM_DIRECTORY_PATH = "data/universe/planetary_systems";
+    public static final String PLANETARY_SYSTEM_CACHE_FILE_PATH = "userdata/data/universe/planetary_systems.cache";
     public static final String FORCE_ICON_PATH = "data/images/force";
     public static final String PERSONNEL_MARKET_DIRECTORY_PATH = "data/universe/markets/personnelMarket/";
     public static final String MAP_GEN_PATH = "data/mapgen";
@@ -824,6 +824,14 @@ public final class MHQOptions extends SuiteOptions {
         userPreferences.node(MHQConstants.AUTOSAVE_NODE).putBoolean(MHQConstants.SAVE_BEFORE_MISSION_END, value);
     }
 
+    public boolean getAutosaveInBackgroundValue() {
+        return userPreferences.node(MHQConstants.AUTOSAVE_NODE).getBoolean(MHQConstants.SAVE_IN_BACKGROUND_KEY, true);
+    }
+
+    public void setAutosaveInBackgroundValue(boolean value) {
+        userPreferences.node(MHQConstants.AUTOSAVE_NODE).putBoolean(MHQConstants.SAVE_IN_BACKGROUND_KEY, value);
+    }
+
     public int getMaximumNumberOfAutoSavesValue() {
         return userPreferences.node(MHQConstants.AUTOSAVE_NODE)
                      .getInt(MHQConstants.MAXIMUM_NUMBER_SAVES_KEY, MHQConstants.DEFAULT_NUMBER_SAVES);
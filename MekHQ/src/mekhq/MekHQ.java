@@ -341,6 +341,13 @@ public class MekHQ implements GameListener {
         MegaMekLab.getMMLPreferences().saveToFile(SuiteConstants.MML_PREFERENCES_FILE);
         getMHQPreferences().saveToFile(SuiteConstants.MHQ_PREFERENCES_FILE);
 
+        // Don't cut off an autosave that is still being written in the background
+        getAutosaveService().awaitPendingAutosaves();
+
+        if ((campaignController != null) && (getCampaign() != null)) {
+            getCampaign().getDailyLogHistory().close();
+        }
+
         System.exit(0);
     }
 
@@ -414,6 +421,12 @@ public class MekHQ implements GameListener {
     }
 
     public void setCampaign(Campaign c) {
+        // Nothing reads the replaced campaign's daily log history any more, so its files are removed now
+        final Campaign previous = (campaignController == null) ? null : campaignController.getLocalCampaign();
+        if ((previous != null) && (previous != c)) {
+            previous.getDailyLogHistory().close();
+        }
+
         campaignController = new CampaignController(c);
     }
 
@@ -102,9 +102,9 @@ import mekhq.campaign.personnel.enums.Phenotype;
 import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.campaign.unit.CrewType;
 import mekhq.campaign.unit.ITransportAssignment;
+import mekhq.campaign.unit.MekSummaryVariantIndex;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.UnitTechProgression;
-import mekhq.campaign.universe.Faction;
 import mekhq.utilities.ReportingUtilities;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
@@ -269,24 +269,14 @@ public class Utilities {
     public static ArrayList<String> getAllVariants(Entity en, Campaign campaign) {
         ArrayList<String> variants = new ArrayList<>();
 
-        for (MekSummary summary : MekSummaryCache.getInstance().getAllMeks()) {
-            // If this isn't the same chassis, is our current unit, we continue
-            if (!en.getChassis().equalsIgnoreCase(summary.getChassis()) ||
-                      en.getModel().equalsIgnoreCase(summary.getModel()) ||
-                      !summary.getUnitType().equals(UnitType.getTypeName(en.getUnitType()))) {
-                continue;
-            }
+        boolean campaignIsClan = campaign.getFaction().isClan();
+        LocalDate today = campaign.getLocalDate();
 
-            // Weight of the two units must match, or we continue, but BA weight gets checked
-            // differently
-            if (en instanceof BattleArmor battleArmor) {
-                if (battleArmor.getTroopers() != (int) summary.getTWWeight()) {
-                    continue;
-                }
-            } else {
-                if (summary.getTons() != en.getWeight()) {
-                    continue;
-                }
+        // The index only returns units sharing our chassis, unit type and weight (or BA troopers)
+        for (MekSummary summary : MekSummaryVariantIndex.getInstance().getVariants(en)) {
+            // Our current unit isn't a variant of itself
+            if (en.getModel().equalsIgnoreCase(summary.getModel())) {
+                continue;
             }
 
             // If the unit doesn't meet the tech filter criteria we continue
@@ -303,13 +293,9 @@ public class Utilities {
                 continue;
             }
 
-            Faction campaignFaction = campaign.getFaction();
-            boolean campaignIsClan = campaignFaction.isClan();
             String techBase = summary.getTechBase().toLowerCase();
             boolean modelIsClan = summary.isClan() || techBase.contains("clan") || techBase.contains("mixed");
 
-            LocalDate today = campaign.getLocalDate();
-
             if (!campaignIsClan && modelIsClan && today.isBefore(BATTLE_OF_TUKAYYID)) {
                 continue;
             }
@@ -851,6 +837,7 @@ public class Utilities {
 
             // this is counter-intuitive, but skills go from 0 (best) to 8 (worst)
             person.getSkill(skillType).setLevel(skillLevel + skillIncrement);
+            person.invalidateDerivedStats();
             totalGunnery -= skillIncrement;
             averageGunnery = (int) Math.round(((double) totalGunnery) / people.size());
         }
@@ -923,6 +910,7 @@ public class Utilities {
             IOption currentOption = optionsEnum.nextElement();
             p.getOptions().getOption(currentOption.getName()).setValue(currentOption.getValue());
         }
+        p.invalidateDerivedStats();
     }
 
     public static int generateRandomExp() {
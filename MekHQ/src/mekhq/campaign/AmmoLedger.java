@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.equipment.AmmoType;
+import mekhq.campaign.parts.AmmoStorage;
+import mekhq.campaign.parts.Part;
+
+/**
+ * Tracks the {@link AmmoStorage} parts held by a {@link Warehouse}, grouped by their kind of storage and
+ * {@link AmmoType}, so that the
+ * {@link Quartermaster} can find and count ammo without walking every part in the warehouse.
+ *
+ * <p>The warehouse adds and removes storage as parts enter and leave it. Shot counts, arrival and refit reservations
+ * change on the parts themselves, so they are read live from the grouped storage rather than copied into the ledger;
+ * this keeps the ledger correct however the ammo is changed.</p>
+ *
+ * <p>Which stored ammo types are identical to, or compatible with, a requested ammo type is worked out once per
+ * requested type and remembered until a new ammo type enters or the last storage of a type leaves the warehouse.</p>
+ */
+class AmmoLedger {
+    /**
+     * Identifies a group of ammo storage. The storage class is part of the key because subclasses, such as infantry
+     * ammo, decide differently which ammo they are compatible with.
+     *
+     * @param storageClass the class of the ammo storage
+     * @param ammoType     the ammo held
+     */
+    private record StorageKey(Class<? extends AmmoStorage> storageClass, AmmoType ammoType) {
+        static StorageKey of(AmmoStorage ammoStorage) {
+            return new StorageKey(ammoStorage.getClass(), ammoStorage.getType());
+        }
+    }
+
+    /**
+     * The stored ammo groups which can supply a requested ammo type.
+     *
+     * @param sameKeys       groups which are the same ammo as the requested type
+     * @param compatibleKeys groups which are compatible with, but not the same as, the requested type
+     */
+    private record Matches(List<StorageKey> sameKeys, List<StorageKey> compatibleKeys) {
+    }
+
+    // Storage by group, each ordered by part ID to match the warehouse's own ordering
+    private final Map<StorageKey, TreeMap<Integer, AmmoStorage>> storageByKey = new HashMap<>();
+    private final Map<Integer, StorageKey> keysById = new HashMap<>();
+    private final Map<AmmoType, Matches> matchesByRequestedType = new HashMap<>();
+
+    /**
+     * Records ammo storage which has been added to the warehouse.
+     *
+     * @param ammoStorage the ammo storage added
+     */
+    void add(AmmoStorage ammoStorage) {
+        remove(ammoStorage.getId());
+
+        if (ammoStorage.getType() == null) {
+            // Not yet restored, this will be picked up when the warehouse is reindexed
+            return;
+        }
+
+        StorageKey key = StorageKey.of(ammoStorage);
+        keysById.put(ammoStorage.getId(), key);
+        TreeMap<Integer, AmmoStorage> storage = storageByKey.get(key);
+        if (storage == null) {
+            storage = new TreeMap<>();
+            storageByKey.put(key, storage);
+            matchesByRequestedType.clear();
+        }
+        storage.put(ammoStorage.getId(), ammoStorage);
+    }
+
+    /**
+     * Forgets the ammo storage with the given part ID, if it is being tracked.
+     *
+     * @param id the part ID of the ammo storage removed from the warehouse
+     */
+    void remove(int id) {
+        StorageKey key = keysById.remove(id);
+        if (key == null) {
+            return;
+        }
+
+        TreeMap<Integer, AmmoStorage> storage = storageByKey.get(key);
+        if (storage != null) {
+            storage.remove(id);
+            if (storage.isEmpty()) {
+                storageByKey.remove(key);
+                matchesByRequestedType.clear();
+            }
+        }
+    }
+
+    /**
+     * Forgets all ammo storage.
+     */
+    void clear() {
+        storageByKey.clear();
+        keysById.clear();
+        matchesByRequestedType.clear();
+    }
+
+    /**
+     * Gets a value indicating whether ammo storage can currently be drawn on: it must be a spare part, must have
+     * arrived, and must not be reserved for a refit.
+     *
+     * @param ammoStorage the ammo storage to check
+     */
+    static boolean isAvailable(AmmoStorage ammoStorage) {
+        return ammoStorage.isSpare() && ammoStorage.isPresent() && !ammoStorage.isReservedForRefit();
+    }
+
+    private Matches getMatches(AmmoType ammoType) {
+        Matches matches = matchesByRequestedType.get(ammoType);
+        if (matches == null) {
+            List<StorageKey> sameKeys = new ArrayList<>();
+            List<StorageKey> compatibleKeys = new ArrayList<>();
+            for (Map.Entry<StorageKey, TreeMap<Integer, AmmoStorage>> entry : storageByKey.entrySet()) {
+                // Every storage in the group is the same kind holding the same ammo, so any of them can answer
+                AmmoStorage representative = entry.getValue().firstEntry().getValue();
+                if (representative.isSameAmmoType(ammoType)) {
+                    sameKeys.add(entry.getKey());
+                } else if (representative.isCompatibleAmmo(ammoType)) {
+                    compatibleKeys.add(entry.getKey());
+                }
+            }
+            matches = new Matches(sameKeys, compatibleKeys);
+            matchesByRequestedType.put(ammoType, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the available ammo storage with the lowest part ID which is the same ammo as the requested type.
+     *
+     * @param ammoType the requested ammo type
+     *
+     * @return the matching ammo storage, or {@code null} if there is none
+     */
+    @Nullable
+    AmmoStorage findSameAmmo(AmmoType ammoType) {
+        AmmoStorage found = null;
+        for (StorageKey key : getMatches(ammoType).sameKeys()) {
+            for (AmmoStorage ammoStorage : storageByKey.get(key).values()) {
+                if (isAvailable(ammoStorage)) {
+                    if ((found == null) || (ammoStorage.getId() < found.getId())) {
+                        found = ammoStorage;
+                    }
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the available ammo storage, in part ID order, which is compatible with but not the same as the requested
+     * type, and which has at least one shot left.
+     *
+     * @param ammoType the requested ammo type
+     *
+     * @return the compatible ammo storage
+     */
+    List<AmmoStorage> findCompatibleAmmo(AmmoType ammoType) {
+        List<AmmoStorage> compatibleAmmo = new ArrayList<>();
+        for (StorageKey key : getMatches(ammoType).compatibleKeys()) {
+            for (AmmoStorage ammoStorage : storageByKey.get(key).values()) {
+                if (isAvailable(ammoStorage) && (ammoStorage.getShots() > 0)) {
+                    compatibleAmmo.add(ammoStorage);
+                }
+            }
+        }
+        compatibleAmmo.sort(Comparator.comparingInt(Part::getId));
+        return compatibleAmmo;
+    }
+
+    /**
+     * Counts the shots available of the requested ammo type.
+     *
+     * @param ammoType          the requested ammo type
+     * @param includeCompatible whether compatible ammo should be counted, converted to the requested type
+     *
+     * @return the number of shots available
+     */
+    int getShotsAvailable(AmmoType ammoType, boolean includeCompatible) {
+        Matches matches = getMatches(ammoType);
+
+        int shots = 0;
+        for (StorageKey key : matches.sameKeys()) {
+            for (AmmoStorage ammoStorage : storageByKey.get(key).values()) {
+                if (isAvailable(ammoStorage)) {
+                    shots += ammoStorage.getShots();
+                }
+            }
+        }
+
+        if (includeCompatible) {
+            for (StorageKey key : matches.compatibleKeys()) {
+                for (AmmoStorage ammoStorage : storageByKey.get(key).values()) {
+                    if (isAvailable(ammoStorage)) {
+                        shots += Quartermaster.convertShots(key.ammoType(), ammoStorage.getShots(), ammoType);
+                    }
+                }
+            }
+        }
+
+        return shots;
+    }
+
+    /**
+     * Checks the ledger against the parts actually held by the warehouse, for use in tests. Every ammo storage part
+     * must be tracked under its current ammo type, nothing else may be tracked, and the shots available for each
+     * stored ammo type must match a count over all the parts.
+     *
+     * @param parts every part in the warehouse
+     *
+     * @return a description of each inconsistency found, or an empty list if the ledger is consistent
+     */
+    List<String> checkConsistency(Collection<Part> parts) {
+        List<String> problems = new ArrayList<>();
+
+        List<AmmoStorage> allAmmoStorage = new ArrayList<>();
+        for (Part part : parts) {
+            if ((part instanceof AmmoStorage ammoStorage) && (ammoStorage.getType() != null)) {
+                allAmmoStorage.add(ammoStorage);
+
+                StorageKey key = StorageKey.of(ammoStorage);
+                TreeMap<Integer, AmmoStorage> storage = storageByKey.get(key);
+                if (!key.equals(keysById.get(ammoStorage.getId())) || (storage == null)
+                          || (storage.get(ammoStorage.getId()) != ammoStorage)) {
+                    problems.add("Ammo storage " + ammoStorage.getId() + " is not tracked under "
+                                       + ammoStorage.getType().getInternalName());
+                }
+            }
+        }
+
+        if (keysById.size() != allAmmoStorage.size()) {
+            problems.add("Ledger tracks " + keysById.size() + " ammo storage parts but the warehouse holds "
+                               + allAmmoStorage.size());
+        }
+
+        for (StorageKey storedKey : storageByKey.keySet()) {
+            AmmoType ammoType = storedKey.ammoType();
+            for (boolean includeCompatible : new boolean[] { false, true }) {
+                int expected = 0;
+                for (AmmoStorage ammoStorage : allAmmoStorage) {
+                    if (!isAvailable(ammoStorage)) {
+                        continue;
+                    }
+
+                    if (ammoStorage.isSameAmmoType(ammoType)) {
+                        expected += ammoStorage.getShots();
+                    } else if (includeCompatible && ammoStorage.isCompatibleAmmo(ammoType)) {
+                        expected += Quartermaster.convertShots(ammoStorage.getType(), ammoStorage.getShots(),
+                              ammoType);
+                    }
+                }
+
+                int actual = getShotsAvailable(ammoType, includeCompatible);
+                if (expected != actual) {
+                    problems.add("Ledger has " + actual + " shots of " + ammoType.getInternalName()
+                                       + (includeCompatible ? " (with compatible ammo)" : "")
+                                       + " available but the warehouse holds " + expected);
+                }
+            }
+        }
+
+        return problems;
+    }
+}
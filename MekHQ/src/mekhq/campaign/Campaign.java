@@ -115,7 +115,6 @@ import megamek.common.interfaces.ITechManager;
 import megamek.common.loaders.BLKFile;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.loaders.EntitySavingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.options.GameOptions;
@@ -130,6 +129,7 @@ import megamek.logging.MMLogger;
 import mekhq.MHQConstants;
 import mekhq.MekHQ;
 import mekhq.Utilities;
+import mekhq.campaign.JumpPathPlanner.JumpFilter;
 import mekhq.campaign.Quartermaster.PartAcquisitionResult;
 import mekhq.campaign.againstTheBot.AtBConfiguration;
 import mekhq.campaign.camOpsReputation.IUnitRating;
@@ -165,7 +165,7 @@ import mekhq.campaign.force.Formation;
 import mekhq.campaign.force.FormationType;
 import mekhq.campaign.icons.StandardFormationIcon;
 import mekhq.campaign.icons.UnitIcon;
-import mekhq.campaign.log.HistoricalLogEntry;
+import mekhq.campaign.log.DailyLogHistory;
 import mekhq.campaign.log.LogEntry;
 import mekhq.campaign.log.MedicalLogger;
 import mekhq.campaign.log.ServiceLogger;
@@ -205,6 +205,7 @@ import mekhq.campaign.parts.protomeks.ProtoMekArmor;
 import mekhq.campaign.personnel.Bloodname;
 import mekhq.campaign.personnel.InjuryType;
 import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.PersonnelIndex;
 import mekhq.campaign.personnel.PersonnelOptions;
 import mekhq.campaign.personnel.SpecialAbility;
 import mekhq.campaign.personnel.death.RandomDeath;
@@ -239,6 +240,7 @@ import mekhq.campaign.stratCon.StratConRulesManager;
 import mekhq.campaign.stratCon.StratConTrackState;
 import mekhq.campaign.unit.CargoStatistics;
 import mekhq.campaign.unit.CrewType;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.HangarStatistics;
 import mekhq.campaign.unit.TestUnit;
 import mekhq.campaign.unit.Unit;
@@ -263,6 +265,7 @@ import mekhq.campaign.universe.selectors.planetSelectors.DefaultPlanetSelector;
 import mekhq.campaign.universe.selectors.planetSelectors.RangedPlanetSelector;
 import mekhq.campaign.work.IAcquisitionWork;
 import mekhq.campaign.work.IPartWork;
+import mekhq.campaign.work.RepairTargetMatrix;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogSimple;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogWidth;
 import mekhq.gui.campaignOptions.enums.ProcurementPersonnelPick;
@@ -303,11 +306,7 @@ public class Campaign implements ITechManager {
           CampaignTransportType.TACTICAL_TRANSPORT);
     CampaignTransporterMap towTransporters = new CampaignTransporterMap(this, CampaignTransportType.TOW_TRANSPORT);
     private final Map<UUID, Person> personnel = new LinkedHashMap<>();
-
-    /**
-     * This can easily be expanded for other personnel lists by providing a unique String as the map's key.
-     */
-    private transient Map<String, List<Person>> activePersonnelCache = new HashMap<>();
+    private final transient PersonnelIndex personnelIndex = new PersonnelIndex(this::getPersonnel);
 
     private Warehouse parts = new Warehouse();
     private final TreeMap<Integer, Formation> formationIds = new TreeMap<>();
@@ -360,48 +359,53 @@ public class Campaign implements ITechManager {
     private RankSystem rankSystem;
 
     private final ArrayList<String> currentReport;
-    private transient String currentReportHTML;
+    private final transient ReportHtmlBuilder currentReportHTML = new ReportHtmlBuilder();
     private transient List<String> newReports;
 
     private final ArrayList<String> personnelReport;
-    private transient String personnelReportHTML;
+    private final transient ReportHtmlBuilder personnelReportHTML = new ReportHtmlBuilder();
     private transient List<String> newPersonnelReports;
 
     private final ArrayList<String> skillReport;
-    private transient String skillReportHTML;
+    private final transient ReportHtmlBuilder skillReportHTML = new ReportHtmlBuilder();
     private transient List<String> newSkillReports;
 
     private final ArrayList<String> technicalReport;
-    private transient String technicalReportHTML;
+    private final transient ReportHtmlBuilder technicalReportHTML = new ReportHtmlBuilder();
     private transient List<String> newTechnicalReports;
 
     private final ArrayList<String> financesReport;
-    private transient String financesReportHTML;
+    private final transient ReportHtmlBuilder financesReportHTML = new ReportHtmlBuilder();
     private transient List<String> newFinancesReports;
 
     private final ArrayList<String> acquisitionsReport;
-    private transient String acquisitionsReportHTML;
+    private final transient ReportHtmlBuilder acquisitionsReportHTML = new ReportHtmlBuilder();
     private transient List<String> newAcquisitionsReports;
 
     private final ArrayList<String> medicalReport;
-    private transient String medicalReportHTML;
+    private final transient ReportHtmlBuilder medicalReportHTML = new ReportHtmlBuilder();
     private transient List<String> newMedicalReports;
 
     private final ArrayList<String> battleReport;
-    private transient String battleReportHTML;
+    private final transient ReportHtmlBuilder battleReportHTML = new ReportHtmlBuilder();
     private transient List<String> newBattleReports;
 
     private final ArrayList<String> politicsReport;
-    private transient String politicsReportHTML;
+    private final transient ReportHtmlBuilder politicsReportHTML = new ReportHtmlBuilder();
     private transient List<String> newPoliticsReports;
 
+    /**
+     * While {@code true}, reports are only collected into the report lists; the HTML is built once the batch ends.
+     */
+    private transient boolean isBatchingReports;
+
     private boolean fieldKitchenWithinCapacity;
     private int mashTheatreCapacity;
     private int repairBaysRented;
 
-    // this is updated and used per gaming session, it is enabled/disabled via the Campaign options we're re-using
-    // the LogEntry class used to store Personnel entries
-    public LinkedList<LogEntry> inMemoryLogHistory = new LinkedList<>();
+    // this is updated and used per gaming session, it is enabled/disabled via the MekHQ options. It is kept on disk
+    // so that many days can be kept without holding them in memory
+    private final transient DailyLogHistory dailyLogHistory = new DailyLogHistory(MHQConstants.MAX_HISTORICAL_LOG_DAYS);
 
     private boolean overtime;
     private boolean gmMode;
@@ -647,39 +651,30 @@ public class Campaign implements ITechManager {
 
         // Reports
         currentReport = new ArrayList<>();
-        currentReportHTML = "";
         newReports = new ArrayList<>();
 
         personnelReport = new ArrayList<>();
-        personnelReportHTML = "";
         newPersonnelReports = new ArrayList<>();
 
         skillReport = new ArrayList<>();
-        skillReportHTML = "";
         newSkillReports = new ArrayList<>();
 
         technicalReport = new ArrayList<>();
-        technicalReportHTML = "";
         newTechnicalReports = new ArrayList<>();
 
         financesReport = new ArrayList<>();
-        financesReportHTML = "";
         newFinancesReports = new ArrayList<>();
 
         acquisitionsReport = new ArrayList<>();
-        acquisitionsReportHTML = "";
         newAcquisitionsReports = new ArrayList<>();
 
         medicalReport = new ArrayList<>();
-        medicalReportHTML = "";
         newMedicalReports = new ArrayList<>();
 
         battleReport = new ArrayList<>();
-        battleReportHTML = "";
         newBattleReports = new ArrayList<>();
 
         politicsReport = new ArrayList<>();
-        politicsReportHTML = "";
         newPoliticsReports = new ArrayList<>();
 
         // Secondary initialization from passed / derived values
@@ -1182,17 +1177,15 @@ public class Campaign implements ITechManager {
             return;
         }
 
-        MekFileParser mekFileParser;
+        Entity en;
 
         try {
-            mekFileParser = new MekFileParser(ms.getSourceFile(), ms.getEntryName());
+            en = EntityTemplateCache.getInstance().getEntity(ms);
         } catch (Exception ex) {
             LOGGER.error("Unable to load unit: {}", ms.getEntryName(), ex);
             return;
         }
 
-        Entity en = mekFileParser.getEntity();
-
         int transitDays = getCampaignOptions().isInstantUnitMarketDelivery() ?
                                 0 :
                                 calculatePartTransitTime(en.calcYearAvailability(getGameYear(),
@@ -2518,6 +2511,7 @@ public class Campaign implements ITechManager {
         if (!personnel.containsValue(person)) {
             person.setJoinedCampaign(currentDay);
             personnel.put(person.getId(), person);
+            personnelIndex.add(person);
 
             if (!bypassSimulateRelationships && getCampaignOptions().isUseSimulatedRelationships()) {
                 if ((prisonerStatus.isFree()) &&
@@ -3024,6 +3018,7 @@ public class Campaign implements ITechManager {
      */
     public void importPerson(Person person) {
         personnel.put(person.getId(), person);
+        personnelIndex.add(person);
         MekHQ.triggerEvent(new PersonNewEvent(person));
     }
 
@@ -3035,6 +3030,13 @@ public class Campaign implements ITechManager {
         return personnel.values();
     }
 
+    /**
+     * @return the {@link PersonnelIndex} used to look up this campaign's personnel by status, role and unit
+     */
+    public PersonnelIndex getPersonnelIndex() {
+        return personnelIndex;
+    }
+
     /**
      * Retrieves a list of personnel, excluding those whose status indicates they have left the unit.
      * <p>
@@ -3042,12 +3044,13 @@ public class Campaign implements ITechManager {
      * determined by their status.
      * </p>
      *
+     * <p>The returned list is a new copy, so the caller may change the personnel in it while iterating. Callers that
+     * only read should use the live view from {@link PersonnelIndex#getPersonnelNotDeparted()} instead.</p>
+     *
      * @return a {@code List} of {@link Person} objects who have not left the unit
      */
     public List<Person> getPersonnelFilteringOutDeparted() {
-        return getPersonnel().stream()
-                     .filter(person -> !person.getStatus().isDepartedUnit())
-                     .collect(Collectors.toList());
+        return new ArrayList<>(personnelIndex.getPersonnelNotDeparted());
     }
 
 
@@ -3055,13 +3058,13 @@ public class Campaign implements ITechManager {
      * Retrieves a list of personnel, excluding those whose status indicates they have either left the unit, or are
      * presently away.
      *
+     * <p>The returned list is a new copy, so the caller may change the personnel in it while iterating. Callers that
+     * only read should use the live view from {@link PersonnelIndex#getPersonnelNotDepartedOrAbsent()} instead.</p>
+     *
      * @return a {@code List} of {@link Person} objects who have not left the unit
      */
     public List<Person> getPersonnelFilteringOutDepartedAndAbsent() {
-        return getPersonnel().stream()
-                     .filter(person -> !person.getStatus().isDepartedUnit())
-                     .filter(person -> !person.getStatus().isAbsent())
-                     .collect(Collectors.toList());
+        return new ArrayList<>(personnelIndex.getPersonnelNotDepartedOrAbsent());
     }
 
     /**
@@ -3092,35 +3095,27 @@ public class Campaign implements ITechManager {
      * inclusion we reduce the risk of either demographic being included/excluded by accident. As happened
      * frequently prior to these booleans being added. - Illiani, 5th Oct 2025</p>
      *
+     * <p>Only the active personnel held by the {@link PersonnelIndex} are considered. The returned list is a new
+     * copy that the caller is free to modify.</p>
+     *
      * @param includePrisoners     {@code true} to include prisoners
      * @param includeCampFollowers {@code true} to include <b>non-prisoner</b> camp followers
      *
      * @return a {@link List} of {@link Person} objects matching the criteria
      */
     public List<Person> getActivePersonnel(boolean includePrisoners, boolean includeCampFollowers) {
-        String cacheKey = "includePrisoners:" + includePrisoners + "_" + "includeCampFollowers:" + includeCampFollowers;
-
-        // If the cache value is known and not empty, let's just use that
-        // An empty list will be cached after loading so we will always
-        // recalculate if it's empty. And if it's empty, it should be quick, right?
-        if (activePersonnelCache != null &&
-                  activePersonnelCache.containsKey(cacheKey) &&
-                  !activePersonnelCache.get(cacheKey).isEmpty()) {
-            return new ArrayList<>(activePersonnelCache.get(cacheKey));
+        Collection<Person> activeFlexiblePersonnel = personnelIndex.getActiveFlexiblePersonnel();
+        if (includePrisoners && includeCampFollowers) {
+            return new ArrayList<>(activeFlexiblePersonnel);
         }
 
         List<Person> activePersonnel = new ArrayList<>();
 
-        for (Person person : getPersonnel()) {
+        for (Person person : activeFlexiblePersonnel) {
             PersonnelStatus status = person.getStatus();
             PrisonerStatus prisonerStatus = person.getPrisonerStatus();
-            boolean isActive = status.isActiveFlexible();
             boolean isCampFollower = prisonerStatus.isFreeOrBondsman() && status.isCampFollower();
-            boolean isActivePrisoner = person.getPrisonerStatus().isCurrentPrisoner() && isActive;
-
-            if (!isActive) {
-                continue;
-            }
+            boolean isActivePrisoner = prisonerStatus.isCurrentPrisoner();
 
             if (!includeCampFollowers && isCampFollower) {
                 continue;
@@ -3133,18 +3128,15 @@ public class Campaign implements ITechManager {
             activePersonnel.add(person);
         }
 
-        if (activePersonnelCache == null) {
-            activePersonnelCache = new HashMap<>();
-        }
-        activePersonnelCache.put(cacheKey, new ArrayList<>(activePersonnel));
         return activePersonnel;
     }
 
     /**
-     * Clears the {@code activePersonnelCache} so it's recalculated next time we getActivePersonnel
+     * Drops the {@link PersonnelIndex} so it's rebuilt from the roster next time personnel are looked up. Use this
+     * after changes that bypass the index, such as loading personnel directly into the roster.
      */
     public void invalidateActivePersonnelCache() {
-        activePersonnelCache.clear();
+        personnelIndex.invalidate();
     }
 
     /**
@@ -3180,8 +3172,7 @@ public class Campaign implements ITechManager {
      * @return a {@link Person} <code>List</code> containing all active personnel
      */
     public List<Person> getActiveDependents() {
-        return getPersonnel().stream()
-                     .filter(person -> person.getPrimaryRole().isDependent())
+        return personnelIndex.getPersonnelWithPrimaryRole(PersonnelRole.DEPENDENT).stream()
                      .filter(person -> person.getStatus().isActiveFlexible())
                      .collect(Collectors.toList());
     }
@@ -3214,7 +3205,14 @@ public class Campaign implements ITechManager {
      * @return a {@link Person} <code>List</code> containing all active personnel
      */
     public List<Person> getFriendlyPrisoners() {
-        return getPersonnel().stream().filter(p -> p.getStatus().isPoW()).collect(Collectors.toList());
+        return new ArrayList<>(personnelIndex.getPersonnelWithStatus(PersonnelStatus.POW));
+    }
+
+    /**
+     * @return {@code true} if any of the campaign's personnel are currently PoWs
+     */
+    public boolean hasFriendlyPrisoners() {
+        return !personnelIndex.getPersonnelWithStatus(PersonnelStatus.POW).isEmpty();
     }
 
     /**
@@ -3223,7 +3221,7 @@ public class Campaign implements ITechManager {
      * @return a {@link Person} <code>List</code> containing all active personnel
      */
     public List<Person> getStudents() {
-        return getPersonnel().stream().filter(p -> p.getStatus().isStudent()).collect(Collectors.toList());
+        return new ArrayList<>(personnelIndex.getPersonnelWithStatus(PersonnelStatus.STUDENT));
     }
     // endregion Other Personnel Methods
 
@@ -3386,11 +3384,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setCurrentReportHTML(String html) {
-        currentReportHTML = html;
+        currentReportHTML.set(html);
     }
 
     public String getCurrentReportHTML() {
-        return currentReportHTML;
+        return currentReportHTML.toHtml();
     }
 
     public List<String> getNewReports() {
@@ -3412,11 +3410,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setSkillReportHTML(String html) {
-        skillReportHTML = html;
+        skillReportHTML.set(html);
     }
 
     public String getSkillReportHTML() {
-        return skillReportHTML;
+        return skillReportHTML.toHtml();
     }
 
     public List<String> getNewSkillReports() {
@@ -3438,11 +3436,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setTechnicalReportHTML(String html) {
-        technicalReportHTML = html;
+        technicalReportHTML.set(html);
     }
 
     public String getTechnicalReportHTML() {
-        return technicalReportHTML;
+        return technicalReportHTML.toHtml();
     }
 
     public List<String> getNewTechnicalReports() {
@@ -3464,11 +3462,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setFinancesReportHTML(String html) {
-        financesReportHTML = html;
+        financesReportHTML.set(html);
     }
 
     public String getFinancesReportHTML() {
-        return financesReportHTML;
+        return financesReportHTML.toHtml();
     }
 
     public List<String> getNewFinancesReports() {
@@ -3490,11 +3488,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setAcquisitionsReportHTML(String html) {
-        acquisitionsReportHTML = html;
+        acquisitionsReportHTML.set(html);
     }
 
     public String getAcquisitionsReportHTML() {
-        return acquisitionsReportHTML;
+        return acquisitionsReportHTML.toHtml();
     }
 
     public List<String> getNewAcquisitionsReports() {
@@ -3516,11 +3514,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setMedicalReportHTML(String html) {
-        medicalReportHTML = html;
+        medicalReportHTML.set(html);
     }
 
     public String getMedicalReportHTML() {
-        return medicalReportHTML;
+        return medicalReportHTML.toHtml();
     }
 
     public List<String> getNewMedicalReports() {
@@ -3542,11 +3540,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setPersonnelReportHTML(String html) {
-        personnelReportHTML = html;
+        personnelReportHTML.set(html);
     }
 
     public String getPersonnelReportHTML() {
-        return personnelReportHTML;
+        return personnelReportHTML.toHtml();
     }
 
     public List<String> getNewPersonnelReports() {
@@ -3568,11 +3566,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setBattleReportHTML(String html) {
-        battleReportHTML = html;
+        battleReportHTML.set(html);
     }
 
     public String getBattleReportHTML() {
-        return battleReportHTML;
+        return battleReportHTML.toHtml();
     }
 
     public List<String> getNewBattleReports() {
@@ -3594,11 +3592,11 @@ public class Campaign implements ITechManager {
     }
 
     public void setPoliticsReportHTML(String html) {
-        politicsReportHTML = html;
+        politicsReportHTML.set(html);
     }
 
     public String getPoliticsReportHTML() {
-        return politicsReportHTML;
+        return politicsReportHTML.toHtml();
     }
 
     public List<String> getNewPoliticsReports() {
@@ -4592,7 +4590,8 @@ public class Campaign implements ITechManager {
             }
             return PartAcquisitionResult.PlanetSpecificFailure;
         }
-        SocioIndustrialData socioIndustrial = system.getPrimaryPlanet().getSocioIndustrial(getLocalDate());
+        SocioIndustrialData socioIndustrial = systemsInstance.getSnapshot(getLocalDate())
+                                                    .getPrimarySocioIndustrial(system);
         CampaignOptions options = getCampaignOptions();
         int techBonus = options.getPlanetTechAcquisitionBonus(socioIndustrial.tech);
         int industryBonus = options.getPlanetIndustryAcquisitionBonus(socioIndustrial.industry);
@@ -5715,6 +5714,7 @@ public class Campaign implements ITechManager {
         }
 
         personnel.remove(person.getId());
+        personnelIndex.remove(person);
 
         // Deal with Astech Pool Minutes
         if (person.isAstech()) {
@@ -5902,6 +5902,9 @@ public class Campaign implements ITechManager {
             getWarehouse().removePart(remove);
         }
 
+        // Restoring equipment parts resolves their equipment types, which the spare part index uses
+        getWarehouse().reindexParts();
+
         for (Unit unit : getUnits()) {
             if (null != unit.getEntity()) {
                 unit.getEntity().setOwner(player);
@@ -6141,16 +6144,56 @@ public class Campaign implements ITechManager {
         this.factionStandings = factionStandings;
     }
 
-    private void addInMemoryLogHistory(LogEntry le) {
-        Iterator<LogEntry> iterator = inMemoryLogHistory.iterator();
-        while (iterator.hasNext() &&
-                     ChronoUnit.DAYS.between(iterator.next().getDate(), le.getDate()) >
-                           MHQConstants.MAX_HISTORICAL_LOG_DAYS) {
-            // we've hit the max size for the in-memory based on the UI display limit prune
-            // the oldest entry
-            iterator.remove();
-        }
-        inMemoryLogHistory.add(le);
+    /**
+     * @return the history of the daily log for this session
+     */
+    public DailyLogHistory getDailyLogHistory() {
+        return dailyLogHistory;
+    }
+
+    /**
+     * @return {@code true} while a batch of days is being advanced and report HTML is not being kept up to date
+     *
+     * @see #beginReportBatch()
+     */
+    public boolean isBatchingReports() {
+        return isBatchingReports;
+    }
+
+    /**
+     * Begins collecting reports across a batch of days. Until {@link #endReportBatch()} is called, reports are only
+     * added to the report lists, without rebuilding the report HTML or triggering a {@link ReportEvent} for each
+     * one.
+     */
+    public void beginReportBatch() {
+        isBatchingReports = true;
+    }
+
+    /**
+     * Ends a batch started by {@link #beginReportBatch()}, resetting the HTML of every daily report to its report
+     * list. The HTML is built the next time it is asked for.
+     */
+    public void endReportBatch() {
+        isBatchingReports = false;
+
+        currentReportHTML.replaceWith(currentReport);
+        newReports.clear();
+        skillReportHTML.replaceWith(skillReport);
+        newSkillReports.clear();
+        battleReportHTML.replaceWith(battleReport);
+        newBattleReports.clear();
+        politicsReportHTML.replaceWith(politicsReport);
+        newPoliticsReports.clear();
+        personnelReportHTML.replaceWith(personnelReport);
+        newPersonnelReports.clear();
+        medicalReportHTML.replaceWith(medicalReport);
+        newMedicalReports.clear();
+        financesReportHTML.replaceWith(financesReport);
+        newFinancesReports.clear();
+        acquisitionsReportHTML.replaceWith(acquisitionsReport);
+        newAcquisitionsReports.clear();
+        technicalReportHTML.replaceWith(technicalReport);
+        newTechnicalReports.clear();
     }
 
     /**
@@ -6161,7 +6204,7 @@ public class Campaign implements ITechManager {
     public void beginReport(String report) {
         if (MekHQ.getMHQOptions().getHistoricalDailyLog()) {
             // add the new items to our in-memory cache
-            addInMemoryLogHistory(new HistoricalLogEntry(getLocalDate(), ""));
+            dailyLogHistory.add(getLocalDate(), "");
         }
 
         for (DailyReportType type : DailyReportType.values()) {
@@ -6192,7 +6235,7 @@ public class Campaign implements ITechManager {
         }
 
         if (MekHQ.getMHQOptions().getHistoricalDailyLog()) {
-            addInMemoryLogHistory(new HistoricalLogEntry(getLocalDate(), report));
+            dailyLogHistory.add(getLocalDate(), report);
         }
 
         // We handle this here, instead of 'addReportInternal' as we don't want to post multiple new day 'dates' to
@@ -6205,110 +6248,73 @@ public class Campaign implements ITechManager {
     }
 
     private void addReportInternal(final DailyReportType type, final String report) {
+        if (isBatchingReports) {
+            switch (type) {
+                case GENERAL -> currentReport.add(report);
+                case SKILL_CHECKS -> skillReport.add(report);
+                case TECHNICAL -> technicalReport.add(report);
+                case FINANCES -> financesReport.add(report);
+                case ACQUISITIONS -> acquisitionsReport.add(report);
+                case MEDICAL -> medicalReport.add(report);
+                case PERSONNEL -> personnelReport.add(report);
+                case BATTLE -> battleReport.add(report);
+                case POLITICS -> politicsReport.add(report);
+            }
+            return;
+        }
+
         switch (type) {
             case GENERAL -> {
                 currentReport.add(report);
-                if (!currentReportHTML.isEmpty()) {
-                    currentReportHTML = currentReportHTML + REPORT_LINEBREAK + report;
-                    newReports.add(REPORT_LINEBREAK);
-                } else {
-                    currentReportHTML = report;
-                }
-
-                newReports.add(report);
+                appendReport(currentReportHTML, newReports, report);
             }
             case SKILL_CHECKS -> {
                 skillReport.add(report);
-                if (!skillReportHTML.isEmpty()) {
-                    skillReportHTML = skillReportHTML + REPORT_LINEBREAK + report;
-                    newSkillReports.add(REPORT_LINEBREAK);
-                } else {
-                    skillReportHTML = report;
-                }
-
-                newSkillReports.add(report);
+                appendReport(skillReportHTML, newSkillReports, report);
             }
             case TECHNICAL -> {
                 technicalReport.add(report);
-                if (!technicalReportHTML.isEmpty()) {
-                    technicalReportHTML = technicalReportHTML + REPORT_LINEBREAK + report;
-                    newTechnicalReports.add(REPORT_LINEBREAK);
-                } else {
-                    technicalReportHTML = report;
-                }
-
-                newTechnicalReports.add(report);
+                appendReport(technicalReportHTML, newTechnicalReports, report);
             }
             case FINANCES -> {
                 financesReport.add(report);
-                if (!financesReportHTML.isEmpty()) {
-                    financesReportHTML = financesReportHTML + REPORT_LINEBREAK + report;
-                    newFinancesReports.add(REPORT_LINEBREAK);
-                } else {
-                    financesReportHTML = report;
-                }
-
-                newFinancesReports.add(report);
+                appendReport(financesReportHTML, newFinancesReports, report);
             }
             case ACQUISITIONS -> {
                 acquisitionsReport.add(report);
-                if (!acquisitionsReportHTML.isEmpty()) {
-                    acquisitionsReportHTML = acquisitionsReportHTML + REPORT_LINEBREAK + report;
-                    newAcquisitionsReports.add(REPORT_LINEBREAK);
-                } else {
-                    acquisitionsReportHTML = report;
-                }
-
-                newAcquisitionsReports.add(report);
+                appendReport(acquisitionsReportHTML, newAcquisitionsReports, report);
             }
             case MEDICAL -> {
                 medicalReport.add(report);
-                if (!medicalReportHTML.isEmpty()) {
-                    medicalReportHTML = medicalReportHTML + REPORT_LINEBREAK + report;
-                    newMedicalReports.add(REPORT_LINEBREAK);
-                } else {
-                    medicalReportHTML = report;
-                }
-
-                newMedicalReports.add(report);
+                appendReport(medicalReportHTML, newMedicalReports, report);
             }
             case PERSONNEL -> {
                 personnelReport.add(report);
-                if (!personnelReportHTML.isEmpty()) {
-                    personnelReportHTML = personnelReportHTML + REPORT_LINEBREAK + report;
-                    newPersonnelReports.add(REPORT_LINEBREAK);
-                } else {
-                    personnelReportHTML = report;
-                }
-
-                newPersonnelReports.add(report);
+                appendReport(personnelReportHTML, newPersonnelReports, report);
             }
             case BATTLE -> {
                 battleReport.add(report);
-                if (!battleReportHTML.isEmpty()) {
-                    battleReportHTML = battleReportHTML + REPORT_LINEBREAK + report;
-                    newBattleReports.add(REPORT_LINEBREAK);
-                } else {
-                    battleReportHTML = report;
-                }
-
-                newBattleReports.add(report);
+                appendReport(battleReportHTML, newBattleReports, report);
             }
             case POLITICS -> {
                 politicsReport.add(report);
-                if (!politicsReportHTML.isEmpty()) {
-                    politicsReportHTML = politicsReportHTML + REPORT_LINEBREAK + report;
-                    newPoliticsReports.add(REPORT_LINEBREAK);
-                } else {
-                    politicsReportHTML = report;
-                }
-
-                newPoliticsReports.add(report);
+                appendReport(politicsReportHTML, newPoliticsReports, report);
             }
         }
         MekHQ.triggerEvent(new ReportEvent(this, report));
     }
 
+    /**
+     * Adds a report to a tab's HTML and to the reports not yet shown on that tab.
+     */
+    private static void appendReport(ReportHtmlBuilder html, List<String> newReports, String report) {
+        if (!html.isEmpty()) {
+            newReports.add(REPORT_LINEBREAK);
+        }
+        html.append(report);
+        newReports.add(report);
+    }
+
     public Camouflage getCamouflage() {
         return camouflage;
     }
@@ -6848,7 +6854,7 @@ public class Campaign implements ITechManager {
                 continue;
             }
 
-            MekFileParser mekFileParser = null;
+            Entity entity;
             try {
                 File sourceFile = mekSummary.getSourceFile();
                 if (sourceFile == null) {
@@ -6856,14 +6862,13 @@ public class Campaign implements ITechManager {
                     continue;
                 }
 
-                mekFileParser = new MekFileParser(sourceFile, mekSummary.getEntryName());
+                entity = EntityTemplateCache.getInstance().getEntity(sourceFile, mekSummary.getEntryName());
             } catch (EntityLoadingException ex) {
-                LOGGER.error("Failed to fetch MekFileParser for {} // {}",
+                LOGGER.error("Failed to load entity for {} // {}",
                       mekSummary.getSourceFile(), mekSummary.getEntryName(), ex);
                 continue;
             }
 
-            Entity entity = mekFileParser.getEntity();
             if (entity == null) {
                 LOGGER.warn("mekFileParser returned a null entity {}", name);
                 continue;
@@ -6990,7 +6995,8 @@ public class Campaign implements ITechManager {
      *
      * <p>This implementation minimizes a combination of jump counts and recharge times to find the most efficient
      * route between systems. The algorithm uses a heuristic based on straight-line distance combined with actual path
-     * costs from the starting system.</p>
+     * costs from the starting system. The search itself is delegated to a {@link JumpPathPlanner} over the cached
+     * {@link JumpGraph}, with the empty and outlawed system checks applied as jump filters.</p>
      *
      * <p>The algorithm will optionally avoid systems without population when the {@code
      * isAvoidingEmptySystems} flag equals {@code true}.</p>
@@ -7049,163 +7055,34 @@ public class Campaign implements ITechManager {
             }
         }
 
-        // Initialize A* algorithm variables
-        String startKey = start.getId();
-        String endKey = end.getId();
-
-        Set<String> closed = new HashSet<>();
-        Set<String> open = new HashSet<>();
-
-        Map<String, String> parent = new HashMap<>();
-        Map<String, Double> scoreH = new HashMap<>(); // Heuristic scores (estimated cost to goal)
-        Map<String, Double> scoreG = new HashMap<>(); // Path costs from start
-
-        // Precompute heuristics
-        Map<String, PlanetarySystem> allSystems = this.systemsInstance.getSystems();
-
-        for (Entry<String, PlanetarySystem> entry : allSystems.entrySet()) {
-            scoreH.put(entry.getKey(), end.getDistanceTo(entry.getValue()));
-        }
-
-        // Initialize starting node
-        String current = startKey;
-        scoreG.put(current, 0.0);
-        closed.add(current);
-
         // We need this additional check as later we're going to be comparing neighbors, rather than start point.
         // Which means that if we're passing through more than one Outlawed system en route to our escape our
         // progress will be blocked.
         boolean isEscapingOutlawing = !FactionStandingUtilities.canEnterTargetSystem(faction, factionStandings,
               null, start, currentDay, activeAtBContracts, factionHints);
 
-        // A* search
-        final int MAX_JUMPS = 10000;
-        for (int jumps = 0; jumps < MAX_JUMPS; jumps++) {
-            PlanetarySystem currentSystem = systemsInstance.getSystemById(current);
-
-            boolean isUseCommandCircuits =
-                  FactionStandingUtilities.isUseCommandCircuit(isOverridingCommandCircuitRequirements, gmMode,
-                        campaignOptions.isUseFactionStandingCommandCircuitSafe(),
-                        factionStandings,
-                        getFutureAtBContracts());
-
-            // Get current node's information
-            double currentG = scoreG.get(current) + currentSystem.getRechargeTime(getLocalDate(), isUseCommandCircuits);
-            final String localCurrent = current;
-
-            // Explore neighbors
-            systemsInstance.visitNearbySystems(currentSystem, 30, neighborSystem -> {
-                String neighborId = neighborSystem.getId();
-
-                // Skip systems without population if avoiding empty systems
-                if (!skipEmptySystemCheck
-                          && isAvoidingEmptySystems
-                          && neighborSystem.getPopulation(currentDay) == 0) {
-                    return;
-                }
-
-                // Skip systems where the campaign is outlawed
-                if (!skipAccessCheck &&
-                          !isEscapingOutlawing &&
-                          campaignOptions.isUseFactionStandingOutlawedSafe()) {
-                    boolean canAccessSystem = FactionStandingUtilities.canEnterTargetSystem(faction, factionStandings,
-                          currentSystem, neighborSystem, currentDay, activeAtBContracts, factionHints);
-                    if (!canAccessSystem) {
-                        return;
-                    }
-                }
-
-                if (closed.contains(neighborId)) {
-                    return; // Already evaluated
-                }
-
-                if (open.contains(neighborId)) {
-                    // Check if this path is better than the previously found one
-                    if (currentG < scoreG.get(neighborId)) {
-                        scoreG.put(neighborId, currentG);
-                        parent.put(neighborId, localCurrent);
-                    }
-                } else {
-                    // Discover a new node
-                    scoreG.put(neighborId, currentG);
-                    parent.put(neighborId, localCurrent);
-                    open.add(neighborId);
-                }
-            });
-
-            // Find the open node with the lowest f score
-            String bestMatch = findNodeWithLowestFScore(open, scoreG, scoreH);
-
-            if (bestMatch == null) {
-                break; // No path exists
-            }
+        boolean isUseCommandCircuits =
+              FactionStandingUtilities.isUseCommandCircuit(isOverridingCommandCircuitRequirements, gmMode,
+                    campaignOptions.isUseFactionStandingCommandCircuitSafe(),
+                    factionStandings,
+                    getFutureAtBContracts());
 
-            // Move to the best node
-            current = bestMatch;
-            closed.add(current);
-            open.remove(current);
+        JumpFilter filter = JumpFilter.any();
 
-            // Check if we've reached the destination
-            if (current.equals(endKey)) {
-                return reconstructPath(current, parent, systemsInstance);
-            }
+        // Skip systems without population if avoiding empty systems
+        if (!skipEmptySystemCheck && isAvoidingEmptySystems) {
+            filter = filter.and((graph, from, to) -> graph.isInhabited(to, currentDay));
         }
 
-        // No path found or maximum jumps reached
-        return reconstructPath(current, parent, systemsInstance);
-    }
-
-    /**
-     * Finds the node in the open set with the lowest f-score (g + h).
-     *
-     * @param openSet The set of nodes to evaluate
-     * @param gScores Map of path costs from start
-     * @param hScores Map of heuristic distances to goal
-     *
-     * @return The node with the lowest f-score, or null if openSet is empty
-     */
-    private String findNodeWithLowestFScore(Set<String> openSet, Map<String, Double> gScores,
-          Map<String, Double> hScores) {
-        String bestMatch = null;
-        double bestF = Double.POSITIVE_INFINITY;
-
-        for (String candidate : openSet) {
-            double f = gScores.get(candidate) + hScores.get(candidate);
-            if (f < bestF) {
-                bestMatch = candidate;
-                bestF = f;
-            }
-        }
-
-        return bestMatch;
-    }
-
-    /**
-     * Reconstructs the path from the parent map.
-     *
-     * @param current         The final node in the path
-     * @param parent          Map of parent nodes
-     * @param systemsInstance The systems registry
-     *
-     * @return A JumpPath containing the sequence of systems
-     */
-    private JumpPath reconstructPath(String current, Map<String, String> parent, Systems systemsInstance) {
-        // Reconstruct path
-        List<PlanetarySystem> path = new ArrayList<>();
-        String nextKey = current;
-
-        while (nextKey != null) {
-            path.add(systemsInstance.getSystemById(nextKey));
-            nextKey = parent.get(nextKey);
-        }
-
-        // Create the final path in the correct order (start to end)
-        JumpPath finalPath = new JumpPath();
-        for (int i = path.size() - 1; i >= 0; i--) {
-            finalPath.addSystem(path.get(i));
+        // Skip systems where the campaign is outlawed
+        if (!skipAccessCheck && !isEscapingOutlawing && campaignOptions.isUseFactionStandingOutlawedSafe()) {
+            filter = filter.and((graph, from, to) -> FactionStandingUtilities.canEnterTargetSystem(faction,
+                  factionStandings, graph.getSystem(from), graph.getSystem(to), currentDay, activeAtBContracts,
+                  factionHints));
         }
 
-        return finalPath;
+        return new JumpPathPlanner(systemsInstance.getJumpGraph()).findPath(start, end,
+              system -> system.getRechargeTime(getLocalDate(), isUseCommandCircuits), filter);
     }
 
     /**
@@ -7573,6 +7450,24 @@ public class Campaign implements ITechManager {
      * @return a {@link TargetRoll} capturing the total target value and reason for success or impossibility
      */
     public TargetRoll getTargetFor(final IPartWork partWork, final Person tech) {
+        return getTargetFor(partWork, tech, null);
+    }
+
+    /**
+     * Calculates the {@link TargetRoll} required for a technician to work on a specific part task, reusing the
+     * replacement lookup and fixability check already made for the part in a {@link RepairTargetMatrix}.
+     *
+     * @param partWork     the part work task to be performed
+     * @param tech         the technician assigned to the task
+     * @param targetMatrix the matrix holding the tech-independent checks for this batch of work, or {@code null} to
+     *                     evaluate them directly
+     *
+     * @return a {@link TargetRoll} capturing the total target value and reason for success or impossibility
+     *
+     * @see #getTargetFor(IPartWork, Person)
+     */
+    public TargetRoll getTargetFor(final IPartWork partWork, final Person tech,
+          final @Nullable RepairTargetMatrix targetMatrix) {
         final Skill skill = tech.getSkillForWorkingOn(partWork);
         int modePenalty = partWork.getMode().expReduction;
         SkillModifierData skillModifierData = tech.getSkillModifierData();
@@ -7595,7 +7490,8 @@ public class Campaign implements ITechManager {
             return new TargetRoll(TargetRoll.IMPOSSIBLE, "Task is impossible.");
         } else if (!partWork.needsFixing() && !partWork.isSalvaging()) {
             return new TargetRoll(TargetRoll.IMPOSSIBLE, "Task is not needed.");
-        } else if ((partWork instanceof MissingPart) && (((MissingPart) partWork).findReplacement(false) == null)) {
+        } else if ((partWork instanceof MissingPart missingPart) &&
+                         !isReplacementAvailable(missingPart, targetMatrix)) {
             return new TargetRoll(TargetRoll.IMPOSSIBLE, "Replacement part not available.");
         }
 
@@ -7606,7 +7502,9 @@ public class Campaign implements ITechManager {
             return new TargetRoll(TargetRoll.IMPOSSIBLE, "The tech has no time left.");
         }
 
-        final String notFixable = partWork.checkFixable();
+        final String notFixable = (targetMatrix == null) ?
+                                        partWork.checkFixable() :
+                                        targetMatrix.checkFixable(partWork);
         if (notFixable != null) {
             return new TargetRoll(TargetRoll.IMPOSSIBLE, notFixable);
         }
@@ -7676,6 +7574,13 @@ public class Campaign implements ITechManager {
         return target;
     }
 
+    private static boolean isReplacementAvailable(final MissingPart missingPart,
+          final @Nullable RepairTargetMatrix targetMatrix) {
+        return (targetMatrix == null) ?
+                     (missingPart.findReplacement(false) != null) :
+                     targetMatrix.isReplacementAvailable(missingPart);
+    }
+
     /**
      * Calculates the target roll for acquiring the specified item or unit using the default campaign logistics person,
      * applying all standard campaign rules and options.
@@ -9470,6 +9375,22 @@ public class Campaign implements ITechManager {
                      .getTransportsByType(transporterType, unitSize);
     }
 
+    /**
+     * Checks whether any transport for the specified AbstractTransportedUnitSummary class/subclass has the given
+     * capacity for the Transporter class/subclass, without building the set of those transports.
+     *
+     * @param campaignTransportType type (Enum) of TransportedUnitSummary
+     * @param transporterType       type (Enum) of Transporter
+     * @param unitSize              capacity that the transport must be capable of
+     *
+     * @return true if at least one transport has that much capacity
+     */
+    public boolean hasTransportsByType(CampaignTransportType campaignTransportType, TransporterType transporterType,
+          double unitSize) {
+        return Objects.requireNonNull(getCampaignTransporterMap(campaignTransportType))
+                     .hasTransportsByType(transporterType, unitSize);
+    }
+
     private boolean hasTacticalTransports() {
         return tacticalTransporters.hasTransporters();
     }
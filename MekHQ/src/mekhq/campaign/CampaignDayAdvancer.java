@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import megamek.logging.MMLogger;
+import mekhq.MekHQ;
+import mekhq.campaign.events.DaysAdvancedEvent;
+
+/**
+ * Advances a {@link Campaign} through many days in a single batch, without depending on the GUI.
+ *
+ * <p>Advancing day by day through {@link Campaign#newDay()} rebuilds every daily report's HTML as each line is
+ * added, clears the reports again the next morning, and lets every GUI tab refresh itself after each day. Within a
+ * batch the daily reports instead accumulate across all the days, their HTML is built once when the batch ends, and
+ * the {@link mekhq.campaign.events.NewDayEvent}s for each day are marked as part of a batch so views can skip their
+ * refreshes. A single {@link DaysAdvancedEvent} is triggered once the batch ends.</p>
+ *
+ * <p>GUI interaction is limited to what the supplied {@link NewDayListener} provides; use
+ * {@link NewDayListener#HEADLESS} for no user interface at all.</p>
+ */
+public class CampaignDayAdvancer implements DayAdvancer {
+    private static final MMLogger LOGGER = MMLogger.create(CampaignDayAdvancer.class);
+
+    private final Campaign campaign;
+    private final DayStep dayStep;
+
+    /**
+     * Advances a single day of a batch.
+     */
+    @FunctionalInterface
+    interface DayStep {
+        /**
+         * @param isContinuingBatch {@code true} if an earlier day of the same batch has already been advanced
+         *
+         * @return {@code true} if the day was advanced, {@code false} if something prevented it from ending
+         */
+        boolean advance(boolean isContinuingBatch);
+    }
+
+    public CampaignDayAdvancer(Campaign campaign, NewDayListener listener) {
+        this(campaign, isContinuingBatch -> new CampaignNewDayManager(campaign, listener, isContinuingBatch, true)
+                                                  .newDay());
+    }
+
+    CampaignDayAdvancer(Campaign campaign, DayStep dayStep) {
+        this.campaign = campaign;
+        this.dayStep = dayStep;
+    }
+
+    @Override
+    public int advanceDays(int days) {
+        int advanced = 0;
+        campaign.beginReportBatch();
+        try {
+            // The first day of the batch clears the previous reports; later days append to them
+            while ((advanced < days) && dayStep.advance(advanced > 0)) {
+                advanced++;
+            }
+        } finally {
+            campaign.endReportBatch();
+        }
+
+        LOGGER.info("Advanced {} of {} requested days", advanced, days);
+        MekHQ.triggerEvent(new DaysAdvancedEvent(campaign, advanced));
+        return advanced;
+    }
+}
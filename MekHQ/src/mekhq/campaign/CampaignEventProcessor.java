@@ -34,11 +34,16 @@ package mekhq.campaign;
 
 import megamek.common.event.Subscribe;
 import mekhq.MekHQ;
+import mekhq.campaign.events.NetworkChangedEvent;
+import mekhq.campaign.events.NewDayEvent;
+import mekhq.campaign.events.parts.PartEvent;
 import mekhq.campaign.events.persons.PersonCrewAssignmentEvent;
 import mekhq.campaign.events.persons.PersonEvent;
+import mekhq.campaign.events.units.UnitEvent;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.unit.Unit;
+import mekhq.campaign.universe.Systems;
 
 /**
  * For processing events that should trigger for any kind of campaign, AtB or otherwise.
@@ -62,10 +67,27 @@ public record CampaignEventProcessor(Campaign campaign) {
         MekHQ.unregisterHandler(this);
     }
 
+    /**
+     * Handles the start of a new day.
+     *
+     * <p>Advances the shared {@link mekhq.campaign.universe.UniverseSnapshot} to the new campaign date, so that the
+     * map, markets and faction border code read the resolved system data rather than the planetary events.</p>
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param newDayEvent the event fired once the campaign date has changed
+     */
+    @Subscribe
+    public void handleNewDay(NewDayEvent newDayEvent) {
+        Systems.getInstance().getSnapshot(campaign().getLocalDate());
+    }
+
     /**
      * Handles updates to personnel records.
      *
-     * <p>Clears cached values</p>
+     * <p>Clears cached values, including the battle value of any unit they crew, as their skills and abilities feed
+     * into it.</p>
      *
      * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
      * wrong.</p>
@@ -74,9 +96,60 @@ public record CampaignEventProcessor(Campaign campaign) {
      */
     @Subscribe
     public void handlePersonUpdate(PersonEvent personEvent) {
-        campaign().invalidateActivePersonnelCache();
         Person person = personEvent.getPerson();
         person.invalidateAdvancedAsTechContribution();
+
+        if (person.getUnit() != null) {
+            person.getUnit().invalidateBattleValue();
+        }
+    }
+
+    /**
+     * Handles changes to a unit, such as refits, damage and repairs, by clearing its cached battle value.
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param unitEvent the event naming the unit that changed
+     */
+    @Subscribe
+    public void handleUnitUpdate(UnitEvent unitEvent) {
+        if (unitEvent.getUnit() != null) {
+            unitEvent.getUnit().invalidateBattleValue();
+        }
+    }
+
+    /**
+     * Handles changes to a part, such as repairs, replacements and ammo swaps, by clearing the cached battle value of
+     * the unit it is mounted on.
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param partEvent the event naming the part that changed
+     */
+    @Subscribe
+    public void handlePartUpdate(PartEvent partEvent) {
+        Unit unit = partEvent.getPart().getUnit();
+
+        if (unit != null) {
+            unit.invalidateBattleValue();
+        }
+    }
+
+    /**
+     * Handles changes to C3 networks, which feed into the battle value of every unit in them.
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param networkChangedEvent the event listing the units whose networks changed
+     */
+    @Subscribe
+    public void handleNetworkChanged(NetworkChangedEvent networkChangedEvent) {
+        for (Unit unit : networkChangedEvent.getUnits()) {
+            unit.invalidateBattleValue();
+        }
     }
 
     /**
@@ -91,6 +164,10 @@ public record CampaignEventProcessor(Campaign campaign) {
     public void handlePersonUnitAssignmentEvent(PersonCrewAssignmentEvent personCrewAssignmentEvent) {
         Unit unit = personCrewAssignmentEvent.getUnit();
 
+        if (unit != null) {
+            unit.invalidateBattleValue();
+        }
+
         // If this unit has no commander, clear out any temporary crew assignments
         if (unit != null && !unit.hasCommander() && unit.getTotalTempCrew() > 0) {
             unit.setTempCrew(unit.getDriverRole(), 0);
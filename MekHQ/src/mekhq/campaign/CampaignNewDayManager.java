@@ -66,14 +66,12 @@ import static mekhq.campaign.personnel.medical.advancedMedicalAlternate.Canonica
 import static mekhq.campaign.personnel.medical.advancedMedicalAlternate.CanonicalDiseaseType.getNewBioweaponAttack;
 import static mekhq.campaign.personnel.medical.advancedMedicalAlternate.CanonicalDiseaseType.getNewDiseaseOutbreaks;
 import static mekhq.campaign.personnel.skills.Aging.applyAgingSPA;
-import static mekhq.campaign.personnel.skills.Aging.getMilestone;
 import static mekhq.campaign.personnel.skills.AttributeCheckUtility.performQuickAttributeCheck;
 import static mekhq.campaign.personnel.skills.SkillModifierData.IGNORE_AGE;
 import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.areFieldKitchensWithinCapacity;
 import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.checkFieldKitchenCapacity;
 import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.checkFieldKitchenUsage;
 import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.processFatigueRecovery;
-import static mekhq.campaign.personnel.turnoverAndRetention.RetirementDefectionTracker.RETIREMENT_AGE;
 import static mekhq.campaign.randomEvents.GrayMonday.GRAY_MONDAY_EVENTS_BEGIN;
 import static mekhq.campaign.randomEvents.GrayMonday.GRAY_MONDAY_EVENTS_END;
 import static mekhq.campaign.randomEvents.prisoners.enums.PrisonerStatus.BONDSMAN;
@@ -107,7 +105,6 @@ import megamek.common.rolls.TargetRoll;
 import megamek.logging.MMLogger;
 import mekhq.MekHQ;
 import mekhq.campaign.campaignOptions.CampaignOptions;
-import mekhq.campaign.enums.DailyReportType;
 import mekhq.campaign.events.DayEndingEvent;
 import mekhq.campaign.events.DeploymentChangedEvent;
 import mekhq.campaign.events.NewDayEvent;
@@ -160,7 +157,6 @@ import mekhq.campaign.personnel.medical.advancedMedicalAlternate.InjurySubType;
 import mekhq.campaign.personnel.medical.advancedMedicalAlternate.Inoculations;
 import mekhq.campaign.personnel.skills.EscapeSkills;
 import mekhq.campaign.personnel.skills.QuickTrain;
-import mekhq.campaign.personnel.skills.enums.AgingMilestone;
 import mekhq.campaign.personnel.skills.enums.SkillAttribute;
 import mekhq.campaign.personnel.turnoverAndRetention.Fatigue;
 import mekhq.campaign.randomEvents.GrayMonday;
@@ -183,7 +179,7 @@ import mekhq.campaign.universe.factionStanding.FactionStandingUltimatum;
 import mekhq.campaign.universe.factionStanding.FactionStandingUtilities;
 import mekhq.campaign.universe.factionStanding.PerformBatchall;
 import mekhq.campaign.utilities.AutomatedPersonnelCleanUp;
-import mekhq.gui.CommandCenterTab;
+import mekhq.gui.CampaignGUINewDayListener;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogNotification;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogSimple;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogWidth;
@@ -216,11 +212,36 @@ public class CampaignNewDayManager {
     private final Warehouse warehouse;
     private final Quartermaster quartermaster;
     private final Finances finances;
+    private final NewDayListener listener;
+    private final boolean isContinuingBatch;
+    private final boolean isPartOfBatch;
     private LocalDate today;
     private CurrentLocation updatedLocation;
+    /** The academies of today's students, looked up while the personnel were evaluated. */
+    private Map<UUID, Academy> evaluatedAcademies = new HashMap<>();
 
+    /**
+     * Creates a manager that advances a single day, interacting with the campaign's {@link mekhq.gui.CampaignGUI}.
+     */
     public CampaignNewDayManager(Campaign campaign) {
+        this(campaign, new CampaignGUINewDayListener(campaign.getApp().getCampaigngui()), false, false);
+    }
+
+    /**
+     * @param campaign          the campaign to advance
+     * @param listener          receives the hooks that would otherwise reach into the GUI
+     * @param isContinuingBatch {@code true} if an earlier day of the same batch has already been advanced, in which
+     *                          case the daily reports are appended to instead of being cleared
+     * @param isPartOfBatch     {@code true} if this day is one of several being advanced together
+     *
+     * @see CampaignDayAdvancer
+     */
+    public CampaignNewDayManager(Campaign campaign, NewDayListener listener, boolean isContinuingBatch,
+          boolean isPartOfBatch) {
         this.campaign = campaign;
+        this.listener = listener;
+        this.isContinuingBatch = isContinuingBatch;
+        this.isPartOfBatch = isPartOfBatch;
         this.campaignOptions = campaign.getCampaignOptions();
         this.faction = campaign.getFaction();
         this.hangar = campaign.getHangar();
@@ -235,10 +256,7 @@ public class CampaignNewDayManager {
     public boolean newDay() {
         // Clear previous daily report nags (we want this up top so that we can make sure no messages have been
         // posted prior to this point).
-        CommandCenterTab commandCenter = campaign.getApp().getCampaigngui().getCommandCenterTab();
-        for (DailyReportType type : DailyReportType.values()) {
-            commandCenter.clearDailyReportNag(type.getTabIndex());
-        }
+        listener.newDayStarting(campaign);
 
         // clear previous retirement information
         campaign.getTurnoverRetirementInformation().clear();
@@ -309,7 +327,7 @@ public class CampaignNewDayManager {
         boolean isNewYear = today.getDayOfYear() == 1;
 
         // Check for important dates
-        if (campaignOptions.isShowLifeEventDialogCelebrations()) {
+        if (campaignOptions.isShowLifeEventDialogCelebrations() && listener.isShowingNotifications()) {
             fetchCelebrationDialogs();
         }
 
@@ -319,42 +337,10 @@ public class CampaignNewDayManager {
             campaign.setHasActiveContract();
         }
 
-        // Clear Reports
-        campaign.getCurrentReport().clear();
-        campaign.setCurrentReportHTML("");
-        campaign.getNewReports().clear();
-
-        campaign.getSkillReport().clear();
-        campaign.setSkillReportHTML("");
-        campaign.getNewSkillReports().clear();
-
-        campaign.getBattleReport().clear();
-        campaign.setBattleReportHTML("");
-        campaign.getNewBattleReports().clear();
-
-        campaign.getPoliticsReport().clear();
-        campaign.setPoliticsReportHTML("");
-        campaign.getNewPoliticsReports().clear();
-
-        campaign.getPersonnelReport().clear();
-        campaign.setPersonnelReportHTML("");
-        campaign.getNewPersonnelReports().clear();
-
-        campaign.getMedicalReport().clear();
-        campaign.setMedicalReportHTML("");
-        campaign.getNewMedicalReports().clear();
-
-        campaign.getFinancesReport().clear();
-        campaign.setFinancesReportHTML("");
-        campaign.getNewFinancesReports().clear();
-
-        campaign.getAcquisitionsReport().clear();
-        campaign.setAcquisitionsReportHTML("");
-        campaign.getNewAcquisitionsReports().clear();
-
-        campaign.getTechnicalReport().clear();
-        campaign.setTechnicalReportHTML("");
-        campaign.getNewTechnicalReports().clear();
+        // Clear Reports, unless they are being gathered across a batch of days
+        if (!isContinuingBatch) {
+            clearReports();
+        }
 
         campaign.beginReport("<b>" + MekHQ.getMHQOptions().getLongDisplayFormattedDate(today) + "</b>");
 
@@ -504,13 +490,57 @@ public class CampaignNewDayManager {
         new WarAndPeaceProcessor(campaign, false);
 
         // campaign must be the last step before returning true
-        MekHQ.triggerEvent(new NewDayEvent(campaign));
+        MekHQ.triggerEvent(new NewDayEvent(campaign, isPartOfBatch));
         return true;
     }
 
+    /**
+     * Clears every daily report, along with its HTML and any reports not yet shown.
+     */
+    private void clearReports() {
+        campaign.getCurrentReport().clear();
+        campaign.setCurrentReportHTML("");
+        campaign.getNewReports().clear();
+
+        campaign.getSkillReport().clear();
+        campaign.setSkillReportHTML("");
+        campaign.getNewSkillReports().clear();
+
+        campaign.getBattleReport().clear();
+        campaign.setBattleReportHTML("");
+        campaign.getNewBattleReports().clear();
+
+        campaign.getPoliticsReport().clear();
+        campaign.setPoliticsReportHTML("");
+        campaign.getNewPoliticsReports().clear();
+
+        campaign.getPersonnelReport().clear();
+        campaign.setPersonnelReportHTML("");
+        campaign.getNewPersonnelReports().clear();
+
+        campaign.getMedicalReport().clear();
+        campaign.setMedicalReportHTML("");
+        campaign.getNewMedicalReports().clear();
+
+        campaign.getFinancesReport().clear();
+        campaign.setFinancesReportHTML("");
+        campaign.getNewFinancesReports().clear();
+
+        campaign.getAcquisitionsReport().clear();
+        campaign.setAcquisitionsReportHTML("");
+        campaign.getNewAcquisitionsReports().clear();
+
+        campaign.getTechnicalReport().clear();
+        campaign.setTechnicalReportHTML("");
+        campaign.getNewTechnicalReports().clear();
+    }
+
     private void checkForBioweaponAttacksOrNewVaccines(String systemName, String systemId) {
         InjuryType newBioweaponAttack = getNewBioweaponAttack(systemId, today, false);
-        if (newBioweaponAttack != null) {
+        if ((newBioweaponAttack != null) && !listener.isShowingNotifications()) {
+            campaign.addReport(MEDICAL, getFormattedTextAt(RESOURCE_BUNDLE, "bioweaponAttack.outOfCharacter",
+                  newBioweaponAttack.getSimpleName(), systemName));
+        } else if (newBioweaponAttack != null) {
             new ImmersiveDialogSimple(campaign,
                   campaign.getSeniorMedicalPerson(),
                   null,
@@ -530,6 +560,12 @@ public class CampaignNewDayManager {
         Set<InjuryType> availableCures = getAllSystemSpecificDiseasesWithCures(systemId, today, false);
         for (InjuryType disease : newOutbreaks) {
             String keySuffix = availableCures.contains(disease) ? "yesCure" : "noCure";
+            if (!listener.isShowingNotifications()) {
+                campaign.addReport(MEDICAL, getFormattedTextAt(RESOURCE_BUNDLE,
+                      "diseaseOutbreak.outOfCharacter." + keySuffix, disease.getSimpleName(), systemName));
+                continue;
+            }
+
             new ImmersiveDialogSimple(campaign,
                   campaign.getSeniorMedicalPerson(),
                   null,
@@ -547,8 +583,12 @@ public class CampaignNewDayManager {
     private void checkForNewVaccines(String systemId) {
         Set<InjuryType> newCures = getAllNewCures(systemId, today);
         for (InjuryType injuryType : newCures) {
-            new ImmersiveDialogNotification(campaign, getFormattedTextAt(RESOURCE_BUNDLE, "disease.newCure",
-                  injuryType.getSimpleName()), true);
+            String message = getFormattedTextAt(RESOURCE_BUNDLE, "disease.newCure", injuryType.getSimpleName());
+            if (listener.isShowingNotifications()) {
+                new ImmersiveDialogNotification(campaign, message, true);
+            } else {
+                campaign.addReport(MEDICAL, message);
+            }
         }
     }
 
@@ -679,7 +719,11 @@ public class CampaignNewDayManager {
      * <p>
      * <b>Concurrency Note:</b>
      * A separate filtered list of personnel is used to avoid concurrent
-     * modification issues during iteration.
+     * modification issues during iteration. The read-only part of each person's
+     * day (age, anniversary announcements, vocational rolls, whether they need
+     * medical care, fatigue recovery and academy lookups) is evaluated in
+     * parallel by {@link PersonnelDayEvaluator} before anything is changed; the
+     * results are then applied serially, in personnel order.
      * <p>
      * campaign method relies on several helper methods to perform specific tasks for
      * each person,
@@ -714,7 +758,8 @@ public class CampaignNewDayManager {
         int commanderDayTargetNumber = 5;
         boolean isCommandersDay = isCommandersDay(today) &&
                                         campaign.getCommander() != null &&
-                                        campaignOptions.isShowLifeEventDialogCelebrations();
+                                        campaignOptions.isShowLifeEventDialogCelebrations() &&
+                                        listener.isShowingNotifications();
         boolean isCampaignPlanetside = updatedLocation.isOnPlanet();
         boolean isUseAdvancedMedical = campaignOptions.isUseAdvancedMedical();
         boolean isUseAltAdvancedMedical = campaignOptions.isUseAlternativeAdvancedMedical();
@@ -722,12 +767,22 @@ public class CampaignNewDayManager {
         int fatigueRate = campaignOptions.getFatigueRate();
         boolean useBetterMonthlyIncome = campaignOptions.isUseBetterExtraIncome();
         boolean isUseAgeEffects = campaignOptions.isUseAgeEffects();
-        for (Person person : personnel) {
+
+        // The read-only part of each person's day is evaluated up front, in parallel, and then applied in order
+        PersonnelDayEvaluator evaluator = new PersonnelDayEvaluator(campaign);
+        List<PersonnelDayEvaluator.Evaluation> evaluations = evaluator.evaluateAll(personnel);
+        evaluatedAcademies = new HashMap<>();
+        for (PersonnelDayEvaluator.Evaluation evaluation : evaluations) {
+            Person person = evaluation.person();
+            if (evaluation.academy() != null) {
+                evaluatedAcademies.put(person.getId(), evaluation.academy());
+            }
+
             if (person.getStatus().isDepartedUnit()) {
                 continue;
             }
 
-            int age = person.getAge(today);
+            int age = evaluation.age();
             person.setAgeForAttributeModifiers(isUseAgeEffects ? age : IGNORE_AGE);
 
             PersonnelOptions personnelOptions = person.getOptions();
@@ -763,7 +818,7 @@ public class CampaignNewDayManager {
             person.resetMinutesLeft(campaignOptions.isTechsUseAdministration());
             person.setAcquisition(0);
 
-            processAnniversaries(person);
+            processAnniversaries(evaluation);
 
             person.checkForIlliterateRemoval();
 
@@ -779,9 +834,7 @@ public class CampaignNewDayManager {
                 person.resetCurrentEdge();
 
                 if (!person.getStatus().isMIA()) {
-                    boolean isWithinCapacity = !campaign.isOnContractAndPlanetside() ||
-                                                     campaign.getFieldKitchenWithinCapacity();
-                    processFatigueRecovery(campaign, person, isWithinCapacity);
+                    processFatigueRecovery(campaign, person, evaluation.fatigueRecovery());
                 }
 
                 if (person.getStatus().isActiveFlexible() && person.getPrisonerStatus().isFreeOrBondsman()) {
@@ -796,10 +849,12 @@ public class CampaignNewDayManager {
 
             // Monthly events
             if (today.getDayOfMonth() == 1) {
-                processMonthlyAutoAwards(person);
+                // Rolled now, rather than during evaluation, so it sees any change to the person's experience level
+                // made earlier today
+                person.changeAutoAwardSupportPoints(evaluator.rollAutoAwardSupportPoints(person));
 
                 if (vocationalXpRate > 0) {
-                    if (processMonthlyVocationalXp(person, vocationalXpRate)) {
+                    if (processMonthlyVocationalXp(person, vocationalXpRate, evaluation.vocationalXpRoll())) {
                         campaign.getPersonnelWhoAdvancedInXP().add(person);
                     }
                 }
@@ -1064,9 +1119,13 @@ public class CampaignNewDayManager {
                 int requiredVictoryPoints = contract.getRequiredVictoryPoints();
 
                 if (campaignState.canEndContractEarly() && victoryPoints >= requiredVictoryPoints) {
-                    new ImmersiveDialogNotification(campaign,
-                          String.format(resources.getString("stratCon.earlyContractEnd.objectives"),
-                                contract.getHyperlinkedName()), true);
+                    String message = String.format(resources.getString("stratCon.earlyContractEnd.objectives"),
+                          contract.getHyperlinkedName());
+                    if (listener.isShowingNotifications()) {
+                        new ImmersiveDialogNotification(campaign, message, true);
+                    } else {
+                        campaign.addReport(GENERAL, message);
+                    }
 
                     // This ensures any outstanding payout is paid out before the contract ends
                     LocalDate adjustedDate = today.plusDays(1);
@@ -1126,9 +1185,12 @@ public class CampaignNewDayManager {
         for (Person person : campaign.getStudents()) {
             List<Object> individualAcademyAttributes = new ArrayList<>();
 
-            if (EducationController.processNewDay(campaign, person, false)) {
-                Academy academy = getAcademy(person.getEduAcademySet(), person.getEduAcademyNameInSet());
+            // Students who were not evaluated with the rest of the personnel today are looked up here
+            Academy academy = evaluatedAcademies.containsKey(person.getId()) ?
+                                    evaluatedAcademies.get(person.getId()) :
+                                    getAcademy(person.getEduAcademySet(), person.getEduAcademyNameInSet());
 
+            if (EducationController.processNewDay(campaign, person, academy, false)) {
                 if (academy == null) {
                     LOGGER.debug("Found null academy for {} skipping", person.getFullTitle());
                     continue;
@@ -1431,85 +1493,16 @@ public class CampaignNewDayManager {
     /**
      * Process anniversaries for a given person, including birthdays and recruitment anniversaries.
      *
-     * @param person The {@link Person} for whom the anniversaries will be processed
+     * @param evaluation the {@link PersonnelDayEvaluator.Evaluation} of the person whose anniversaries will be
+     *                   processed
      */
-    private void processAnniversaries(Person person) {
-        LocalDate birthday = person.getBirthday(today.getYear());
-        boolean isBirthday = birthday != null && birthday.equals(today);
-        int age = person.getAge(today);
-
-        boolean isUseEducation = campaignOptions.isUseEducationModule();
-        boolean isUseAgingEffects = campaignOptions.isUseAgeEffects();
-        boolean isUseTurnover = campaignOptions.isUseRandomRetirement();
-
-        final int JUNIOR_SCHOOL_AGE = 3;
-        final int HIGH_SCHOOL_AGE = 10;
-        final int EMPLOYMENT_AGE = 16;
-
-        if ((person.getRank().isOfficer()) || (!campaignOptions.isAnnounceOfficersOnly())) {
-            if (isBirthday && campaignOptions.isAnnounceBirthdays()) {
-                String report = String.format(resources.getString("anniversaryBirthday.text"),
-                      person.getHyperlinkedFullTitle(),
-                      spanOpeningWithCustomColor(ReportingUtilities.getPositiveColor()),
-                      age,
-                      CLOSING_SPAN_TAG);
-
-                // Aging Effects
-                AgingMilestone milestone = getMilestone(age);
-                String milestoneText = "";
-                if (isUseAgingEffects && milestone.getMinimumAge() == age) {
-                    String milestoneLabel = milestone.getLabel();
-                    milestoneText = String.format(resources.getString("anniversaryBirthday.milestone"), milestoneLabel);
-                }
-                if (!milestoneText.isBlank()) {
-                    report += " " + milestoneText;
-                }
-
-                // Special Ages
-                String addendum = "";
-                if (isUseEducation && age == JUNIOR_SCHOOL_AGE) {
-                    addendum = resources.getString("anniversaryBirthday.third");
-                } else if (isUseEducation && age == HIGH_SCHOOL_AGE) {
-                    addendum = resources.getString("anniversaryBirthday.tenth");
-                } else if (age == EMPLOYMENT_AGE) { // This age is always relevant
-                    addendum = resources.getString("anniversaryBirthday.sixteenth");
-                }
-
-                if (!addendum.isBlank()) {
-                    report += " " + addendum;
-                }
-
-                // Retirement
-                if (isUseTurnover && age >= RETIREMENT_AGE) {
-                    report += " " + resources.getString("anniversaryBirthday.retirement");
-                }
-
-                campaign.addReport(PERSONNEL, report);
-            }
-
-            LocalDate recruitmentDate = person.getRecruitment();
-            if (recruitmentDate != null) {
-                LocalDate recruitmentAnniversary = recruitmentDate.withYear(today.getYear());
-                int yearsOfEmployment = (int) ChronoUnit.YEARS.between(recruitmentDate, today);
+    private void processAnniversaries(PersonnelDayEvaluator.Evaluation evaluation) {
+        Person person = evaluation.person();
+        boolean isBirthday = evaluation.isBirthday();
+        int age = evaluation.age();
 
-                if ((recruitmentAnniversary.isEqual(today)) &&
-                          (campaignOptions.isAnnounceRecruitmentAnniversaries())) {
-                    campaign.addReport(PERSONNEL, String.format(resources.getString("anniversaryRecruitment.text"),
-                          person.getHyperlinkedFullTitle(),
-                          spanOpeningWithCustomColor(ReportingUtilities.getPositiveColor()),
-                          yearsOfEmployment,
-                          CLOSING_SPAN_TAG,
-                          campaign.getName()));
-                }
-            }
-        } else if ((person.getAge(today) == 18) && (campaignOptions.isAnnounceChildBirthdays())) {
-            if (isBirthday) {
-                campaign.addReport(PERSONNEL, String.format(resources.getString("anniversaryBirthday.text"),
-                      person.getHyperlinkedFullTitle(),
-                      spanOpeningWithCustomColor(ReportingUtilities.getPositiveColor()),
-                      person.getAge(today),
-                      CLOSING_SPAN_TAG));
-            }
+        for (String report : evaluation.anniversaryReports()) {
+            campaign.addReport(PERSONNEL, report);
         }
 
         // This is where we update all the aging modifiers for the character.
@@ -1518,7 +1511,7 @@ public class CampaignNewDayManager {
         }
 
         // Coming of Age Events
-        if (isBirthday && (person.getAge(today) == 16)) {
+        if (isBirthday && (age == 16)) {
             if (campaignOptions.isRewardComingOfAgeAbilities()) {
                 SingleSpecialAbilityGenerator singleSpecialAbilityGenerator = new SingleSpecialAbilityGenerator();
                 singleSpecialAbilityGenerator.rollSPA(campaign, person, true, true, false);
@@ -1533,7 +1526,7 @@ public class CampaignNewDayManager {
             // updating in the gui before the player has a chance to jump to them
             MekHQ.triggerEvent(new PersonChangedEvent(person));
 
-            if (campaignOptions.isShowLifeEventDialogComingOfAge()) {
+            if (campaignOptions.isShowLifeEventDialogComingOfAge() && listener.isShowingNotifications()) {
                 new ComingOfAgeAnnouncement(campaign, person);
             }
         }
@@ -1830,41 +1823,6 @@ public class CampaignNewDayManager {
         }
     }
 
-    /**
-     * Process monthly auto awards for a given person based on their roles and experience level.
-     *
-     * @param person the person for whom the monthly auto awards are being processed
-     */
-    private void processMonthlyAutoAwards(Person person) {
-        double multiplier = 0;
-
-        int score = 0;
-
-        if (person.getPrimaryRole().isSupport(true)) {
-            int dice = person.getExperienceLevel(campaign, false);
-
-            if (dice > 0) {
-                score = d6(dice);
-            }
-
-            multiplier += 0.5;
-        }
-
-        if (person.getSecondaryRole().isSupport(true)) {
-            int dice = person.getExperienceLevel(campaign, true);
-
-            if (dice > 0) {
-                score += d6(dice);
-            }
-
-            multiplier += 0.5;
-        } else if (person.getSecondaryRole().isNone()) {
-            multiplier += 0.5;
-        }
-
-        person.changeAutoAwardSupportPoints((int) (score * multiplier));
-    }
-
     /**
      * Processes the monthly vocational experience (XP) gain for a given person based on their eligibility and the
      * vocational experience rules defined in campaign options.
@@ -1883,10 +1841,11 @@ public class CampaignNewDayManager {
      *
      * @param person           the {@link Person} whose monthly vocational XP is to be processed
      * @param vocationalXpRate the amount of XP awarded on a successful roll
+     * @param roll             the 2d6 roll made for the person this month
      *
      * @return {@code true} if XP was successfully awarded during the process, {@code false} otherwise
      */
-    private boolean processMonthlyVocationalXp(Person person, int vocationalXpRate) {
+    private boolean processMonthlyVocationalXp(Person person, int vocationalXpRate, int roll) {
         if (!person.getStatus().isActive()) {
             return false;
         }
@@ -1909,7 +1868,7 @@ public class CampaignNewDayManager {
 
         person.setVocationalXPTimer(person.getVocationalXPTimer() + 1);
         if (person.getVocationalXPTimer() >= checkFrequency) {
-            if (d6(2) >= targetNumber) {
+            if (roll >= targetNumber) {
                 person.awardXP(campaign, vocationalXpRate);
                 person.setVocationalXPTimer(0);
                 return true;
@@ -36,8 +36,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import mekhq.campaign.enums.CampaignTransportType;
@@ -48,13 +49,18 @@ import mekhq.campaign.unit.enums.TransporterType;
 /**
  * It is time-consuming to determine what transporter types we can load a unit into when in a popup menu. This class is
  * for keeping just enough information that we can quickly determine which transporters can fit a unit.
+ * <p>
+ * The capacities for each transporter type are kept sorted, so finding the transports with room for a unit only
+ * looks at the capacities that are large enough. Each transport's current capacities are also kept, so updating or
+ * removing a transport doesn't need to search every capacity.
  *
  * @see CampaignTransportType
  */
 public class CampaignTransporterMap {
 
     private final Campaign campaign;
-    private final Map<TransporterType, Map<Double, Set<UUID>>> transportersMap = new HashMap<>();
+    private final Map<TransporterType, NavigableMap<Double, Set<UUID>>> transportersMap = new HashMap<>();
+    private final Map<UUID, Map<TransporterType, Double>> transportCapacities = new HashMap<>();
     private final CampaignTransportType campaignTransportType;
 
     public CampaignTransporterMap(Campaign campaign, CampaignTransportType campaignTransportType) {
@@ -68,22 +74,14 @@ public class CampaignTransporterMap {
      * @param transport - The unit we want to add to this Map
      */
     public void addTransporter(Unit transport) {
-        for (TransporterType transporterType : transport.getTransportedUnitsSummary(campaignTransportType)
-                                                     .getTransportCapabilities()) {
-            addTransporterToCapacityMap(transport, transporterType);
+        AbstractTransportedUnitsSummary transportedUnitsSummary = transport.getTransportedUnitsSummary(
+              campaignTransportType);
+        for (TransporterType transporterType : transportedUnitsSummary.getTransportCapabilities()) {
+            setTransportCapacity(transport.getId(), transporterType,
+                  transportedUnitsSummary.getCurrentTransportCapacity(transporterType));
         }
     }
 
-    private void addTransporterToCapacityMap(Unit transport, TransporterType transporterType) {
-        double capacity = transport.getTransportedUnitsSummary(campaignTransportType)
-                                .getCurrentTransportCapacity(transporterType);
-        Map<Double, Set<UUID>> capacityMap = transportersMap.getOrDefault(transporterType, new HashMap<>());
-        Set<UUID> unitIds = capacityMap.getOrDefault(capacity, new HashSet<>());
-        unitIds.add(transport.getId());
-        capacityMap.put(capacity, unitIds);
-        transportersMap.put(transporterType, capacityMap);
-    }
-
     /**
      * This will update the transport in the transport capacity map with new capacities
      *
@@ -97,40 +95,22 @@ public class CampaignTransporterMap {
         }
         AbstractTransportedUnitsSummary transportedUnitsSummary = transport.getTransportedUnitsSummary(
               campaignTransportType);
-
-        // Let's make a list of all the transportTypes in the map, and all the transportTypes the unit has
-        Set<TransporterType> transporterTypes = new HashSet<>();
-        transporterTypes.addAll(transportedUnitsSummary.getTransportCapabilities());
-        transporterTypes.addAll(transportersMap.keySet());
-
-        // Now let's update the current transporterTypes
-        for (TransporterType transporterType : transporterTypes) {
-            if (transportersMap.containsKey(transporterType)) {
-                Set<Double> oldCapacities = transportersMap.get(transporterType).keySet();
-                Double newCapacity = transportedUnitsSummary.getCurrentTransportCapacity(transporterType);
-                // First, if this is a new capacity for the map, let's manually add it
-                if (!oldCapacities.contains(newCapacity)) {
-                    addTransporterToCapacityMap(transport, transporterType);
+        Set<TransporterType> transportCapabilities = transportedUnitsSummary.getTransportCapabilities();
+
+        // Drop any transporter types this unit no longer has, then record the current capacity of the rest
+        Map<TransporterType, Double> capacities = transportCapacities.get(transport.getId());
+        if (capacities != null) {
+            for (TransporterType transporterType : new HashSet<>(capacities.keySet())) {
+                if (!transportCapabilities.contains(transporterType)) {
+                    removeTransportCapacity(transport.getId(), transporterType);
                 }
-                //Then we iterate through the existing capacities in the map, and either remove or add this transport as needed
-                for (Double capacity : oldCapacities) {
-                    if (transportersMap.get(transporterType).get(capacity).contains(transport.getId())) {
-                        if (!Objects.equals(capacity, newCapacity)) { // If it's correct, we don't need to change it
-                            transportersMap.get(transporterType).get(capacity).remove(transport.getId());
-                        }
-                    } else if (Objects.equals(capacity, newCapacity)) {
-                        addTransporterToCapacityMap(transport, transporterType);
-                    }
-                }
-
-                // Finally, let's remove this from the map & get out if the transport doesn't have this transporterType
-                if (!transportedUnitsSummary.getTransportCapabilities().contains(transporterType)) {
-                    removeTransportFromCapacityMap(transport, transporterType, 0);
-                }
-            } else {
-                addTransporterToCapacityMap(transport, transporterType);
             }
         }
+
+        for (TransporterType transporterType : transportCapabilities) {
+            setTransportCapacity(transport.getId(), transporterType,
+                  transportedUnitsSummary.getCurrentTransportCapacity(transporterType));
+        }
     }
 
     public boolean hasTransporters() {
@@ -145,18 +125,12 @@ public class CampaignTransporterMap {
      * @return true if the unit is, false if not
      */
     public boolean hasTransport(Unit unit) {
-        for (TransporterType transporterType : transportersMap.keySet()) {
-            for (Double capacity : transportersMap.get(transporterType).keySet()) {
-                if (transportersMap.get(transporterType).get(capacity).contains(unit.getId())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return transportCapacities.containsKey(unit.getId());
     }
 
     /**
-     * Returns a Map that maps Transporter types to another Map that maps capacity (Double) to UUID of transports
+     * Returns a Map that maps Transporter types to another Map that maps capacity (Double) to UUID of transports. The
+     * capacities for each transporter type are in ascending order.
      *
      * @return units that have space for that transport type
      */
@@ -175,17 +149,32 @@ public class CampaignTransporterMap {
      */
     public Set<Unit> getTransportsByType(TransporterType transporterType, double unitSize) {
         Set<Unit> units = new HashSet<>();
-        Map<Double, Set<UUID>> capacityMap = getTransporters().get(transporterType);
-        for (Double capacity : capacityMap.keySet()) {
-            if (Double.compare(capacity, unitSize) >= 0) {
-                for (UUID uuid : capacityMap.get(capacity)) {
-                    units.add(campaign.getUnit(uuid));
-                }
+        NavigableMap<Double, Set<UUID>> capacityMap = transportersMap.get(transporterType);
+        if (capacityMap == null) {
+            return units;
+        }
+
+        for (Set<UUID> unitIds : capacityMap.tailMap(unitSize, true).values()) {
+            for (UUID uuid : unitIds) {
+                units.add(campaign.getUnit(uuid));
             }
         }
         return units;
     }
 
+    /**
+     * Checks whether any transport has room for a unit of the given size, without building the set of transports.
+     *
+     * @param transporterType class of Transporter
+     * @param unitSize        the size of the unit (usually 1)
+     *
+     * @return true if at least one transport has that much space for that transport type
+     */
+    public boolean hasTransportsByType(TransporterType transporterType, double unitSize) {
+        NavigableMap<Double, Set<UUID>> capacityMap = transportersMap.get(transporterType);
+        return (capacityMap != null) && (capacityMap.ceilingKey(unitSize) != null);
+    }
+
     /**
      * Deletes an entry from the list of transit-capable transport ships. This gets updated when the unit is removed
      * from the campaign for one reason or another
@@ -193,30 +182,53 @@ public class CampaignTransporterMap {
      * @param transport - The unit we want to remove from this Set
      */
     public void removeTransport(Unit transport) {
-        Map<TransporterType, Double> toRemoveMap = new HashMap<>();
-        for (TransporterType transporterType : transportersMap.keySet()) {
-            for (Double capacity : transportersMap.get(transporterType).keySet()) {
-                if (transportersMap.get(transporterType).get(capacity).contains(transport.getId())) {
-                    toRemoveMap.put(transporterType, capacity);
-                }
-            }
+        Map<TransporterType, Double> capacities = transportCapacities.get(transport.getId());
+        if (capacities == null) {
+            return;
+        }
+
+        for (TransporterType transporterType : new HashSet<>(capacities.keySet())) {
+            removeTransportCapacity(transport.getId(), transporterType);
         }
+    }
 
-        for (TransporterType transporterTypeToRemove : toRemoveMap.keySet()) {
-            double capacity = toRemoveMap.get(transporterTypeToRemove);
-            removeTransportFromCapacityMap(transport, transporterTypeToRemove, capacity);
+    private void setTransportCapacity(UUID transportId, TransporterType transporterType, double capacity) {
+        Map<TransporterType, Double> capacities = transportCapacities.computeIfAbsent(transportId,
+              id -> new HashMap<>());
+        Double oldCapacity = capacities.put(transporterType, capacity);
+        if ((oldCapacity != null) && (Double.compare(oldCapacity, capacity) == 0)) {
+            return;
+        } else if (oldCapacity != null) {
+            removeFromCapacityMap(transportId, transporterType, oldCapacity);
         }
+
+        transportersMap.computeIfAbsent(transporterType, type -> new TreeMap<>())
+              .computeIfAbsent(capacity, c -> new HashSet<>())
+              .add(transportId);
     }
 
-    private void removeTransportFromCapacityMap(Unit transport, TransporterType transporterTypeToRemove,
-          double capacity) {
+    private void removeTransportCapacity(UUID transportId, TransporterType transporterType) {
+        Map<TransporterType, Double> capacities = transportCapacities.get(transportId);
+        Double capacity = (capacities == null) ? null : capacities.remove(transporterType);
+        if (capacity == null) {
+            return;
+        }
+
+        if (capacities.isEmpty()) {
+            transportCapacities.remove(transportId);
+        }
+        removeFromCapacityMap(transportId, transporterType, capacity);
+    }
 
-        transportersMap.get(transporterTypeToRemove).get(capacity).remove(transport.getId());
-        if (transportersMap.get(transporterTypeToRemove).get(capacity).isEmpty()) {
-            transportersMap.get(transporterTypeToRemove).remove(capacity);
+    private void removeFromCapacityMap(UUID transportId, TransporterType transporterType, double capacity) {
+        NavigableMap<Double, Set<UUID>> capacityMap = transportersMap.get(transporterType);
+        Set<UUID> unitIds = capacityMap.get(capacity);
+        unitIds.remove(transportId);
+        if (unitIds.isEmpty()) {
+            capacityMap.remove(capacity);
         }
-        if (transportersMap.get(transporterTypeToRemove).isEmpty()) {
-            transportersMap.remove(transporterTypeToRemove);
+        if (capacityMap.isEmpty()) {
+            transportersMap.remove(transporterType);
         }
     }
 }
@@ -45,6 +45,7 @@ import java.util.stream.Stream;
 
 import megamek.common.annotations.Nullable;
 import mekhq.campaign.finances.Money;
+import mekhq.campaign.finances.MoneyAccumulator;
 import mekhq.campaign.unit.Unit;
 import mekhq.utilities.MHQXMLUtility;
 
@@ -110,7 +111,11 @@ public class Hangar {
      * @return The total costs for the units.
      */
     public Money getUnitCosts(Function<Unit, Money> getCosts) {
-        return getUnitsStream().map(getCosts).reduce(Money.zero(), Money::plus);
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (Unit unit : units.values()) {
+            total.add(getCosts.apply(unit));
+        }
+        return total.toMoney();
     }
 
     /**
@@ -122,7 +127,13 @@ public class Hangar {
      * @return The total costs for the units selected by the predicate.
      */
     public Money getUnitCosts(Predicate<Unit> predicate, Function<Unit, Money> getCosts) {
-        return getUnitsStream().filter(predicate).map(getCosts).reduce(Money.zero(), Money::plus);
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (Unit unit : units.values()) {
+            if (predicate.test(unit)) {
+                total.add(getCosts.apply(unit));
+            }
+        }
+        return total.toMoney();
     }
 
     /**
@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import mekhq.campaign.universe.JumpGraph;
+import mekhq.campaign.universe.PlanetarySystem;
+
+/**
+ * Plans {@link JumpPath}s across a precomputed {@link JumpGraph} using the A* algorithm.
+ *
+ * <p>The open set is an indexed binary heap and all scores are kept in primitive arrays indexed by graph node, so a
+ * search costs {@code O(E log V)} rather than scanning the whole open set on every step. Routing restrictions, such as
+ * avoiding empty or outlawed systems, are expressed as {@link JumpFilter}s which are evaluated per edge.</p>
+ *
+ * <p>The cost of leaving a system is supplied by the caller (normally the recharge time of that system), and the
+ * heuristic is the straight-line distance to the destination.</p>
+ */
+public class JumpPathPlanner {
+    /** The maximum number of systems the search will expand before giving up. */
+    public static final int MAX_EXPANSIONS = 10000;
+
+    /**
+     * Decides whether a jump between two adjacent systems of a {@link JumpGraph} may be taken.
+     */
+    @FunctionalInterface
+    public interface JumpFilter {
+        /**
+         * @param graph the graph being searched
+         * @param from  the index of the system being jumped from
+         * @param to    the index of the system being jumped to
+         *
+         * @return {@code true} if the jump is allowed
+         */
+        boolean canJump(JumpGraph graph, int from, int to);
+
+        /**
+         * @return a filter that allows a jump only if both this filter and {@code other} do
+         */
+        default JumpFilter and(JumpFilter other) {
+            return (graph, from, to) -> canJump(graph, from, to) && other.canJump(graph, from, to);
+        }
+
+        /**
+         * @return a filter that allows every jump
+         */
+        static JumpFilter any() {
+            return (graph, from, to) -> true;
+        }
+    }
+
+    private final JumpGraph graph;
+
+    public JumpPathPlanner(JumpGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Finds the cheapest path between two systems.
+     *
+     * @param start         the starting system
+     * @param end           the destination system
+     * @param departureCost the cost of jumping out of a system, normally its recharge time
+     * @param filter        the jumps that may be taken
+     *
+     * @return the path from {@code start} to {@code end}. If the destination cannot be reached, the path to the last
+     *       system explored is returned instead, matching the historical behaviour of
+     *       {@link Campaign#calculateJumpPath(PlanetarySystem, PlanetarySystem, boolean, boolean)}.
+     */
+    public JumpPath findPath(PlanetarySystem start, PlanetarySystem end,
+          ToDoubleFunction<PlanetarySystem> departureCost, JumpFilter filter) {
+        final int startNode = graph.indexOf(start.getId());
+        final int endNode = graph.indexOf(end.getId());
+        if ((startNode < 0) || (endNode < 0)) {
+            JumpPath jumpPath = new JumpPath();
+            jumpPath.addSystem(start);
+            return jumpPath;
+        }
+
+        final int size = graph.size();
+        final PlanetarySystem endSystem = graph.getSystem(endNode);
+
+        double[] scoreG = new double[size];
+        double[] scoreH = new double[size];
+        int[] parent = new int[size];
+        boolean[] closed = new boolean[size];
+        Arrays.fill(scoreH, Double.NaN);
+        Arrays.fill(parent, -1);
+        OpenSet open = new OpenSet(size);
+
+        int current = startNode;
+        scoreG[current] = 0.0;
+        closed[current] = true;
+
+        for (int expansions = 0; expansions < MAX_EXPANSIONS; expansions++) {
+            double currentG = scoreG[current] + departureCost.applyAsDouble(graph.getSystem(current));
+
+            for (int edge = graph.getEdgeStart(current); edge < graph.getEdgeEnd(current); edge++) {
+                int neighbour = graph.getEdgeTarget(edge);
+                if (closed[neighbour] || !filter.canJump(graph, current, neighbour)) {
+                    continue;
+                }
+
+                if (open.contains(neighbour)) {
+                    // Check if this path is better than the previously found one
+                    if (currentG < scoreG[neighbour]) {
+                        scoreG[neighbour] = currentG;
+                        parent[neighbour] = current;
+                        open.decreaseKey(neighbour, currentG + scoreH[neighbour]);
+                    }
+                } else {
+                    // Discover a new node
+                    if (Double.isNaN(scoreH[neighbour])) {
+                        scoreH[neighbour] = endSystem.getDistanceTo(graph.getSystem(neighbour));
+                    }
+                    scoreG[neighbour] = currentG;
+                    parent[neighbour] = current;
+                    open.insert(neighbour, currentG + scoreH[neighbour]);
+                }
+            }
+
+            if (open.isEmpty()) {
+                break; // No path exists
+            }
+
+            current = open.poll();
+            closed[current] = true;
+
+            if (current == endNode) {
+                break;
+            }
+        }
+
+        return reconstructPath(current, parent);
+    }
+
+    private JumpPath reconstructPath(int current, int[] parent) {
+        List<PlanetarySystem> path = new ArrayList<>();
+        for (int node = current; node >= 0; node = parent[node]) {
+            path.add(graph.getSystem(node));
+        }
+
+        JumpPath jumpPath = new JumpPath();
+        for (int i = path.size() - 1; i >= 0; i--) {
+            jumpPath.addSystem(path.get(i));
+        }
+        return jumpPath;
+    }
+
+    /**
+     * An indexed binary min-heap of graph nodes ordered by f-score, supporting decrease-key. Ties are broken on the
+     * node index so that searches are deterministic.
+     */
+    private static class OpenSet {
+        private final int[] heap;
+        private final int[] positions;
+        private final double[] scores;
+        private int size;
+
+        OpenSet(int capacity) {
+            heap = new int[capacity];
+            positions = new int[capacity];
+            scores = new double[capacity];
+            Arrays.fill(positions, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(int node) {
+            return positions[node] >= 0;
+        }
+
+        void insert(int node, double score) {
+            scores[node] = score;
+            heap[size] = node;
+            positions[node] = size;
+            siftUp(size++);
+        }
+
+        void decreaseKey(int node, double score) {
+            scores[node] = score;
+            siftUp(positions[node]);
+        }
+
+        int poll() {
+            int top = heap[0];
+            positions[top] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private boolean isBefore(int a, int b) {
+            return (scores[a] < scores[b]) || ((scores[a] == scores[b]) && (a < b));
+        }
+
+        private void siftUp(int index) {
+            int node = heap[index];
+            while (index > 0) {
+                int parentIndex = (index - 1) >>> 1;
+                int parentNode = heap[parentIndex];
+                if (!isBefore(node, parentNode)) {
+                    break;
+                }
+                heap[index] = parentNode;
+                positions[parentNode] = index;
+                index = parentIndex;
+            }
+            heap[index] = node;
+            positions[node] = index;
+        }
+
+        private void siftDown(int index) {
+            int node = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                int right = child + 1;
+                if ((right < size) && isBefore(heap[right], heap[child])) {
+                    child = right;
+                }
+                if (!isBefore(heap[child], node)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                positions[heap[index]] = index;
+                index = child;
+            }
+            heap[index] = node;
+            positions[node] = index;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+/**
+ * Receives the hooks {@link CampaignNewDayManager} used to reach directly into the GUI for, so that days can be
+ * advanced with or without a {@link mekhq.gui.CampaignGUI}.
+ *
+ * <p>Every method has a no-op default, so implementations only override what they care about. Use
+ * {@link #HEADLESS} to advance days without any user interface at all.</p>
+ */
+public interface NewDayListener {
+    /**
+     * A listener for advancing days without a user interface. Purely informational dialogs are suppressed, with
+     * their text written to the daily report instead where it matters.
+     */
+    NewDayListener HEADLESS = new NewDayListener() {
+        @Override
+        public boolean isShowingNotifications() {
+            return false;
+        }
+    };
+
+    /**
+     * Called before anything else when a new day begins, so any notices about the previous day can be cleared.
+     *
+     * @param campaign the campaign whose day is about to advance
+     */
+    default void newDayStarting(Campaign campaign) {
+    }
+
+    /**
+     * @return {@code true} if informational dialogs, such as celebrations and outbreak notices, should be shown
+     */
+    default boolean isShowingNotifications() {
+        return true;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static mekhq.campaign.personnel.skills.Aging.getMilestone;
+import static mekhq.campaign.personnel.turnoverAndRetention.RetirementDefectionTracker.RETIREMENT_AGE;
+import static mekhq.utilities.ReportingUtilities.CLOSING_SPAN_TAG;
+import static mekhq.utilities.ReportingUtilities.spanOpeningWithCustomColor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.ResourceBundle;
+import java.util.UUID;
+
+import megamek.common.annotations.Nullable;
+import mekhq.MekHQ;
+import mekhq.campaign.campaignOptions.CampaignOptions;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.education.Academy;
+import mekhq.campaign.personnel.education.AcademyFactory;
+import mekhq.campaign.personnel.education.EducationController;
+import mekhq.campaign.personnel.skills.enums.AgingMilestone;
+import mekhq.campaign.personnel.turnoverAndRetention.Fatigue;
+import mekhq.utilities.ReportingUtilities;
+
+/**
+ * Evaluates the read-only part of a person's daily processing ahead of {@link CampaignNewDayManager}'s serial
+ * personnel loop.
+ *
+ * <p>Evaluation does not modify the person or the campaign, so it can run for all personnel in parallel. The
+ * resulting {@link Evaluation}s are then applied one by one, in personnel order, by the new day manager. Only values
+ * that nothing earlier in the same day can change are evaluated up front; anything that depends on the day's
+ * mutations, such as the experience level behind the monthly auto award roll, is still read when it is applied.</p>
+ *
+ * <p>Dice rolled during evaluation come from a {@link Random} seeded by the campaign, the person and the date, rather
+ * than the shared MegaMek generator. The results are therefore the same however many threads are used and in
+ * whatever order the personnel are evaluated.</p>
+ */
+class PersonnelDayEvaluator {
+    /** Below this many personnel the cost of forking the work outweighs the gain. */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    private static final int JUNIOR_SCHOOL_AGE = 3;
+    private static final int HIGH_SCHOOL_AGE = 10;
+    private static final int EMPLOYMENT_AGE = 16;
+    private static final int ADULT_AGE = 18;
+
+    /** Distinguishes the dice streams drawn for the same person on the same day. */
+    private static final int VOCATIONAL_XP_STREAM = 0;
+    static final int AUTO_AWARD_STREAM = 1;
+
+    private final ResourceBundle resources = ResourceBundle.getBundle("mekhq.resources.Campaign",
+          MekHQ.getMHQOptions().getLocale());
+
+    private final Campaign campaign;
+    private final CampaignOptions campaignOptions;
+    private final LocalDate today;
+    private final boolean isFirstOfMonth;
+    private final boolean isMonday;
+    private final boolean hasActiveContracts;
+    private final boolean fieldKitchensAreWithinCapacity;
+
+    /**
+     * The proposed outcome of a person's day.
+     *
+     * @param person             the person evaluated
+     * @param age                the person's age today
+     * @param isBirthday         {@code true} if today is the person's birthday
+     * @param anniversaryReports birthday and recruitment anniversary announcements, in report order
+     * @param vocationalXpRoll   the 2d6 roll used for vocational XP, or 0 if it is not the first of the month
+     * @param fatigueRecovery    the fatigue the person recovers this week, or 0 if it is not Monday
+     * @param academy            the academy the person is studying at, or {@code null} if they are not a student
+     */
+    record Evaluation(Person person, int age, boolean isBirthday, List<String> anniversaryReports,
+          int vocationalXpRoll, int fatigueRecovery, @Nullable Academy academy) {
+    }
+
+    PersonnelDayEvaluator(Campaign campaign) {
+        this.campaign = campaign;
+        this.campaignOptions = campaign.getCampaignOptions();
+        this.today = campaign.getLocalDate();
+        this.isFirstOfMonth = today.getDayOfMonth() == 1;
+        this.isMonday = today.getDayOfWeek() == DayOfWeek.MONDAY;
+        this.hasActiveContracts = !campaign.getActiveContracts().isEmpty();
+        this.fieldKitchensAreWithinCapacity = !campaign.isOnContractAndPlanetside() ||
+                                                    campaign.getFieldKitchenWithinCapacity();
+
+        // Loads the academies up front, as the factory is not safe to initialize from several threads
+        AcademyFactory.getInstance();
+    }
+
+    /**
+     * Evaluates every person in the list.
+     *
+     * @param personnel the personnel to evaluate
+     *
+     * @return the evaluations, in the same order as {@code personnel}
+     */
+    List<Evaluation> evaluateAll(List<Person> personnel) {
+        if (personnel.size() < PARALLEL_THRESHOLD) {
+            return personnel.stream().map(this::evaluate).toList();
+        }
+
+        return personnel.parallelStream().map(this::evaluate).toList();
+    }
+
+    /**
+     * Evaluates a single person without changing any state.
+     *
+     * @param person the person to evaluate
+     *
+     * @return the person's proposed daily outcome
+     */
+    Evaluation evaluate(Person person) {
+        LocalDate birthday = person.getBirthday(today.getYear());
+        boolean isBirthday = birthday != null && birthday.equals(today);
+        int age = person.getAge(today);
+
+        List<String> anniversaryReports = getAnniversaryReports(person, age, isBirthday);
+
+        int vocationalXpRoll = 0;
+        if (isFirstOfMonth) {
+            vocationalXpRoll = rollD6(createRandom(person, VOCATIONAL_XP_STREAM), 2);
+        }
+
+        int fatigueRecovery = 0;
+        if (isMonday) {
+            fatigueRecovery = Fatigue.getFatigueRecovery(person, hasActiveContracts, fieldKitchensAreWithinCapacity);
+        }
+
+        Academy academy = null;
+        if (person.getStatus().isStudent()) {
+            academy = EducationController.getAcademy(person.getEduAcademySet(), person.getEduAcademyNameInSet());
+        }
+
+        return new Evaluation(person, age, isBirthday, anniversaryReports, vocationalXpRoll, fatigueRecovery,
+              academy);
+    }
+
+    /**
+     * Creates the random number generator for a person's day. The seed mixes the campaign, the person, the date and
+     * the stream so that each person gets independent, reproducible streams.
+     *
+     * @param person the person the generator is for
+     * @param stream which of the person's streams to create
+     *
+     * @return a new generator
+     */
+    Random createRandom(Person person, int stream) {
+        UUID campaignId = campaign.getId();
+        UUID personId = person.getId();
+
+        long seed = today.toEpochDay();
+        if (campaignId != null) {
+            seed = 31 * seed + campaignId.hashCode();
+        }
+        seed = 31 * seed + personId.getMostSignificantBits();
+        seed = 31 * seed + personId.getLeastSignificantBits();
+        seed = 31 * seed + stream;
+        return new Random(seed);
+    }
+
+    private static int rollD6(Random random, int dice) {
+        int total = 0;
+        for (int i = 0; i < dice; i++) {
+            total += random.nextInt(6) + 1;
+        }
+        return total;
+    }
+
+    /**
+     * Rolls the monthly auto award support points for a given person based on their roles and experience level.
+     *
+     * <p>This reads the person's current experience level, so it is made while the evaluations are applied, after
+     * the day's earlier changes to the person, rather than during evaluation.</p>
+     *
+     * @param person the person to roll for
+     *
+     * @return the support points earned this month
+     */
+    int rollAutoAwardSupportPoints(Person person) {
+        Random random = createRandom(person, AUTO_AWARD_STREAM);
+        double multiplier = 0;
+
+        int score = 0;
+
+        if (person.getPrimaryRole().isSupport(true)) {
+            int dice = person.getExperienceLevel(campaign, false);
+
+            if (dice > 0) {
+                score = rollD6(random, dice);
+            }
+
+            multiplier += 0.5;
+        }
+
+        if (person.getSecondaryRole().isSupport(true)) {
+            int dice = person.getExperienceLevel(campaign, true);
+
+            if (dice > 0) {
+                score += rollD6(random, dice);
+            }
+
+            multiplier += 0.5;
+        } else if (person.getSecondaryRole().isNone()) {
+            multiplier += 0.5;
+        }
+
+        return (int) (score * multiplier);
+    }
+
+    /**
+     * Builds the birthday and recruitment anniversary announcements for a given person.
+     */
+    private List<String> getAnniversaryReports(Person person, int age, boolean isBirthday) {
+        List<String> reports = new ArrayList<>();
+
+        if ((person.getRank().isOfficer()) || (!campaignOptions.isAnnounceOfficersOnly())) {
+            if (isBirthday && campaignOptions.isAnnounceBirthdays()) {
+                String report = String.format(resources.getString("anniversaryBirthday.text"),
+                      person.getHyperlinkedFullTitle(),
+                      spanOpeningWithCustomColor(ReportingUtilities.getPositiveColor()),
+                      age,
+                      CLOSING_SPAN_TAG);
+
+                // Aging Effects
+                AgingMilestone milestone = getMilestone(age);
+                if (campaignOptions.isUseAgeEffects() && milestone.getMinimumAge() == age) {
+                    report += " " + String.format(resources.getString("anniversaryBirthday.milestone"),
+                          milestone.getLabel());
+                }
+
+                // Special Ages
+                boolean isUseEducation = campaignOptions.isUseEducationModule();
+                String addendum = "";
+                if (isUseEducation && age == JUNIOR_SCHOOL_AGE) {
+                    addendum = resources.getString("anniversaryBirthday.third");
+                } else if (isUseEducation && age == HIGH_SCHOOL_AGE) {
+                    addendum = resources.getString("anniversaryBirthday.tenth");
+                } else if (age == EMPLOYMENT_AGE) { // This age is always relevant
+                    addendum = resources.getString("anniversaryBirthday.sixteenth");
+                }
+
+                if (!addendum.isBlank()) {
+                    report += " " + addendum;
+                }
+
+                // Retirement
+                if (campaignOptions.isUseRandomRetirement() && age >= RETIREMENT_AGE) {
+                    report += " " + resources.getString("anniversaryBirthday.retirement");
+                }
+
+                reports.add(report);
+            }
+
+            LocalDate recruitmentDate = person.getRecruitment();
+            if (recruitmentDate != null) {
+                LocalDate recruitmentAnniversary = recruitmentDate.withYear(today.getYear());
+                int yearsOfEmployment = (int) ChronoUnit.YEARS.between(recruitmentDate, today);
+
+                if ((recruitmentAnniversary.isEqual(today)) &&
+                          (campaignOptions.isAnnounceRecruitmentAnniversaries())) {
+                    reports.add(String.format(resources.getString("anniversaryRecruitment.text"),
+                          person.getHyperlinkedFullTitle(),
+                          spanOpeningWithCustomColor(ReportingUtilities.getPositiveColor()),
+                          yearsOfEmployment,
+                          CLOSING_SPAN_TAG,
+                          campaign.getName()));
+                }
+            }
+        } else if ((age == ADULT_AGE) && isBirthday && (campaignOptions.isAnnounceChildBirthdays())) {
+            reports.add(String.format(resources.getString("anniversaryBirthday.text"),
+                  person.getHyperlinkedFullTitle(),
+                  spanOpeningWithCustomColor(ReportingUtilities.getPositiveColor()),
+                  age,
+                  CLOSING_SPAN_TAG));
+        }
+
+        return reports;
+    }
+}
@@ -34,7 +34,6 @@ package mekhq.campaign;
 
 import static mekhq.campaign.enums.DailyReportType.ACQUISITIONS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -328,9 +327,7 @@ public record Quartermaster(Campaign campaign) {
      * @return The matching spare {@code AmmoStorage} part, otherwise {@code null}.
      */
     private @Nullable AmmoStorage findSpareAmmo(AmmoType ammoType) {
-        return (AmmoStorage) getWarehouse().findSparePart(part -> isAvailableAsSpareAmmo(part)
-                                                                        &&
-                                                                        ((AmmoStorage) part).isSameAmmoType(ammoType));
+        return getWarehouse().getAmmoLedger().findSameAmmo(ammoType);
     }
 
     /**
@@ -341,26 +338,7 @@ public record Quartermaster(Campaign campaign) {
      * @return A list of spare {@code AmmoStorage} parts in the warehouse.
      */
     private List<AmmoStorage> findCompatibleSpareAmmo(AmmoType ammoType) {
-        List<AmmoStorage> compatibleAmmo = new ArrayList<>();
-        getWarehouse().forEachSparePart(part -> {
-            if (!isAvailableAsSpareAmmo(part)) {
-                return;
-            }
-
-            AmmoStorage spare = (AmmoStorage) part;
-            if (spare.isSameAmmoType(ammoType)) {
-                // We are looking for compatible ammo, not identical ammo.
-                return;
-            }
-
-            // If we found a spare ammo bin with at least one shot available ...
-            if (spare.isCompatibleAmmo(ammoType) && (spare.getShots() > 0)) {
-                // ... add it to our list of compatible ammo.
-                compatibleAmmo.add(spare);
-            }
-        });
-
-        return compatibleAmmo;
+        return getWarehouse().getAmmoLedger().findCompatibleAmmo(ammoType);
     }
 
     /**
@@ -426,40 +404,12 @@ public record Quartermaster(Campaign campaign) {
     public int getAmmoAvailable(AmmoType ammoType) {
         Objects.requireNonNull(ammoType);
 
-        if (!getCampaignOptions().isUseAmmoByType()) {
-            // We can't just use findSpareAmmo, that will return the first
-            // matching ammo. There may be multiple instances of matching
-            // ammo that have different qualities, so we should return
-            // all of those counts as viable and not just the first we find.
-            return getWarehouse()
-                         .streamSpareParts()
-                         .filter(Quartermaster::isAvailableAsSpareAmmo)
-                         .mapToInt(part -> {
-                             AmmoStorage spare = (AmmoStorage) part;
-                             if (spare.isSameAmmoType(ammoType)) {
-                                 return spare.getShots();
-                             }
-                             return 0;
-                         })
-                         .sum();
-
-        } else {
-            // If we're using ammo by type, stream through all
-            // the ammo that matches strictly or is compatible.
-            return getWarehouse()
-                         .streamSpareParts()
-                         .filter(Quartermaster::isAvailableAsSpareAmmo)
-                         .mapToInt(part -> {
-                             AmmoStorage spare = (AmmoStorage) part;
-                             if (spare.isSameAmmoType(ammoType)) {
-                                 return spare.getShots();
-                             } else if (spare.isCompatibleAmmo(ammoType)) {
-                                 return convertShots(spare.getType(), spare.getShots(), ammoType);
-                             }
-                             return 0;
-                         })
-                         .sum();
-        }
+        // We can't just use findSpareAmmo, that will return the first
+        // matching ammo. There may be multiple instances of matching
+        // ammo that have different qualities, so we should return
+        // all of those counts as viable and not just the first we find.
+        // If we're using ammo by type, also count the compatible ammo.
+        return getWarehouse().getAmmoLedger().getShotsAvailable(ammoType, getCampaignOptions().isUseAmmoByType());
     }
 
     /**
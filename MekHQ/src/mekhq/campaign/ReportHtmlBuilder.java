@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * Builds the HTML of one daily report tab from its report lines.
+ *
+ * <p>Appending a report only records it; the lines are joined with {@link Campaign#REPORT_LINEBREAK} the next time
+ * the HTML is asked for, and the result is kept until another report arrives. Building the HTML is therefore linear in
+ * its length however many reports are added in between, where repeatedly concatenating onto a string was quadratic.</p>
+ */
+final class ReportHtmlBuilder {
+    // The HTML rendered so far, which the pending reports follow
+    private String rendered = "";
+    private final List<String> pending = new ArrayList<>();
+    // Whether any pending report has content, as empty reports add nothing to the HTML
+    private boolean hasPendingContent = false;
+
+    /**
+     * @return {@code true} if the HTML is empty
+     */
+    boolean isEmpty() {
+        return rendered.isEmpty() && !hasPendingContent;
+    }
+
+    /**
+     * Adds a report to the end of the HTML.
+     *
+     * @param report the report to add
+     */
+    void append(String report) {
+        pending.add(report);
+        hasPendingContent |= !report.isEmpty();
+    }
+
+    /**
+     * Replaces the HTML with the given reports.
+     *
+     * @param reports the reports, in order
+     */
+    void replaceWith(Collection<String> reports) {
+        rendered = "";
+        pending.clear();
+        hasPendingContent = false;
+        for (String report : reports) {
+            append(report);
+        }
+    }
+
+    /**
+     * Replaces the HTML outright.
+     *
+     * @param html the new HTML, which may be {@code null} to clear it
+     */
+    void set(@Nullable String html) {
+        rendered = (html == null) ? "" : html;
+        pending.clear();
+        hasPendingContent = false;
+    }
+
+    /**
+     * @return the HTML of every report added, separated by {@link Campaign#REPORT_LINEBREAK}
+     */
+    String toHtml() {
+        if (!pending.isEmpty()) {
+            int length = rendered.length();
+            for (String report : pending) {
+                length += Campaign.REPORT_LINEBREAK.length() + report.length();
+            }
+
+            StringBuilder html = new StringBuilder(length).append(rendered);
+            for (String report : pending) {
+                if (!html.isEmpty()) {
+                    html.append(Campaign.REPORT_LINEBREAK);
+                }
+                html.append(report);
+            }
+            rendered = html.toString();
+            pending.clear();
+            hasPendingContent = false;
+        }
+        return rendered;
+    }
+}
@@ -35,7 +35,9 @@ package mekhq.campaign;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.function.Consumer;
@@ -52,16 +54,81 @@ import mekhq.campaign.events.parts.PartRemovedEvent;
 import mekhq.campaign.parts.AmmoStorage;
 import mekhq.campaign.parts.Armor;
 import mekhq.campaign.parts.Part;
+import mekhq.campaign.parts.equipment.EquipmentPart;
 import mekhq.utilities.MHQXMLUtility;
 
 /**
  * Stores parts for a Campaign.
+ *
+ * <p>Alongside the parts themselves the warehouse keeps a secondary index of parts grouped by
+ * {@link PartSignature}. Two parts can only be the same part type if they share a signature, so spare part matching
+ * and counting only need to look at the parts with the same signature rather than every part in the warehouse.</p>
  */
 public class Warehouse {
     private static final MMLogger LOGGER = MMLogger.create(Warehouse.class);
 
+    /**
+     * The class at the top of each part class's {@link Part#isSamePartType(Part)} hierarchy. Implementations only
+     * match parts of their own class or a related subclass, so parts from different families never match.
+     */
+    private static final ClassValue<Class<?>> PART_FAMILIES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            Class<?> family = type;
+            for (Class<?> current = type; (current != null) && (current != Part.class);
+                  current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("isSamePartType", Part.class);
+                    family = current;
+                } catch (NoSuchMethodException ignored) {
+                    // This class inherits its implementation, keep looking further up
+                }
+            }
+            return family;
+        }
+    };
+
+    /**
+     * Whether a part class uses an implementation of {@link Part#isSamePartType(Part)} that requires matching
+     * equipment types, in which case the equipment type can be part of its signature.
+     */
+    private static final ClassValue<Boolean> MATCHES_EQUIPMENT_TYPE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaringClass = type.getMethod("isSamePartType", Part.class).getDeclaringClass();
+                return (declaringClass == EquipmentPart.class) || (declaringClass == AmmoStorage.class);
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * A canonical signature shared by every part that could be the same part type. Parts with different signatures
+     * are never the same part type, while parts with the same signature still need to be compared with
+     * {@link Part#isSamePartType(Part)}.
+     *
+     * @param family        the top of the part's {@link Part#isSamePartType(Part)} hierarchy
+     * @param equipmentType the part's equipment type, if its class matches on it, otherwise {@code null}
+     */
+    private record PartSignature(Class<?> family, @Nullable Object equipmentType) {
+        static PartSignature of(Part part) {
+            Object equipmentType = null;
+            if ((part instanceof EquipmentPart equipmentPart) && MATCHES_EQUIPMENT_TYPE.get(part.getClass())) {
+                equipmentType = equipmentPart.getType();
+            }
+            return new PartSignature(PART_FAMILIES.get(part.getClass()), equipmentType);
+        }
+    }
+
     private final TreeMap<Integer, Part> parts = new TreeMap<>();
 
+    // Parts by signature, each ordered by ID so lookups return the same part a scan of all parts would
+    private final Map<PartSignature, TreeMap<Integer, Part>> partsBySignature = new HashMap<>();
+    private final Map<Integer, PartSignature> signatures = new HashMap<>();
+    private final AmmoLedger ammoLedger = new AmmoLedger();
+
     /**
      * Adds a part to the warehouse.
      *
@@ -115,6 +182,7 @@ public class Warehouse {
         boolean isNewPart = !parts.containsKey(part.getId());
 
         parts.put(part.getId(), part);
+        indexPart(part);
 
         if (isNewPart) {
             MekHQ.triggerEvent(new PartNewEvent(part));
@@ -166,6 +234,9 @@ public class Warehouse {
         Objects.requireNonNull(part);
 
         boolean didRemove = (parts.remove(part.getId()) != null);
+        if (didRemove) {
+            unindexPart(part.getId());
+        }
 
         if (didRemove) {
             MekHQ.triggerEvent(new PartRemovedEvent(part));
@@ -222,6 +293,82 @@ public class Warehouse {
         return true;
     }
 
+    /**
+     * Files a part under its signature, replacing any earlier entry for the same ID.
+     *
+     * @param part the part to index
+     */
+    private void indexPart(Part part) {
+        unindexPart(part.getId());
+
+        PartSignature signature = PartSignature.of(part);
+        signatures.put(part.getId(), signature);
+        partsBySignature.computeIfAbsent(signature, ignored -> new TreeMap<>()).put(part.getId(), part);
+
+        if (part instanceof AmmoStorage ammoStorage) {
+            ammoLedger.add(ammoStorage);
+        }
+    }
+
+    /**
+     * Rebuilds the spare part index and ammo ledger from scratch. This is needed after parts have had their equipment
+     * type changed in place, such as when equipment parts are restored after loading.
+     */
+    public void reindexParts() {
+        partsBySignature.clear();
+        signatures.clear();
+        ammoLedger.clear();
+        for (Part part : parts.values()) {
+            indexPart(part);
+        }
+    }
+
+    /**
+     * Removes the part with the given ID from the signature index.
+     *
+     * @param id the ID of the part to remove
+     */
+    private void unindexPart(int id) {
+        ammoLedger.remove(id);
+
+        PartSignature signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+
+        TreeMap<Integer, Part> matches = partsBySignature.get(signature);
+        if (matches != null) {
+            matches.remove(id);
+            if (matches.isEmpty()) {
+                partsBySignature.remove(signature);
+            }
+        }
+    }
+
+    /**
+     * Gets the parts which could be the same part type as the given part, in ID order.
+     *
+     * @param part the part to match
+     *
+     * @return the parts sharing the given part's signature
+     */
+    private Collection<Part> getPartsWithSameSignature(Part part) {
+        TreeMap<Integer, Part> matches = partsBySignature.get(PartSignature.of(part));
+        return (matches == null) ? List.of() : matches.values();
+    }
+
+    /**
+     * Finds the first spare part sharing the given part's signature which matches a predicate.
+     */
+    private @Nullable Part findSparePartWithSameSignature(Part part, Predicate<Part> predicate) {
+        for (Part spare : getPartsWithSameSignature(part)) {
+            if (spare.isSpare() && predicate.test(spare)) {
+                return spare;
+            }
+        }
+        return null;
+    }
+
     /**
      * Attempts to merge a given part with an existing spare part in stock. The merge is only possible if a compatible
      * spare part is found, and both parts have the same "brand new" state.
@@ -287,7 +434,7 @@ public class Warehouse {
             return null;
         }
 
-        return findSparePart(spare ->
+        return findSparePartWithSameSignature(part, spare ->
                                    (spare.getId() != part.getId())
                                          && part.isSamePartTypeAndStatus(spare));
     }
@@ -324,7 +471,7 @@ public class Warehouse {
             return checkForExistingSparePart(part);
         }
 
-        return findSparePart(spare -> (spare.getId() != part.getId()) &&
+        return findSparePartWithSameSignature(part, spare -> (spare.getId() != part.getId()) &&
                                             part.isSamePartTypeAndStatus(spare) &&
                                             (part.isBrandNew() == spare.isBrandNew()));
     }
@@ -342,7 +489,7 @@ public class Warehouse {
 
     public int getSparePartsCount(Part targetPart) {
         int count = 0;
-        for (Part warehousePart : getParts()) {
+        for (Part warehousePart : getPartsWithSameSignature(targetPart)) {
             if (warehousePart.isSamePartType(targetPart)) {
                 count += getPartQuantity(warehousePart, true);
             }
@@ -409,6 +556,13 @@ public class Warehouse {
         return null;
     }
 
+    /**
+     * Gets the ledger of ammo storage held in the warehouse.
+     */
+    AmmoLedger getAmmoLedger() {
+        return ammoLedger;
+    }
+
     /**
      * Streams the spare parts in the campaign.
      *
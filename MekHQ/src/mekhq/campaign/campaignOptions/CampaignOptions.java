@@ -156,6 +156,7 @@ public class CampaignOptions {
     private boolean mrmsScrapImpossible;
     private boolean mrmsUseAssignedTechsFirst;
     private boolean mrmsReplacePod;
+    private boolean mrmsOptimizeAssignments;
     private List<MRMSOption> mrmsOptions;
     // endregion Repair and Maintenance Tab
 
@@ -745,6 +746,7 @@ public class CampaignOptions {
         setMRMSScrapImpossible(false);
         setMRMSUseAssignedTechsFirst(false);
         setMRMSReplacePod(true);
+        setMRMSOptimizeAssignments(false);
         setMRMSOptions(new ArrayList<>());
         for (final PartRepairType type : PartRepairType.values()) {
             getMRMSOptions().add(new MRMSOption(type));
@@ -1563,6 +1565,14 @@ public class CampaignOptions {
         this.mrmsUseAssignedTechsFirst = mrmsUseAssignedTechsFirst;
     }
 
+    public boolean isMRMSOptimizeAssignments() {
+        return mrmsOptimizeAssignments;
+    }
+
+    public void setMRMSOptimizeAssignments(final boolean mrmsOptimizeAssignments) {
+        this.mrmsOptimizeAssignments = mrmsOptimizeAssignments;
+    }
+
     public boolean isMRMSReplacePod() {
         return mrmsReplacePod;
     }
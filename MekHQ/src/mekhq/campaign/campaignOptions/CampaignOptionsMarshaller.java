@@ -93,6 +93,10 @@ public class CampaignOptionsMarshaller {
               "mrmsUseAssignedTechsFirst",
               campaignOptions.isMRMSUseAssignedTechsFirst());
         MHQXMLUtility.writeSimpleXMLTag(pw, indent, "mrmsReplacePod", campaignOptions.isMRMSReplacePod());
+        MHQXMLUtility.writeSimpleXMLTag(pw,
+              indent,
+              "mrmsOptimizeAssignments",
+              campaignOptions.isMRMSOptimizeAssignments());
         MHQXMLUtility.writeSimpleXMLOpenTag(pw, indent++, "mrmsOptions");
         for (final MRMSOption mrmsOption : campaignOptions.getMRMSOptions()) {
             mrmsOption.writeToXML(pw, indent);
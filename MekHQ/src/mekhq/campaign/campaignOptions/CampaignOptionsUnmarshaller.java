@@ -126,6 +126,8 @@ public class CampaignOptionsUnmarshaller {
             case "mrmsUseAssignedTechsFirst" -> campaignOptions.setMRMSUseAssignedTechsFirst(parseBoolean(
                   nodeContents));
             case "mrmsReplacePod" -> campaignOptions.setMRMSReplacePod(parseBoolean(nodeContents));
+            case "mrmsOptimizeAssignments" -> campaignOptions.setMRMSOptimizeAssignments(parseBoolean(
+                  nodeContents));
             case "mrmsOptions" -> campaignOptions.setMRMSOptions(MRMSOption.parseListFromXML(childNode, version));
             case "useFactionForNames" -> campaignOptions.setUseOriginFactionForNames(parseBoolean(nodeContents));
             case "useEraMods" -> campaignOptions.setEraMods(parseBoolean(nodeContents));
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.events;
+
+import mekhq.campaign.Campaign;
+
+/**
+ * An event triggered once a batch of days has been advanced by a {@link mekhq.campaign.DayAdvancer}. The
+ * {@link NewDayEvent}s for the individual days have already been triggered, flagged as part of the batch, so views
+ * that skip those should refresh here instead.
+ */
+public class DaysAdvancedEvent extends CampaignEvent {
+    private final int days;
+
+    public DaysAdvancedEvent(Campaign campaign, int days) {
+        super(campaign);
+        this.days = days;
+    }
+
+    /**
+     * @return the number of days advanced in the batch
+     */
+    public int getDays() {
+        return days;
+    }
+}
@@ -41,7 +41,28 @@ import mekhq.campaign.Campaign;
  * The new day can be queried via <code>event.getCampaign().getDate()</code>
  */
 public class NewDayEvent extends CampaignEvent {
+    private final boolean isPartOfBatch;
+
     public NewDayEvent(Campaign campaign) {
+        this(campaign, false);
+    }
+
+    /**
+     * @param campaign      the campaign
+     * @param isPartOfBatch {@code true} if this day is one of several being advanced together
+     */
+    public NewDayEvent(Campaign campaign, boolean isPartOfBatch) {
         super(campaign);
+        this.isPartOfBatch = isPartOfBatch;
+    }
+
+    /**
+     * Game logic should handle every new day, but views can skip refreshing for days that are part of a batch, as a
+     * {@link DaysAdvancedEvent} follows once the whole batch is done.
+     *
+     * @return {@code true} if this day is one of several being advanced together
+     */
+    public boolean isPartOfBatch() {
+        return isPartOfBatch;
     }
 }
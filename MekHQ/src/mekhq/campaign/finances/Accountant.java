@@ -55,7 +55,6 @@ import mekhq.campaign.finances.enums.TransactionType;
 import mekhq.campaign.force.Formation;
 import mekhq.campaign.market.contractMarket.AlternatePaymentModelValues;
 import mekhq.campaign.mission.AtBContract;
-import mekhq.campaign.parts.Part;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.education.EducationController;
 import mekhq.campaign.personnel.enums.PersonnelRole;
@@ -119,16 +118,14 @@ public record Accountant(Campaign campaign) {
 
     public Money getMaintenanceCosts() {
         if (getCampaignOptions().isPayForMaintain()) {
-            return getHangar().getUnitsStream()
-                         .filter(u -> u.requiresMaintenance() && (null != u.getTech()))
-                         .map(Unit::getMaintenanceCost)
-                         .reduce(Money.zero(), Money::plus);
+            return getHangar().getUnitCosts(u -> u.requiresMaintenance() && (null != u.getTech()),
+                  Unit::getMaintenanceCost);
         }
         return Money.zero();
     }
 
     public Money getWeeklyMaintenanceCosts() {
-        return getHangar().getUnitsStream().map(Unit::getWeeklyMaintenanceCost).reduce(Money.zero(), Money::plus);
+        return getHangar().getUnitCosts(Unit::getWeeklyMaintenanceCost);
     }
 
     public Money getOverheadExpenses() {
@@ -517,11 +514,9 @@ public record Accountant(Campaign campaign) {
     }
 
     public Money getTotalEquipmentValue() {
-        Money unitsSellValue = getHangar().getUnitCosts(Unit::getSellValue);
-        return campaign().getWarehouse()
-                     .streamSpareParts()
-                     .map(Part::getActualValue)
-                     .reduce(unitsSellValue, Money::plus);
+        MoneyAccumulator total = new MoneyAccumulator().add(getHangar().getUnitCosts(Unit::getSellValue));
+        campaign().getWarehouse().forEachSparePart(part -> total.add(part.getActualValue()));
+        return total.toMoney();
     }
 
     public Money getEquipmentContractValue(Unit u, boolean useSaleValue) {
@@ -46,10 +46,15 @@ import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -82,18 +87,17 @@ public class Finances {
     private final transient ResourceBundle resourceMap = ResourceBundle.getBundle("mekhq.resources.Finances",
           MekHQ.getMHQOptions().getLocale());
 
-    private List<Transaction> transactions;
+    private final TransactionLedger ledger;
+    private final TreeMap<LocalDate, FinancialPeriodSummary> archivedPeriods;
     private List<Loan> loans;
     private List<Asset> assets;
     private int loanDefaults;
     private int failedCollateral;
     private LocalDate wentIntoDebt;
 
-    private Money balance;
-    private int transactionSize = -1;
-
     public Finances() {
-        transactions = new ArrayList<>();
+        ledger = new TransactionLedger();
+        archivedPeriods = new TreeMap<>();
         loans = new ArrayList<>();
         assets = new ArrayList<>();
         loanDefaults = 0;
@@ -102,11 +106,34 @@ public class Finances {
     }
 
     public List<Transaction> getTransactions() {
-        return transactions;
+        return ledger.getTransactions();
     }
 
     public void setTransactions(final List<Transaction> transactions) {
-        this.transactions = transactions;
+        ledger.setTransactions(transactions);
+    }
+
+    /**
+     * @return the indexed ledger of the current financial year's transactions
+     */
+    public TransactionLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * @return the summaries of archived financial years, one per month, in date order
+     */
+    public Collection<FinancialPeriodSummary> getArchivedPeriods() {
+        return Collections.unmodifiableCollection(archivedPeriods.values());
+    }
+
+    /**
+     * Adds a summary of an archived period, merging it into any summary that starts on the same date.
+     *
+     * @see FinancialPeriodSummary#mergeWith(FinancialPeriodSummary)
+     */
+    public void addArchivedPeriod(final FinancialPeriodSummary summary) {
+        archivedPeriods.merge(summary.startDate(), summary, FinancialPeriodSummary::mergeWith);
     }
 
     public List<Loan> getLoans() {
@@ -150,30 +177,57 @@ public class Finances {
     }
 
     /**
-     * Current campaign balance. Will calculate the current campaign balance based on the campaign's transactions.
-     * Cached using the current transaction count.
+     * Current campaign balance. The ledger keeps running balances, so this does not walk the transactions.
      *
      * @return current balance (Money)
      *
      * @see #clearCachedBalance()
      */
     public Money getBalance() {
-        Money newBalance = Money.zero();
+        return ledger.getBalance();
+    }
 
-        // If our # of transactions matches what we expect, and the balance isn't null, we should return the cached balance:
-        if (transactions.size() == transactionSize && balance != null) {
-            return newBalance.plus(balance);
+    /**
+     * Returns the campaign balance at the end of a given date. Dates in archived financial years are answered from
+     * the monthly summaries, so they give the balance at the end of the latest archived month that ended on or before
+     * the date.
+     *
+     * @param date the date to look up
+     *
+     * @return the balance at the end of {@code date}, or zero before the campaign's first recorded transaction
+     */
+    public Money getBalanceAt(final LocalDate date) {
+        final LocalDate earliestDate = ledger.getEarliestDate();
+        if ((earliestDate != null) && !date.isBefore(earliestDate)) {
+            return ledger.getBalanceAt(date);
         }
 
-        // Recalculate the current balance
-        newBalance = newBalance.plus(transactions.stream().map(Transaction::getAmount).collect(Collectors.toList()));
-
-        // Update our cached balance & note the transactions size.
-        balance = Money.zero();
-        balance = balance.plus(newBalance);
-        transactionSize = transactions.size();
+        for (final FinancialPeriodSummary summary : archivedPeriods.headMap(date, true).descendingMap().values()) {
+            if (!summary.endDate().isAfter(date)) {
+                return summary.closingBalance();
+            }
+        }
+        return Money.zero();
+    }
 
-        return newBalance;
+    /**
+     * Returns the total of a transaction type between two dates, both inclusive. Archived months are only counted
+     * when they lie entirely within the range.
+     *
+     * @param type the transaction type to total
+     * @param from the first date to include
+     * @param to   the last date to include
+     *
+     * @return the total of the matching transactions
+     */
+    public Money getTransactionTotal(final TransactionType type, final LocalDate from, final LocalDate to) {
+        final MoneyAccumulator total = new MoneyAccumulator().add(ledger.getTotal(type, from, to));
+        for (final FinancialPeriodSummary summary : archivedPeriods.subMap(from, true, to, true).values()) {
+            if (!summary.endDate().isAfter(to)) {
+                total.add(summary.getTotal(type));
+            }
+        }
+        return total.toMoney();
     }
 
     /**
@@ -184,12 +238,15 @@ public class Finances {
      * @see #getBalance()
      */
     public void clearCachedBalance() {
-        transactionSize = -1;
+        ledger.invalidate();
     }
 
     public Money getLoanBalance() {
-        Money balance = Money.zero();
-        return balance.plus(loans.stream().map(Loan::determineRemainingValue).collect(Collectors.toList()));
+        MoneyAccumulator balance = new MoneyAccumulator();
+        for (Loan loan : loans) {
+            balance.add(loan.determineRemainingValue());
+        }
+        return balance.toMoney();
     }
 
     public boolean isInDebt() {
@@ -231,7 +288,7 @@ public class Finances {
             return false;
         }
         Transaction t = new Transaction(type, date, amount.multipliedBy(-1), reason);
-        transactions.add(t);
+        ledger.addTransaction(t);
         if ((wentIntoDebt != null) && !isInDebt()) {
             wentIntoDebt = null;
         }
@@ -278,7 +335,7 @@ public class Finances {
 
     public void credit(final TransactionType type, final LocalDate date, final Money amount, final String reason) {
         Transaction t = new Transaction(type, date, amount, reason);
-        transactions.add(t);
+        ledger.addTransaction(t);
         if ((wentIntoDebt == null) && isInDebt()) {
             wentIntoDebt = date;
         }
@@ -287,7 +344,8 @@ public class Finances {
 
     /**
      * This function will update the starting amount to the current balance and clear transactions. This will be called
-     * at the beginning of each new financial term
+     * at the beginning of each new financial term. The cleared transactions are kept as monthly summaries, see
+     * {@link #getArchivedPeriods()}.
      */
     public void newFiscalYear(final Campaign campaign) {
         if (campaign.getCampaignOptions().isNewFinancialYearFinancesToCSVExport()) {
@@ -303,8 +361,8 @@ public class Finances {
         }
 
         Money carryover = getBalance();
-        transactions = new ArrayList<>();
-        clearCachedBalance();
+        archiveTransactions();
+        ledger.setTransactions(new ArrayList<>());
 
         credit(TransactionType.FINANCIAL_TERM_END_CARRYOVER,
               campaign.getLocalDate(),
@@ -312,6 +370,27 @@ public class Finances {
               resourceMap.getString("FinancialTermEndCarryover.finances"));
     }
 
+    /**
+     * Summarizes the current transactions into one {@link FinancialPeriodSummary} per calendar month.
+     */
+    private void archiveTransactions() {
+        final LocalDate earliestDate = ledger.getEarliestDate();
+        final LocalDate latestDate = ledger.getLatestDate();
+        if ((earliestDate == null) || (latestDate == null)) {
+            return;
+        }
+
+        LocalDate monthStart = earliestDate.withDayOfMonth(1);
+        while (!monthStart.isAfter(latestDate)) {
+            final LocalDate monthEnd = monthStart.with(TemporalAdjusters.lastDayOfMonth());
+            final FinancialPeriodSummary summary = FinancialPeriodSummary.of(ledger, monthStart, monthEnd);
+            if (summary.transactionCount() > 0) {
+                addArchivedPeriod(summary);
+            }
+            monthStart = monthStart.plusMonths(1);
+        }
+    }
+
     public void addLoan(Loan loan) {
         loans.add(loan);
     }
@@ -525,12 +604,8 @@ public class Finances {
      * @return The profits made by the campaign, or zero if no profits were made.
      */
     public Money getProfits() {
-        List<Money> startingCapital = getTransactions().stream()
-                                            .filter(transaction -> (transaction.getType().isStartingCapital()) ||
-                                                                         (transaction.getType()
-                                                                                .isFinancialTermEndCarryover()))
-                                            .map(Transaction::getAmount)
-                                            .collect(Collectors.toList());
+        Money startingCapital = ledger.getTotal(TransactionType.STARTING_CAPITAL)
+                                      .plus(ledger.getTotal(TransactionType.FINANCIAL_TERM_END_CARRYOVER));
 
         Money profits = getBalance().minus(startingCapital);
 
@@ -675,19 +750,19 @@ public class Finances {
               CSVPrinter csvPrinter = new CSVPrinter(writer,
                     CSVFormat.DEFAULT.builder()
                           .setHeader("Date", "Type", "Description", "Amount", "RunningTotal").get())) {
-            Money runningTotal = Money.zero();
-            for (Transaction transaction : getTransactions()) {
-                runningTotal = runningTotal.plus(transaction.getAmount());
+            List<Transaction> transactions = getTransactions();
+            for (int i = 0; i < transactions.size(); i++) {
+                Transaction transaction = transactions.get(i);
                 csvPrinter.printRecord(MekHQ.getMHQOptions().getDisplayFormattedDate(transaction.getDate()),
                       transaction.getType(),
                       transaction.getDescription(),
                       transaction.getAmount(),
-                      runningTotal.toAmountAndSymbolString());
+                      ledger.getRunningBalance(i).toAmountAndSymbolString());
             }
 
             csvPrinter.flush();
 
-            report = String.format(resourceMap.getString("FinanceExport.format"), transactions.size());
+            report = String.format(resourceMap.getString("FinanceExport.format"), ledger.size());
         } catch (Exception ex) {
             LOGGER.error("Error exporting finances to {}", format, ex);
             report = "Error exporting finances. See log for details.";
@@ -716,6 +791,14 @@ public class Finances {
             MHQXMLUtility.writeSimpleXMLCloseTag(pw, --indent, "loans");
         }
 
+        if (!archivedPeriods.isEmpty()) {
+            MHQXMLUtility.writeSimpleXMLOpenTag(pw, indent++, "archivedPeriods");
+            for (final FinancialPeriodSummary summary : archivedPeriods.values()) {
+                summary.writeToXML(pw, indent);
+            }
+            MHQXMLUtility.writeSimpleXMLCloseTag(pw, --indent, "archivedPeriods");
+        }
+
         if (!getAssets().isEmpty()) {
             MHQXMLUtility.writeSimpleXMLOpenTag(pw, indent++, "assets");
             for (final Asset asset : getAssets()) {
@@ -744,6 +827,9 @@ public class Finances {
                     case "loans":
                         retVal.setLoans(parseLoansFromXML(wn2));
                         break;
+                    case "archivedPeriods":
+                        parseArchivedPeriodsFromXML(wn2).forEach(retVal::addArchivedPeriod);
+                        break;
                     case "assets":
                         retVal.setAssets(parseAssetsFromXML(wn2));
                         break;
@@ -793,6 +879,20 @@ public class Finances {
                      .collect(Collectors.toList());
     }
 
+    private static List<FinancialPeriodSummary> parseArchivedPeriodsFromXML(final Node wn) {
+        if (!wn.hasChildNodes()) {
+            return new ArrayList<>();
+        }
+
+        final NodeList nl = wn.getChildNodes();
+        return IntStream.range(0, nl.getLength())
+                     .mapToObj(nl::item)
+                     .filter(node -> "periodSummary".equals(node.getNodeName()))
+                     .map(FinancialPeriodSummary::generateInstanceFromXML)
+                     .filter(Objects::nonNull)
+                     .collect(Collectors.toList());
+    }
+
     private static List<Asset> parseAssetsFromXML(final Node wn) {
         if (!wn.hasChildNodes()) {
             return new ArrayList<>();
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import java.io.PrintWriter;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+import mekhq.campaign.finances.enums.TransactionType;
+import mekhq.utilities.MHQXMLUtility;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * A compact record of an archived stretch of the ledger, kept when old transactions are cleared at the end of a
+ * financial year. It holds the totals of each transaction type and the closing balance, so older periods can still be
+ * reported on without keeping every transaction.
+ *
+ * @param startDate        the first day covered by this summary
+ * @param endDate          the last day covered by this summary
+ * @param closingBalance   the campaign balance at the end of {@code endDate}
+ * @param transactionCount how many transactions were summarized
+ * @param totals           the non-zero total of each transaction type over the period
+ */
+public record FinancialPeriodSummary(LocalDate startDate, LocalDate endDate, Money closingBalance,
+      int transactionCount, Map<TransactionType, Money> totals) {
+    private static final MMLogger LOGGER = MMLogger.create(FinancialPeriodSummary.class);
+
+    public FinancialPeriodSummary {
+        totals = totals.isEmpty() ?
+                       Collections.emptyMap() :
+                       Collections.unmodifiableMap(new EnumMap<>(totals));
+    }
+
+    /**
+     * Summarizes the transactions in a ledger between two dates, both inclusive.
+     */
+    public static FinancialPeriodSummary of(final TransactionLedger ledger, final LocalDate startDate,
+          final LocalDate endDate) {
+        return new FinancialPeriodSummary(startDate,
+              endDate,
+              ledger.getBalanceAt(endDate),
+              ledger.getTransactionCount(startDate, endDate),
+              ledger.getTotalsByType(startDate, endDate));
+    }
+
+    /**
+     * Combines this summary with a later archive that starts on the same date. A month is archived twice when
+     * transactions were posted on the day a financial year ended: the closing year archives them, and the new year's
+     * ledger archives the rest of that month when it closes in turn.
+     *
+     * @param later the summary archived after this one
+     *
+     * @return a summary covering the transactions of both
+     */
+    public FinancialPeriodSummary mergeWith(final FinancialPeriodSummary later) {
+        final Map<TransactionType, Money> mergedTotals = new EnumMap<>(TransactionType.class);
+        mergedTotals.putAll(totals);
+        later.totals().forEach((type, amount) -> mergedTotals.merge(type, amount, Money::plus));
+        final boolean laterEndsFirst = later.endDate().isBefore(endDate);
+        return new FinancialPeriodSummary(startDate,
+              laterEndsFirst ? endDate : later.endDate(),
+              laterEndsFirst ? closingBalance : later.closingBalance(),
+              transactionCount + later.transactionCount(),
+              mergedTotals);
+    }
+
+    /**
+     * @return the total of the given transaction type over the period
+     */
+    public Money getTotal(final TransactionType type) {
+        final Money total = totals.get(type);
+        return (total == null) ? Money.zero() : total;
+    }
+
+    /**
+     * @return the sum of every transaction in the period
+     */
+    public Money getNetChange() {
+        final MoneyAccumulator total = new MoneyAccumulator();
+        totals.values().forEach(total::add);
+        return total.toMoney();
+    }
+
+    // region File I/O
+    public void writeToXML(final PrintWriter pw, int indent) {
+        MHQXMLUtility.writeSimpleXMLOpenTag(pw, indent++, "periodSummary");
+        MHQXMLUtility.writeSimpleXMLTag(pw, indent, "startDate", startDate());
+        MHQXMLUtility.writeSimpleXMLTag(pw, indent, "endDate", endDate());
+        MHQXMLUtility.writeSimpleXMLTag(pw, indent, "closingBalance", closingBalance());
+        MHQXMLUtility.writeSimpleXMLTag(pw, indent, "transactionCount", transactionCount());
+        for (final Map.Entry<TransactionType, Money> total : totals().entrySet()) {
+            MHQXMLUtility.writeSimpleXMLOpenTag(pw, indent++, "total");
+            MHQXMLUtility.writeSimpleXMLTag(pw, indent, "type", total.getKey().name());
+            MHQXMLUtility.writeSimpleXMLTag(pw, indent, "amount", total.getValue());
+            MHQXMLUtility.writeSimpleXMLCloseTag(pw, --indent, "total");
+        }
+        MHQXMLUtility.writeSimpleXMLCloseTag(pw, --indent, "periodSummary");
+    }
+
+    public static @Nullable FinancialPeriodSummary generateInstanceFromXML(final Node wn) {
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+        Money closingBalance = Money.zero();
+        int transactionCount = 0;
+        final Map<TransactionType, Money> totals = new EnumMap<>(TransactionType.class);
+
+        final NodeList nl = wn.getChildNodes();
+        for (int x = 0; x < nl.getLength(); x++) {
+            final Node wn2 = nl.item(x);
+            try {
+                if (wn2.getNodeName().equalsIgnoreCase("startDate")) {
+                    startDate = MHQXMLUtility.parseDate(wn2.getTextContent().trim());
+                } else if (wn2.getNodeName().equalsIgnoreCase("endDate")) {
+                    endDate = MHQXMLUtility.parseDate(wn2.getTextContent().trim());
+                } else if (wn2.getNodeName().equalsIgnoreCase("closingBalance")) {
+                    closingBalance = Money.fromXmlString(wn2.getTextContent().trim());
+                } else if (wn2.getNodeName().equalsIgnoreCase("transactionCount")) {
+                    transactionCount = Integer.parseInt(wn2.getTextContent().trim());
+                } else if (wn2.getNodeName().equalsIgnoreCase("total")) {
+                    parseTotal(wn2, totals);
+                }
+            } catch (Exception e) {
+                LOGGER.error("", e);
+            }
+        }
+
+        if ((startDate == null) || (endDate == null)) {
+            LOGGER.error("Skipping a financial period summary without a start or end date");
+            return null;
+        }
+        return new FinancialPeriodSummary(startDate, endDate, closingBalance, transactionCount, totals);
+    }
+
+    private static void parseTotal(final Node wn, final Map<TransactionType, Money> totals) {
+        TransactionType type = null;
+        Money amount = null;
+        final NodeList nl = wn.getChildNodes();
+        for (int x = 0; x < nl.getLength(); x++) {
+            final Node wn2 = nl.item(x);
+            if (wn2.getNodeName().equalsIgnoreCase("type")) {
+                type = TransactionType.parseFromString(wn2.getTextContent().trim());
+            } else if (wn2.getNodeName().equalsIgnoreCase("amount")) {
+                amount = Money.fromXmlString(wn2.getTextContent().trim());
+            }
+        }
+
+        if ((type != null) && (amount != null)) {
+            totals.merge(type, amount, Money::plus);
+        }
+    }
+    // endregion File I/O
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.joda.money.BigMoney;
+import org.joda.money.CurrencyMismatchException;
+import org.joda.money.CurrencyUnit;
+
+/**
+ * Mutable running total for summing many {@link Money} values without creating an intermediate {@link Money} for
+ * every addition.
+ * <p>
+ * Amounts are kept as a fixed-point {@code long} counted in the minor units of the currency (cents for a currency with
+ * two decimal places). Anything that does not fit - amounts with more decimal places than the currency uses, or totals
+ * that would overflow a {@code long} - is carried in a {@link BigDecimal} remainder instead, so the result is always
+ * exactly the same as chaining {@link Money#plus(Money)}. The total is only turned back into a {@link Money} when
+ * {@link #toMoney()} is called.
+ * <p>
+ * This class is not thread safe.
+ */
+public class MoneyAccumulator {
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+                                                  10_000_000L, 100_000_000L, 1_000_000_000L };
+
+    private final CurrencyUnit currencyUnit;
+    private final int scale;
+
+    /** The total so far, in minor units of the currency */
+    private long minorUnits;
+
+    /** Whatever could not be held in {@link #minorUnits}, or {@code null} if everything fit */
+    private BigDecimal remainder;
+
+    /**
+     * Creates an accumulator for the campaign's current default currency.
+     */
+    public MoneyAccumulator() {
+        this(CurrencyManager.getInstance().getDefaultCurrency());
+    }
+
+    public MoneyAccumulator(Currency currency) {
+        this(currency.getCurrencyUnit());
+    }
+
+    private MoneyAccumulator(CurrencyUnit currencyUnit) {
+        this.currencyUnit = currencyUnit;
+        this.scale = Math.min(Math.max(currencyUnit.getDecimalPlaces(), 0), POWERS_OF_TEN.length - 1);
+    }
+
+    /**
+     * Adds an amount to the total. A {@code null} amount is treated as zero, like {@link Money#plus(Money)} does.
+     *
+     * @param amount the amount to add
+     *
+     * @return this accumulator
+     *
+     * @throws CurrencyMismatchException if the amount is in a different currency than this accumulator
+     */
+    public MoneyAccumulator add(Money amount) {
+        if (amount != null) {
+            addAmount(checkCurrency(amount).getAmount(), 1L);
+        }
+        return this;
+    }
+
+    /**
+     * Adds {@code amount * quantity} to the total, which saves creating the product through
+     * {@link Money#multipliedBy(long)} first.
+     *
+     * @param amount   the amount to add, or {@code null} for zero
+     * @param quantity how many times to add it
+     *
+     * @return this accumulator
+     */
+    public MoneyAccumulator add(Money amount, long quantity) {
+        if (amount != null) {
+            addAmount(checkCurrency(amount).getAmount(), quantity);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a plain amount in the major unit of the currency, matching {@link Money#plus(double)}.
+     */
+    public MoneyAccumulator add(double amount) {
+        addAmount(BigDecimal.valueOf(amount), 1L);
+        return this;
+    }
+
+    /**
+     * Adds everything accumulated by another accumulator of the same currency.
+     */
+    public MoneyAccumulator add(MoneyAccumulator other) {
+        if (!currencyUnit.equals(other.currencyUnit)) {
+            throw new CurrencyMismatchException(currencyUnit, other.currencyUnit);
+        }
+        addMinorUnits(other.minorUnits);
+        if (other.remainder != null) {
+            addToRemainder(other.remainder);
+        }
+        return this;
+    }
+
+    public boolean isZero() {
+        return (minorUnits == 0L) && ((remainder == null) || (remainder.signum() == 0));
+    }
+
+    /**
+     * Resets the total to zero so the accumulator can be reused.
+     */
+    public void clear() {
+        minorUnits = 0L;
+        remainder = null;
+    }
+
+    /**
+     * @return the total so far as a {@link Money}
+     */
+    public Money toMoney() {
+        BigDecimal total = BigDecimal.valueOf(minorUnits, scale);
+        if (remainder != null) {
+            total = total.add(remainder);
+        }
+        return new Money(BigMoney.of(currencyUnit, total));
+    }
+
+    private Money checkCurrency(Money amount) {
+        CurrencyUnit other = amount.wrapped().getCurrencyUnit();
+        if (!currencyUnit.equals(other)) {
+            throw new CurrencyMismatchException(currencyUnit, other);
+        }
+        return amount;
+    }
+
+    private void addAmount(BigDecimal amount, long quantity) {
+        int amountScale = amount.scale();
+        // Fast path: the amount is whole minor units and small enough to fit a long after scaling up
+        if ((amountScale >= 0) && (amountScale <= scale) && (amount.precision() <= 18)) {
+            try {
+                long unscaled = amount.unscaledValue().longValue();
+                long scaled = Math.multiplyExact(unscaled, POWERS_OF_TEN[scale - amountScale]);
+                addMinorUnits(Math.multiplyExact(scaled, quantity));
+                return;
+            } catch (ArithmeticException ignored) {
+                // Falls through to the exact, arbitrary precision path below
+            }
+        }
+        addToRemainder((quantity == 1L) ? amount : amount.multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    private void addMinorUnits(long value) {
+        long sum = minorUnits + value;
+        // Overflow only happens when both operands share a sign that the result does not
+        if (((minorUnits ^ sum) & (value ^ sum)) < 0) {
+            addToRemainder(new BigDecimal(BigInteger.valueOf(value), scale));
+        } else {
+            minorUnits = sum;
+        }
+    }
+
+    private void addToRemainder(BigDecimal value) {
+        remainder = (remainder == null) ? value : remainder.add(value);
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.finances.enums.TransactionType;
+
+/**
+ * Keeps the campaign's transactions together with running balances, so balances and totals can be looked up without
+ * walking the whole list.
+ * <p>
+ * Two indexes are kept next to the transaction list:
+ * <ul>
+ *     <li>the running balance after each transaction, in list order, which backs the ledger table and CSV export;
+ *     and</li>
+ *     <li>a date-ordered index of running totals, both overall and per {@link TransactionType}, which answers
+ *     balance-at-date and per-period total queries with a binary search.</li>
+ * </ul>
+ * Transactions are normally added in date order, in which case both indexes are extended in constant time. A
+ * transaction dated before the latest one only marks the date index stale, and it is rebuilt by the next date query.
+ * <p>
+ * The transaction list is handed out by {@link #getTransactions()} and may be changed directly. Appended transactions
+ * are picked up automatically; anything else, such as editing or removing a transaction, must be followed by a call
+ * to {@link #invalidate()}.
+ */
+public class TransactionLedger {
+    /** A date and the running total of every indexed transaction up to and including it */
+    private record DatedTotal(LocalDate date, Money total) {
+    }
+
+    private List<Transaction> transactions;
+
+    /** The balance after each transaction, in list order */
+    private final List<Money> runningBalances = new ArrayList<>();
+
+    /** Running balances in date order */
+    private final List<DatedTotal> dateIndex = new ArrayList<>();
+
+    /** Running totals in date order, per transaction type */
+    private final Map<TransactionType, List<DatedTotal>> typeIndex = new EnumMap<>(TransactionType.class);
+
+    private boolean dateIndexStale = false;
+
+    public TransactionLedger() {
+        this(new ArrayList<>());
+    }
+
+    public TransactionLedger(final List<Transaction> transactions) {
+        this.transactions = transactions;
+    }
+
+    /**
+     * @return the live list of transactions, in the order they were recorded
+     */
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(final List<Transaction> transactions) {
+        this.transactions = transactions;
+        invalidate();
+    }
+
+    public void addTransaction(final Transaction transaction) {
+        transactions.add(transaction);
+        synchronizeIndexes();
+    }
+
+    public int size() {
+        return transactions.size();
+    }
+
+    /**
+     * Drops all cached balances so they are rebuilt from the transaction list. Call this after editing or removing a
+     * transaction.
+     */
+    public void invalidate() {
+        runningBalances.clear();
+        dateIndex.clear();
+        typeIndex.clear();
+        dateIndexStale = false;
+    }
+
+    /**
+     * @return the balance after every recorded transaction
+     */
+    public Money getBalance() {
+        synchronizeIndexes();
+        return runningBalances.isEmpty() ? Money.zero() : runningBalances.get(runningBalances.size() - 1);
+    }
+
+    /**
+     * @param index the position of a transaction in {@link #getTransactions()}
+     *
+     * @return the balance right after that transaction, as shown in the ledger
+     */
+    public Money getRunningBalance(final int index) {
+        synchronizeIndexes();
+        return runningBalances.get(index);
+    }
+
+    /**
+     * @return the balance at the end of the given date, or zero if it is before the first transaction
+     */
+    public Money getBalanceAt(final LocalDate date) {
+        synchronizeDateIndex();
+        return totalOnOrBefore(dateIndex, date);
+    }
+
+    /**
+     * @return the date of the earliest transaction, or {@code null} if there are none
+     */
+    public @Nullable LocalDate getEarliestDate() {
+        synchronizeDateIndex();
+        return dateIndex.isEmpty() ? null : dateIndex.get(0).date();
+    }
+
+    /**
+     * @return the date of the latest transaction, or {@code null} if there are none
+     */
+    public @Nullable LocalDate getLatestDate() {
+        synchronizeDateIndex();
+        return dateIndex.isEmpty() ? null : dateIndex.get(dateIndex.size() - 1).date();
+    }
+
+    /**
+     * @return the sum of all transactions between the two dates, both inclusive
+     */
+    public Money getTotal(final LocalDate from, final LocalDate to) {
+        synchronizeDateIndex();
+        return totalOnOrBefore(dateIndex, to).minus(totalOnOrBefore(dateIndex, from.minusDays(1)));
+    }
+
+    /**
+     * @return the sum of every transaction of the given type
+     */
+    public Money getTotal(final TransactionType type) {
+        synchronizeDateIndex();
+        final List<DatedTotal> entries = typeIndex.get(type);
+        return ((entries == null) || entries.isEmpty()) ? Money.zero() : entries.get(entries.size() - 1).total();
+    }
+
+    /**
+     * @return the sum of the transactions of the given type between the two dates, both inclusive
+     */
+    public Money getTotal(final TransactionType type, final LocalDate from, final LocalDate to) {
+        synchronizeDateIndex();
+        final List<DatedTotal> entries = typeIndex.get(type);
+        if (entries == null) {
+            return Money.zero();
+        }
+        return totalOnOrBefore(entries, to).minus(totalOnOrBefore(entries, from.minusDays(1)));
+    }
+
+    /**
+     * @return the non-zero totals of each transaction type between the two dates, both inclusive
+     */
+    public Map<TransactionType, Money> getTotalsByType(final LocalDate from, final LocalDate to) {
+        synchronizeDateIndex();
+        final Map<TransactionType, Money> totals = new EnumMap<>(TransactionType.class);
+        for (final TransactionType type : typeIndex.keySet()) {
+            final Money total = getTotal(type, from, to);
+            if (!total.isZero()) {
+                totals.put(type, total);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * @return the number of transactions between the two dates, both inclusive
+     */
+    public int getTransactionCount(final LocalDate from, final LocalDate to) {
+        synchronizeDateIndex();
+        return Math.max(0, countOnOrBefore(dateIndex, to) - countOnOrBefore(dateIndex, from.minusDays(1)));
+    }
+
+    /**
+     * Indexes any transactions appended directly to the list, or starts over if the list has shrunk.
+     */
+    private void synchronizeIndexes() {
+        final int size = transactions.size();
+        if (size < runningBalances.size()) {
+            invalidate();
+        }
+
+        for (int index = runningBalances.size(); index < size; index++) {
+            final Transaction transaction = transactions.get(index);
+            final Money balance = runningBalances.isEmpty() ?
+                                        transaction.getAmount() :
+                                        runningBalances.get(index - 1).plus(transaction.getAmount());
+            runningBalances.add(balance);
+
+            if (dateIndexStale) {
+                continue;
+            }
+
+            if (!dateIndex.isEmpty() && transaction.getDate().isBefore(dateIndex.get(dateIndex.size() - 1).date())) {
+                // Out of order, so the date index has to be sorted again on the next date query
+                dateIndexStale = true;
+                dateIndex.clear();
+                typeIndex.clear();
+            } else {
+                dateIndex.add(new DatedTotal(transaction.getDate(), balance));
+                appendToTypeIndex(transaction);
+            }
+        }
+    }
+
+    private void synchronizeDateIndex() {
+        synchronizeIndexes();
+        if (!dateIndexStale) {
+            return;
+        }
+
+        // The sort is stable, so transactions on the same date keep their recorded order
+        final List<Transaction> byDate = new ArrayList<>(transactions);
+        byDate.sort(Comparator.comparing(Transaction::getDate));
+        Money total = Money.zero();
+        for (final Transaction transaction : byDate) {
+            total = total.plus(transaction.getAmount());
+            dateIndex.add(new DatedTotal(transaction.getDate(), total));
+            appendToTypeIndex(transaction);
+        }
+        dateIndexStale = false;
+    }
+
+    private void appendToTypeIndex(final Transaction transaction) {
+        final List<DatedTotal> entries = typeIndex.computeIfAbsent(transaction.getType(), type -> new ArrayList<>());
+        final Money total = entries.isEmpty() ?
+                                  transaction.getAmount() :
+                                  entries.get(entries.size() - 1).total().plus(transaction.getAmount());
+        entries.add(new DatedTotal(transaction.getDate(), total));
+    }
+
+    private static Money totalOnOrBefore(final List<DatedTotal> entries, final LocalDate date) {
+        final int count = countOnOrBefore(entries, date);
+        return (count == 0) ? Money.zero() : entries.get(count - 1).total();
+    }
+
+    /**
+     * @return how many of the date-ordered entries fall on or before the given date
+     */
+    private static int countOnOrBefore(final List<DatedTotal> entries, final LocalDate date) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (entries.get(middle).date().isAfter(date)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -1024,9 +1024,9 @@ public class Formation {
             }
 
             if (campaign.getCampaignOptions().isUseGenericBattleValue() && !formationStandardBattleValue) {
-                bvTotal += campaign.getUnit(unitId).getEntity().getGenericBattleValue();
+                bvTotal += campaign.getUnit(unitId).getGenericBattleValue();
             } else {
-                bvTotal += campaign.getUnit(unitId).getEntity().calculateBattleValue();
+                bvTotal += campaign.getUnit(unitId).getBattleValue();
             }
         }
 
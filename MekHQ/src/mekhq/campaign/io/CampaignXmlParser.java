@@ -174,15 +174,60 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
     /**
      * Designed to create a campaign object from an input stream containing an XML structure.
      *
+     * <p>The document is read with a streaming parser: each top-level section is built into a small DOM fragment,
+     * processed, and released before the next one is read, so neither the full document tree nor the raw document is
+     * ever held in memory. Use {@link #parseDocument()} to load through a single, whole-document DOM tree instead.</p>
+     *
      * @return The created Campaign object, or null if there was a problem.
      *
      * @throws CampaignXmlParseException Thrown when there was a problem parsing the CPNX file
      * @throws NullEntityException       Thrown when an entity is referenced but cannot be loaded or found
      */
     public Campaign parse() throws CampaignXmlParseException, NullEntityException {
+        LOGGER.info("Starting load of campaign file from XML...");
+        // Custom unit definitions are written at the end of the file but must be handled before any units, so the
+        // section reader spools the document to a temporary file on its first pass to allow multiple passes
+        try (CampaignXmlSectionReader sectionReader = new CampaignXmlSectionReader(is)) {
+            // Initialize variables.
+            final Campaign campaign = CampaignFactory.createCampaign();
+            campaign.setApp(app);
+
+            final Version version = checkVersion(campaign, sectionReader.readRootAttribute("version"));
+            final LoadState state = new LoadState();
+
+            // we need to iterate through three times, the first time to collect
+            // any custom units that might not be written yet
+            sectionReader.forEachSection(CampaignXmlParser::isPrePassSection,
+                  section -> processPrePassNode(campaign, section, version, state));
+            reloadUnitDataIfNeeded(state);
+
+            // the second time to parse the unit entities and check for any null entities
+            sectionReader.forEachSection("units"::equalsIgnoreCase,
+                  section -> checkUnitsNode(campaign, section, state));
+
+            // and the third time to load everything else
+            sectionReader.forEachSection(name -> !isPrePassSection(name),
+                  section -> processSectionNode(campaign, section, version, state));
+
+            return finishLoad(campaign, version, state);
+        }
+    }
+
+    /**
+     * Creates a campaign object from an input stream by first parsing the whole XML document into a single DOM tree.
+     *
+     * <p>This produces the same campaign as {@link #parse()}, but holds the entire document tree in memory for the
+     * duration of the load.</p>
+     *
+     * @return The created Campaign object, or null if there was a problem.
+     *
+     * @throws CampaignXmlParseException Thrown when there was a problem parsing the CPNX file
+     * @throws NullEntityException       Thrown when an entity is referenced but cannot be loaded or found
+     */
+    public Campaign parseDocument() throws CampaignXmlParseException, NullEntityException {
         LOGGER.info("Starting load of campaign file from XML...");
         // Initialize variables.
-        Campaign campaign = CampaignFactory.createCampaign();
+        final Campaign campaign = CampaignFactory.createCampaign();
         campaign.setApp(app);
 
         Document xmlDoc;
@@ -199,213 +244,236 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         }
 
         Element campaignEle = xmlDoc.getDocumentElement();
-        NodeList nl = campaignEle.getChildNodes();
 
         // Get rid of empty text nodes and adjacent text nodes...
         // Stupid weird parsing of XML. At least this cleans it up.
         campaignEle.normalize();
 
-        final Version version = new Version(campaignEle.getAttribute("version"));
-        if (version.is("0.0.0")) {
-            throw new CampaignXmlParseException(String.format("Illegal version of %s failed to parse",
-                  campaignEle.getAttribute("version")));
-        }
-        // Confirm the campaign version is compatible with the current MekHQ version. This function lives here so that
-        // we don't attempt to load incompatible campaigns and risk running into errors that might prevent the player
-        // from viewing this dialog
-        new MilestoneUpgradePathDialog(campaign, version);
-
-        // Assuming there is no upgrade path, we set version and continue parsing the campaign.
-        campaign.setVersion(version);
-
-        // Indicates whether new units were written to disk while
-        // loading the Campaign file. If so, we need to kick back off loading
-        // all the unit data from disk.
-        boolean reloadUnitData = false;
+        final Version version = checkVersion(campaign, campaignEle.getAttribute("version"));
+        final LoadState state = new LoadState();
 
         // we need to iterate through three times, the first time to collect
         // any custom units that might not be written yet
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node wn = nl.item(x);
+        forEachChildElement(campaignEle, section -> processPrePassNode(campaign, section, version, state));
+        reloadUnitDataIfNeeded(state);
 
-            if (!wn.getParentNode().equals(campaignEle)) {
-                continue;
+        // the second time to parse the unit entities and check for any null entities
+        forEachChildElement(campaignEle, section -> {
+            if (section.getNodeName().equalsIgnoreCase("units")) {
+                checkUnitsNode(campaign, section, state);
             }
+        });
 
-            int xc = wn.getNodeType();
+        // and the third time to load everything else
+        forEachChildElement(campaignEle, section -> processSectionNode(campaign, section, version, state));
 
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this
-                // level.
-                // Okay, so what element is it?
-                String xn = wn.getNodeName();
+        return finishLoad(campaign, version, state);
+    }
+
+    /**
+     * Tracks what the section passes have found, for use by the later passes and the post-processing.
+     */
+    private static final class LoadState {
+        /**
+         * Indicates whether new units were written to disk while loading the Campaign file. If so, we need to kick
+         * back off loading all the unit data from disk.
+         */
+        private boolean reloadUnitData = false;
+        private boolean foundPersonnelMarket = false;
+        private boolean foundContractMarket = false;
+        private boolean foundUnitMarket = false;
+        /**
+         * The unit entities parsed while checking for missing units, handed to the units as they load.
+         */
+        private @Nullable UnitEntityPreloader unitEntities = null;
+    }
+
+    /**
+     * Hands each element child of the given parent to the handler, in document order.
+     */
+    private static void forEachChildElement(Element parent, CampaignXmlSectionReader.SectionHandler handler)
+          throws CampaignXmlParseException, NullEntityException {
+        NodeList nl = parent.getChildNodes();
+        for (int x = 0; x < nl.getLength(); x++) {
+            Node wn = nl.item(x);
 
-                if (xn.equalsIgnoreCase("info")) { // This is needed so that the campaign name gets set in campaign
-                    try {
-                        processInfoNode(campaign, wn, version);
-                    } catch (DOMException e) {
-                        throw new CampaignXmlParseException(e);
-                    }
-                } else if (xn.equalsIgnoreCase("custom")) {
-                    reloadUnitData |= processCustom(campaign, wn);
-                } else if (xn.equalsIgnoreCase("campaignOptions")) {
-                    campaign.setCampaignOptions(CampaignOptionsUnmarshaller.generateCampaignOptionsFromXml(wn,
-                          version));
-
-                    //  < 50.10 compatibility handler
-                    CampaignOptions campaignOptions = campaign.getCampaignOptions();
-                    if (campaignOptions.isHadAtBEnabledMarker() && !campaignOptions.isUseStratCon()) {
-                        // Mapless StratCon replaced AtB in 50.10
-                        campaignOptions.setStratConPlayType(StratConPlayType.MAPLESS);
-                        new StratConMaplessCampaignOptionsChangedConfirmationDialog(campaign);
-                    }
-                } else if (xn.equalsIgnoreCase("gameOptions")) {
-                    campaign.getGameOptions().fillFromXML(wn.getChildNodes());
-                }
-            }
             // If it's a text node or attribute or whatever at this level,
             // it's probably white-space.
             // We can safely ignore it even if it isn't, for now.
+            if (wn.getParentNode().equals(parent) && (wn.getNodeType() == Node.ELEMENT_NODE)) {
+                handler.handle((Element) wn);
+            }
         }
+    }
 
-        // Only reload unit data if we updated files on disk
-        if (reloadUnitData) {
-            MekSummaryCache.getInstance().loadMekData();
+    /**
+     * Parses the campaign version, confirms there is an upgrade path from it, and records it on the campaign.
+     */
+    private static Version checkVersion(Campaign campaign, String versionText) throws CampaignXmlParseException {
+        final Version version = new Version(versionText);
+        if (version.is("0.0.0")) {
+            throw new CampaignXmlParseException(String.format("Illegal version of %s failed to parse", versionText));
         }
+        // Confirm the campaign version is compatible with the current MekHQ version. This function lives here so that
+        // we don't attempt to load incompatible campaigns and risk running into errors that might prevent the player
+        // from viewing this dialog
+        new MilestoneUpgradePathDialog(campaign, version);
 
-        // the second time to check for any null entities
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node wn = nl.item(x);
-
-            if (!wn.getParentNode().equals(campaignEle)) {
-                continue;
-            }
+        // Assuming there is no upgrade path, we set version and continue parsing the campaign.
+        campaign.setVersion(version);
+        return version;
+    }
 
-            int xc = wn.getNodeType();
+    /**
+     * @return true if the section is handled by the first pass, before any units are checked or loaded
+     */
+    private static boolean isPrePassSection(String nodeName) {
+        return nodeName.equalsIgnoreCase("info")
+                     || nodeName.equalsIgnoreCase("custom")
+                     || nodeName.equalsIgnoreCase("campaignOptions")
+                     || nodeName.equalsIgnoreCase("gameOptions");
+    }
 
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this
-                // level.
-                // Okay, so what element is it?
-                String xn = wn.getNodeName();
+    private static void processPrePassNode(Campaign campaign, Node wn, Version version, LoadState state)
+          throws CampaignXmlParseException {
+        // This is what we really care about.
+        // All the meat of our document is in this node type, at this
+        // level.
+        // Okay, so what element is it?
+        String xn = wn.getNodeName();
 
-                if (xn.equalsIgnoreCase("units")) {
-                    String missingList = checkUnits(wn);
-                    if (null != missingList) {
-                        throw new NullEntityException(missingList);
-                    }
-                }
-            }
-            // If it's a text node or attribute or whatever at this level,
-            // it's probably white-space.
-            // We can safely ignore it even if it isn't, for now.
+        if (xn.equalsIgnoreCase("info")) { // This is needed so that the campaign name gets set in campaign
+            try {
+                processInfoNode(campaign, wn, version);
+            } catch (DOMException e) {
+                throw new CampaignXmlParseException(e);
+            }
+        } else if (xn.equalsIgnoreCase("custom")) {
+            state.reloadUnitData |= processCustom(campaign, wn);
+        } else if (xn.equalsIgnoreCase("campaignOptions")) {
+            campaign.setCampaignOptions(CampaignOptionsUnmarshaller.generateCampaignOptionsFromXml(wn,
+                  version));
+
+            //  < 50.10 compatibility handler
+            CampaignOptions campaignOptions = campaign.getCampaignOptions();
+            if (campaignOptions.isHadAtBEnabledMarker() && !campaignOptions.isUseStratCon()) {
+                // Mapless StratCon replaced AtB in 50.10
+                campaignOptions.setStratConPlayType(StratConPlayType.MAPLESS);
+                new StratConMaplessCampaignOptionsChangedConfirmationDialog(campaign);
+            }
+        } else if (xn.equalsIgnoreCase("gameOptions")) {
+            campaign.getGameOptions().fillFromXML(wn.getChildNodes());
         }
+    }
 
-        boolean foundPersonnelMarket = false;
-        boolean foundContractMarket = false;
-        boolean foundUnitMarket = false;
+    private static void reloadUnitDataIfNeeded(LoadState state) {
+        // Only reload unit data if we updated files on disk
+        if (state.reloadUnitData) {
+            MekSummaryCache.getInstance().loadMekData();
+        }
+    }
 
-        // Okay, lets iterate through the children, eh?
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node workingNode = nl.item(x);
+    private static void checkUnitsNode(Campaign campaign, Node wn, LoadState state) throws NullEntityException {
+        LOGGER.info("Checking for missing entities...");
+        state.unitEntities = UnitEntityPreloader.preload(wn, campaign.getGameOptions());
+        String missingList = state.unitEntities.getMissingUnitList();
+        LOGGER.info("Finished checking for missing entities!");
 
-            if (!workingNode.getParentNode().equals(campaignEle)) {
-                continue;
-            }
+        if (null != missingList) {
+            LOGGER.error("Could not load the following units: {}", missingList);
+            throw new NullEntityException(missingList);
+        }
+    }
 
-            int xc = workingNode.getNodeType();
-
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this level.
-                // Okay, so what element is it?
-                String nodeName = workingNode.getNodeName();
-
-                if (nodeName.equalsIgnoreCase("pastVersions")) {
-                    processPastVersionNodes(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("randomSkillPreferences")) {
-                    campaign.setRandomSkillPreferences(RandomSkillPreferences.generateRandomSkillPreferencesFromXml(
-                          workingNode,
-                          version));
-                } else if (nodeName.equalsIgnoreCase("parts")) {
-                    processPartNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("personnel")) {
-                    // TODO: Make this depending on campaign options
-                    // TODO: hoist registerAll out of this
-                    InjuryTypes.registerAll();
-                    processPersonnelNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("units")) {
-                    processUnitNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("missions")) {
-                    processMissionNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("forces")) {
-                    processForces(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("formations")) {
-                    processFormations(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("finances")) {
-                    processFinances(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("location")) {
-                    campaign.setLocation(CurrentLocation.generateInstanceFromXML(workingNode, campaign));
-                } else if (nodeName.equalsIgnoreCase("isAvoidingEmptySystems")) {
-                    campaign.setIsAvoidingEmptySystems(Boolean.parseBoolean(workingNode.getTextContent().trim()));
-                } else if (nodeName.equalsIgnoreCase("skillTypes")) {
-                    processSkillTypeNodes(workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("specialAbilities")) {
-                    processSpecialAbilityNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("storyArc")) {
-                    processStoryArcNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("kills")) {
-                    processKillNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("shoppingList")) {
-                    campaign.setShoppingList(ShoppingList.generateInstanceFromXML(workingNode, campaign, version));
-                } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
-                    campaign.setPersonnelMarket(PersonnelMarket.generateInstanceFromXML(workingNode,
-                          campaign,
-                          version));
-                    foundPersonnelMarket = true;
-                } else if (nodeName.equalsIgnoreCase("contractMarket")) {
-                    // CAW: implicit DEPENDS-ON to the <missions> node
-                    campaign.setContractMarket(AbstractContractMarket.generateInstanceFromXML(workingNode,
-                          campaign,
-                          version));
-                    foundContractMarket = true;
-                } else if (nodeName.equalsIgnoreCase("unitMarket")) {
-                    // Windchild: implicit DEPENDS ON to the <campaignOptions> nodes
-                    campaign.setUnitMarket(campaign.getCampaignOptions().getUnitMarketMethod().getUnitMarket());
-                    campaign.getUnitMarket().fillFromXML(workingNode, campaign, version);
-                    foundUnitMarket = true;
-                } else if (nodeName.equalsIgnoreCase("lances") || nodeName.equalsIgnoreCase("combatTeams")) {
-                    processCombatTeamNodes(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
-                    campaign.setRetirementDefectionTracker(RetirementDefectionTracker.generateInstanceFromXML(
-                          workingNode,
-                          campaign));
-                } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
-                    campaign.setPersonnelWhoAdvancedInXP(processPersonnelWhoAdvancedInXP(workingNode, campaign));
-                } else if (nodeName.equalsIgnoreCase("automatedMothballUnits")) {
-                    campaign.setAutomatedMothballUnits(processAutomatedMothballNodes(workingNode));
-                } else if (nodeName.equalsIgnoreCase("autoResolveBehaviorSettings")) {
-                    campaign.setAutoResolveBehaviorSettings(firstNonNull(BehaviorSettingsFactory.getInstance()
-                                                                               .getBehavior(workingNode.getTextContent()),
-                          BehaviorSettingsFactory.getInstance().DEFAULT_BEHAVIOR));
-                } else if (nodeName.equalsIgnoreCase("customPlanetaryEvents")) {
-                    //TODO: deal with this
-                    updatePlanetaryEventsFromXML(workingNode);
-                } else if (nodeName.equalsIgnoreCase("partsInUse")) {
-                    processPartsInUse(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("temporaryPrisonerCapacity")) {
-                    campaign.setTemporaryPrisonerCapacity(MathUtility.parseInt(workingNode.getTextContent().trim()));
-                } else if (nodeName.equalsIgnoreCase("processProcurement")) {
-                    campaign.setProcessProcurement(Boolean.parseBoolean(workingNode.getTextContent().trim()));
-                }
-            }
-            // If it's a text node or attribute or whatever at this level,
-            // it's probably white-space.
-            // We can safely ignore it even if it isn't, for now.
+    private static void processSectionNode(Campaign campaign, Node workingNode, Version version, LoadState state) {
+        // This is what we really care about.
+        // All the meat of our document is in this node type, at this level.
+        // Okay, so what element is it?
+        String nodeName = workingNode.getNodeName();
+
+        if (nodeName.equalsIgnoreCase("pastVersions")) {
+            processPastVersionNodes(campaign, workingNode);
+        } else if (nodeName.equalsIgnoreCase("randomSkillPreferences")) {
+            campaign.setRandomSkillPreferences(RandomSkillPreferences.generateRandomSkillPreferencesFromXml(
+                  workingNode,
+                  version));
+        } else if (nodeName.equalsIgnoreCase("parts")) {
+            processPartNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("personnel")) {
+            // TODO: Make this depending on campaign options
+            // TODO: hoist registerAll out of this
+            InjuryTypes.registerAll();
+            processPersonnelNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("units")) {
+            processUnitNodes(campaign, workingNode, version, state.unitEntities);
+        } else if (nodeName.equalsIgnoreCase("missions")) {
+            processMissionNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("forces")) {
+            processForces(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("formations")) {
+            processFormations(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("finances")) {
+            processFinances(campaign, workingNode);
+        } else if (nodeName.equalsIgnoreCase("location")) {
+            campaign.setLocation(CurrentLocation.generateInstanceFromXML(workingNode, campaign));
+        } else if (nodeName.equalsIgnoreCase("isAvoidingEmptySystems")) {
+            campaign.setIsAvoidingEmptySystems(Boolean.parseBoolean(workingNode.getTextContent().trim()));
+        } else if (nodeName.equalsIgnoreCase("skillTypes")) {
+            processSkillTypeNodes(workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("specialAbilities")) {
+            processSpecialAbilityNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("storyArc")) {
+            processStoryArcNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("kills")) {
+            processKillNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("shoppingList")) {
+            campaign.setShoppingList(ShoppingList.generateInstanceFromXML(workingNode, campaign, version));
+        } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
+            campaign.setPersonnelMarket(PersonnelMarket.generateInstanceFromXML(workingNode,
+                  campaign,
+                  version));
+            state.foundPersonnelMarket = true;
+        } else if (nodeName.equalsIgnoreCase("contractMarket")) {
+            // CAW: implicit DEPENDS-ON to the <missions> node
+            campaign.setContractMarket(AbstractContractMarket.generateInstanceFromXML(workingNode,
+                  campaign,
+                  version));
+            state.foundContractMarket = true;
+        } else if (nodeName.equalsIgnoreCase("unitMarket")) {
+            // Windchild: implicit DEPENDS ON to the <campaignOptions> nodes
+            campaign.setUnitMarket(campaign.getCampaignOptions().getUnitMarketMethod().getUnitMarket());
+            campaign.getUnitMarket().fillFromXML(workingNode, campaign, version);
+            state.foundUnitMarket = true;
+        } else if (nodeName.equalsIgnoreCase("lances") || nodeName.equalsIgnoreCase("combatTeams")) {
+            processCombatTeamNodes(campaign, workingNode);
+        } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
+            campaign.setRetirementDefectionTracker(RetirementDefectionTracker.generateInstanceFromXML(
+                  workingNode,
+                  campaign));
+        } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
+            campaign.setPersonnelWhoAdvancedInXP(processPersonnelWhoAdvancedInXP(workingNode, campaign));
+        } else if (nodeName.equalsIgnoreCase("automatedMothballUnits")) {
+            campaign.setAutomatedMothballUnits(processAutomatedMothballNodes(workingNode));
+        } else if (nodeName.equalsIgnoreCase("autoResolveBehaviorSettings")) {
+            campaign.setAutoResolveBehaviorSettings(firstNonNull(BehaviorSettingsFactory.getInstance()
+                                                                       .getBehavior(workingNode.getTextContent()),
+                  BehaviorSettingsFactory.getInstance().DEFAULT_BEHAVIOR));
+        } else if (nodeName.equalsIgnoreCase("customPlanetaryEvents")) {
+            //TODO: deal with this
+            updatePlanetaryEventsFromXML(workingNode);
+        } else if (nodeName.equalsIgnoreCase("partsInUse")) {
+            processPartsInUse(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("temporaryPrisonerCapacity")) {
+            campaign.setTemporaryPrisonerCapacity(MathUtility.parseInt(workingNode.getTextContent().trim()));
+        } else if (nodeName.equalsIgnoreCase("processProcurement")) {
+            campaign.setProcessProcurement(Boolean.parseBoolean(workingNode.getTextContent().trim()));
         }
+    }
 
+    /**
+     * Restores cross-references and applies compatibility fixes once every section has been loaded.
+     */
+    private Campaign finishLoad(Campaign campaign, Version version, LoadState state) {
         // Okay, after we've gone through all the nodes and constructed the
         // Campaign object...
         final CampaignOptions options = campaign.getCampaignOptions();
@@ -644,15 +712,15 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         timestamp = System.currentTimeMillis();
 
         // If we don't have a personnel market, create one.
-        if (!foundPersonnelMarket) {
+        if (!state.foundPersonnelMarket) {
             campaign.setPersonnelMarket(new PersonnelMarket(campaign));
         }
 
-        if (!foundContractMarket) {
+        if (!state.foundContractMarket) {
             campaign.setContractMarket(new AtbMonthlyContractMarket());
         }
 
-        if (!foundUnitMarket) {
+        if (!state.foundUnitMarket) {
             campaign.setUnitMarket(campaign.getCampaignOptions().getUnitMarketMethod().getUnitMarket());
         }
 
@@ -749,6 +817,9 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
             correctSexualPreferencesForCurrentSpouse(campaign.getPersonnel());
         }
 
+        // Statuses and unit assignments are set directly while loading, so index the personnel from scratch
+        campaign.invalidateActivePersonnelCache();
+
         LOGGER.info("Load of campaign file complete!");
 
         return campaign;
@@ -1884,59 +1955,8 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         LOGGER.info("Load Mission Nodes Complete!");
     }
 
-    private static @Nullable String checkUnits(final Node wn) {
-        LOGGER.info("Checking for missing entities...");
-
-        List<String> unitList = new ArrayList<>();
-        NodeList wList = wn.getChildNodes();
-
-        // Okay, lets iterate through the children, eh?
-        for (int x = 0; x < wList.getLength(); x++) {
-            Node wn2 = wList.item(x);
-
-            // If it's not an element node, we ignore it.
-            if (wn2.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            if (!wn2.getNodeName().equalsIgnoreCase("unit")) {
-                continue;
-            }
-
-            NodeList nl = wn2.getChildNodes();
-
-            for (int y = 0; y < nl.getLength(); y++) {
-                Node wn3 = nl.item(y);
-                if (wn3.getNodeName().equalsIgnoreCase("entity")) {
-                    try {
-                        final Entity entity = MHQXMLUtility.parseSingleEntityMul((Element) wn3, null);
-                        if (entity == null) {
-                            String name = MHQXMLUtility.getEntityNameFromXmlString(wn3);
-                            if (!unitList.contains(name)) {
-                                unitList.add(name);
-                            }
-                        }
-                    } catch (Exception ex) {
-                        LOGGER.error("Could not read entity from XML", ex);
-                    }
-                }
-            }
-        }
-        LOGGER.info("Finished checking for missing entities!");
-
-        if (unitList.isEmpty()) {
-            return null;
-        } else {
-            StringBuilder unitListString = new StringBuilder();
-            for (String s : unitList) {
-                unitListString.append('\n').append(s);
-            }
-            LOGGER.error("Could not load the following units: {}", unitListString);
-            return unitListString.toString();
-        }
-    }
-
-    private static void processUnitNodes(Campaign retVal, Node wn, Version version) {
+    private static void processUnitNodes(Campaign retVal, Node wn, Version version,
+          @Nullable UnitEntityPreloader unitEntities) {
         LOGGER.info("Loading Unit Nodes from XML...");
 
         NodeList wList = wn.getChildNodes();
@@ -1955,7 +1975,8 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                 continue;
             }
 
-            Unit u = Unit.generateInstanceFromXML(wn2, version, retVal);
+            Entity parsedEntity = (unitEntities == null) ? null : unitEntities.takeEntity(wn2);
+            Unit u = Unit.generateInstanceFromXML(wn2, version, retVal, parsedEntity);
 
             if (u != null) {
                 retVal.importUnit(u);
@@ -0,0 +1,399 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+import mekhq.NullEntityException;
+import mekhq.utilities.MHQXMLUtility;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Streams the top-level sections of a campaign file with StAX.
+ *
+ * <p>Rather than materializing the whole document as a DOM tree, each wanted child of the {@code <campaign>} element
+ * is built as a small DOM fragment, handed to a {@link SectionHandler}, and then discarded before the next section is
+ * read. Unwanted sections are skipped without building any nodes. This keeps the existing {@code Node}-based
+ * {@code generateInstanceFromXML} methods working while bounding peak memory to the largest single section.</p>
+ *
+ * <p>The first pass reads the source stream directly and copies the raw document to a temporary file as it goes, so
+ * later passes can replay it from disk. The document is never held in memory, and the file is deleted by
+ * {@link #close()}.</p>
+ *
+ * <p>Each fragment is attached to a stand-in {@code <campaign>} element, so handlers that compare
+ * {@link Node#getParentNode()} against the section element see the same structure as the full DOM parse.</p>
+ */
+final class CampaignXmlSectionReader implements AutoCloseable {
+    private static final MMLogger LOGGER = MMLogger.create(CampaignXmlSectionReader.class);
+    private static final String REPORT_CDATA_PROPERTY = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final InputStream source;
+    private @Nullable SpoolingInputStream spoolingSource;
+    private @Nullable Path spoolFile;
+    private boolean spoolComplete = false;
+
+    /**
+     * The reader over the source stream, positioned just inside the root element, until the first pass takes it
+     */
+    private @Nullable XMLStreamReader sourceReader;
+    private @Nullable String rootName;
+    private final Map<String, String> rootAttributes = new HashMap<>();
+
+    /**
+     * @param source the complete, uncompressed campaign document; it is read once and not closed
+     */
+    CampaignXmlSectionReader(InputStream source) {
+        this.source = source;
+    }
+
+    /**
+     * Handles a single top-level section of the campaign file.
+     */
+    @FunctionalInterface
+    interface SectionHandler {
+        void handle(Element section) throws CampaignXmlParseException, NullEntityException;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Campaign files never carry a DTD, so refuse them outright rather than risk entity expansion attacks
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        // Keep CDATA sections distinct from plain text, as the DOM parser does
+        if (factory.isPropertySupported(REPORT_CDATA_PROPERTY)) {
+            factory.setProperty(REPORT_CDATA_PROPERTY, true);
+        }
+        return factory;
+    }
+
+    /**
+     * Reads an attribute of the root {@code <campaign>} element. Before the first pass this only reads as far as the
+     * root element.
+     *
+     * @param attribute the attribute name
+     *
+     * @return the attribute value, or an empty string if it is absent (matching {@link Element#getAttribute(String)})
+     *
+     * @throws CampaignXmlParseException if the document is not well-formed or cannot be read
+     */
+    String readRootAttribute(String attribute) throws CampaignXmlParseException {
+        if (rootName == null) {
+            startSourcePass();
+        }
+        return rootAttributes.getOrDefault(attribute, "");
+    }
+
+    /**
+     * Makes a single pass over the document, handing every top-level section whose name matches {@code wanted} to
+     * {@code handler} in document order.
+     *
+     * @param wanted  tests the section name; sections that fail it are skipped without being built
+     * @param handler receives each wanted section
+     *
+     * @throws CampaignXmlParseException if the document is not well-formed or cannot be read
+     * @throws NullEntityException       if thrown by the handler
+     */
+    void forEachSection(Predicate<String> wanted, SectionHandler handler)
+          throws CampaignXmlParseException, NullEntityException {
+        final Document document;
+        try {
+            document = MHQXMLUtility.newSafeDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException ex) {
+            throw new CampaignXmlParseException(ex);
+        }
+
+        final boolean sourcePass = !spoolComplete;
+        InputStream spoolStream = null;
+        XMLStreamReader reader = null;
+        try {
+            if (sourcePass) {
+                if (sourceReader == null) {
+                    startSourcePass();
+                }
+                reader = sourceReader;
+                sourceReader = null;
+            } else if (spoolFile == null) {
+                throw new CampaignXmlParseException("The campaign document has already been closed");
+            } else {
+                spoolStream = new BufferedInputStream(Files.newInputStream(spoolFile));
+                reader = INPUT_FACTORY.createXMLStreamReader(spoolStream);
+                reader.nextTag();
+            }
+            Element root = document.createElement(rootName);
+            document.appendChild(root);
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    // The end of the root element
+                    break;
+                } else if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                if (!wanted.test(reader.getLocalName())) {
+                    skipElement(reader);
+                    continue;
+                }
+
+                Element section = readElement(reader, document);
+                root.appendChild(section);
+                try {
+                    handler.handle(section);
+                } finally {
+                    root.removeChild(section);
+                }
+            }
+
+            if (sourcePass) {
+                finishSpool();
+            }
+        } catch (XMLStreamException | IOException ex) {
+            throw new CampaignXmlParseException(ex);
+        } finally {
+            close(reader);
+            closeQuietly(spoolStream);
+        }
+    }
+
+    /**
+     * Deletes the spooled copy of the document. The source stream is left to its owner.
+     */
+    @Override
+    public void close() {
+        close(sourceReader);
+        sourceReader = null;
+        closeQuietly(spoolingSource);
+        if (spoolFile != null) {
+            try {
+                Files.deleteIfExists(spoolFile);
+            } catch (IOException ex) {
+                LOGGER.warn(ex, "Unable to delete the campaign spool file {}", spoolFile);
+            }
+            spoolFile = null;
+        }
+    }
+
+    /**
+     * Opens the source stream for the first pass, spooling it to a temporary file, and reads the root element.
+     */
+    private void startSourcePass() throws CampaignXmlParseException {
+        if (spoolingSource != null) {
+            throw new CampaignXmlParseException("The campaign document could not be read completely");
+        }
+
+        try {
+            spoolFile = Files.createTempFile("mekhq-campaign", ".xml");
+            spoolingSource = new SpoolingInputStream(source,
+                  new BufferedOutputStream(Files.newOutputStream(spoolFile)));
+            sourceReader = INPUT_FACTORY.createXMLStreamReader(spoolingSource);
+            sourceReader.nextTag();
+        } catch (XMLStreamException | IOException ex) {
+            throw new CampaignXmlParseException(ex);
+        }
+
+        rootName = sourceReader.getLocalName();
+        for (int i = 0; i < sourceReader.getAttributeCount(); i++) {
+            rootAttributes.put(sourceReader.getAttributeLocalName(i), sourceReader.getAttributeValue(i));
+        }
+    }
+
+    /**
+     * Copies whatever follows the root element to the spool file and closes it, so later passes can replay it.
+     */
+    private void finishSpool() throws IOException {
+        spoolingSource.transferTo(OutputStream.nullOutputStream());
+        spoolingSource.close();
+        spoolComplete = true;
+    }
+
+    /**
+     * Passes reads through from the source stream while writing every byte read to the spool. Closing it closes only
+     * the spool.
+     */
+    private static final class SpoolingInputStream extends FilterInputStream {
+        private final OutputStream spool;
+
+        private SpoolingInputStream(InputStream source, OutputStream spool) {
+            super(source);
+            this.spool = spool;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                spool.write(value);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                spool.write(buffer, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            // Skipped bytes still need to reach the spool
+            byte[] buffer = new byte[(int) Math.min(count, 8192)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            spool.close();
+        }
+    }
+
+    /**
+     * Builds the element the reader is positioned on, including all of its descendants, leaving the reader on the
+     * matching end tag.
+     */
+    private static Element readElement(XMLStreamReader reader, Document document) throws XMLStreamException {
+        Element top = createElement(reader, document);
+        Node current = top;
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    Element child = createElement(reader, document);
+                    current.appendChild(child);
+                    current = child;
+                    depth++;
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    current = current.getParentNode();
+                    depth--;
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE -> appendText(reader, document, current,
+                      Node.TEXT_NODE);
+                case XMLStreamConstants.CDATA -> appendText(reader, document, current, Node.CDATA_SECTION_NODE);
+                default -> {
+                    // Comments and processing instructions carry no campaign data
+                }
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Appends the current character data to {@code parent}, merging it into the last child when that is of the same
+     * type. The reader may split long runs of text across several events, and this keeps the fragment identical to a
+     * normalized DOM tree, including any CDATA sections.
+     */
+    private static void appendText(XMLStreamReader reader, Document document, Node parent, short nodeType) {
+        Node last = parent.getLastChild();
+        if ((last != null) && (last.getNodeType() == nodeType)) {
+            last.setNodeValue(last.getNodeValue() + reader.getText());
+        } else if (nodeType == Node.CDATA_SECTION_NODE) {
+            parent.appendChild(document.createCDATASection(reader.getText()));
+        } else {
+            parent.appendChild(document.createTextNode(reader.getText()));
+        }
+    }
+
+    private static Element createElement(XMLStreamReader reader, Document document) {
+        Element element = document.createElement(reader.getLocalName());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    /**
+     * Advances past the element the reader is positioned on without building anything.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static void close(@Nullable XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException ignored) {
+                // The underlying stream is closed separately
+            }
+        }
+    }
+
+    private static void closeQuietly(@Nullable InputStream stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException ex) {
+                LOGGER.warn(ex, "Unable to close a campaign document stream");
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.options.GameOptions;
+import megamek.common.units.Entity;
+import megamek.logging.MMLogger;
+import mekhq.utilities.MHQXMLUtility;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Parses the entity of every unit in a campaign's {@code <units>} section once, in parallel, before the units
+ * themselves are loaded.
+ *
+ * <p>The results serve both the check for units whose unit files are missing and the construction of each
+ * {@code Unit}, which previously parsed every entity separately. Each entity element is copied into its own document
+ * on the calling thread before parsing, because DOM implementations are not safe for concurrent reads of a single
+ * document. The parsed entities are not bound to a game; that is left to the unit load, which runs on the calling
+ * thread in document order.</p>
+ *
+ * <p>Parsing in parallel relies on each {@link megamek.common.loaders.MULParser} keeping its state to itself, and on
+ * the static lookups it reads, such as the equipment types and the unit summary cache, being fully loaded before the
+ * campaign is and only read while it loads. Fewer than {@link #PARALLEL_THRESHOLD} entities are parsed on the calling
+ * thread, and any entity whose parallel parse fails is parsed again on the calling thread, so a problem that only
+ * shows up under concurrency costs time rather than units.</p>
+ */
+final class UnitEntityPreloader {
+    private static final MMLogger LOGGER = MMLogger.create(UnitEntityPreloader.class);
+
+    /** The most threads used to parse entities, regardless of how many processors are available. */
+    static final int MAX_THREADS = 8;
+
+    /** Below this many entities, they are parsed on the calling thread rather than in a pool. */
+    static final int PARALLEL_THRESHOLD = 16;
+
+    private record EntityElement(@Nullable UUID unitId, Element element) {
+    }
+
+    /**
+     * Parses a single entity element, without binding the entity to a game.
+     */
+    @FunctionalInterface
+    interface EntityParser {
+        @Nullable
+        Entity parse(Element element, @Nullable GameOptions gameOptions) throws Exception;
+    }
+
+    /**
+     * The outcome of parsing one entity element.
+     *
+     * @param entity the entity parsed, or {@code null} if there was none
+     * @param failed whether parsing threw, as opposed to finding no entity because the unit file is missing
+     */
+    private record ParseResult(@Nullable Entity entity, boolean failed) {
+    }
+
+    private final Map<UUID, Entity> entities;
+    private final List<String> missingUnits;
+
+    private UnitEntityPreloader(Map<UUID, Entity> entities, List<String> missingUnits) {
+        this.entities = entities;
+        this.missingUnits = missingUnits;
+    }
+
+    /**
+     * Parses the entity of each unit in a {@code <units>} section.
+     *
+     * @param unitsNode   the {@code <units>} section
+     * @param gameOptions the game options to parse with
+     *
+     * @return the parsed entities
+     */
+    static UnitEntityPreloader preload(Node unitsNode, @Nullable GameOptions gameOptions) {
+        return preload(unitsNode, gameOptions, MHQXMLUtility::parseUnboundEntityMul);
+    }
+
+    /**
+     * Parses the entity of each unit in a {@code <units>} section with the given parser.
+     *
+     * @param unitsNode   the {@code <units>} section
+     * @param gameOptions the game options to parse with
+     * @param parser      parses a single entity element
+     *
+     * @return the parsed entities
+     */
+    static UnitEntityPreloader preload(Node unitsNode, @Nullable GameOptions gameOptions, EntityParser parser) {
+        LOGGER.info("Parsing unit entities...");
+
+        final List<EntityElement> elements = collectEntityElements(unitsNode);
+        final List<ParseResult> parsed = parseAll(elements, gameOptions, parser);
+
+        final Map<UUID, Entity> entities = new HashMap<>();
+        final List<String> missingUnits = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            final EntityElement entityElement = elements.get(i);
+            final ParseResult result = parsed.get(i);
+            if (result.entity() != null) {
+                if (entityElement.unitId() != null) {
+                    entities.put(entityElement.unitId(), result.entity());
+                }
+            } else if (!result.failed()) {
+                final String name = MHQXMLUtility.getEntityNameFromXmlString(entityElement.element());
+                if (!missingUnits.contains(name)) {
+                    missingUnits.add(name);
+                }
+            }
+        }
+
+        LOGGER.info("Finished parsing {} unit entities!", entities.size());
+        return new UnitEntityPreloader(entities, missingUnits);
+    }
+
+    /**
+     * Finds the entity element of each unit, in document order, copying each into a document of its own.
+     */
+    private static List<EntityElement> collectEntityElements(Node unitsNode) {
+        final List<EntityElement> elements = new ArrayList<>();
+
+        final DocumentBuilder documentBuilder;
+        try {
+            documentBuilder = MHQXMLUtility.newSafeDocumentBuilder();
+        } catch (ParserConfigurationException ex) {
+            LOGGER.error("Unable to copy unit entities, they will be parsed as each unit loads", ex);
+            return elements;
+        }
+
+        final NodeList unitNodes = unitsNode.getChildNodes();
+        for (int x = 0; x < unitNodes.getLength(); x++) {
+            final Node unitNode = unitNodes.item(x);
+            if ((unitNode.getNodeType() != Node.ELEMENT_NODE) || !unitNode.getNodeName().equalsIgnoreCase("unit")) {
+                continue;
+            }
+
+            final UUID unitId = getUnitId(unitNode);
+            final NodeList unitChildren = unitNode.getChildNodes();
+            for (int y = 0; y < unitChildren.getLength(); y++) {
+                final Node child = unitChildren.item(y);
+                if ((child.getNodeType() == Node.ELEMENT_NODE) && child.getNodeName().equalsIgnoreCase("entity")) {
+                    final Document document = documentBuilder.newDocument();
+                    final Element copy = (Element) document.importNode(child, true);
+                    document.appendChild(copy);
+                    // A unit without a usable ID is still checked for a missing unit file, but is loaded the slow way
+                    elements.add(new EntityElement(unitId, copy));
+                }
+            }
+        }
+        return elements;
+    }
+
+    private static List<ParseResult> parseAll(List<EntityElement> elements, @Nullable GameOptions gameOptions,
+          EntityParser parser) {
+        final List<ParseResult> parsed = new ArrayList<>(elements.size());
+        if (elements.size() < PARALLEL_THRESHOLD) {
+            for (EntityElement element : elements) {
+                parsed.add(parse(element, gameOptions, parser));
+            }
+            return parsed;
+        }
+
+        final int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS));
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "Unit Entity Parser " + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<Entity>> futures = new ArrayList<>(elements.size());
+            for (EntityElement element : elements) {
+                futures.add(executor.submit(() -> parser.parse(element.element(), gameOptions)));
+            }
+
+            // Collect in submission order so the results line up with the document
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    parsed.add(new ParseResult(futures.get(i).get(), false));
+                } catch (ExecutionException ex) {
+                    LOGGER.warn(ex.getCause(), "Could not read entity from XML in parallel, parsing it serially");
+                    parsed.add(parse(elements.get(i), gameOptions, parser));
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted while parsing unit entities, the rest will be parsed as each unit loads", ex);
+            while (parsed.size() < elements.size()) {
+                parsed.add(new ParseResult(null, true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return parsed;
+    }
+
+    private static ParseResult parse(EntityElement element, @Nullable GameOptions gameOptions, EntityParser parser) {
+        try {
+            return new ParseResult(parser.parse(element.element(), gameOptions), false);
+        } catch (Exception ex) {
+            // The unit load parses this entity again and reports the failure as it always has
+            LOGGER.error("Could not read entity from XML", ex);
+            return new ParseResult(null, true);
+        }
+    }
+
+    private static @Nullable UUID getUnitId(Node unitNode) {
+        final Node idNode = unitNode.getAttributes().getNamedItem("id");
+        if (idNode == null) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(idNode.getTextContent());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the names of the units whose unit files are missing, one per line, or {@code null} if there are none
+     */
+    @Nullable
+    String getMissingUnitList() {
+        if (missingUnits.isEmpty()) {
+            return null;
+        }
+
+        final StringBuilder unitListString = new StringBuilder();
+        for (String name : missingUnits) {
+            unitListString.append('\n').append(name);
+        }
+        return unitListString.toString();
+    }
+
+    /**
+     * Hands over the entity parsed for a unit. Each entity is handed over only once.
+     *
+     * @param unitNode the {@code <unit>} element being loaded
+     *
+     * @return the parsed entity, or {@code null} if it has to be parsed as the unit loads
+     */
+    @Nullable
+    Entity takeEntity(Node unitNode) {
+        final UUID unitId = getUnitId(unitNode);
+        return (unitId == null) ? null : entities.remove(unitId);
+    }
+}
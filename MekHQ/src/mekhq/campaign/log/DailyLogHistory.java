@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+
+/**
+ * Keeps the history of the daily log for the current session on disk rather than in memory.
+ *
+ * <p>Entries are appended to segment files, each covering {@link #SEGMENT_DAYS} days, in a temporary directory. Each
+ * segment indexes the file offset at which every day starts, so reading the last few days seeks straight to them.
+ * Once every day in a segment is older than the history keeps, the whole segment file is deleted. Only the indexes
+ * and a small write buffer are held in memory, however many days are kept.</p>
+ *
+ * <p>The segment files stay open while the history is in use. {@link #close()} closes and deletes them along with
+ * their directory, and should be called once the campaign the history belongs to is replaced or the application
+ * exits; anything left behind is still deleted when the JVM exits.</p>
+ *
+ * <p>If the history cannot be written, it logs the failure once and stops recording. This class is thread safe.</p>
+ */
+public class DailyLogHistory implements AutoCloseable {
+    private static final MMLogger LOGGER = MMLogger.create(DailyLogHistory.class);
+
+    /** The number of days written to each segment file before a new one is started. */
+    static final int SEGMENT_DAYS = 30;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * One segment file and the offsets at which each of its days begins.
+     */
+    private static final class Segment {
+        private final Path file;
+        private final LocalDate firstDate;
+        private final TreeMap<LocalDate, Long> dayOffsets = new TreeMap<>();
+        private final DataOutputStream output;
+        private LocalDate lastDate;
+        private long size;
+
+        private Segment(Path file, LocalDate firstDate) throws IOException {
+            this.file = file;
+            this.firstDate = firstDate;
+            this.lastDate = firstDate;
+            this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                  StandardOpenOption.CREATE_NEW,
+                  StandardOpenOption.WRITE), BUFFER_SIZE));
+        }
+
+        private void append(LocalDate date, byte[] description) throws IOException {
+            if (!dayOffsets.containsKey(date)) {
+                dayOffsets.put(date, size);
+            }
+            if (date.isAfter(lastDate)) {
+                lastDate = date;
+            }
+
+            output.writeLong(date.toEpochDay());
+            output.writeInt(description.length);
+            output.write(description);
+            size += Long.BYTES + Integer.BYTES + description.length;
+        }
+
+        private void delete() {
+            try {
+                output.close();
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                LOGGER.warn(ex, "Unable to delete daily log history segment {}", file);
+            }
+        }
+    }
+
+    private final int maxDays;
+    private final @Nullable Path parentDirectory;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private @Nullable Path directory;
+    private int nextSegmentNumber;
+    private boolean failed;
+    private boolean closed;
+
+    /**
+     * Creates a history kept in a new temporary directory, which is removed when the history is closed.
+     *
+     * @param maxDays the number of days of history to keep
+     */
+    public DailyLogHistory(int maxDays) {
+        this(maxDays, null);
+    }
+
+    /**
+     * Creates a history kept in a new directory within the given directory.
+     *
+     * @param maxDays         the number of days of history to keep
+     * @param parentDirectory the directory to create the history's directory in, or {@code null} to use the
+     *                        temporary directory
+     */
+    public DailyLogHistory(int maxDays, @Nullable Path parentDirectory) {
+        this.maxDays = maxDays;
+        this.parentDirectory = parentDirectory;
+    }
+
+    /**
+     * Adds an entry to the history, discarding any segments which have become too old to keep.
+     *
+     * @param date        the date of the entry
+     * @param description the text of the entry
+     */
+    public synchronized void add(LocalDate date, String description) {
+        if (failed || closed) {
+            return;
+        }
+
+        try {
+            Segment segment = segments.peekLast();
+            if ((segment == null) || (ChronoUnit.DAYS.between(segment.firstDate, date) >= SEGMENT_DAYS)
+                      || date.isBefore(segment.firstDate)) {
+                segment = startSegment(date);
+            }
+            segment.append(date, description.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Unable to write the daily log history, it will not be recorded for this session");
+            failed = true;
+            clear();
+            return;
+        }
+
+        prune(date);
+    }
+
+    private Segment startSegment(LocalDate date) throws IOException {
+        if (directory == null) {
+            directory = (parentDirectory == null) ? Files.createTempDirectory("mekhq-daily-log")
+                              : Files.createTempDirectory(parentDirectory, "mekhq-daily-log");
+            // Files registered for deletion later are deleted first, so the directory is left until it is empty
+            directory.toFile().deleteOnExit();
+        }
+
+        final Path file = directory.resolve("segment-" + nextSegmentNumber++ + ".log");
+        file.toFile().deleteOnExit();
+        final Segment segment = new Segment(file, date);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void prune(LocalDate today) {
+        // Never discard the segment being written to
+        while ((segments.size() > 1)
+                     && (ChronoUnit.DAYS.between(segments.peekFirst().lastDate, today) > maxDays)) {
+            segments.removeFirst().delete();
+        }
+    }
+
+    /**
+     * Reads back every entry dated on or after the given date, in the order they were added.
+     *
+     * @param since the earliest date to include
+     *
+     * @return the entries
+     */
+    public synchronized List<LogEntry> getEntriesSince(LocalDate since) {
+        final List<LogEntry> entries = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (segment.lastDate.isBefore(since)) {
+                continue;
+            }
+
+            // Start at the earliest wanted day; if the campaign date was ever moved back, that may not be the first
+            // wanted day in date order
+            long offset = segment.size;
+            for (long dayOffset : segment.dayOffsets.tailMap(since).values()) {
+                offset = Math.min(offset, dayOffset);
+            }
+
+            try {
+                readSegment(segment, offset, since, entries);
+            } catch (IOException ex) {
+                LOGGER.error(ex, "Unable to read the daily log history segment {}", segment.file);
+            }
+        }
+        return entries;
+    }
+
+    private static void readSegment(Segment segment, long offset, LocalDate since, List<LogEntry> entries)
+          throws IOException {
+        segment.output.flush();
+
+        try (FileChannel channel = FileChannel.open(segment.file, StandardOpenOption.READ)) {
+            channel.position(offset);
+            final InputStream channelInput = Channels.newInputStream(channel);
+            final DataInputStream input = new DataInputStream(new BufferedInputStream(channelInput, BUFFER_SIZE));
+            long position = offset;
+            while (position < segment.size) {
+                final LocalDate date = LocalDate.ofEpochDay(input.readLong());
+                final byte[] description = new byte[input.readInt()];
+                input.readFully(description);
+                position += Long.BYTES + Integer.BYTES + description.length;
+
+                if (!date.isBefore(since)) {
+                    entries.add(new HistoricalLogEntry(date, new String(description, StandardCharsets.UTF_8)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the whole history.
+     */
+    public synchronized void clear() {
+        while (!segments.isEmpty()) {
+            segments.removeFirst().delete();
+        }
+    }
+
+    /**
+     * Discards the whole history and deletes its directory. Nothing more is recorded once the history is closed.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        clear();
+
+        if (directory != null) {
+            try {
+                Files.deleteIfExists(directory);
+            } catch (IOException ex) {
+                LOGGER.warn(ex, "Unable to delete daily log history directory {}", directory);
+            }
+            directory = null;
+        }
+    }
+
+    /**
+     * @return the directory the segment files are kept in, or {@code null} if none has been created
+     */
+    synchronized @Nullable Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return the number of segment files currently kept
+     */
+    synchronized int getSegmentCount() {
+        return segments.size();
+    }
+}
@@ -49,7 +49,6 @@ import megamek.common.equipment.WeaponType;
 import megamek.common.equipment.enums.AmmoTypeFlag;
 import megamek.common.equipment.enums.MiscTypeFlag;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Aero;
@@ -84,6 +83,7 @@ import mekhq.campaign.parts.protomeks.ProtoMekJumpJet;
 import mekhq.campaign.parts.protomeks.ProtoMekLegActuator;
 import mekhq.campaign.parts.protomeks.ProtoMekLocation;
 import mekhq.campaign.parts.protomeks.ProtoMekSensor;
+import mekhq.campaign.unit.EntityTemplateCache;
 
 /**
  * This is a parts store which will contain one copy of every possible part that might be needed as well as a variety of
@@ -155,7 +155,7 @@ public class PartsStore {
             // try loading the full entity, but this might take too long
             Entity newEntity = null;
             try {
-                newEntity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+                newEntity = EntityTemplateCache.getInstance().getEntity(summary);
             } catch (EntityLoadingException e) {
                 LOGGER.error("", e);
             }
@@ -36,7 +36,6 @@ import java.io.PrintWriter;
 
 import megamek.Version;
 import megamek.common.annotations.Nullable;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
@@ -45,6 +44,7 @@ import mekhq.campaign.Campaign;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.finances.Money;
 import mekhq.campaign.market.enums.UnitMarketType;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.utilities.MHQXMLUtility;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -124,7 +124,7 @@ public class UnitMarketOffer {
      */
     public @Nullable Entity getEntity() {
         try {
-            return new MekFileParser(getUnit().getSourceFile(), getUnit().getEntryName()).getEntity();
+            return EntityTemplateCache.getInstance().getEntity(getUnit());
         } catch (Exception e) {
             LOGGER.error(e, "Unable to load entity: {}: {}. Returning null.",
                   getUnit().getSourceFile(),
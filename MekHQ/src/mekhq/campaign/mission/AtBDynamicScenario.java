@@ -721,9 +721,8 @@ public class AtBDynamicScenario extends AtBScenario {
             for (UUID unitID : playerForces.getAllUnits(false)) {
                 try {
                     Unit unit = campaign.getUnit(unitID);
-                    Entity entity = unit.getEntity();
 
-                    totalBattleValue += entity.calculateBattleValue();
+                    totalBattleValue += unit.getBattleValue();
                 } catch (Exception ex) {
                     logger.warn(ex.getMessage(), ex);
                 }
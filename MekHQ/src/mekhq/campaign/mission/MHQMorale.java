@@ -593,7 +593,7 @@ public class MHQMorale {
                 contract.setRoutEnd(today.plusMonths(max(1, d6() - 3)).minusDays(1));
 
                 PrisonerMissionEndEvent prisoners = new PrisonerMissionEndEvent(campaign, contract);
-                if (!campaign.getFriendlyPrisoners().isEmpty()) {
+                if (campaign.hasFriendlyPrisoners()) {
                     prisoners.handlePrisoners(true, true);
                 }
 
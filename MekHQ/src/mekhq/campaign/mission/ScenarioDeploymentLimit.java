@@ -233,7 +233,7 @@ public class ScenarioDeploymentLimit {
     public int getUnitQuantity(Unit u) {
         if ((null != u) && (null != u.getEntity()) && isAllowedType(u.getEntity().getUnitType())) {
             if (countType == CountType.BV) {
-                return u.getEntity().calculateBattleValue();
+                return u.getBattleValue();
             } else if (countType == CountType.UNIT) {
                 return 1;
             }
@@ -257,7 +257,7 @@ public class ScenarioDeploymentLimit {
             Unit u = c.getUnit(id);
             if ((null != u) && (null != u.getEntity()) && isAllowedType(u.getEntity().getUnitType())) {
                 if (countType == CountType.BV) {
-                    quantity += u.getEntity().calculateBattleValue();
+                    quantity += u.getBattleValue();
                 } else if (countType == CountType.UNIT) {
                     quantity += 1;
                 }
@@ -67,7 +67,6 @@ import megamek.common.equipment.WeaponType;
 import megamek.common.interfaces.ITechnology;
 import megamek.common.loaders.BLKFile;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -98,6 +97,7 @@ import mekhq.campaign.parts.missing.*;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.PersonnelOptions;
 import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.cleanup.EquipmentUnscrambler;
 import mekhq.campaign.unit.cleanup.EquipmentUnscramblerResult;
@@ -1833,7 +1833,7 @@ public class Refit extends Part implements IAcquisitionWork {
         try {
             MekSummary summary = Utilities.retrieveUnit(newEntity.getShortNameRaw());
 
-            newEntity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            newEntity = EntityTemplateCache.getInstance().getEntity(summary);
             LOGGER.info("Saved {} to {}", unitName, summary.getSourceFile());
         } catch (EntityLoadingException ex) {
             LOGGER.error(ex, "Could not read back refit entity {}", unitName);
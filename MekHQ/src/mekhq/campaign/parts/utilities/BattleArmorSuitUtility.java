@@ -41,12 +41,12 @@ import megamek.common.battleValue.BVCalculator;
 import megamek.common.battleValue.BattleArmorBVCalculator;
 import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
 import mekhq.campaign.parts.missing.MissingBattleArmorSuit;
+import mekhq.campaign.unit.EntityTemplateCache;
 
 /**
  * Battle Armor Suits and Missing Battle Armor Suits do not track enough information to determine if two suits with same
@@ -137,7 +137,7 @@ public class BattleArmorSuitUtility {
         Entity newEntity = null;
         if (ms != null) {
             try {
-                newEntity = new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+                newEntity = EntityTemplateCache.getInstance().getEntity(ms);
             } catch (Exception ex) {
                 LOGGER.error(ex.getMessage(), ex);
             }
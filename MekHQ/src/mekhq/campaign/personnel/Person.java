@@ -121,6 +121,8 @@ import mekhq.campaign.log.PersonalLogger;
 import mekhq.campaign.log.ServiceLogger;
 import mekhq.campaign.parts.Part;
 import mekhq.campaign.parts.Refit;
+import mekhq.campaign.personnel.PersonDerivedStatsCache.ExperienceLevelKey;
+import mekhq.campaign.personnel.PersonDerivedStatsCache.ModifierDataKey;
 import mekhq.campaign.personnel.education.Academy;
 import mekhq.campaign.personnel.enums.*;
 import mekhq.campaign.personnel.enums.education.EducationLevel;
@@ -421,6 +423,8 @@ public class Person {
 
     // Cache
     private transient Integer advancedAsTechContribution = null;
+    private final transient PersonDerivedStatsCache derivedStatsCache = new PersonDerivedStatsCache();
+    private transient @Nullable PersonnelIndex personnelIndex = null;
 
     // Generic extra data, for use with plugins and mods
     private ExtraData extraData;
@@ -675,6 +679,7 @@ public class Person {
 
     public void setBloodname(final String bloodname) {
         this.bloodname = bloodname;
+        invalidateDerivedStats();
         setFullName();
     }
 
@@ -783,6 +788,7 @@ public class Person {
      */
     public void setPrisonerStatusDirect(final PrisonerStatus prisonerStatus) {
         this.prisonerStatus = prisonerStatus;
+        refileInPersonnelIndex();
     }
 
     // region Text Getters
@@ -1163,6 +1169,8 @@ public class Person {
 
     public void setPrimaryRoleDirect(final PersonnelRole primaryRole) {
         this.primaryRole = primaryRole;
+        invalidateDerivedStats();
+        refileInPersonnelIndex();
     }
 
     public PersonnelRole getSecondaryRole() {
@@ -1180,6 +1188,8 @@ public class Person {
 
     public void setSecondaryRoleDirect(final PersonnelRole secondaryRole) {
         this.secondaryRole = secondaryRole;
+        invalidateDerivedStats();
+        refileInPersonnelIndex();
     }
 
     /**
@@ -1850,6 +1860,7 @@ public class Person {
      */
     public void setStatus(final PersonnelStatus status) {
         this.status = status;
+        refileInPersonnelIndex();
     }
 
     public int getVocationalXPTimer() {
@@ -1902,6 +1913,7 @@ public class Person {
      */
     public void setDateOfBirth(final LocalDate birthday) {
         this.birthday = birthday;
+        invalidateDerivedStats();
     }
 
     /**
@@ -1948,6 +1960,7 @@ public class Person {
      */
     public void setAgeForAttributeModifiers(final int ageForAttributeModifiers) {
         this.ageForAttributeModifiers = ageForAttributeModifiers;
+        invalidateDerivedStats();
     }
 
 
@@ -1991,7 +2004,7 @@ public class Person {
      */
     public void setRecruitment(final @Nullable LocalDate recruitment) {
         if (recruitment == null) {
-            status = PersonnelStatus.CAMP_FOLLOWER;
+            setStatus(PersonnelStatus.CAMP_FOLLOWER);
         }
 
         this.recruitment = recruitment;
@@ -3028,6 +3041,7 @@ public class Person {
 
     public void setDarkSecretRevealed(final boolean darkSecretRevealed) {
         this.darkSecretRevealed = darkSecretRevealed;
+        invalidateDerivedStats();
     }
 
     public @Nullable LocalDate getBurnedConnectionsEndDate() {
@@ -4845,6 +4859,7 @@ public class Person {
 
     private void setRankSystemDirect(final RankSystem rankSystem) {
         this.rankSystem = rankSystem;
+        invalidateDerivedStats();
     }
 
     public Rank getRank() {
@@ -4862,6 +4877,7 @@ public class Person {
 
     public void setRank(final int rank) {
         this.rank = rank;
+        invalidateDerivedStats();
     }
 
     /**
@@ -4877,6 +4893,7 @@ public class Person {
 
     public void setRankLevel(final int rankLevel) {
         this.rankLevel = rankLevel;
+        invalidateDerivedStats();
     }
 
     public void changeRank(final Campaign campaign, final int rankNumeric, final int rankLevel, final boolean report) {
@@ -5089,12 +5106,28 @@ public class Person {
         final PersonnelRole role = secondary ? getSecondaryRole() : getPrimaryRole();
 
         final CampaignOptions campaignOptions = campaign.getCampaignOptions();
-        final boolean doAdminCountNegotiation = campaignOptions.isAdminExperienceLevelIncludeNegotiation();
-        final boolean isUseArtillery = campaignOptions.isUseArtillery();
-        final boolean isAlternativeQualityAveraging = campaignOptions.isAlternativeQualityAveraging();
-        final boolean isUseAgingEffects = campaignOptions.isUseAgeEffects();
-        final boolean isClanCampaign = campaign.isClanCampaign();
-        final LocalDate today = campaign.getLocalDate();
+        final ExperienceLevelKey key = new ExperienceLevelKey(role,
+              excludeInjuryEffects,
+              campaignOptions.isAdminExperienceLevelIncludeNegotiation(),
+              campaignOptions.isUseArtillery(),
+              campaignOptions.isAlternativeQualityAveraging(),
+              campaignOptions.isUseAgeEffects(),
+              campaign.isClanCampaign(),
+              campaign.getLocalDate());
+        return derivedStatsCache.getExperienceLevel(key,
+              options.getModificationCount(),
+              () -> calculateExperienceLevel(key));
+    }
+
+    private int calculateExperienceLevel(final ExperienceLevelKey key) {
+        final PersonnelRole role = key.role();
+        final boolean excludeInjuryEffects = key.excludeInjuryEffects();
+        final boolean doAdminCountNegotiation = key.isAdminIncludeNegotiation();
+        final boolean isUseArtillery = key.isUseArtillery();
+        final boolean isAlternativeQualityAveraging = key.isAlternativeQualityAveraging();
+        final boolean isUseAgingEffects = key.isUseAgingEffects();
+        final boolean isClanCampaign = key.isClanCampaign();
+        final LocalDate today = key.today();
 
         final SkillModifierData skillModifierData = getSkillModifierData(isUseAgingEffects,
               isClanCampaign,
@@ -5477,14 +5510,17 @@ public class Person {
 
     public void addSkill(final String skillName, final Skill skill) {
         skills.addSkill(skillName, skill);
+        invalidateDerivedStats();
     }
 
     public void addSkill(final String skillName, final int level, final int bonus) {
         skills.addSkill(skillName, new Skill(skillName, level, bonus));
+        invalidateDerivedStats();
     }
 
     public void removeSkill(final String skillName) {
         skills.removeSkill(skillName);
+        invalidateDerivedStats();
     }
 
     /**
@@ -5524,6 +5560,7 @@ public class Person {
      */
     public void removeAllSkills() {
         skills.clear();
+        invalidateDerivedStats();
     }
 
     /**
@@ -5535,11 +5572,13 @@ public class Person {
                 skill.setLevel(maxLevel);
             }
         }
+        invalidateDerivedStats();
     }
 
     public void improveSkill(final String skillName) {
         if (hasSkill(skillName)) {
             getSkill(skillName).improve();
+            invalidateDerivedStats();
         } else {
             addSkill(skillName, 0, 0);
         }
@@ -5661,6 +5700,7 @@ public class Person {
 
     public void setOptions(final PersonnelOptions options) {
         this.options = options;
+        invalidateDerivedStats();
     }
 
     /**
@@ -6125,6 +6165,7 @@ public class Person {
 
     public void setUnit(final @Nullable Unit unit) {
         this.unit = unit;
+        refileInPersonnelIndex();
     }
 
     public void removeTechUnit(final Unit unit) {
@@ -6925,6 +6966,7 @@ public class Person {
 
     public void setReputation(final int reputation) {
         this.reputation = clamp(reputation, MINIMUM_REPUTATION, MAXIMUM_REPUTATION);
+        invalidateDerivedStats();
     }
 
     /**
@@ -6938,6 +6980,7 @@ public class Person {
     public void changeReputation(final int delta) {
         int newValue = reputation + delta;
         reputation = clamp(newValue, MINIMUM_REPUTATION, MAXIMUM_REPUTATION);
+        invalidateDerivedStats();
     }
 
     public int getUnlucky() {
@@ -7017,6 +7060,7 @@ public class Person {
         }
 
         atowAttributes.setAttributeScore(phenotype, options, attribute, newScore);
+        invalidateDerivedStats();
     }
 
     /**
@@ -7076,6 +7120,7 @@ public class Person {
      */
     public void setATOWAttributes(final Attributes atowAttributes) {
         this.atowAttributes = atowAttributes;
+        invalidateDerivedStats();
     }
 
     /**
@@ -7109,6 +7154,7 @@ public class Person {
 
     public void resetSkillTypes() {
         skills.getSkills().forEach(Skill::updateType);
+        invalidateDerivedStats();
     }
 
     public int getNTasks() {
@@ -7325,6 +7371,7 @@ public class Person {
 
     public void removeInjury(final Injury injury, final LocalDate today) {
         injuries.remove(injury);
+        invalidateDerivedStats();
 
         // We need to make sure we also remove any associated abilities and implants
         AdvancedMedicalAlternate.removeAssociatedInjuryOptions(injury, injuries, options);
@@ -7521,6 +7568,7 @@ public class Person {
 
     public void addInjury(final Injury injury) {
         injuries.add(Objects.requireNonNull(injury));
+        invalidateDerivedStats();
         if (getUnit() != null) {
             getUnit().resetPilotAndEntity();
         }
@@ -8817,6 +8865,7 @@ public class Person {
         int baseLevel = languages.getLevel();
         if (baseLevel >= ILLITERACY_LANGUAGES_THRESHOLD) {
             options.getOption(FLAW_ILLITERATE).setValue(false);
+            invalidateDerivedStats();
         }
     }
 
@@ -8858,6 +8907,13 @@ public class Person {
      * @since 0.50.10
      */
     public SkillModifierData getSkillModifierData(boolean excludeInjuryEffects) {
+        ModifierDataKey key = new ModifierDataKey(false, false, false, null, excludeInjuryEffects);
+        return derivedStatsCache.getSkillModifierData(key,
+              options.getModificationCount(),
+              () -> calculateSkillModifierData(excludeInjuryEffects));
+    }
+
+    private SkillModifierData calculateSkillModifierData(boolean excludeInjuryEffects) {
         boolean isAmbidextrous = options.booleanOption(PersonnelOptions.ATOW_AMBIDEXTROUS);
         List<InjuryEffect> injuryEffects = excludeInjuryEffects ? new ArrayList<>() :
                                                  getAllActiveInjuryEffects(isAmbidextrous,
@@ -8909,6 +8965,14 @@ public class Person {
      */
     public SkillModifierData getSkillModifierData(boolean isUseAgingEffects, boolean isClanCampaign, LocalDate today,
           boolean excludeInjuryEffects) {
+        ModifierDataKey key = new ModifierDataKey(true, isUseAgingEffects, isClanCampaign, today, excludeInjuryEffects);
+        return derivedStatsCache.getSkillModifierData(key,
+              options.getModificationCount(),
+              () -> calculateSkillModifierData(isUseAgingEffects, isClanCampaign, today, excludeInjuryEffects));
+    }
+
+    private SkillModifierData calculateSkillModifierData(boolean isUseAgingEffects, boolean isClanCampaign,
+          LocalDate today, boolean excludeInjuryEffects) {
         int adjustedReputation = getAdjustedReputation(isUseAgingEffects, isClanCampaign, today, rank);
 
         boolean isAmbidextrous = options.booleanOption(PersonnelOptions.ATOW_AMBIDEXTROUS);
@@ -8924,6 +8988,44 @@ public class Person {
               ageForAttributeModifiers);
     }
 
+    /**
+     * Marks the cached skill modifier data and experience levels of this person as stale, so they are recalculated on
+     * next use. The setters for skills, injuries, options, attributes, reputation and rank already call this, and
+     * abilities gained through {@link PersonnelOptions#acquireAbility(String, String, Object)} are picked up on their
+     * own. It only needs to be called after changing an option value or a {@link Skill} directly.
+     */
+    public void invalidateDerivedStats() {
+        derivedStatsCache.invalidate();
+    }
+
+    /**
+     * Sets the {@link PersonnelIndex} this person is filed in, so that changing their status, prisoner status, roles
+     * or unit refiles them straight away. Called by the index itself.
+     *
+     * @param personnelIndex the index this person is filed in, or {@code null} if they are not filed in one
+     */
+    void setPersonnelIndex(final @Nullable PersonnelIndex personnelIndex) {
+        this.personnelIndex = personnelIndex;
+    }
+
+    @Nullable PersonnelIndex getPersonnelIndex() {
+        return personnelIndex;
+    }
+
+    private void refileInPersonnelIndex() {
+        if (personnelIndex != null) {
+            personnelIndex.update(this);
+        }
+    }
+
+    /**
+     * Marks the cached skill modifier data and experience levels of every person as stale. Call this after changing
+     * the shared {@link SkillType} definitions.
+     */
+    public static void invalidateAllDerivedStats() {
+        PersonDerivedStatsCache.invalidateAll();
+    }
+
     /**
      * Calculates the individual AsTech contribution for a person based on their {@link SkillType#S_ASTECH} skill.
      *
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.skills.SkillModifierData;
+
+/**
+ * Memoizes the values a {@link Person} derives from their skills, injuries, options, attributes and rank, such as
+ * their {@link SkillModifierData} and experience levels.
+ * <p>
+ * Every cached value is tagged with a modification counter. {@link Person} bumps its counter through
+ * {@link #invalidate()} whenever one of those inputs changes, and the whole cache is dropped the next time it is read.
+ * Abilities acquired through {@link PersonnelOptions} are tracked by the options' own counter, and a global counter
+ * covers the static skill and ability definitions shared by every person, see {@link #invalidateAll()}. Campaign
+ * options and the current date are part of each lookup key instead, so they never need an explicit invalidation.
+ */
+final class PersonDerivedStatsCache {
+    /** Lookup keys hold the date, so a long-running campaign would otherwise collect a stale entry per day */
+    private static final int MAX_ENTRIES = 16;
+
+    private static volatile int globalVersion = 0;
+
+    /**
+     * The inputs to {@link Person#getSkillModifierData(boolean, boolean, LocalDate, boolean)} that are not part of the
+     * person. {@code includeReputation} is {@code false} for the reputation-free variant, which ignores the others.
+     */
+    record ModifierDataKey(boolean includeReputation, boolean isUseAgingEffects, boolean isClanCampaign,
+          @Nullable LocalDate today, boolean excludeInjuryEffects) {
+    }
+
+    /**
+     * The inputs to {@link Person#getExperienceLevel} that are not part of the person.
+     */
+    record ExperienceLevelKey(PersonnelRole role, boolean excludeInjuryEffects, boolean isAdminIncludeNegotiation,
+          boolean isUseArtillery, boolean isAlternativeQualityAveraging, boolean isUseAgingEffects,
+          boolean isClanCampaign, LocalDate today) {
+    }
+
+    private int version = 0;
+    private int cachedVersion = -1;
+    private int cachedGlobalVersion = -1;
+    private int cachedOptionsVersion = -1;
+
+    private final Map<ModifierDataKey, SkillModifierData> skillModifierData = new HashMap<>();
+    private final Map<ExperienceLevelKey, Integer> experienceLevels = new HashMap<>();
+
+    /**
+     * Marks every value cached for this person as stale.
+     */
+    synchronized void invalidate() {
+        version++;
+    }
+
+    /**
+     * Marks every value cached for every person as stale. Used when the shared skill or special ability definitions
+     * change.
+     */
+    static void invalidateAll() {
+        globalVersion++;
+    }
+
+    /**
+     * @param optionsVersion the {@link PersonnelOptions#getModificationCount()} of the person's options
+     */
+    synchronized SkillModifierData getSkillModifierData(final ModifierDataKey key, final int optionsVersion,
+          final Supplier<SkillModifierData> calculator) {
+        checkVersion(optionsVersion);
+        SkillModifierData data = skillModifierData.get(key);
+        if (data == null) {
+            data = calculator.get();
+            if (skillModifierData.size() >= MAX_ENTRIES) {
+                skillModifierData.clear();
+            }
+            skillModifierData.put(key, data);
+        }
+        return data;
+    }
+
+    /**
+     * @param optionsVersion the {@link PersonnelOptions#getModificationCount()} of the person's options
+     */
+    synchronized int getExperienceLevel(final ExperienceLevelKey key, final int optionsVersion,
+          final IntSupplier calculator) {
+        checkVersion(optionsVersion);
+        Integer level = experienceLevels.get(key);
+        if (level == null) {
+            level = calculator.getAsInt();
+            if (experienceLevels.size() >= MAX_ENTRIES) {
+                experienceLevels.clear();
+            }
+            experienceLevels.put(key, level);
+        }
+        return level;
+    }
+
+    private void checkVersion(final int optionsVersion) {
+        final int currentGlobalVersion = globalVersion;
+        if ((cachedVersion != version) ||
+                  (cachedGlobalVersion != currentGlobalVersion) ||
+                  (cachedOptionsVersion != optionsVersion)) {
+            skillModifierData.clear();
+            experienceLevels.clear();
+            cachedVersion = version;
+            cachedGlobalVersion = currentGlobalVersion;
+            cachedOptionsVersion = optionsVersion;
+        }
+    }
+}
@@ -194,6 +194,7 @@ public class PersonUtility {
             int adjustedLevel = skill.getLevel() + (roll == 6 ? 1 : roll == 1 ? -1 : 0);
             skill.setLevel(clamp(adjustedLevel, 0, 10));
         }
+        person.invalidateDerivedStats();
     }
 
     /**
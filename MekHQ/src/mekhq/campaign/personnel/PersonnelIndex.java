@@ -0,0 +1,333 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.enums.PersonnelStatus;
+import mekhq.campaign.randomEvents.prisoners.enums.PrisonerStatus;
+import mekhq.campaign.unit.Unit;
+
+/**
+ * Maintains live lookups of a campaign's personnel by status, prisoner status, primary role, secondary role and
+ * assigned unit, so that filtered personnel queries don't need to walk the whole roster.
+ *
+ * <p>The index is kept up to date one person at a time: {@link #add(Person)} and {@link #remove(Person)} are called
+ * as people join and leave the roster, and each filed person calls {@link #update(Person)} from the setters for their
+ * status, prisoner status, roles and unit. {@link #invalidate()} drops the whole index, which is then rebuilt from the
+ * roster on the next query; this is used after loading and whenever a change can't be attributed to a single
+ * person.</p>
+ *
+ * <p>All lookups return unmodifiable live views, in roster order. Callers that need to modify the result, or that
+ * change the personnel they iterate over, must take a copy first.</p>
+ *
+ * <p>Like the rest of the campaign's state, the index is not thread-safe. It must only be queried or changed from the
+ * event dispatch thread, or from the thread loading the campaign before it is shown, and never from parallel
+ * tasks.</p>
+ */
+public class PersonnelIndex {
+    /**
+     * The values a person is currently filed under, used to remove them from their old buckets when they change.
+     */
+    private record IndexKey(PersonnelStatus status, PrisonerStatus prisonerStatus, PersonnelRole primaryRole,
+          PersonnelRole secondaryRole, @Nullable UUID unitId) {
+        static IndexKey of(Person person) {
+            Unit unit = person.getUnit();
+            return new IndexKey(person.getStatus(),
+                  person.getPrisonerStatus(),
+                  person.getPrimaryRole(),
+                  person.getSecondaryRole(),
+                  unit == null ? null : unit.getId());
+        }
+    }
+
+    private static final Collection<Person> EMPTY = Collections.emptyList();
+
+    private final Supplier<Collection<Person>> roster;
+
+    // Each bucket maps a person's position in the roster to the person, so that views keep roster order
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private final Map<UUID, IndexKey> keys = new HashMap<>();
+    private final Map<PersonnelStatus, TreeMap<Integer, Person>> byStatus = new EnumMap<>(PersonnelStatus.class);
+    private final Map<PrisonerStatus, TreeMap<Integer, Person>> byPrisonerStatus = new EnumMap<>(PrisonerStatus.class);
+    private final Map<PersonnelRole, TreeMap<Integer, Person>> byPrimaryRole = new EnumMap<>(PersonnelRole.class);
+    private final Map<PersonnelRole, TreeMap<Integer, Person>> bySecondaryRole = new EnumMap<>(PersonnelRole.class);
+    private final Map<UUID, TreeMap<Integer, Person>> byUnit = new HashMap<>();
+    private final TreeMap<Integer, Person> activeFlexible = new TreeMap<>();
+    private final TreeMap<Integer, Person> notDeparted = new TreeMap<>();
+    private final TreeMap<Integer, Person> notDepartedOrAbsent = new TreeMap<>();
+
+    private int nextPosition = 0;
+    private boolean isBuilt = false;
+
+    /**
+     * @param roster supplies every person in the campaign, in roster order, when the index needs rebuilding
+     */
+    public PersonnelIndex(Supplier<Collection<Person>> roster) {
+        this.roster = Objects.requireNonNull(roster);
+    }
+
+    /**
+     * Files a person who has just joined the roster.
+     *
+     * @param person the new person
+     */
+    public void add(Person person) {
+        if (!isBuilt || keys.containsKey(person.getId())) {
+            return;
+        }
+
+        int position = nextPosition++;
+        positions.put(person.getId(), position);
+        file(person, position, IndexKey.of(person));
+        person.setPersonnelIndex(this);
+    }
+
+    /**
+     * Removes a person who has left the roster.
+     *
+     * @param person the removed person
+     */
+    public void remove(Person person) {
+        if (!isBuilt) {
+            return;
+        }
+
+        Integer position = positions.remove(person.getId());
+        IndexKey key = keys.remove(person.getId());
+        if ((position != null) && (key != null)) {
+            unfile(position, key);
+        }
+
+        if (person.getPersonnelIndex() == this) {
+            person.setPersonnelIndex(null);
+        }
+    }
+
+    /**
+     * Refiles a person after their status, prisoner status, roles or unit assignment may have changed. People who
+     * aren't on the roster are ignored.
+     *
+     * @param person the changed person
+     */
+    public void update(Person person) {
+        if (!isBuilt) {
+            return;
+        }
+
+        Integer position = positions.get(person.getId());
+        IndexKey oldKey = keys.get(person.getId());
+        if ((position == null) || (oldKey == null)) {
+            return;
+        }
+
+        IndexKey newKey = IndexKey.of(person);
+        if (!newKey.equals(oldKey)) {
+            unfile(position, oldKey);
+            file(person, position, newKey);
+        }
+    }
+
+    /**
+     * Drops the index so that it is rebuilt from the roster the next time it is queried.
+     */
+    public void invalidate() {
+        isBuilt = false;
+        positions.clear();
+        keys.clear();
+        byStatus.clear();
+        byPrisonerStatus.clear();
+        byPrimaryRole.clear();
+        bySecondaryRole.clear();
+        byUnit.clear();
+        activeFlexible.clear();
+        notDeparted.clear();
+        notDepartedOrAbsent.clear();
+        nextPosition = 0;
+    }
+
+    private void ensureBuilt() {
+        if (isBuilt) {
+            return;
+        }
+
+        invalidate();
+        for (Person person : roster.get()) {
+            int position = nextPosition++;
+            positions.put(person.getId(), position);
+            file(person, position, IndexKey.of(person));
+            person.setPersonnelIndex(this);
+        }
+        isBuilt = true;
+    }
+
+    private void file(Person person, int position, IndexKey key) {
+        keys.put(person.getId(), key);
+        file(byStatus, key.status(), position, person);
+        file(byPrisonerStatus, key.prisonerStatus(), position, person);
+        file(byPrimaryRole, key.primaryRole(), position, person);
+        file(bySecondaryRole, key.secondaryRole(), position, person);
+        file(byUnit, key.unitId(), position, person);
+
+        PersonnelStatus status = key.status();
+        if (status == null) {
+            return;
+        }
+
+        if (status.isActiveFlexible()) {
+            activeFlexible.put(position, person);
+        }
+
+        if (!status.isDepartedUnit()) {
+            notDeparted.put(position, person);
+
+            if (!status.isAbsent()) {
+                notDepartedOrAbsent.put(position, person);
+            }
+        }
+    }
+
+    private static <K> void file(Map<K, TreeMap<Integer, Person>> buckets, @Nullable K bucketKey, int position,
+          Person person) {
+        if (bucketKey != null) {
+            buckets.computeIfAbsent(bucketKey, ignored -> new TreeMap<>()).put(position, person);
+        }
+    }
+
+    private void unfile(int position, IndexKey key) {
+        unfile(byStatus, key.status(), position);
+        unfile(byPrisonerStatus, key.prisonerStatus(), position);
+        unfile(byPrimaryRole, key.primaryRole(), position);
+        unfile(bySecondaryRole, key.secondaryRole(), position);
+        unfile(byUnit, key.unitId(), position);
+        activeFlexible.remove(position);
+        notDeparted.remove(position);
+        notDepartedOrAbsent.remove(position);
+    }
+
+    private static <K> void unfile(Map<K, TreeMap<Integer, Person>> buckets, @Nullable K bucketKey, int position) {
+        TreeMap<Integer, Person> bucket = (bucketKey == null) ? null : buckets.get(bucketKey);
+        if (bucket != null) {
+            bucket.remove(position);
+        }
+    }
+
+    private static Collection<Person> view(@Nullable TreeMap<Integer, Person> bucket) {
+        return (bucket == null) ? EMPTY : Collections.unmodifiableCollection(bucket.values());
+    }
+
+    /**
+     * @param status the status to look up
+     *
+     * @return everyone with the given {@link PersonnelStatus}
+     */
+    public Collection<Person> getPersonnelWithStatus(PersonnelStatus status) {
+        ensureBuilt();
+        return view(byStatus.get(status));
+    }
+
+    /**
+     * @param prisonerStatus the prisoner status to look up
+     *
+     * @return everyone with the given {@link PrisonerStatus}
+     */
+    public Collection<Person> getPersonnelWithPrisonerStatus(PrisonerStatus prisonerStatus) {
+        ensureBuilt();
+        return view(byPrisonerStatus.get(prisonerStatus));
+    }
+
+    /**
+     * @param role the role to look up
+     *
+     * @return everyone whose primary role is {@code role}
+     */
+    public Collection<Person> getPersonnelWithPrimaryRole(PersonnelRole role) {
+        ensureBuilt();
+        return view(byPrimaryRole.get(role));
+    }
+
+    /**
+     * @param role the role to look up
+     *
+     * @return everyone whose secondary role is {@code role}
+     */
+    public Collection<Person> getPersonnelWithSecondaryRole(PersonnelRole role) {
+        ensureBuilt();
+        return view(bySecondaryRole.get(role));
+    }
+
+    /**
+     * @param unitId the id of the unit to look up
+     *
+     * @return everyone assigned to the unit
+     */
+    public Collection<Person> getPersonnelAssignedTo(UUID unitId) {
+        ensureBuilt();
+        return view(byUnit.get(unitId));
+    }
+
+    /**
+     * @return everyone whose status is {@link PersonnelStatus#isActiveFlexible() active}, including prisoners and
+     *       camp followers
+     */
+    public Collection<Person> getActiveFlexiblePersonnel() {
+        ensureBuilt();
+        return view(activeFlexible);
+    }
+
+    /**
+     * @return everyone who hasn't {@link PersonnelStatus#isDepartedUnit() departed} the unit
+     */
+    public Collection<Person> getPersonnelNotDeparted() {
+        ensureBuilt();
+        return view(notDeparted);
+    }
+
+    /**
+     * @return everyone who hasn't departed the unit and isn't {@link PersonnelStatus#isAbsent() absent}
+     */
+    public Collection<Person> getPersonnelNotDepartedOrAbsent() {
+        ensureBuilt();
+        return view(notDepartedOrAbsent);
+    }
+}
@@ -197,6 +197,8 @@ public class PersonnelOptions extends PilotOptions {
 
     public static final int ILLITERACY_LANGUAGES_THRESHOLD = 4; // ATOW pg 120
 
+    private transient int modificationCount = 0;
+
     @Override
     public void initialize() {
         super.initialize();
@@ -400,10 +402,20 @@ public class PersonnelOptions extends PilotOptions {
         return new Vector<IOption>().elements();
     }
 
+    /**
+     * @return a counter that increases every time an ability is acquired through
+     *       {@link #acquireAbility(String, String, Object)}, so values derived from these options can tell when they are
+     *       stale
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     public void acquireAbility(final String type, final String name, final @Nullable Object value) {
         if (value == null) {
             return;
         }
+        modificationCount++;
         // we might also need to remove some prior abilities
         SpecialAbility spa = SpecialAbility.getAbility(name);
         Vector<String> toRemove = new Vector<>();
@@ -574,8 +574,23 @@ public class EducationController {
      * @return true if the new day was successfully processed, false otherwise
      */
     public static boolean processNewDay(Campaign campaign, Person person, boolean ageBypass) {
+        return processNewDay(campaign, person, getAcademy(person.getEduAcademySet(), person.getEduAcademyNameInSet()),
+              ageBypass);
+    }
+
+    /**
+     * Processes a new day for a person in a campaign, using an academy that has already been looked up.
+     *
+     * @param campaign  the campaign in which the person is participating
+     * @param person    the person for whom the new day is being processed
+     * @param academy   the academy the person is attending, or {@code null} if it could not be found
+     * @param ageBypass a flag indicating whether graduation age restrictions should be bypassed
+     *
+     * @return true if the new day was successfully processed, false otherwise
+     */
+    public static boolean processNewDay(Campaign campaign, Person person, @Nullable Academy academy,
+          boolean ageBypass) {
         ResourceBundle resources = ResourceBundle.getBundle(BUNDLE_NAME, MekHQ.getMHQOptions().getLocale());
-        Academy academy = getAcademy(person.getEduAcademySet(), person.getEduAcademyNameInSet());
 
         if (academy == null) {
             LOGGER.debug("Found null academy for {} skipping", person.getFullTitle());
@@ -379,6 +379,7 @@ public class AdvancedMedicalAlternateImplants {
         int requiredLimbCount = 4;
         options.getOption(MD_DERMAL_ARMOR).setValue(dermalArmorCount >= requiredLimbCount);
         options.getOption(MD_DERMAL_CAMO_ARMOR).setValue(dermalCamoCount >= requiredLimbCount);
+        person.invalidateDerivedStats();
     }
 
     /**
@@ -130,7 +130,7 @@ public class Inoculations {
         String planetName = currentPlanet.getName(today);
 
         // Determine who, if anyone, needs inoculations
-        Collection<Person> allPersonnel = campaign.getPersonnelFilteringOutDepartedAndAbsent();
+        Collection<Person> allPersonnel = campaign.getPersonnelIndex().getPersonnelNotDepartedOrAbsent();
 
         // Generic inoculations
         Set<Person> militaryPersonnelInNeedOfGenericInoculation = new HashSet<>();
@@ -154,6 +154,7 @@ public class Aging {
 
                     if (hasToughness) {
                         person.getOptions().getOption(ATOW_TOUGHNESS).setValue(false);
+                        person.invalidateDerivedStats();
                     } else if (!hasGlassJaw) {
                         options.acquireAbility(LVL3_ADVANTAGES, FLAW_GLASS_JAW, true);
                     }
@@ -166,6 +167,7 @@ public class Aging {
 
                     if (hasFastLearner) {
                         person.getOptions().getOption(ATOW_FAST_LEARNER).setValue(false);
+                        person.invalidateDerivedStats();
                     } else if (!hasSlowLearner) {
                         options.acquireAbility(LVL3_ADVANTAGES, FLAW_SLOW_LEARNER, true);
                     }
@@ -69,6 +69,7 @@ import megamek.common.units.SmallCraft;
 import megamek.common.units.Tank;
 import megamek.logging.MMLogger;
 import mekhq.MekHQ;
+import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.enums.SkillAttribute;
 import mekhq.campaign.personnel.skills.enums.SkillSubType;
 import mekhq.utilities.MHQXMLUtility;
@@ -356,6 +357,7 @@ public class SkillType {
                 lookupHash.put(name, skills.get(name));
             }
         }
+        Person.invalidateAllDerivedStats();
     }
 
     public static Map<String, SkillType> getSkillHash() {
@@ -364,6 +366,7 @@ public class SkillType {
 
     public static void setSkillHash(final Map<String, SkillType> hash) {
         lookupHash = hash;
+        Person.invalidateAllDerivedStats();
     }
 
     public static String[] getSkillList() {
@@ -963,6 +966,7 @@ public class SkillType {
     }
 
     public static void initializeTypes() {
+        Person.invalidateAllDerivedStats();
         lookupHash = new Hashtable<>();
         lookupHash.put(S_PILOT_MEK, createPilotingMek());
         lookupHash.put(S_GUN_MEK, createGunneryMek());
@@ -1338,6 +1342,7 @@ public class SkillType {
             }
 
             lookupHash.put(skillType.name, skillType);
+            Person.invalidateAllDerivedStats();
         } catch (Exception ex) {
             LOGGER.error("", ex);
         }
@@ -348,17 +348,45 @@ public class Fatigue {
      */
     public static void processFatigueRecovery(Campaign campaign, Person person,
           boolean fieldKitchensAreWithinCapacity) {
-        if (person.getFatigueDirect() > 0) {
-            int fatigueAdjustment = FATIGUE_RECOVERY_RATE;
+        int fatigueAdjustment = getFatigueRecovery(person, !campaign.getActiveContracts().isEmpty(),
+              fieldKitchensAreWithinCapacity);
+        processFatigueRecovery(campaign, person, fatigueAdjustment);
+    }
 
-            if (person.getStatus().isOnLeave() || campaign.getActiveContracts().isEmpty()) {
-                fatigueAdjustment++;
-            }
+    /**
+     * Calculates how much fatigue a person recovers this week, without changing anything.
+     *
+     * @param person                         the person whose fatigue recovery is being calculated.
+     * @param hasActiveContracts             flag indicating if the campaign has any active contracts.
+     * @param fieldKitchensAreWithinCapacity flag indicating if field kitchens are within capacity.
+     *
+     * @return the amount of fatigue the person recovers.
+     */
+    public static int getFatigueRecovery(Person person, boolean hasActiveContracts,
+          boolean fieldKitchensAreWithinCapacity) {
+        int fatigueAdjustment = FATIGUE_RECOVERY_RATE;
 
-            if (fieldKitchensAreWithinCapacity) {
-                fatigueAdjustment++;
-            }
+        if (person.getStatus().isOnLeave() || !hasActiveContracts) {
+            fatigueAdjustment++;
+        }
+
+        if (fieldKitchensAreWithinCapacity) {
+            fatigueAdjustment++;
+        }
+
+        return fatigueAdjustment;
+    }
 
+    /**
+     * Handles daily fatigue recovery for a specific person, using a recovery amount calculated by
+     * {@link #getFatigueRecovery(Person, boolean, boolean)}.
+     *
+     * @param campaign          the campaign context in which the fatigue recovery occurs.
+     * @param person            the person whose fatigue recovery is being handled.
+     * @param fatigueAdjustment the amount of fatigue the person recovers.
+     */
+    public static void processFatigueRecovery(Campaign campaign, Person person, int fatigueAdjustment) {
+        if (person.getFatigueDirect() > 0) {
             person.changeFatigue(-fatigueAdjustment);
 
             if (person.getFatigueDirect() < 0) {
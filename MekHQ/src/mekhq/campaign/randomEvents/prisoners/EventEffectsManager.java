@@ -564,6 +564,7 @@ public class EventEffectsManager {
 
             if (magnitude < currentLevel) {
                 skill.setLevel(magnitude);
+                target.invalidateDerivedStats();
                 madeChange = true;
             }
         } else {
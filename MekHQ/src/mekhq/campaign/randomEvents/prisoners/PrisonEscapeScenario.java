@@ -52,7 +52,6 @@ import java.util.Set;
 
 import megamek.codeUtilities.ObjectUtility;
 import megamek.common.annotations.Nullable;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Crew;
@@ -68,6 +67,7 @@ import mekhq.campaign.stratCon.StratConCampaignState;
 import mekhq.campaign.stratCon.StratConCoords;
 import mekhq.campaign.stratCon.StratConScenario;
 import mekhq.campaign.stratCon.StratConTrackState;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogSimple;
 
@@ -211,16 +211,12 @@ public class PrisonEscapeScenario {
             return null;
         }
 
-        MekFileParser mekFileParser;
-
         try {
-            mekFileParser = new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName());
+            return EntityTemplateCache.getInstance().getEntity(mekSummary);
         } catch (Exception ex) {
             logger.error("Unable to load unit: {}", mekSummary.getEntryName(), ex);
             return null;
         }
-
-        return mekFileParser.getEntity();
     }
 
     /**
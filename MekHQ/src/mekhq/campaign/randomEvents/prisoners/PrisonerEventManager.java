@@ -224,7 +224,7 @@ public class PrisonerEventManager {
         if (campaign.hasActiveContract()) {
             int roll = d6(2);
             if (roll >= RANSOM_EVENT_CHANCE) {
-                if (!campaign.getFriendlyPrisoners().isEmpty()) {
+                if (campaign.hasFriendlyPrisoners()) {
                     // We use randomInt here as it allows us better control over the return values
                     // when testing.
                     isFriendlyPOWs = randomInt(6) == 1;
@@ -36,7 +36,6 @@ import java.io.PrintWriter;
 import java.text.ParseException;
 
 import megamek.Version;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
@@ -44,6 +43,7 @@ import megamek.logging.MMLogger;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.parts.enums.PartQuality;
 import mekhq.campaign.storyArc.StoryTrigger;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.utilities.MHQXMLUtility;
 import org.w3c.dom.Node;
@@ -65,16 +65,14 @@ public class AddUnitStoryTrigger extends StoryTrigger {
             return;
         }
 
-        MekFileParser mekFileParser;
+        Entity en;
         try {
-            mekFileParser = new MekFileParser(ms.getSourceFile(), ms.getEntryName());
+            en = EntityTemplateCache.getInstance().getEntity(ms);
         } catch (Exception ex) {
             LOGGER.error("Unable to load unit: {}", ms.getEntryName(), ex);
             return;
         }
 
-        Entity en = mekFileParser.getEntity();
-
         PartQuality quality = PartQuality.QUALITY_D;
 
         if (getCampaign().getCampaignOptions().isUseRandomUnitQualities()) {
@@ -457,7 +457,7 @@ public class StratConContractInitializer {
                 sso.setObjectiveCoords(coords);
 
                 if (sf.getOwner() == ForceAlignment.Allied) {
-                    trackState.getRevealedCoords().add(coords);
+                    trackState.revealCoords(coords);
                     sf.setVisible(true);
                     sso.setObjectiveType(StrategicObjectiveType.AlliedFacilityControl);
                 } else {
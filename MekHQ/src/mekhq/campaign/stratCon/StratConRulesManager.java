@@ -1494,7 +1494,7 @@ public class StratConRulesManager {
             hasFatigueIncreased = true;
         }
 
-        track.getRevealedCoords().add(coords);
+        track.revealCoords(coords);
 
         StratConFacility targetFacility = track.getFacility(coords);
         if (targetFacility != null) {
@@ -1647,7 +1647,7 @@ public class StratConRulesManager {
                         }
                     }
 
-                    track.getRevealedCoords().add(checkCoords);
+                    track.revealCoords(checkCoords);
                 }
             }
         }
@@ -168,7 +168,7 @@ public class StratConScenario implements IStratConDisplayable {
             unit.setScenarioId(getBackingScenarioID());
 
             if (useLeadership) {
-                int baseBattleValue = unit.getEntity().calculateBattleValue(true, true);
+                int baseBattleValue = unit.getBattleValue(true, true);
                 leadershipPointsUsed += baseBattleValue;
             }
 
@@ -83,6 +83,8 @@ public class StratConTrackState {
     // don't serialize this
     private transient Map<Integer, StratConScenario> backingScenarioMap;
     private transient Map<StratConCoords, StratConStrategicObjective> specificStrategicObjectives;
+    // coordinates whose terrain or reveal state changed since a view of the track last asked; null means all of them
+    private transient Set<StratConCoords> changedCoords;
 
     private int scenarioOdds;
     private int deploymentTime;
@@ -370,12 +372,47 @@ public class StratConTrackState {
         return revealedCoords.contains(new StratConCoords(x, y));
     }
 
+    /**
+     * Reveals the given coordinates on this track.
+     *
+     * @param coords the coordinates to reveal
+     */
+    public void revealCoords(StratConCoords coords) {
+        if (revealedCoords.add(coords)) {
+            markCoordsChanged(coords);
+        }
+    }
+
     public Set<StratConCoords> getRevealedCoords() {
         return revealedCoords;
     }
 
     public void setRevealedCoords(Set<StratConCoords> revealedCoords) {
         this.revealedCoords = revealedCoords;
+        markAllCoordsChanged();
+    }
+
+    /**
+     * Gets the coordinates whose terrain or reveal state has changed since the last call, so that a view of this track
+     * only needs to redraw those hexes. Changes made directly to the collections returned by
+     * {@link #getRevealedCoords()} or {@link #getTerrainTypes()} are not tracked.
+     *
+     * @return the changed coordinates, or {@code null} if every hex should be treated as changed
+     */
+    public @Nullable Set<StratConCoords> pollChangedCoords() {
+        Set<StratConCoords> changed = changedCoords;
+        changedCoords = new HashSet<>();
+        return changed;
+    }
+
+    private void markCoordsChanged(StratConCoords coords) {
+        if (changedCoords != null) {
+            changedCoords.add(coords);
+        }
+    }
+
+    private void markAllCoordsChanged() {
+        changedCoords = null;
     }
 
     public void addFacility(StratConCoords coords, StratConFacility facility) {
@@ -560,6 +597,7 @@ public class StratConTrackState {
 
     public void setTerrainTile(StratConCoords coords, String terrainTypeName) {
         terrainTypes.put(coords, terrainTypeName);
+        markCoordsChanged(coords);
     }
     /**
      * Check to see if specified coordinates would be placed off the StratCon board
@@ -585,5 +623,6 @@ public class StratConTrackState {
 
     public void setStrategicObjectives(Map<StratConCoords, String> terrainTypes) {
         this.terrainTypes = terrainTypes;
+        markAllCoordsChanged();
     }
 }
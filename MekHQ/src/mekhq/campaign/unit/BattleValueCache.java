@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+import megamek.common.units.Crew;
+import megamek.common.units.Entity;
+
+/**
+ * Holds the battle values last calculated for a {@link Unit}, as working out BV walks every piece of equipment on the
+ * entity and is one of the most expensive things that can be asked of it.
+ *
+ * <p>Values are keyed on the entity and its crew's gunnery and piloting, so a refit that swaps the entity or a skill
+ * change on the crew is picked up even without a notification. Anything else that changes BV, such as damage, repairs,
+ * ammo or a change of crew, must call {@link #clear()}; the {@link mekhq.campaign.CampaignEventProcessor} does this
+ * for the unit, crew, part and network events.</p>
+ */
+final class BattleValueCache {
+    private static final int UNSET = Integer.MIN_VALUE;
+
+    private static final int DEFAULT = 0;
+    private static final int GENERIC = 1;
+    /** The four combinations of ignoring C3 and ignoring skill follow from here. */
+    private static final int FLAGGED = 2;
+
+    private final int[] values = new int[FLAGGED + 4];
+    private Entity entity;
+    private Crew crew;
+    private int gunnery;
+    private int piloting;
+
+    BattleValueCache() {
+        clear();
+    }
+
+    /**
+     * @return {@link Entity#calculateBattleValue()} for the entity
+     */
+    int getBattleValue(Entity entity) {
+        return get(entity, DEFAULT, entity::calculateBattleValue);
+    }
+
+    /**
+     * @return {@link Entity#calculateBattleValue(boolean, boolean)} for the entity
+     */
+    int getBattleValue(Entity entity, boolean ignoreC3, boolean ignoreSkill) {
+        int slot = FLAGGED + (ignoreC3 ? 2 : 0) + (ignoreSkill ? 1 : 0);
+        return get(entity, slot, () -> entity.calculateBattleValue(ignoreC3, ignoreSkill));
+    }
+
+    /**
+     * @return {@link Entity#getGenericBattleValue()} for the entity
+     */
+    int getGenericBattleValue(Entity entity) {
+        return get(entity, GENERIC, entity::getGenericBattleValue);
+    }
+
+    void clear() {
+        Arrays.fill(values, UNSET);
+        entity = null;
+        crew = null;
+    }
+
+    private int get(Entity entity, int slot, IntSupplier calculator) {
+        Crew currentCrew = entity.getCrew();
+        int currentGunnery = (currentCrew == null) ? -1 : currentCrew.getGunnery();
+        int currentPiloting = (currentCrew == null) ? -1 : currentCrew.getPiloting();
+
+        if ((entity != this.entity) ||
+                  (currentCrew != crew) ||
+                  (currentGunnery != gunnery) ||
+                  (currentPiloting != piloting)) {
+            clear();
+            this.entity = entity;
+            crew = currentCrew;
+            gunnery = currentGunnery;
+            piloting = currentPiloting;
+        }
+
+        if (values[slot] == UNSET) {
+            values[slot] = calculator.getAsInt();
+        }
+
+        return values[slot];
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.loaders.EntityLoadingException;
+import megamek.common.loaders.MekFileParser;
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.Entity;
+import megamek.logging.MMLogger;
+
+/**
+ * Caches parsed unit files so that repeatedly loading the same unit does not re-read and re-parse it from disk.
+ *
+ * <p>Each unit is parsed once with {@link MekFileParser} and kept as a serialized template. Every request is handed
+ * a fresh deep copy read back from the template and {@link Entity#restore() restored}, so callers may change the
+ * entity they receive freely. Templates are evicted least recently used first once their total size passes
+ * {@link #MAX_CACHED_BYTES}, and are discarded if the unit file has been modified since it was parsed.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+public class EntityTemplateCache {
+    private static final MMLogger LOGGER = MMLogger.create(EntityTemplateCache.class);
+
+    /** The total size of the serialized templates which may be kept before the oldest are evicted. */
+    static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+    private static final EntityTemplateCache instance = new EntityTemplateCache(MAX_CACHED_BYTES);
+
+    private record TemplateKey(@Nullable File sourceFile, @Nullable String entryName) {
+    }
+
+    private record Template(byte[] data, long lastModified) {
+    }
+
+    private final long maxCachedBytes;
+    private final Map<TemplateKey, Template> templates = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    EntityTemplateCache(long maxCachedBytes) {
+        this.maxCachedBytes = maxCachedBytes;
+    }
+
+    public static EntityTemplateCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Gets a new copy of the entity described by a {@link MekSummary}.
+     *
+     * @param mekSummary the summary of the unit to load
+     *
+     * @return a new entity which the caller is free to modify, or {@code null} if the unit file held no entity
+     *
+     * @throws EntityLoadingException if the unit file could not be parsed
+     */
+    public @Nullable Entity getEntity(MekSummary mekSummary) throws EntityLoadingException {
+        return getEntity(mekSummary.getSourceFile(), mekSummary.getEntryName());
+    }
+
+    /**
+     * Gets a new copy of the entity stored in a unit file.
+     *
+     * @param sourceFile the unit file, or the archive holding the unit file
+     * @param entryName  the name of the unit file within the archive, or {@code null} if {@code sourceFile} is the unit
+     *                   file itself
+     *
+     * @return a new entity which the caller is free to modify, or {@code null} if the unit file held no entity
+     *
+     * @throws EntityLoadingException if the unit file could not be parsed
+     */
+    public @Nullable Entity getEntity(File sourceFile, @Nullable String entryName) throws EntityLoadingException {
+        final TemplateKey key = new TemplateKey(sourceFile, entryName);
+        final long lastModified = lastModified(sourceFile);
+
+        final Template template = getTemplate(key, lastModified);
+        if (template != null) {
+            final Entity copy = copyOf(template);
+            if (copy != null) {
+                hits.incrementAndGet();
+                return copy;
+            }
+            remove(key);
+        }
+
+        misses.incrementAndGet();
+        final Entity entity = new MekFileParser(sourceFile, entryName).getEntity();
+        if (entity != null) {
+            final byte[] data = serialize(entity);
+            if (data != null) {
+                put(key, new Template(data, lastModified));
+            }
+        }
+
+        // Nobody else has seen the entity we just parsed, so it can be handed out without copying
+        return entity;
+    }
+
+    private synchronized @Nullable Template getTemplate(TemplateKey key, long lastModified) {
+        final Template template = templates.get(key);
+        if ((template != null) && (template.lastModified() != lastModified)) {
+            // The unit file has changed since we parsed it
+            remove(key);
+            return null;
+        }
+        return template;
+    }
+
+    private synchronized void put(TemplateKey key, Template template) {
+        remove(key);
+        if (template.data().length > maxCachedBytes) {
+            return;
+        }
+
+        templates.put(key, template);
+        cachedBytes += template.data().length;
+
+        final Iterator<Template> iterator = templates.values().iterator();
+        while ((cachedBytes > maxCachedBytes) && iterator.hasNext()) {
+            cachedBytes -= iterator.next().data().length;
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private synchronized void remove(TemplateKey key) {
+        final Template template = templates.remove(key);
+        if (template != null) {
+            cachedBytes -= template.data().length;
+        }
+    }
+
+    /**
+     * Discards every cached template. The hit, miss and eviction counts are kept.
+     */
+    public synchronized void clear() {
+        templates.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * @return the number of templates currently cached
+     */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * @return the total size, in bytes, of the templates currently cached
+     */
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * @return the number of requests answered by copying a cached template
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of requests which had to parse the unit file
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of templates discarded to keep the cache within its size limit
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    private static long lastModified(@Nullable File sourceFile) {
+        return (sourceFile == null) ? 0L : sourceFile.lastModified();
+    }
+
+    private static @Nullable byte[] serialize(Entity entity) {
+        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+              ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(entity);
+            objectOutputStream.flush();
+            return byteArrayOutputStream.toByteArray();
+        } catch (IOException ex) {
+            LOGGER.warn(ex, "Unable to cache entity {}", entity.getShortName());
+            return null;
+        }
+    }
+
+    private static @Nullable Entity copyOf(Template template) {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(template.data()))) {
+            final Entity entity = (Entity) objectInputStream.readObject();
+            // Serialization drops the transient equipment type references, which restoring looks up again
+            entity.restore();
+            return entity;
+        } catch (IOException | ClassNotFoundException ex) {
+            LOGGER.warn(ex, "Unable to copy cached entity, it will be parsed again");
+            return null;
+        }
+    }
+}
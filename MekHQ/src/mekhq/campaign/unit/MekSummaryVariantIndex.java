@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.battleArmor.BattleArmor;
+import megamek.common.loaders.MekSummary;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.common.units.Entity;
+import megamek.common.units.UnitType;
+
+/**
+ * Groups the entries of the {@link MekSummaryCache} by chassis, unit type and tonnage so that the variants of a unit
+ * can be found without scanning every known unit. Chassis names are compared case-insensitively. Battle armor is
+ * grouped by the number of troopers in place of tonnage.
+ *
+ * <p>The index is built the first time it is needed and rebuilt whenever the summary cache is reloaded. This class is
+ * thread safe.</p>
+ */
+public class MekSummaryVariantIndex {
+    private static final MekSummaryVariantIndex instance = new MekSummaryVariantIndex();
+
+    private record VariantKey(String chassis, String unitType, double weight) {
+    }
+
+    private MekSummary[] indexedSummaries;
+    private Map<VariantKey, List<MekSummary>> variants = new HashMap<>();
+
+    MekSummaryVariantIndex() {
+    }
+
+    public static MekSummaryVariantIndex getInstance() {
+        return instance;
+    }
+
+    /**
+     * Finds every unit in the {@link MekSummaryCache} which shares its chassis, unit type and tonnage with an entity.
+     * The entity's own model is included if it is in the cache.
+     *
+     * @param entity the entity to find the variants of
+     *
+     * @return the summaries of the variants, which may be empty
+     */
+    public List<MekSummary> getVariants(Entity entity) {
+        return getVariants(MekSummaryCache.getInstance().getAllMeks(), entity.getChassis(),
+              UnitType.getTypeName(entity.getUnitType()), getWeight(entity));
+    }
+
+    /**
+     * Finds the summaries which share a chassis, unit type and tonnage, indexing the given summaries first if they are
+     * not the ones indexed by the previous call.
+     */
+    synchronized List<MekSummary> getVariants(MekSummary[] summaries, @Nullable String chassis, String unitType,
+          double weight) {
+        if (summaries != indexedSummaries) {
+            buildIndex(summaries);
+        }
+
+        if (chassis == null) {
+            return List.of();
+        }
+        final List<MekSummary> found = variants.get(new VariantKey(chassis.toLowerCase(Locale.ROOT), unitType,
+              weight));
+        return (found == null) ? List.of() : List.copyOf(found);
+    }
+
+    private void buildIndex(MekSummary[] summaries) {
+        final Map<VariantKey, List<MekSummary>> index = new HashMap<>();
+        if (summaries != null) {
+            for (MekSummary summary : summaries) {
+                if ((summary.getChassis() == null) || (summary.getUnitType() == null)) {
+                    continue;
+                }
+                final VariantKey key = new VariantKey(summary.getChassis().toLowerCase(Locale.ROOT),
+                      summary.getUnitType(), getWeight(summary));
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(summary);
+            }
+        }
+        variants = index;
+        indexedSummaries = summaries;
+    }
+
+    private static double getWeight(Entity entity) {
+        return (entity instanceof BattleArmor battleArmor) ? battleArmor.getTroopers() : entity.getWeight();
+    }
+
+    private static double getWeight(MekSummary summary) {
+        // The trooper count of battle armor is stored as its weight
+        return UnitType.getTypeName(UnitType.BATTLE_ARMOR).equals(summary.getUnitType()) ?
+                     (int) summary.getTWWeight() : summary.getTons();
+    }
+}
@@ -112,6 +112,7 @@ import mekhq.campaign.events.persons.PersonTechAssignmentEvent;
 import mekhq.campaign.events.units.UnitArrivedEvent;
 import mekhq.campaign.events.units.UnitChangedEvent;
 import mekhq.campaign.finances.Money;
+import mekhq.campaign.finances.MoneyAccumulator;
 import mekhq.campaign.force.Formation;
 import mekhq.campaign.force.FormationType;
 import mekhq.campaign.log.AssignmentLogger;
@@ -244,6 +245,8 @@ public class Unit implements ITechnology {
 
     private MothballInfo mothballInfo;
 
+    private final BattleValueCache battleValueCache = new BattleValueCache();
+
     public Unit() {
         this(null, null);
     }
@@ -537,12 +540,44 @@ public class Unit implements ITechnology {
             }
         }
         this.entity = en;
+        invalidateBattleValue();
     }
 
     public Entity getEntity() {
         return entity;
     }
 
+    /**
+     * @return the unit's battle value as given by {@link Entity#calculateBattleValue()}, reused until the unit, its
+     *       crew or its C3 network changes
+     */
+    public int getBattleValue() {
+        return battleValueCache.getBattleValue(entity);
+    }
+
+    /**
+     * @return the unit's battle value as given by {@link Entity#calculateBattleValue(boolean, boolean)}, reused until
+     *       the unit, its crew or its C3 network changes
+     */
+    public int getBattleValue(boolean ignoreC3, boolean ignoreSkill) {
+        return battleValueCache.getBattleValue(entity, ignoreC3, ignoreSkill);
+    }
+
+    /**
+     * @return the unit's generic battle value as given by {@link Entity#getGenericBattleValue()}, reused until the unit
+     *       changes
+     */
+    public int getGenericBattleValue() {
+        return battleValueCache.getGenericBattleValue(entity);
+    }
+
+    /**
+     * Drops the cached battle values, for when the unit's equipment, damage, ammo or crew has changed.
+     */
+    public void invalidateBattleValue() {
+        battleValueCache.clear();
+    }
+
     public UUID getId() {
         return id;
     }
@@ -932,6 +967,8 @@ public class Unit implements ITechnology {
         for (Part part : tempParts) {
             part.updateConditionFromEntity(checkForDestruction);
         }
+
+        invalidateBattleValue();
     }
 
     private boolean isPartAvailableForRepairs(IPartWork partWork, boolean onlyNotBeingWorkedOn) {
@@ -1451,13 +1488,18 @@ public class Unit implements ITechnology {
         return getDamageState() != Entity.DMG_NONE;
     }
 
-    public Money getSellValue() {
-        Money partsValue = Money.zero();
-
-        partsValue = partsValue.plus(parts.stream()
-                                           .map(x -> x.getActualValue().multipliedBy(x.getQuantity()))
-                                           .collect(Collectors.toList()));
+    /**
+     * @return the combined actual value of every part on this unit, taking part quantities into account
+     */
+    private Money getPartsValue() {
+        MoneyAccumulator partsValue = new MoneyAccumulator();
+        for (Part part : parts) {
+            partsValue.add(part.getActualValue(), part.getQuantity());
+        }
+        return partsValue.toMoney();
+    }
 
+    public Money getSellValue() {
         // we use an alternative method of getting sell value for infantry
         if (entity instanceof Infantry) {
             Money unitCost = Money.of(entity.getAlternateCost());
@@ -1481,6 +1523,8 @@ public class Unit implements ITechnology {
             return infantryValue;
         }
 
+        Money partsValue = getPartsValue();
+
         // We need to adjust this for equipment that doesn't show up as parts
         // Docking collars, Grav decks, KF Drive - Now parts
         // Drive unit - see SpacecraftEngine
@@ -1637,10 +1681,7 @@ public class Unit implements ITechnology {
         }
 
         // Standard calculation - sum of parts (includes quality via getActualValue)
-        Money partsValue = Money.zero();
-        for (Part part : parts) {
-            partsValue = partsValue.plus(part.getActualValue().multipliedBy(part.getQuantity()));
-        }
+        Money partsValue = getPartsValue();
 
         // Spacecraft additions - cost formulas from TechManual (TM pg 274-284)
         if (entity instanceof SmallCraft || entity instanceof Jumpship) {
@@ -2896,6 +2937,23 @@ public class Unit implements ITechnology {
     }
 
     public static Unit generateInstanceFromXML(final Node wn, final Version version, final Campaign campaign) {
+        return generateInstanceFromXML(wn, version, campaign, null);
+    }
+
+    /**
+     * Creates a unit from its XML, optionally using an entity which has already been parsed from the unit's
+     * {@code <entity>} element.
+     *
+     * @param wn           the {@code <unit>} element
+     * @param version      the version of the campaign file
+     * @param campaign     the campaign being loaded
+     * @param parsedEntity the entity already parsed from the unit's {@code <entity>} element and not yet bound to a
+     *                     game, or {@code null} to parse it here
+     *
+     * @return the unit
+     */
+    public static Unit generateInstanceFromXML(final Node wn, final Version version, final Campaign campaign,
+          final @Nullable Entity parsedEntity) {
         Unit retVal = new Unit();
         NamedNodeMap attrs = wn.getAttributes();
         Node idNode = attrs.getNamedItem("id");
@@ -3070,7 +3128,12 @@ public class Unit implements ITechnology {
                 } else if (wn2.getNodeName().equalsIgnoreCase("mothballed")) {
                     retVal.mothballed = wn2.getTextContent().equalsIgnoreCase("true");
                 } else if (wn2.getNodeName().equalsIgnoreCase("entity")) {
-                    retVal.entity = MHQXMLUtility.parseSingleEntityMul((Element) wn2, campaign);
+                    if (parsedEntity != null) {
+                        parsedEntity.setGame(campaign.getGame());
+                        retVal.entity = parsedEntity;
+                    } else {
+                        retVal.entity = MHQXMLUtility.parseSingleEntityMul((Element) wn2, campaign);
+                    }
                 } else if (wn2.getNodeName().equalsIgnoreCase("refit")) {
                     retVal.refit = Refit.generateInstanceFromXML(wn2, version, campaign, retVal);
                 } else if (wn2.getNodeName().equalsIgnoreCase("history")) {
@@ -4853,6 +4916,8 @@ public class Unit implements ITechnology {
                                                  entity instanceof BattleArmor;
         boolean isOnlyCommandersMatter = commanderOnlyVehicles || commanderOnlyInfantry || commanderOnlyBattleArmor;
 
+        invalidateBattleValue();
+
         // Reset transient data
         getCampaign().clearGameData(entity);
         entity.setCommander(false);
@@ -39,7 +39,6 @@ import megamek.common.battleArmor.BattleArmor;
 import megamek.common.enums.AvailabilityValue;
 import megamek.common.enums.Faction;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -146,7 +145,7 @@ public class UnitOrder extends Unit implements IAcquisitionWork {
             return null;
         }
         try {
-            return new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            return EntityTemplateCache.getInstance().getEntity(summary);
         } catch (EntityLoadingException e) {
             LOGGER.error("Could not load {}", summary.getEntryName());
             return null;
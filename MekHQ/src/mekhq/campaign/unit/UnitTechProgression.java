@@ -79,12 +79,12 @@ public class UnitTechProgression {
      *
      * @return The task responsible for calculating the data for the faction.
      */
-    private FutureTask<Map<MekSummary, ITechnology>> getTask(Faction techFaction) {
-        FutureTask<Map<MekSummary, ITechnology>> task = instance.techMap.get(techFaction);
+    private synchronized FutureTask<Map<MekSummary, ITechnology>> getTask(Faction techFaction) {
+        FutureTask<Map<MekSummary, ITechnology>> task = techMap.get(techFaction);
         if (null == task) {
             task = new FutureTask<>(new BuildMapTask(techFaction));
             new Thread(task).start();
-            instance.techMap.put(techFaction, task);
+            techMap.put(techFaction, task);
         }
         return task;
     }
@@ -133,10 +133,18 @@ public class UnitTechProgression {
         }
         try {
             Map<MekSummary, ITechnology> map = task.get();
-            if (!map.containsKey(ms)) {
-                map.put(ms, calcTechProgression(ms, techFaction));
+            // Refits are evaluated on several threads at once, so the map is only touched while holding its lock.
+            // The progression of a unit missing from the map is calculated outside the lock as it loads the unit file.
+            synchronized (map) {
+                if (map.containsKey(ms)) {
+                    return map.get(ms);
+                }
+            }
+            ITechnology techProg = calcTechProgression(ms, techFaction);
+            synchronized (map) {
+                map.putIfAbsent(ms, techProg);
+                return map.get(ms);
             }
-            return map.get(ms);
         } catch (InterruptedException e) {
             task.cancel(true);
         } catch (ExecutionException e) {
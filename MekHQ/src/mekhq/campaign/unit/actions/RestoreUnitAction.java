@@ -39,7 +39,6 @@ import java.util.Objects;
 import megamek.common.CriticalSlot;
 import megamek.common.annotations.Nullable;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Aero;
@@ -55,6 +54,7 @@ import mekhq.campaign.parts.Part;
 import mekhq.campaign.parts.equipment.AmmoBin;
 import mekhq.campaign.parts.missing.MissingPart;
 import mekhq.campaign.parts.missing.MissingThrusters;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 
 /**
@@ -237,7 +237,7 @@ public record RestoreUnitAction(IEntityCopyFactory entityCopyFactory) implements
             final MekSummary ms = MekSummaryCache.getInstance().getMek(entity.getShortNameRaw());
             try {
                 if (ms != null) {
-                    return new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+                    return EntityTemplateCache.getInstance().getEntity(ms);
                 }
             } catch (EntityLoadingException e) {
                 LOGGER.error("Cannot restore unit from entity, could not find: {}", entity.getShortNameRaw(), e);
@@ -61,6 +61,9 @@ import mekhq.campaign.events.NewDayEvent;
  * made while the background thread is working will block until it finishes, but thresholds can be set for a number of
  * days or a distance, any query made while a change falls under that threshold will use the partially updated data.
  * <p>
+ * When only the date changes, only the factions whose systems changed hands are recalculated. The systems on the border
+ * between two factions are worked out the first time they are asked for and remembered until either faction changes.
+ * <p>
  * Changes in campaign date or location will update automatically on each new campaign day if the instance is registered
  * with the event bus.
  *
@@ -76,6 +79,17 @@ public class FactionBorderTracker {
     private final Map<Faction, FactionBorders> borders;
     private final Map<Faction, Map<Faction, List<PlanetarySystem>>> borderSystems;
 
+    // The region the current borders were calculated for, and the perimeter they share
+    private double calculatedX = Double.NaN;
+    private double calculatedY = Double.NaN;
+    private double calculatedRadius = Double.NaN;
+    private RegionPerimeter regionPerimeter;
+
+    // All known systems, sorted into a grid so moving the region doesn't have to check every system. It is rebuilt if
+    // the number of known systems changes.
+    private PlanetarySystemGrid systemGrid;
+    private int gridSystemCount = -1;
+
     private double isBorderSize = 60;
     private double peripheryBorderSize = 90;
     private double clanBorderSize = 90;
@@ -269,7 +283,8 @@ public class FactionBorderTracker {
     /**
      * Retrieves list of all planets controlled by one faction that are within a set distance of planets controlled by
      * another faction, all within the defined region. The distance used to determine the border size is the larger of
-     * {@link #getBorderSize(Faction)} for the two factions.
+     * {@link #getBorderSize(Faction)} for the two factions. The list is calculated on the first request for the pair
+     * and reused until either faction's planets or border size change.
      * <p>
      * If the borders are being recalculated, this method may block until the calculation is complete. If the change
      * that caused the borders to be recalculated are under the time or distance thresholds, the return value will be
@@ -295,9 +310,15 @@ public class FactionBorderTracker {
             }
         }
 
-        return (borderSystems.containsKey(self) && borderSystems.get(self).containsKey(other))
-                     ? borderSystems.get(self).get(other)
-                     : Collections.emptyList();
+        final FactionBorders ours = borders.get(self);
+        final FactionBorders theirs = borders.get(other);
+        if ((ours == null) || (theirs == null) || self.equals(other)) {
+            return Collections.emptyList();
+        }
+
+        return borderSystems.computeIfAbsent(self, f -> new ConcurrentHashMap<>())
+                     .computeIfAbsent(other,
+                           f -> ours.getBorderSystems(theirs, Math.max(getBorderSize(self), getBorderSize(other))));
     }
 
     /**
@@ -389,6 +410,7 @@ public class FactionBorderTracker {
         } else {
             factionBorderSize.remove(faction);
         }
+        forgetBorderSystems(Collections.singleton(faction));
     }
 
     /**
@@ -403,6 +425,7 @@ public class FactionBorderTracker {
         isBorderSize = is;
         peripheryBorderSize = periphery;
         clanBorderSize = clan;
+        borderSystems.clear();
     }
 
     /**
@@ -423,53 +446,65 @@ public class FactionBorderTracker {
     }
 
     /**
-     * The task that checks all planets within the region and notes which are controlled by which factions and which are
-     * within a certain distance of another faction's systems.
+     * The task that checks all planets within the region and notes which are controlled by which factions. Each system
+     * is checked once, and if the region hasn't moved only the factions whose systems changed are replaced. The border
+     * systems between factions are calculated when they are requested.
      */
     private synchronized void rebuildBorderData() {
         cancelTask = false;
         try {
-            List<PlanetarySystem> systemList = new ArrayList<>();
-            Set<Faction> factionSet = new HashSet<>();
-            Set<Faction> oldFactions = new HashSet<>(borders.keySet());
-            for (PlanetarySystem system : getSystemList()) {
-                if ((regionHex.radius < 0)
-                          || regionHex.contains(system.getX(), system.getY())) {
-                    systemList.add(system);
-                    factionSet.addAll(system.getFactionSet(now));
+            final boolean regionChanged = (calculatedX != regionHex.center[0])
+                                                || (calculatedY != regionHex.center[1])
+                                                || (calculatedRadius != regionHex.radius);
+            List<PlanetarySystem> systemList = getSystemsInRegion();
+            if (cancelTask) {
+                return;
+            }
+
+            Map<Faction, Set<PlanetarySystem>> factionSystems = new HashMap<>();
+            UniverseSnapshot universe = Systems.getInstance().getSnapshot(now);
+            for (PlanetarySystem system : systemList) {
+                for (Faction faction : universe.getFactionSet(system)) {
+                    factionSystems.computeIfAbsent(faction, f -> new HashSet<>()).add(system);
                 }
                 if (cancelTask) {
                     return;
                 }
             }
-            for (Faction f : factionSet) {
-                borders.put(f, new FactionBorders(f, now, systemList));
-                oldFactions.remove(f);
-            }
-            for (Faction f : oldFactions) {
-                borders.remove(f);
-                borderSystems.remove(f);
+
+            // Every faction shares the perimeter of the whole region, so it only changes when the region does
+            RegionPerimeter perimeter = (regionChanged || (regionPerimeter == null))
+                                              ? new RegionPerimeter(systemList) : regionPerimeter;
+            Map<Faction, FactionBorders> changedBorders = new HashMap<>();
+            for (Map.Entry<Faction, Set<PlanetarySystem>> entry : factionSystems.entrySet()) {
+                FactionBorders previous = borders.get(entry.getKey());
+                if (regionChanged || (previous == null) || !previous.getSystems().equals(entry.getValue())) {
+                    changedBorders.put(entry.getKey(), new FactionBorders(entry.getKey(), entry.getValue(),
+                          perimeter));
+                }
             }
             if (cancelTask) {
                 return;
             }
-            for (Faction us : factionSet) {
-                Map<Faction, List<PlanetarySystem>> borderMap = new HashMap<>();
-                for (Faction them : factionSet) {
-                    if (!us.equals(them)) {
-                        double borderSize = Math.max(getBorderSize(us), getBorderSize(them));
-                        List<PlanetarySystem> systems = borders.get(us).getBorderSystems(borders.get(them), borderSize);
-                        borderMap.put(them, systems);
-                    }
-                }
-                borderSystems.put(us, borderMap);
-                if (cancelTask) {
-                    return;
+
+            Set<Faction> changedFactions = new HashSet<>(changedBorders.keySet());
+            for (Faction f : borders.keySet()) {
+                if (!factionSystems.containsKey(f)) {
+                    changedFactions.add(f);
                 }
             }
-            if (cancelTask) {
-                return;
+            borders.keySet().retainAll(factionSystems.keySet());
+            borders.putAll(changedBorders);
+            if (regionChanged) {
+                borderSystems.clear();
+            } else {
+                forgetBorderSystems(changedFactions);
             }
+
+            regionPerimeter = perimeter;
+            calculatedX = regionHex.center[0];
+            calculatedY = regionHex.center[1];
+            calculatedRadius = regionHex.radius;
             lastUpdate = now;
         } catch (Exception ex) {
             logger.error("", ex);
@@ -479,6 +514,49 @@ public class FactionBorderTracker {
         }
     }
 
+    /**
+     * Drops the remembered border systems between any of the given factions and any other faction.
+     *
+     * @param factions The factions whose planets or border size have changed
+     */
+    private void forgetBorderSystems(Set<Faction> factions) {
+        if (factions.isEmpty()) {
+            return;
+        }
+        borderSystems.keySet().removeAll(factions);
+        for (Map<Faction, List<PlanetarySystem>> borderMap : borderSystems.values()) {
+            borderMap.keySet().removeAll(factions);
+        }
+    }
+
+    /**
+     * Finds the systems inside the region's bounding hex, only checking those in the grid cells that overlap it.
+     *
+     * @return The systems within the region, or all systems if the radius is less than zero.
+     */
+    private List<PlanetarySystem> getSystemsInRegion() {
+        Collection<PlanetarySystem> allSystems = getSystemList();
+        if (regionHex.radius < 0) {
+            return new ArrayList<>(allSystems);
+        }
+
+        if ((systemGrid == null) || (gridSystemCount != allSystems.size())) {
+            systemGrid = new PlanetarySystemGrid(allSystems);
+            gridSystemCount = allSystems.size();
+        }
+
+        List<PlanetarySystem> systemList = new ArrayList<>();
+        for (PlanetarySystem system : systemGrid.within(regionHex.center[0] - regionHex.radius,
+              regionHex.center[1] - regionHex.radius,
+              regionHex.center[0] + regionHex.radius,
+              regionHex.center[1] + regionHex.radius)) {
+            if (regionHex.contains(system.getX(), system.getY())) {
+                systemList.add(system);
+            }
+        }
+        return systemList;
+    }
+
     /**
      * If this instance has been registered with the event bus, listens for new day events and starts the recalculation
      * process.
@@ -75,6 +75,21 @@ public class FactionBorders {
         calculateRegion(when, region);
     }
 
+    /**
+     * Creates a FactionBorders object from systems whose ownership has already been worked out, so a caller that
+     * examines the same region for many factions can check each system once instead of once per faction.
+     *
+     * @param faction The faction to calculate the border for
+     * @param systems The planets within the region that are controlled by the faction
+     * @param border  The perimeter of the region the planets were taken from, as used by
+     *                {@link #calculateRegion(LocalDate, Collection)}
+     */
+    FactionBorders(Faction faction, Set<PlanetarySystem> systems, RegionPerimeter border) {
+        this.faction = faction;
+        this.systems = systems;
+        this.border = border;
+    }
+
     /**
      * Finds all planets currently owned (completely or partially) by the faction and finds its border.
      *
@@ -92,8 +107,9 @@ public class FactionBorders {
      * @param systems The set of <code>planetarySystem</code>'s to include in the region.
      */
     public void calculateRegion(LocalDate when, Collection<PlanetarySystem> systems) {
+        UniverseSnapshot universe = Systems.getInstance().getSnapshot(when);
         this.systems = systems.stream()
-                             .filter(p -> p.getFactionSet(when).contains(faction))
+                             .filter(p -> universe.getFactionSet(p).contains(faction))
                              .collect(Collectors.toSet());
         border = new RegionPerimeter(systems);
     }
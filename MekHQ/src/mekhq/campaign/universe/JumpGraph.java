@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, int-indexed adjacency graph of every {@link PlanetarySystem} and the jumps between them.
+ *
+ * <p>Each system is assigned a stable index (in system ID order) and is connected to every other system within
+ * {@link #JUMP_RANGE} light years. Edges are stored in compressed sparse row form so that route planners can walk
+ * neighbours without allocating or re-querying the {@link Systems} grid.</p>
+ *
+ * <p>The geometry of the graph never changes, but whether a system is inhabited does. That information is kept in a
+ * date-versioned layer which is lazily filled and discarded as soon as a different date is requested.</p>
+ */
+public class JumpGraph {
+    /** The maximum distance, in light years, of a single jump. */
+    public static final double JUMP_RANGE = 30.0;
+
+    private static final byte POPULATION_UNKNOWN = 0;
+    private static final byte POPULATION_EMPTY = 1;
+    private static final byte POPULATION_INHABITED = 2;
+
+    private final PlanetarySystem[] systems;
+    private final Map<String, Integer> indexById;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+
+    private volatile PopulationLayer populationLayer;
+
+    private JumpGraph(PlanetarySystem[] systems, Map<String, Integer> indexById, int[] edgeOffsets,
+          int[] edgeTargets) {
+        this.systems = systems;
+        this.indexById = indexById;
+        this.edgeOffsets = edgeOffsets;
+        this.edgeTargets = edgeTargets;
+    }
+
+    /**
+     * Builds the jump graph for the given systems. Systems without coordinates are included as nodes, but have no
+     * edges.
+     *
+     * @param allSystems the systems to include in the graph
+     *
+     * @return the new graph
+     */
+    public static JumpGraph build(Collection<PlanetarySystem> allSystems) {
+        PlanetarySystem[] systems = allSystems.toArray(new PlanetarySystem[0]);
+        Arrays.sort(systems, Comparator.comparing(PlanetarySystem::getId));
+
+        Map<String, Integer> indexById = new HashMap<>(systems.length * 2);
+        Map<Long, List<Integer>> grid = new HashMap<>();
+        for (int i = 0; i < systems.length; i++) {
+            indexById.put(systems[i].getId(), i);
+            if (hasCoordinates(systems[i])) {
+                grid.computeIfAbsent(cellKey(cell(systems[i].getX()), cell(systems[i].getY())),
+                      k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // First pass counts the edges of each node, the second fills them in
+        int[] edgeOffsets = new int[systems.length + 1];
+        for (int i = 0; i < systems.length; i++) {
+            edgeOffsets[i + 1] = edgeOffsets[i] + visitNeighbours(systems, grid, i, null, 0);
+        }
+
+        int[] edgeTargets = new int[edgeOffsets[systems.length]];
+        for (int i = 0; i < systems.length; i++) {
+            visitNeighbours(systems, grid, i, edgeTargets, edgeOffsets[i]);
+        }
+
+        return new JumpGraph(systems, indexById, edgeOffsets, edgeTargets);
+    }
+
+    /**
+     * Walks every system within jump range of {@code node}, optionally writing the neighbour indexes into
+     * {@code targets} starting at {@code offset}.
+     *
+     * @return the number of neighbours found
+     */
+    private static int visitNeighbours(PlanetarySystem[] systems, Map<Long, List<Integer>> grid, int node,
+          int[] targets, int offset) {
+        PlanetarySystem system = systems[node];
+        if (!hasCoordinates(system)) {
+            return 0;
+        }
+
+        int count = 0;
+        int cellX = cell(system.getX());
+        int cellY = cell(system.getY());
+        for (int x = cellX - 1; x <= cellX + 1; x++) {
+            for (int y = cellY - 1; y <= cellY + 1; y++) {
+                List<Integer> bucket = grid.get(cellKey(x, y));
+                if (bucket == null) {
+                    continue;
+                }
+
+                for (int neighbour : bucket) {
+                    if ((neighbour != node) && (system.getDistanceTo(systems[neighbour]) <= JUMP_RANGE)) {
+                        if (targets != null) {
+                            targets[offset + count] = neighbour;
+                        }
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean hasCoordinates(PlanetarySystem system) {
+        return (system.getX() != null) && (system.getY() != null);
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate / JUMP_RANGE);
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return the number of systems (nodes) in this graph
+     */
+    public int size() {
+        return systems.length;
+    }
+
+    /**
+     * @return the index of the system with the given ID, or {@code -1} if it is not part of this graph
+     */
+    public int indexOf(String systemId) {
+        Integer index = (systemId == null) ? null : indexById.get(systemId);
+        return (index == null) ? -1 : index;
+    }
+
+    public PlanetarySystem getSystem(int index) {
+        return systems[index];
+    }
+
+    /**
+     * @return the offset of the first edge of {@code node} in {@link #getEdgeTarget(int)}
+     */
+    public int getEdgeStart(int node) {
+        return edgeOffsets[node];
+    }
+
+    /**
+     * @return the offset one past the last edge of {@code node} in {@link #getEdgeTarget(int)}
+     */
+    public int getEdgeEnd(int node) {
+        return edgeOffsets[node + 1];
+    }
+
+    public int getEdgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    /**
+     * Checks whether the given system is inhabited on the given date. Results are memoized per date, so repeated
+     * queries during route planning avoid the planetary event lookups.
+     *
+     * @param node the index of the system
+     * @param when the date to check
+     *
+     * @return {@code true} if the system has a non-zero population on that date
+     */
+    public boolean isInhabited(int node, LocalDate when) {
+        PopulationLayer layer = populationLayer;
+        if ((layer == null) || !layer.date().equals(when)) {
+            layer = new PopulationLayer(when, new byte[systems.length]);
+            populationLayer = layer;
+        }
+
+        // Concurrent writers always store the same value, so no locking is needed here
+        byte state = layer.states()[node];
+        if (state == POPULATION_UNKNOWN) {
+            state = (systems[node].getPopulation(when) == 0) ? POPULATION_EMPTY : POPULATION_INHABITED;
+            layer.states()[node] = state;
+        }
+        return state == POPULATION_INHABITED;
+    }
+
+    private record PopulationLayer(LocalDate date, byte[] states) {
+    }
+}
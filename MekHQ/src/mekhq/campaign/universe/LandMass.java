@@ -32,6 +32,9 @@
  */
 package mekhq.campaign.universe;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -41,7 +44,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @author Aaron Gullickson (aarongullickson at gmail.com)
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class LandMass {
+public class LandMass implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2080241222855773941L;
+
 
     @JsonProperty("name")
     private SourceableValue<String> name;
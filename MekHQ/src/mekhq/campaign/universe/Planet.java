@@ -33,6 +33,8 @@
  */
 package mekhq.campaign.universe;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -61,7 +63,10 @@ import mekhq.campaign.universe.enums.PlanetaryType;
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonDeserialize(converter = Planet.PlanetPostLoader.class)
-public class Planet {
+public class Planet implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 8842514861359412280L;
+
     private static final MMLogger logger = MMLogger.create(Planet.class);
 
     // Base data
@@ -146,7 +151,7 @@ public class Planet {
     /**
      * This is a cache of the current event data based on the latest date given.
      */
-    CurrentEvents currentEvents;
+    transient CurrentEvents currentEvents;
 
     // For export and import only (lists are easier than maps) */
     @JsonProperty("event")
@@ -310,6 +315,16 @@ public class Planet {
         return new ArrayList<>(events.values());
     }
 
+    /**
+     * @param from the earlier date (exclusive)
+     * @param to   the later date (inclusive)
+     *
+     * @return {@code true} if this planet has an event dated after {@code from} and on or before {@code to}
+     */
+    public boolean hasEventBetween(LocalDate from, LocalDate to) {
+        return (null != events) && !events.subMap(from, false, to, true).isEmpty();
+    }
+
     protected <T> T getEventData(LocalDate when, T defaultValue, EventGetter<T> getter) {
         if ((null == when) || (null == events) || (null == getter)) {
             return defaultValue;
@@ -755,7 +770,10 @@ public class Planet {
     }
 
     /** A class representing some event, possibly changing planetary information */
-    public static final class PlanetaryEvent {
+    public static final class PlanetaryEvent implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 3741603982383516983L;
+
 
         @JsonProperty("date")
         public LocalDate date;
@@ -768,7 +786,7 @@ public class Planet {
 
         @JsonProperty("faction")
         public SourceableValue<List<String>> faction;
-        public Set<Faction> factions;
+        public transient Set<Faction> factions;
         @JsonProperty("lifeForm")
         public SourceableValue<LifeForm> lifeForm;
         @JsonProperty("water")
@@ -33,6 +33,8 @@
  */
 package mekhq.campaign.universe;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -63,7 +65,10 @@ import mekhq.campaign.universe.enums.HiringHallLevel;
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonDeserialize(converter = PlanetarySystem.PlanetarySystemPostLoader.class)
-public class PlanetarySystem {
+public class PlanetarySystem implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 545363681616962640L;
+
     private static final double COMMAND_CIRCUIT_RECHARGE_TIME_HOURS = 10;
 
     // --- Sophistication Rating Enum ---
@@ -569,12 +574,36 @@ public class PlanetarySystem {
         return new ArrayList<>(events.values());
     }
 
+    /**
+     * Checks whether any date-dependent data of this system, or of one of its planets, may differ between two dates.
+     *
+     * @param from the earlier date (exclusive)
+     * @param to   the later date (inclusive)
+     *
+     * @return {@code true} if this system or any of its planets has an event dated after {@code from} and on or
+     *       before {@code to}
+     */
+    public boolean hasEventBetween(LocalDate from, LocalDate to) {
+        if ((null != events) && !events.subMap(from, false, to, true).isEmpty()) {
+            return true;
+        }
+        for (Planet planet : planets.values()) {
+            if (planet.hasEventBetween(from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected interface EventGetter<T> {
         T get(PlanetarySystemEvent e);
     }
 
     /** A class representing some event, possibly changing planetary information */
-    public static final class PlanetarySystemEvent {
+    public static final class PlanetarySystemEvent implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 7674918311415852851L;
+
 
         @JsonProperty("date")
         public LocalDate date;
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+import mekhq.MHQConstants;
+
+/**
+ * A binary startup cache of the loaded {@link PlanetarySystem}s.
+ *
+ * <p>The cache is keyed on a SHA-256 fingerprint of every planetary system source file (its path, size and contents)
+ * and the MekHQ version. Hashing the contents rather than trusting modification times means an edit that keeps the
+ * size and time, or a file restored with its original time, is still noticed; it costs a read of the source files,
+ * which is far cheaper than parsing them. When the fingerprint matches, the systems are read back with Java
+ * serialization instead of being parsed from thousands of YAML files. Any mismatch or read failure simply results in
+ * the YAML being parsed and the cache being rewritten.</p>
+ */
+public class PlanetarySystemCache {
+    private static final MMLogger logger = MMLogger.create(PlanetarySystemCache.class);
+
+    private static final int MAGIC = 0x4D485153;
+    private static final int FORMAT_VERSION = 1;
+
+    /** Only the planetary data model and the JDK types it is built from may be read back. */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+          "java.base/*;mekhq.campaign.universe.**;megamek.common.planetaryConditions.*;!*");
+
+    private final File cacheFile;
+    /** {@code null} if a source file could not be read, in which case the cache is neither read nor written */
+    private final @Nullable byte[] fingerprint;
+
+    /**
+     * The systems read back from the cache, along with the time it originally took to parse them from YAML.
+     */
+    public record CachedSystems(List<PlanetarySystem> systems, double parseSeconds) {
+    }
+
+    /**
+     * @param cacheFile the cache file
+     * @param sources   the planetary system files and zip archives the cache is built from, in load order
+     */
+    public PlanetarySystemCache(File cacheFile, List<File> sources) {
+        this.cacheFile = cacheFile;
+        this.fingerprint = computeFingerprint(sources);
+    }
+
+    /**
+     * @return the fingerprint of the source files, or {@code null} if one of them could not be read
+     */
+    static @Nullable byte[] computeFingerprint(List<File> sources) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(MHQConstants.VERSION.toString().getBytes(StandardCharsets.UTF_8));
+            byte[] buffer = new byte[8192];
+            for (File source : sources) {
+                digest.update(source.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+                // The size keeps the boundaries between files, so moving bytes from one to the next still counts
+                digest.update(longToBytes(source.length()));
+                try (InputStream input = Files.newInputStream(source.toPath())) {
+                    int read;
+                    while ((read = input.read(buffer)) > 0) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException ex) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException(ex);
+        } catch (IOException ex) {
+            logger.warn(ex, "Unable to read the planetary system files, not using the planetary system cache");
+            return null;
+        }
+    }
+
+    private static byte[] longToBytes(long value) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[i] = (byte) (value >>> (i * 8));
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads the cached systems, if the cache exists and was built from the same source files.
+     *
+     * @return the cached systems, or {@code null} if the cache is missing, stale or unreadable
+     */
+    public @Nullable CachedSystems read() {
+        if ((null == fingerprint) || !cacheFile.isFile()) {
+            return null;
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(
+              new BufferedInputStream(Files.newInputStream(cacheFile.toPath()))))) {
+            input.setObjectInputFilter(FILTER);
+            if ((input.readInt() != MAGIC) || (input.readInt() != FORMAT_VERSION)) {
+                logger.info("Planetary system cache {} has an unknown format, ignoring it", cacheFile);
+                return null;
+            }
+
+            byte[] cachedFingerprint = new byte[input.readInt()];
+            input.readFully(cachedFingerprint);
+            if (!Arrays.equals(fingerprint, cachedFingerprint)) {
+                logger.info("Planetary system data changed since {} was written, ignoring it", cacheFile);
+                return null;
+            }
+
+            double parseSeconds = input.readDouble();
+            int count = input.readInt();
+            List<PlanetarySystem> systems = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                systems.add((PlanetarySystem) input.readObject());
+            }
+            return new CachedSystems(systems, parseSeconds);
+        } catch (Exception ex) {
+            logger.warn(ex, "Unable to read the planetary system cache {}, ignoring it", cacheFile);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the systems to the cache. The cache is written to a temporary file first and then moved into place, so a
+     * partially written cache is never read back.
+     *
+     * @param systems      the loaded systems
+     * @param parseSeconds the time it took to parse the systems from YAML, for the startup log
+     */
+    public void write(Collection<PlanetarySystem> systems, double parseSeconds) {
+        if (null == fingerprint) {
+            return;
+        }
+
+        File directory = cacheFile.getAbsoluteFile().getParentFile();
+        if ((null != directory) && !directory.isDirectory() && !directory.mkdirs()) {
+            logger.warn("Unable to create {} for the planetary system cache", directory);
+            return;
+        }
+
+        Path temporaryFile = null;
+        try {
+            temporaryFile = Files.createTempFile(directory.toPath(), cacheFile.getName(), ".tmp");
+            try (ObjectOutputStream output = new ObjectOutputStream(new GZIPOutputStream(
+                  new BufferedOutputStream(Files.newOutputStream(temporaryFile))))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeInt(fingerprint.length);
+                output.write(fingerprint);
+                output.writeDouble(parseSeconds);
+                output.writeInt(systems.size());
+                for (PlanetarySystem system : systems) {
+                    output.writeObject(system);
+                }
+            }
+
+            try {
+                Files.move(temporaryFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                      StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporaryFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            logger.warn(ex, "Unable to write the planetary system cache {}", cacheFile);
+        } finally {
+            // Only left behind if the write or the move failed
+            if (null != temporaryFile) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ex) {
+                    logger.warn(ex, "Unable to delete the temporary planetary system cache {}", temporaryFile);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+/**
+ * Sorts planetary systems into a grid of square cells so that the system nearest to a point, such as the one under the
+ * mouse on a map, or the systems within a region of space can be found by looking only at the cells around them.
+ */
+public class PlanetarySystemGrid {
+    /** The width and height of each cell, in light years */
+    static final double CELL_SIZE = 30.0;
+
+    private record Entry(PlanetarySystem system, double x, double y) {
+    }
+
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private int minCellX = Integer.MAX_VALUE;
+    private int minCellY = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int maxCellY = Integer.MIN_VALUE;
+
+    public PlanetarySystemGrid(Collection<PlanetarySystem> systems) {
+        for (PlanetarySystem system : systems) {
+            if ((system == null) || (system.getX() == null) || (system.getY() == null)) {
+                continue;
+            }
+            final double x = system.getX();
+            final double y = system.getY();
+            final int cellX = toCell(x);
+            final int cellY = toCell(y);
+            cells.computeIfAbsent(toKey(cellX, cellY), k -> new ArrayList<>()).add(new Entry(system, x, y));
+            minCellX = Math.min(minCellX, cellX);
+            minCellY = Math.min(minCellY, cellY);
+            maxCellX = Math.max(maxCellX, cellX);
+            maxCellY = Math.max(maxCellY, cellY);
+        }
+    }
+
+    /**
+     * Finds the system closest to a point.
+     *
+     * @param x the x coordinate of the point, in light years
+     * @param y the y coordinate of the point, in light years
+     *
+     * @return the nearest system, or {@code null} if the grid is empty
+     */
+    public @Nullable PlanetarySystem nearest(double x, double y) {
+        if (cells.isEmpty()) {
+            return null;
+        }
+
+        final int cellX = toCell(x);
+        final int cellY = toCell(y);
+        // Past this ring every cell holding a system has been searched
+        final int maxRing = Math.max(Math.max(Math.abs(cellX - minCellX), Math.abs(maxCellX - cellX)),
+              Math.max(Math.abs(cellY - minCellY), Math.abs(maxCellY - cellY)));
+
+        PlanetarySystem nearest = null;
+        double nearestDistanceSquared = Double.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                // Only the edge of each ring is new, the cells inside it were searched by the smaller rings
+                final int step = ((dx == -ring) || (dx == ring)) ? 1 : (2 * ring);
+                for (int dy = -ring; dy <= ring; dy += step) {
+                    final List<Entry> cell = cells.get(toKey(cellX + dx, cellY + dy));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Entry entry : cell) {
+                        final double distanceSquared = (entry.x() - x) * (entry.x() - x) +
+                                                             (entry.y() - y) * (entry.y() - y);
+                        if (distanceSquared < nearestDistanceSquared) {
+                            nearestDistanceSquared = distanceSquared;
+                            nearest = entry.system();
+                        }
+                    }
+                }
+            }
+
+            // Every cell in the next ring is at least this far from the point
+            final double ringDistance = ring * CELL_SIZE;
+            if ((nearest != null) && (nearestDistanceSquared <= ringDistance * ringDistance)) {
+                break;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Finds the systems inside a rectangle, edges included.
+     *
+     * @param minX the left edge of the rectangle, in light years
+     * @param minY the bottom edge of the rectangle, in light years
+     * @param maxX the right edge of the rectangle, in light years
+     * @param maxY the top edge of the rectangle, in light years
+     *
+     * @return the systems inside the rectangle, in no particular order
+     */
+    public List<PlanetarySystem> within(double minX, double minY, double maxX, double maxY) {
+        final List<PlanetarySystem> systems = new ArrayList<>();
+        final int fromCellX = Math.max(toCell(minX), minCellX);
+        final int toCellX = Math.min(toCell(maxX), maxCellX);
+        final int fromCellY = Math.max(toCell(minY), minCellY);
+        final int toCellY = Math.min(toCell(maxY), maxCellY);
+        if ((fromCellX > toCellX) || (fromCellY > toCellY)) {
+            return systems;
+        }
+
+        if ((long) (toCellX - fromCellX + 1) * (toCellY - fromCellY + 1) > cells.size()) {
+            // The rectangle covers more cells than there are occupied ones, so it's quicker to check every system
+            for (List<Entry> cell : cells.values()) {
+                addWithin(cell, minX, minY, maxX, maxY, systems);
+            }
+            return systems;
+        }
+
+        for (int cellX = fromCellX; cellX <= toCellX; cellX++) {
+            for (int cellY = fromCellY; cellY <= toCellY; cellY++) {
+                final List<Entry> cell = cells.get(toKey(cellX, cellY));
+                if (cell != null) {
+                    addWithin(cell, minX, minY, maxX, maxY, systems);
+                }
+            }
+        }
+        return systems;
+    }
+
+    private static void addWithin(List<Entry> cell, double minX, double minY, double maxX, double maxY,
+          List<PlanetarySystem> systems) {
+        for (Entry entry : cell) {
+            if ((entry.x() >= minX) && (entry.x() <= maxX) && (entry.y() >= minY) && (entry.y() <= maxY)) {
+                systems.add(entry.system());
+            }
+        }
+    }
+
+    private static int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long toKey(int cellX, int cellY) {
+        return (((long) cellX) << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
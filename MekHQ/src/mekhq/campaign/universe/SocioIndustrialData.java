@@ -33,6 +33,8 @@
  */
 package mekhq.campaign.universe;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.EnumMap;
 import java.util.Locale;
 
@@ -45,7 +47,10 @@ import megamek.logging.MMLogger;
 import mekhq.campaign.universe.PlanetarySystem.PlanetaryRating;
 import mekhq.campaign.universe.PlanetarySystem.PlanetarySophistication;
 
-public class SocioIndustrialData {
+public class SocioIndustrialData implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 8490539026135319669L;
+
     private final static MMLogger LOGGER = MMLogger.create(SocioIndustrialData.class);
     private final static String SEPARATOR = "-";
     private static final EnumMap<PlanetarySophistication, TechRating> sophisticationToTechRating = new EnumMap<>(
@@ -33,6 +33,8 @@
 package mekhq.campaign.universe;
 
 import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -51,7 +53,10 @@ import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
  * information.
  **/
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class SourceableValue<T> {
+public class SourceableValue<T> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 968196408185819179L;
+
 
     @JsonProperty("source")
     private String source;
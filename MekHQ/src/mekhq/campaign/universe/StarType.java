@@ -32,6 +32,8 @@
  */
 package mekhq.campaign.universe;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Locale;
 
 import com.fasterxml.jackson.core.JsonParser;
@@ -41,7 +43,10 @@ import megamek.codeUtilities.MathUtility;
 import megamek.logging.MMLogger;
 
 /** A class to carry information about a star. Used in planetary system **/
-public class StarType {
+public class StarType implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 5475270654777870840L;
+
     private final static MMLogger LOGGER = MMLogger.create(StarType.class);
 
     // Star classification data and methods
@@ -32,15 +32,18 @@
  */
 package mekhq.campaign.universe;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -93,6 +96,18 @@ public class Systems {
     private Collection<HPGLink> hpgNetworkCache = null;
     private LocalDate hpgNetworkCacheDate = null;
 
+    // Jump graph cache, dropped whenever the system list changes
+    private volatile JumpGraph jumpGraph = null;
+
+    // Date-dependent system data for the most recently requested dates, keyed by date (null for the undated view)
+    private static final int SNAPSHOT_CACHE_SIZE = 4;
+    private final Map<LocalDate, UniverseSnapshot> snapshots = new LinkedHashMap<>(SNAPSHOT_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LocalDate, UniverseSnapshot> eldest) {
+            return size() > SNAPSHOT_CACHE_SIZE;
+        }
+    };
+
     protected Systems() {
     }
 
@@ -145,6 +160,88 @@ public class Systems {
         return (null != id ? systemList.get(id) : null);
     }
 
+    /**
+     * Adds a system to the system list, replacing any system with the same id.
+     */
+    protected void putSystem(PlanetarySystem system) {
+        systemList.put(system.getId(), system);
+        systemsChanged();
+    }
+
+    /**
+     * Removes a system from the system list.
+     */
+    protected void removeSystem(String id) {
+        systemList.remove(id);
+        systemsChanged();
+    }
+
+    /**
+     * Drops everything derived from the system list. Called whenever a system is added, replaced or removed; call it
+     * directly after changing the coordinates or data of a system in place.
+     */
+    public void systemsChanged() {
+        jumpGraph = null;
+        synchronized (snapshots) {
+            snapshots.clear();
+        }
+    }
+
+    /**
+     * @return the {@link JumpGraph} of all 30ly jumps between the known systems, building it on first use
+     */
+    public JumpGraph getJumpGraph() {
+        JumpGraph graph = jumpGraph;
+        // the size check catches changes made directly through getSystems()
+        if ((null == graph) || (graph.size() != systemList.size())) {
+            graph = JumpGraph.build(systemList.values());
+            jumpGraph = graph;
+        }
+        return graph;
+    }
+
+    /**
+     * Returns the {@link UniverseSnapshot} for the given date. The last few requested dates are cached, so the campaign
+     * date and a background lookup on another date do not keep replacing each other. A date that isn't cached is
+     * derived incrementally from the nearest cached one.
+     *
+     * @param when the date to resolve system data on, or null for data without any dated events applied
+     *
+     * @return the snapshot for that date
+     */
+    public UniverseSnapshot getSnapshot(LocalDate when) {
+        synchronized (snapshots) {
+            UniverseSnapshot snapshot = snapshots.get(when);
+            if ((null != snapshot) && (snapshot.size() == systemList.size())) {
+                return snapshot;
+            }
+
+            UniverseSnapshot nearest = (null == when) ? null : findNearestSnapshot(when);
+            snapshot = (null == nearest) ? UniverseSnapshot.build(systemList.values(), when) : nearest.advanceTo(when);
+            snapshots.put(when, snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * @return the cached dated snapshot closest to the given date, or null if there is no usable one
+     */
+    private UniverseSnapshot findNearestSnapshot(LocalDate when) {
+        UniverseSnapshot nearest = null;
+        long nearestDays = Long.MAX_VALUE;
+        for (UniverseSnapshot snapshot : snapshots.values()) {
+            if ((null == snapshot.getDate()) || (snapshot.size() != systemList.size())) {
+                continue;
+            }
+            long days = Math.abs(ChronoUnit.DAYS.between(snapshot.getDate(), when));
+            if (days < nearestDays) {
+                nearest = snapshot;
+                nearestDays = days;
+            }
+        }
+        return nearest;
+    }
+
     /**
      * Get a list of planetary systems within a certain jump radius (30ly per jump) that you can shop on, sorted by
      * number of jumps and in system transit time
@@ -158,7 +255,8 @@ public class Systems {
         List<PlanetarySystem> shoppingSystems = getNearbySystems(system, jumps * 30);
 
         // remove dead planets
-        shoppingSystems.removeIf(s -> null == s.getPrimaryPlanet() || s.getPrimaryPlanet().isEmpty(when));
+        UniverseSnapshot universe = getSnapshot(when);
+        shoppingSystems.removeIf(universe::isPrimaryPlanetEmpty);
 
         shoppingSystems.sort((p1, p2) -> {
             // sort first on number of jumps required
@@ -202,9 +300,10 @@ public class Systems {
             return hpgNetworkCache;
         }
 
+        UniverseSnapshot universe = getSnapshot(when);
         Set<HPGLink> result = new HashSet<>();
         for (PlanetarySystem system : systemList.values()) {
-            HPGRating hpg = system.getHPG(when);
+            HPGRating hpg = universe.getHPG(system);
             if (hpg != null) {
                 int distance = 0;
                 if (hpg == HPGRating.A) {
@@ -219,7 +318,7 @@ public class Systems {
 
                 if (distance > 0) {
                     for (PlanetarySystem neighbor : neighbors) {
-                        hpg = neighbor.getHPG(when);
+                        hpg = universe.getHPG(neighbor);
                         if (null != hpg) {
                             HPGLink link = new HPGLink(system, neighbor, hpg);
                             result.add(link);
@@ -239,6 +338,8 @@ public class Systems {
      * Loads the default planetary system data. This includes all *.yml files in data/universe/planetary_systems and
      * subfolders. It also loads a player's custom planets in their custom user directory, if it exists.
      *
+     * <p>If none of the source files have changed since the last launch, the systems are read from the
+     * {@link PlanetarySystemCache} instead of being parsed from YAML.</p>
      */
     public static Systems loadDefault() throws DOMException, IOException {
         logger.info("Starting load of system data from XML...");
@@ -246,19 +347,37 @@ public class Systems {
 
         Systems systems = new Systems();
 
-        // load default systems
-        systems.load(MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH);
-
-        // load user directory systems
+        // default systems first, then user directory systems so they override them
         String userDir = PreferenceManager.getClientPreferences().getUserDir();
-        systems.load(new File(userDir, MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH).toString());
+        List<File> sources = new ArrayList<>();
+        collectPlanetarySystemSources(new File(MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH), sources);
+        collectPlanetarySystemSources(new File(userDir, MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH), sources);
+
+        PlanetarySystemCache cache = new PlanetarySystemCache(new File(MHQConstants.PLANETARY_SYSTEM_CACHE_FILE_PATH),
+              sources);
+        PlanetarySystemCache.CachedSystems cachedSystems = cache.read();
+        if (null != cachedSystems) {
+            for (PlanetarySystem system : cachedSystems.systems()) {
+                systems.putSystem(system);
+            }
+        } else {
+            systems.parsePlanetarySystemFiles(sources, createMapper());
+        }
 
         // a bit of post loading clean up
         systems.cleanupSystems();
 
         // logging
-        logger.info(String.format(Locale.ROOT, "Loaded a total of %d systems in %.3fs.",
-              systems.systemList.size(), (java.lang.System.currentTimeMillis() - currentTime) / 1000.0));
+        double loadSeconds = (java.lang.System.currentTimeMillis() - currentTime) / 1000.0;
+        if (null != cachedSystems) {
+            logger.info(String.format(Locale.ROOT,
+                  "Loaded a total of %d systems in %.3fs from the startup cache (%.3fs when parsed from YAML).",
+                  systems.systemList.size(), loadSeconds, cachedSystems.parseSeconds()));
+        } else {
+            logger.info(String.format(Locale.ROOT, "Loaded a total of %d systems in %.3fs from YAML.",
+                  systems.systemList.size(), loadSeconds));
+            cache.write(systems.systemList.values(), loadSeconds);
+        }
         systems.logVeryCloseSystems();
 
         return systems;
@@ -271,6 +390,18 @@ public class Systems {
      *
      */
     public void load(String planetsPath) throws DOMException {
+        if ((null == planetsPath)) {
+            throw new NullPointerException();
+        }
+
+        List<File> sources = new ArrayList<>();
+        collectPlanetarySystemSources(new File(planetsPath), sources);
+
+        // Now we can Load all the yml files in the planetsPath and subdirectories
+        parsePlanetarySystemFiles(sources, createMapper());
+    }
+
+    private static ObjectMapper createMapper() {
         // set up mapper
         ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
         // add custom deserializer for any complex objects that need to be read from Strings, etc.
@@ -281,63 +412,34 @@ public class Systems {
         mapper.registerModule(module);
         // this will allow the mapper to deserialize LocalDate objects
         mapper.registerModule(new JavaTimeModule());
-
-        // Now we can Load all the yml files in the planetsPath and subdirectories
-        parsePlanetarySystemFiles(planetsPath, mapper);
+        return mapper;
     }
 
     /**
-     * loop through all files in the directory and subdirectories and load any *.yml files found.
+     * Collects all *.yml and *.zip files in the directory and subdirectories, in the order they must be applied: the
+     * directory's own *.yml files, then its zip archives, then each subdirectory in turn, all sorted by path. Later
+     * sources override earlier ones with the same system ID.
      *
-     * @param dirName the name of the directory from which to load files
-     * @param mapper  the Jackson mapper used to load the data from yaml
+     * @param dir     the directory (or single file) from which to collect files
+     * @param sources the list to add the files to
      */
-    private void parsePlanetarySystemFiles(String dirName, ObjectMapper mapper) {
-        if ((null == dirName)) {
-            throw new NullPointerException();
-        }
-
-        File dir = new File(dirName);
+    private static void collectPlanetarySystemSources(File dir, List<File> sources) {
         if (dir.isDirectory()) {
             File[] files = dir.listFiles((dir1, name) -> name.toLowerCase(Locale.ROOT).endsWith(".yml"));
             if ((null != files) && (files.length > 0)) {
                 // Case-insensitive sorting. Yes, even on Windows. Deal with it.
                 Arrays.sort(files, Comparator.comparing(File::getPath));
-                // Try parsing and updating the main list, one by one
                 for (File file : files) {
                     if (file.isFile()) {
-                        try (FileInputStream fis = new FileInputStream(file)) {
-                            loadPlanetarySystem(fis, mapper);
-                        } catch (Exception ex) {
-                            // Ignore this file then
-                            logger.error(ex, "Exception trying to parse {} - ignoring.", file.getPath());
-                        }
+                        sources.add(file);
                     }
                 }
             }
 
             File[] zipFiles = dir.listFiles((dir1, name) -> name.toLowerCase(Locale.ROOT).endsWith(".zip"));
             if (zipFiles != null) {
-                for (File zipFile : zipFiles) {
-                    try (ZipFile zip = new ZipFile(zipFile.getPath())) {
-                        Enumeration<? extends ZipEntry> entries = zip.entries();
-                        while (entries.hasMoreElements()) {
-                            ZipEntry entry = entries.nextElement();
-                            // Check if entry is a directory
-                            if (!entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(".yml")) {
-                                try (InputStream inputStream = zip.getInputStream(entry)) {
-                                    loadPlanetarySystem(inputStream, mapper);
-                                } catch (Exception ex) {
-                                    // Ignore this file then
-                                    logger.error(ex, "Exception trying to parse zip  entry {} - ignoring.",
-                                          entry.getName());
-                                }
-                            }
-                        }
-                    } catch (Exception ex) {
-                        logger.error(ex, "Exception trying to read the zip file {} -ignoring.", zipFile.getName());
-                    }
-                }
+                Arrays.sort(zipFiles, Comparator.comparing(File::getPath));
+                sources.addAll(Arrays.asList(zipFiles));
             }
 
             // Get subdirectories too
@@ -346,28 +448,79 @@ public class Systems {
                 Arrays.sort(dirs, Comparator.comparing(File::getPath));
                 for (File subDirectory : dirs) {
                     if (subDirectory.isDirectory()) {
-                        parsePlanetarySystemFiles(subDirectory.getPath(), mapper);
+                        collectPlanetarySystemSources(subDirectory, sources);
                     }
                 }
             }
-        } else {
-            if (dir.isFile()) {
-                try (FileInputStream fis = new FileInputStream(dir)) {
-                    loadPlanetarySystem(fis, mapper);
-                } catch (Exception ex) {
-                    // Ignore this dir then
-                    logger.error(ex, "Exception trying to parse {} - ignoring.", dir.getPath());
-                }
+        } else if (dir.isFile()) {
+            sources.add(dir);
+        }
+    }
+
+    /**
+     * Parses the given *.yml files and zip archives in parallel, then adds the systems to the main list in source
+     * order so that later files still override earlier ones.
+     *
+     * @param sources the files to load, as collected by {@link #collectPlanetarySystemSources(File, List)}
+     * @param mapper  the Jackson mapper used to load the data from yaml
+     */
+    private void parsePlanetarySystemFiles(List<File> sources, ObjectMapper mapper) {
+        List<PlanetarySystemSource> entries = new ArrayList<>();
+        for (File source : sources) {
+            if (source.getName().toLowerCase(Locale.ROOT).endsWith(".zip")) {
+                readZipEntries(source, entries);
+            } else {
+                entries.add(new PlanetarySystemSource(source.getPath(), source, null));
             }
+        }
+
+        PlanetarySystem[] parsed = new PlanetarySystem[entries.size()];
+        IntStream.range(0, entries.size()).parallel().forEach(i -> parsed[i] = entries.get(i).parse(mapper));
 
+        for (PlanetarySystem system : parsed) {
+            if (null != system) {
+                putSystem(system);
+            }
         }
     }
 
-    private void loadPlanetarySystem(InputStream source, ObjectMapper mapper) throws IOException {
-
-        PlanetarySystem system = mapper.readValue(source, PlanetarySystem.class);
-        systemList.put(system.getId(), system);
+    private static void readZipEntries(File zipFile, List<PlanetarySystemSource> entries) {
+        try (ZipFile zip = new ZipFile(zipFile.getPath())) {
+            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry entry = zipEntries.nextElement();
+                // Check if entry is a directory
+                if (!entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(".yml")) {
+                    try (InputStream inputStream = zip.getInputStream(entry)) {
+                        entries.add(new PlanetarySystemSource(entry.getName(), null, inputStream.readAllBytes()));
+                    } catch (Exception ex) {
+                        // Ignore this file then
+                        logger.error(ex, "Exception trying to read zip entry {} - ignoring.", entry.getName());
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            logger.error(ex, "Exception trying to read the zip file {} -ignoring.", zipFile.getName());
+        }
+    }
 
+    /**
+     * A single planetary system YAML document, either a file on disk or the contents of a zip entry.
+     */
+    private record PlanetarySystemSource(String name, File file, byte[] contents) {
+        /**
+         * @return the parsed system, or {@code null} if it could not be parsed
+         */
+        PlanetarySystem parse(ObjectMapper mapper) {
+            try (InputStream inputStream = (null != file) ? new FileInputStream(file)
+                                                : new ByteArrayInputStream(contents)) {
+                return mapper.readValue(inputStream, PlanetarySystem.class);
+            } catch (Exception ex) {
+                // Ignore this file then
+                logger.error(ex, "Exception trying to parse {} - ignoring.", name);
+                return null;
+            }
+        }
     }
 
     private void cleanupSystems() {
@@ -398,7 +551,7 @@ public class Systems {
             systemGrid.get(x).get(y).add(system);
         }
         for (PlanetarySystem system : toRemove) {
-            systemList.remove(system.getId());
+            removeSystem(system.getId());
         }
     }
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import megamek.logging.MMLogger;
+import mekhq.campaign.universe.enums.HPGRating;
+
+/**
+ * An immutable view of the date-dependent data of every {@link PlanetarySystem} on a single date.
+ *
+ * <p>The population, HPG rating, faction set and socio-industrial data of each system, along with whether its primary
+ * planet is inhabited and that planet's socio-industrial data, are resolved once when the snapshot is built and stored
+ * in parallel arrays, so reads do not go through the synchronized planetary event lookups. A snapshot for a new date
+ * is derived from the previous one by only re-resolving the systems which have an event between the two dates.</p>
+ *
+ * @see Systems#getSnapshot(LocalDate)
+ */
+public final class UniverseSnapshot {
+    private static final MMLogger logger = MMLogger.create(UniverseSnapshot.class);
+
+    private final LocalDate date;
+    private final PlanetarySystem[] systems;
+    private final Map<String, Integer> indexById;
+
+    private final long[] populations;
+    private final HPGRating[] hpgRatings;
+    private final Set<Faction>[] factionSets;
+    private final SocioIndustrialData[] socioIndustrialData;
+    private final boolean[] primaryPlanetEmpty;
+    private final SocioIndustrialData[] primarySocioIndustrialData;
+
+    private UniverseSnapshot(LocalDate date, PlanetarySystem[] systems, Map<String, Integer> indexById,
+          long[] populations, HPGRating[] hpgRatings, Set<Faction>[] factionSets,
+          SocioIndustrialData[] socioIndustrialData, boolean[] primaryPlanetEmpty,
+          SocioIndustrialData[] primarySocioIndustrialData) {
+        this.date = date;
+        this.systems = systems;
+        this.indexById = indexById;
+        this.populations = populations;
+        this.hpgRatings = hpgRatings;
+        this.factionSets = factionSets;
+        this.socioIndustrialData = socioIndustrialData;
+        this.primaryPlanetEmpty = primaryPlanetEmpty;
+        this.primarySocioIndustrialData = primarySocioIndustrialData;
+    }
+
+    /**
+     * Builds a snapshot from scratch, resolving every system.
+     *
+     * @param allSystems the systems to include
+     * @param date       the date to resolve the systems on
+     *
+     * @return the new snapshot
+     */
+    @SuppressWarnings(value = "unchecked")
+    public static UniverseSnapshot build(Collection<PlanetarySystem> allSystems, LocalDate date) {
+        PlanetarySystem[] systems = allSystems.toArray(new PlanetarySystem[0]);
+        Arrays.sort(systems, Comparator.comparing(PlanetarySystem::getId));
+
+        Map<String, Integer> indexById = new HashMap<>(systems.length * 2);
+        for (int i = 0; i < systems.length; i++) {
+            indexById.put(systems[i].getId(), i);
+        }
+
+        UniverseSnapshot snapshot = new UniverseSnapshot(date, systems, Collections.unmodifiableMap(indexById),
+              new long[systems.length], new HPGRating[systems.length], new Set[systems.length],
+              new SocioIndustrialData[systems.length], new boolean[systems.length],
+              new SocioIndustrialData[systems.length]);
+        for (int i = 0; i < systems.length; i++) {
+            snapshot.resolve(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Derives the snapshot for another date from this one. Only the systems with an event between the two dates are
+     * re-resolved; everything else is copied across.
+     *
+     * @param newDate the date of the new snapshot
+     *
+     * @return the new snapshot, or this snapshot if the date is unchanged
+     */
+    public UniverseSnapshot advanceTo(LocalDate newDate) {
+        if (date.equals(newDate)) {
+            return this;
+        }
+
+        LocalDate from = date.isBefore(newDate) ? date : newDate;
+        LocalDate to = date.isBefore(newDate) ? newDate : date;
+
+        UniverseSnapshot snapshot = new UniverseSnapshot(newDate, systems, indexById, populations.clone(),
+              hpgRatings.clone(), factionSets.clone(), socioIndustrialData.clone(), primaryPlanetEmpty.clone(),
+              primarySocioIndustrialData.clone());
+        int changed = 0;
+        for (int i = 0; i < systems.length; i++) {
+            if (systems[i].hasEventBetween(from, to)) {
+                snapshot.resolve(i);
+                changed++;
+            }
+        }
+        logger.debug("Advanced universe snapshot from {} to {}, re-resolving {} of {} systems", date, newDate,
+              changed, systems.length);
+        return snapshot;
+    }
+
+    /**
+     * Resolves the date-dependent data of a single system. Only called while the snapshot is being built.
+     */
+    private void resolve(int index) {
+        PlanetarySystem system = systems[index];
+        populations[index] = system.getPopulation(date);
+        hpgRatings[index] = system.getHPG(date);
+        factionSets[index] = Collections.unmodifiableSet(system.getFactionSet(date));
+        socioIndustrialData[index] = system.getSocioIndustrial(date);
+
+        Planet primaryPlanet = system.getPrimaryPlanet();
+        primaryPlanetEmpty[index] = (null == primaryPlanet) || primaryPlanet.isEmpty(date);
+        primarySocioIndustrialData[index] = (null == primaryPlanet) ? null : primaryPlanet.getSocioIndustrial(date);
+    }
+
+    private int indexOf(PlanetarySystem system) {
+        Integer index = (null == system) ? null : indexById.get(system.getId());
+        return (null == index) ? -1 : index;
+    }
+
+    /**
+     * @return the date this snapshot was resolved on
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @return the number of systems in this snapshot
+     */
+    public int size() {
+        return systems.length;
+    }
+
+    /**
+     * @return the total population of the system, as {@link PlanetarySystem#getPopulation(LocalDate)}
+     */
+    public long getPopulation(PlanetarySystem system) {
+        int index = indexOf(system);
+        return (index < 0) ? system.getPopulation(date) : populations[index];
+    }
+
+    /**
+     * @return the best HPG rating in the system, as {@link PlanetarySystem#getHPG(LocalDate)}
+     */
+    public HPGRating getHPG(PlanetarySystem system) {
+        int index = indexOf(system);
+        return (index < 0) ? system.getHPG(date) : hpgRatings[index];
+    }
+
+    /**
+     * @return an unmodifiable view of the factions owning the system, as
+     *       {@link PlanetarySystem#getFactionSet(LocalDate)}
+     */
+    public Set<Faction> getFactionSet(PlanetarySystem system) {
+        int index = indexOf(system);
+        return (index < 0) ? Collections.unmodifiableSet(system.getFactionSet(date)) : factionSets[index];
+    }
+
+    /**
+     * @return the best socio-industrial ratings in the system, as
+     *       {@link PlanetarySystem#getSocioIndustrial(LocalDate)}
+     */
+    public SocioIndustrialData getSocioIndustrial(PlanetarySystem system) {
+        int index = indexOf(system);
+        return (index < 0) ? system.getSocioIndustrial(date) : socioIndustrialData[index];
+    }
+
+    /**
+     * @return whether the system has no primary planet or its primary planet is uninhabited, as
+     *       {@link Planet#isEmpty(LocalDate)}
+     */
+    public boolean isPrimaryPlanetEmpty(PlanetarySystem system) {
+        int index = indexOf(system);
+        if (index >= 0) {
+            return primaryPlanetEmpty[index];
+        }
+        Planet primaryPlanet = system.getPrimaryPlanet();
+        return (null == primaryPlanet) || primaryPlanet.isEmpty(date);
+    }
+
+    /**
+     * @return the socio-industrial ratings of the system's primary planet, as
+     *       {@link Planet#getSocioIndustrial(LocalDate)}, or null if it has no primary planet
+     */
+    public SocioIndustrialData getPrimarySocioIndustrial(PlanetarySystem system) {
+        int index = indexOf(system);
+        if (index >= 0) {
+            return primarySocioIndustrialData[index];
+        }
+        Planet primaryPlanet = system.getPrimaryPlanet();
+        return (null == primaryPlanet) ? null : primaryPlanet.getSocioIndustrial(date);
+    }
+}
@@ -48,7 +48,6 @@ import java.util.List;
 
 import megamek.common.enums.Gender;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Entity;
 import megamek.common.units.EntityMovementMode;
@@ -64,6 +63,7 @@ import mekhq.campaign.force.CombatTeam;
 import mekhq.campaign.force.FormationLevel;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.IUnitGenerator;
@@ -367,8 +367,7 @@ public class FactionAccoladeEvent {
 
             if (mekSummary != null) {
                 try {
-                    Entity entity = new MekFileParser(mekSummary.getSourceFile(),
-                          mekSummary.getEntryName()).getEntity();
+                    Entity entity = EntityTemplateCache.getInstance().getEntity(mekSummary);
 
                     if (entity != null) {
                         generatedEntities.add(entity);
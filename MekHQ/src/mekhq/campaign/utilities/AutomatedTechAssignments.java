@@ -442,7 +442,7 @@ public class AutomatedTechAssignments {
     private static void sortByBattleValue(List<Unit> units) {
         units.sort(Comparator.comparingInt((Unit unit) -> {
                   Entity entity = unit.getEntity();
-                  return (entity == null) ? Integer.MIN_VALUE : entity.calculateBattleValue();
+                  return (entity == null) ? Integer.MIN_VALUE : unit.getBattleValue();
               }
         ).reversed());
     }
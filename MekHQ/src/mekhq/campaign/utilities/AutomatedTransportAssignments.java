@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.utilities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import megamek.common.units.Entity;
+import mekhq.MekHQ;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.enums.CampaignTransportType;
+import mekhq.campaign.events.units.UnitChangedEvent;
+import mekhq.campaign.force.Formation;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.unit.enums.TransporterType;
+import mekhq.campaign.utilities.TransportBinPacker.Placement;
+
+/**
+ * Loads a whole group of units, such as every unit in a formation, into the campaign's ship, tactical, or tow
+ * transports in one pass, instead of choosing a transport and transporter type for each unit by hand.
+ *
+ * <p>Each unit can go into any transporter type it fits, so a mixed formation is spread over Mek bays, vehicle bays,
+ * infantry compartments and so on as needed. Placement is done by a {@link TransportBinPacker}, which fills the
+ * tightest fitting space first so as few transports as possible are used.</p>
+ *
+ * <p><b>Notes</b></p>
+ * <ul>
+ *   <li>Units that already have a transport of this kind are left where they are.</li>
+ *   <li>Units that aren't available, and units with no transport that has room for them, are not loaded and are
+ *   reported by {@link #getUnassignedUnits()}.</li>
+ *   <li>As with the transport menus, transports that aren't part of a formation are not used.</li>
+ * </ul>
+ *
+ * @see CampaignTransportType
+ * @see mekhq.gui.menus.AssignForceToTransportMenu
+ */
+public class AutomatedTransportAssignments {
+    private final Campaign campaign;
+    private final CampaignTransportType campaignTransportType;
+    private final Map<Unit, Placement<Unit>> placements;
+    private final List<Unit> unassignedUnits = new ArrayList<>();
+
+    /**
+     * Works out which transport each of the units should be loaded into. Nothing is loaded until
+     * {@link #loadTransports()} is called.
+     *
+     * @param campaign              the current campaign
+     * @param campaignTransportType the kind of transport to load the units into
+     * @param units                 the units to load
+     */
+    public AutomatedTransportAssignments(Campaign campaign, CampaignTransportType campaignTransportType,
+          Collection<Unit> units) {
+        this.campaign = campaign;
+        this.campaignTransportType = campaignTransportType;
+
+        TransportBinPacker<Unit> packer = new TransportBinPacker<>();
+        Map<TransporterType, Double> smallestUsage = new EnumMap<>(TransporterType.class);
+        List<Unit> unitsToLoad = new ArrayList<>();
+        for (Unit unit : units) {
+            if ((unit.getEntity() == null) || unit.hasTransportAssignment(campaignTransportType)) {
+                continue;
+            } else if (!unit.isAvailable()) {
+                unassignedUnits.add(unit);
+                continue;
+            }
+
+            Map<TransporterType, Double> usage = getCapacityUsage(unit.getEntity());
+            for (Map.Entry<TransporterType, Double> entry : usage.entrySet()) {
+                smallestUsage.merge(entry.getKey(), entry.getValue(), Math::min);
+            }
+            packer.addUnit(unit, usage);
+            unitsToLoad.add(unit);
+        }
+
+        // Only transports with room for at least the smallest unit wanting each transporter type are worth adding
+        for (Map.Entry<TransporterType, Double> entry : smallestUsage.entrySet()) {
+            for (Unit transport : campaign.getTransportsByType(campaignTransportType, entry.getKey(),
+                  entry.getValue())) {
+                if ((transport != null) && (transport.getFormationId() != Formation.FORMATION_NONE)) {
+                    packer.addTransport(transport, entry.getKey(),
+                          transport.getCurrentTransportCapacity(campaignTransportType, entry.getKey()));
+                }
+            }
+        }
+
+        placements = packer.pack(this::canLoad);
+        for (Unit unit : unitsToLoad) {
+            if (!placements.containsKey(unit)) {
+                unassignedUnits.add(unit);
+            }
+        }
+    }
+
+    /**
+     * @return the space the entity would take up in each transporter type it could be carried in
+     */
+    private Map<TransporterType, Double> getCapacityUsage(Entity entity) {
+        Map<TransporterType, Double> usage = new EnumMap<>(TransporterType.class);
+        for (TransporterType transporterType : CampaignTransportUtilities.mapICarryableToTransporters(
+              campaignTransportType, entity)) {
+            usage.put(transporterType, CampaignTransportUtilities.transportCapacityUsage(transporterType, entity));
+        }
+        return usage;
+    }
+
+    private boolean canLoad(Unit transport, Unit unit) {
+        if (campaignTransportType.isTowTransport()) {
+            return transport.getEntity().canTow(unit.getEntity().getId());
+        }
+        return transport.getEntity().canLoad(unit.getEntity(), false);
+    }
+
+    /**
+     * @return the transport chosen for each unit that found room
+     */
+    public Map<Unit, Unit> getPlannedTransports() {
+        Map<Unit, Unit> plannedTransports = new LinkedHashMap<>();
+        placements.forEach((unit, placement) -> plannedTransports.put(unit, placement.transport()));
+        return plannedTransports;
+    }
+
+    /**
+     * @return the units that couldn't be given a transport
+     */
+    public List<Unit> getUnassignedUnits() {
+        return Collections.unmodifiableList(unassignedUnits);
+    }
+
+    /**
+     * Loads every unit that found room into its chosen transport, loading all the units going into the same
+     * transporter of a transport at once, and updates the campaign's transport capacities.
+     */
+    public void loadTransports() {
+        Map<Unit, Map<TransporterType, Set<Unit>>> loads = new LinkedHashMap<>();
+        for (Map.Entry<Unit, Placement<Unit>> placement : placements.entrySet()) {
+            loads.computeIfAbsent(placement.getValue().transport(), t -> new EnumMap<>(TransporterType.class))
+                  .computeIfAbsent(placement.getValue().transporterType(), type -> new LinkedHashSet<>())
+                  .add(placement.getKey());
+        }
+
+        Set<Unit> changedTransports = new LinkedHashSet<>();
+        for (Map.Entry<Unit, Map<TransporterType, Set<Unit>>> load : loads.entrySet()) {
+            Unit transport = load.getKey();
+            for (Map.Entry<TransporterType, Set<Unit>> transporterLoad : load.getValue().entrySet()) {
+                if (campaignTransportType.isTowTransport()) {
+                    changedTransports.addAll(towTrailers(transport, transporterLoad.getKey(),
+                          transporterLoad.getValue()));
+                } else if (campaignTransportType.isShipTransport()) {
+                    changedTransports.addAll(transport.loadShipTransport(transporterLoad.getKey(),
+                          transporterLoad.getValue()));
+                } else {
+                    changedTransports.addAll(transport.loadTacticalTransport(transporterLoad.getKey(),
+                          transporterLoad.getValue()));
+                }
+            }
+            changedTransports.add(transport);
+        }
+
+        for (Unit changedTransport : changedTransports) {
+            if (!loads.containsKey(changedTransport) && !campaignTransportType.isTowTransport()) {
+                // A previous transport of one of the loaded units
+                changedTransport.initializeAllTransportSpace();
+            }
+            campaign.updateTransportInTransports(campaignTransportType, changedTransport);
+            MekHQ.triggerEvent(new UnitChangedEvent(changedTransport));
+        }
+        for (Unit unit : placements.keySet()) {
+            MekHQ.triggerEvent(new UnitChangedEvent(unit));
+        }
+    }
+
+    /**
+     * Hitches each trailer to the end of the train pulled by the tractor.
+     *
+     * @return the units whose towing changed, other than the tractor itself
+     */
+    private Set<Unit> towTrailers(Unit tractor, TransporterType transporterType, Set<Unit> trailers) {
+        Set<Unit> changedUnits = new HashSet<>();
+        for (Unit trailer : trailers) {
+            Unit towingUnit = tractor;
+            while ((towingUnit != null) && towingUnit.hasTransportedUnits(campaignTransportType)) {
+                towingUnit = towingUnit.getTransportedUnits(campaignTransportType).stream().findAny().orElse(null);
+            }
+            if (towingUnit == null) {
+                continue;
+            }
+
+            Unit oldTransport = towingUnit.towTrailer(trailer, null, transporterType);
+            if (oldTransport != null) {
+                changedUnits.add(oldTransport);
+            }
+            if (!towingUnit.equals(tractor)) {
+                tractor.getTransportedUnitsSummary(campaignTransportType)
+                      .recalculateTransportCapacity(tractor.getEntity().getTransports());
+                changedUnits.add(towingUnit);
+            }
+        }
+        return changedUnits;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.utilities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiPredicate;
+
+import mekhq.campaign.unit.enums.TransporterType;
+
+/**
+ * Packs a group of units into the space left in a group of transports in a single pass.
+ *
+ * <p>Units are placed most constrained first: those that fit the fewest kinds of transporter, then those needing the
+ * most space. Each unit goes to the transporter that will have the least space left over once it's loaded, so
+ * partially filled transports are topped up before empty ones are started. The remaining space for each transporter
+ * type is kept sorted, so finding the tightest fit only looks at transports with enough room.</p>
+ *
+ * <p>A unit can be both something to load and a transport, such as a DropShip in a formation that is itself loaded
+ * into a JumpShip's docking collar; a unit is never placed inside itself or inside something it is carrying.</p>
+ *
+ * @param <T> the type of unit being loaded, which is also the type of the transports
+ */
+class TransportBinPacker<T> {
+    private final Map<TransporterType, NavigableMap<Double, Set<T>>> transportsByCapacity =
+          new EnumMap<>(TransporterType.class);
+    private final Map<T, Map<TransporterType, Double>> remainingCapacity = new HashMap<>();
+    private final Map<T, Map<TransporterType, Double>> capacityUsage = new LinkedHashMap<>();
+    private final Map<T, Placement<T>> placements = new LinkedHashMap<>();
+
+    /**
+     * Where a unit has been placed.
+     *
+     * @param transport       the transport carrying the unit
+     * @param transporterType the kind of transporter the unit is carried in
+     */
+    record Placement<T>(T transport, TransporterType transporterType) {
+    }
+
+    /**
+     * Adds space a transport has left in one of its transporter types.
+     */
+    void addTransport(T transport, TransporterType transporterType, double capacity) {
+        Map<TransporterType, Double> capacities = remainingCapacity.get(transport);
+        if ((capacities != null) && capacities.containsKey(transporterType)) {
+            removeFromCapacityIndex(transport, transporterType, capacities.get(transporterType));
+        }
+        if (capacity <= 0) {
+            return;
+        }
+        remainingCapacity.computeIfAbsent(transport, t -> new EnumMap<>(TransporterType.class))
+              .put(transporterType, capacity);
+        addToCapacityIndex(transport, transporterType, capacity);
+    }
+
+    /**
+     * Adds a unit to load, with the space it would use in each transporter type it could be carried in.
+     */
+    void addUnit(T unit, Map<TransporterType, Double> usage) {
+        if (!usage.isEmpty()) {
+            capacityUsage.put(unit, new EnumMap<>(usage));
+        }
+    }
+
+    /**
+     * Places every unit it can.
+     *
+     * @param canLoad an additional check of whether a transport can carry a unit, made before it is placed there
+     *
+     * @return the placement of each unit that found room, in the order they were placed
+     */
+    Map<T, Placement<T>> pack(BiPredicate<T, T> canLoad) {
+        List<T> units = new ArrayList<>(capacityUsage.keySet());
+        units.sort(Comparator.<T>comparingInt(this::countUsableTransporterTypes)
+                         .thenComparing(unit -> Collections.max(capacityUsage.get(unit).values()),
+                               Comparator.reverseOrder()));
+
+        for (T unit : units) {
+            Placement<T> best = null;
+            double bestLeftover = Double.MAX_VALUE;
+            for (Map.Entry<TransporterType, Double> usage : capacityUsage.get(unit).entrySet()) {
+                NavigableMap<Double, Set<T>> capacities = transportsByCapacity.get(usage.getKey());
+                if (capacities == null) {
+                    continue;
+                }
+
+                search:
+                for (Map.Entry<Double, Set<T>> entry : capacities.tailMap(usage.getValue(), true).entrySet()) {
+                    double leftover = entry.getKey() - usage.getValue();
+                    if (leftover >= bestLeftover) {
+                        break;
+                    }
+                    for (T transport : entry.getValue()) {
+                        if (canCarry(transport, unit) && canLoad.test(transport, unit)) {
+                            best = new Placement<>(transport, usage.getKey());
+                            bestLeftover = leftover;
+                            break search;
+                        }
+                    }
+                }
+            }
+
+            if (best != null) {
+                placements.put(unit, best);
+                double capacity = remainingCapacity.get(best.transport()).get(best.transporterType());
+                addTransport(best.transport(), best.transporterType(),
+                      capacity - capacityUsage.get(unit).get(best.transporterType()));
+            }
+        }
+        return placements;
+    }
+
+    private int countUsableTransporterTypes(T unit) {
+        int count = 0;
+        for (TransporterType transporterType : capacityUsage.get(unit).keySet()) {
+            if (transportsByCapacity.containsKey(transporterType)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return false if the transport is the unit itself or is, directly or not, being carried by the unit
+     */
+    private boolean canCarry(T transport, T unit) {
+        T current = transport;
+        while (current != null) {
+            if (current.equals(unit)) {
+                return false;
+            }
+            Placement<T> placement = placements.get(current);
+            current = (placement == null) ? null : placement.transport();
+        }
+        return true;
+    }
+
+    private void addToCapacityIndex(T transport, TransporterType transporterType, double capacity) {
+        transportsByCapacity.computeIfAbsent(transporterType, type -> new TreeMap<>())
+              .computeIfAbsent(capacity, c -> new LinkedHashSet<>())
+              .add(transport);
+    }
+
+    private void removeFromCapacityIndex(T transport, TransporterType transporterType, double capacity) {
+        remainingCapacity.get(transport).remove(transporterType);
+        NavigableMap<Double, Set<T>> capacities = transportsByCapacity.get(transporterType);
+        Set<T> transports = capacities.get(capacity);
+        transports.remove(transport);
+        if (transports.isEmpty()) {
+            capacities.remove(capacity);
+        }
+        if (capacities.isEmpty()) {
+            transportsByCapacity.remove(transporterType);
+        }
+    }
+}
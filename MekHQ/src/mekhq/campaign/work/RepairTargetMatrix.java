@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.work;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.rolls.TargetRoll;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.parts.missing.MissingPart;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.unit.Unit;
+
+/**
+ * A parts &times; techs table of repair target numbers, filled in lazily for a single batch of repair work such as a
+ * Mass Repair/Salvage pass or a paint of the repair task list.
+ * <p>
+ * Each part (row) remembers the checks that do not depend on the tech: whether a {@link MissingPart} has a
+ * replacement in the warehouse and the result of {@link IPartWork#checkFixable()}. Both are expensive and would
+ * otherwise be repeated for every tech and work time considered. Each cell remembers the {@link TargetRoll} for one
+ * tech at one {@link WorkTime}.
+ * <p>
+ * Nothing is refreshed automatically beyond the AsTech pool, which every cell depends on. Once work has been done the
+ * caller reports it through {@link #invalidateAfterWork(IPartWork, Unit, Person)}, which drops only the rows of the
+ * unit that was worked on, the column of the tech that did the work and, when the warehouse may have changed, the
+ * replacement lookups.
+ */
+public class RepairTargetMatrix {
+    private final Campaign campaign;
+    private final Map<IPartWork, Row> rows = new IdentityHashMap<>();
+    private final Map<Unit, Set<IPartWork>> rowsByUnit = new IdentityHashMap<>();
+    private final Set<IPartWork> missingPartRows = newIdentitySet();
+    private final Map<Person, Integer> techVersions = new IdentityHashMap<>();
+
+    public RepairTargetMatrix(final Campaign campaign) {
+        this.campaign = campaign;
+    }
+
+    /**
+     * Returns the target number for a tech working on a part at the part's current work time, calculating it only
+     * the first time it is asked for.
+     * <p>
+     * The returned roll is shared by later lookups and must not be modified.
+     *
+     * @param partWork the part being worked on
+     * @param tech     the tech doing the work
+     *
+     * @return the same {@link TargetRoll} as {@link Campaign#getTargetFor(IPartWork, Person)}
+     */
+    public TargetRoll getTargetFor(final IPartWork partWork, final Person tech) {
+        final Row row = getRow(partWork);
+        final WorkTime mode = partWork.getMode();
+        final int techVersion = techVersions.getOrDefault(tech, 0);
+        final long asTechStamp = getAsTechStamp();
+
+        final Map<WorkTime, Cell> techCells = row.cells.computeIfAbsent(tech, t -> new EnumMap<>(WorkTime.class));
+        final Cell cell = techCells.get(mode);
+        if ((cell != null) && (cell.techVersion() == techVersion) && (cell.asTechStamp() == asTechStamp)) {
+            return cell.targetRoll();
+        }
+
+        final TargetRoll targetRoll = campaign.getTargetFor(partWork, tech, this);
+        techCells.put(mode, new Cell(targetRoll, techVersion, asTechStamp));
+        return targetRoll;
+    }
+
+    /**
+     * @return {@code true} if the warehouse holds a replacement for the missing part, looked up once per row
+     */
+    public boolean isReplacementAvailable(final MissingPart missingPart) {
+        final Row row = getRow(missingPart);
+        if (row.replacementAvailable == null) {
+            row.replacementAvailable = missingPart.isReplacementAvailable();
+        }
+        return row.replacementAvailable;
+    }
+
+    /**
+     * @return the result of {@link IPartWork#checkFixable()}, evaluated once per row
+     */
+    public @Nullable String checkFixable(final IPartWork partWork) {
+        final Row row = getRow(partWork);
+        if (!row.fixabilityChecked) {
+            row.notFixable = partWork.checkFixable();
+            row.fixabilityChecked = true;
+        }
+        return row.notFixable;
+    }
+
+    /**
+     * Drops everything remembered about a single part.
+     */
+    public void invalidatePart(final IPartWork partWork) {
+        if (rows.remove(partWork) == null) {
+            return;
+        }
+        missingPartRows.remove(partWork);
+
+        final Unit unit = partWork.getUnit();
+        if (unit != null) {
+            final Set<IPartWork> unitRows = rowsByUnit.get(unit);
+            if (unitRows != null) {
+                unitRows.remove(partWork);
+            }
+        }
+    }
+
+    /**
+     * Drops everything remembered about the parts of a unit. Whether a part can be fixed often depends on the state
+     * of the other parts on the same unit, so this is used whenever any of them changes.
+     */
+    public void invalidateUnit(final Unit unit) {
+        final Set<IPartWork> unitRows = rowsByUnit.remove(unit);
+        if (unitRows == null) {
+            return;
+        }
+
+        for (final IPartWork partWork : unitRows) {
+            rows.remove(partWork);
+            missingPartRows.remove(partWork);
+        }
+    }
+
+    /**
+     * Drops every target number calculated for a tech, for example once they have spent time on a task.
+     */
+    public void invalidateTech(final Person tech) {
+        techVersions.merge(tech, 1, Integer::sum);
+    }
+
+    /**
+     * Drops every replacement lookup, along with the target numbers that relied on them. Used when parts have been
+     * taken from or added to the warehouse.
+     */
+    public void invalidateReplacements() {
+        for (final IPartWork partWork : missingPartRows) {
+            final Row row = rows.get(partWork);
+            if (row != null) {
+                row.replacementAvailable = null;
+                row.cells.clear();
+            }
+        }
+    }
+
+    /**
+     * Drops what a completed piece of work may have changed: the rows of the part and its unit, the tech's column
+     * and, for replacements and salvage, every replacement lookup.
+     *
+     * @param partWork the part that was worked on
+     * @param unit     the unit the part was on before the work, or {@code null} for warehouse parts
+     * @param tech     the tech who did the work
+     */
+    public void invalidateAfterWork(final IPartWork partWork, final @Nullable Unit unit, final Person tech) {
+        invalidateTech(tech);
+        invalidatePart(partWork);
+
+        if (unit != null) {
+            invalidateUnit(unit);
+        }
+
+        if ((partWork instanceof MissingPart) || ((unit != null) && unit.isSalvage())) {
+            invalidateReplacements();
+        }
+    }
+
+    /**
+     * Drops everything.
+     */
+    public void clear() {
+        rows.clear();
+        rowsByUnit.clear();
+        missingPartRows.clear();
+        techVersions.clear();
+    }
+
+    private Row getRow(final IPartWork partWork) {
+        Row row = rows.get(partWork);
+        if (row == null) {
+            row = new Row();
+            rows.put(partWork, row);
+
+            final Unit unit = partWork.getUnit();
+            if (unit != null) {
+                rowsByUnit.computeIfAbsent(unit, u -> newIdentitySet()).add(partWork);
+            }
+
+            if (partWork instanceof MissingPart) {
+                missingPartRows.add(partWork);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Every cell depends on how much of the AsTech pool is left, which any repair can change
+     */
+    private long getAsTechStamp() {
+        return ((long) campaign.getAsTechPoolMinutes() << 32) | (campaign.getAsTechPoolOvertime() & 0xFFFFFFFFL);
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static final class Row {
+        private @Nullable Boolean replacementAvailable;
+        private boolean fixabilityChecked;
+        private @Nullable String notFixable;
+        private final Map<Person, Map<WorkTime, Cell>> cells = new IdentityHashMap<>();
+    }
+
+    private record Cell(TargetRoll targetRoll, int techVersion, long asTechStamp) {
+    }
+}
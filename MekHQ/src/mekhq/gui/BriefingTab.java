@@ -498,7 +498,7 @@ public final class BriefingTab extends CampaignGuiTab {
 
         // We only resolve prisoners if there are no active Missions
         if (getCampaign().getActiveMissions(false).isEmpty()) {
-            if (!getCampaign().getFriendlyPrisoners().isEmpty()) {
+            if (getCampaign().hasFriendlyPrisoners()) {
                 prisoners.handlePrisoners(wasOverallSuccess, true);
             }
 
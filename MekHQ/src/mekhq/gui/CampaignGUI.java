@@ -3630,6 +3630,23 @@ public class CampaignGUI extends JPanel {
      */
     @Subscribe
     public void handleNewDay(NewDayEvent newDayEvent) {
+        // Days advanced as part of a batch are refreshed once, by handleDaysAdvanced
+        if (!newDayEvent.isPartOfBatch()) {
+            refreshAfterNewDay();
+        }
+    }
+
+    /**
+     * Handles the end of a batch of days advanced together, refreshing everything skipped for the individual days.
+     *
+     * @param daysAdvancedEvent the event signalling that a batch of days has been advanced
+     */
+    @Subscribe
+    public void handleDaysAdvanced(DaysAdvancedEvent daysAdvancedEvent) {
+        refreshAfterNewDay();
+    }
+
+    private void refreshAfterNewDay() {
         refreshCalendar();
         refreshLocation();
         refreshFunds();
@@ -74,6 +74,7 @@ import mekhq.campaign.CampaignSummary;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.enums.DailyReportType;
 import mekhq.campaign.events.AcquisitionEvent;
+import mekhq.campaign.events.DaysAdvancedEvent;
 import mekhq.campaign.events.NewDayEvent;
 import mekhq.campaign.events.OptionsChangedEvent;
 import mekhq.campaign.events.ProcurementEvent;
@@ -1095,6 +1096,17 @@ public final class CommandCenterTab extends CampaignGuiTab {
 
     @Subscribe
     public void handleNewDay(NewDayEvent evt) {
+        if (!evt.isPartOfBatch()) {
+            refreshAfterNewDay();
+        }
+    }
+
+    @Subscribe
+    public void handleDaysAdvanced(DaysAdvancedEvent evt) {
+        refreshAfterNewDay();
+    }
+
+    private void refreshAfterNewDay() {
         procurementListScheduler.schedule();
         basicInfoScheduler.schedule();
         objectivesScheduler.schedule();
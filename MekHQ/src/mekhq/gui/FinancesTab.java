@@ -76,6 +76,7 @@ import mekhq.campaign.finances.Asset;
 import mekhq.campaign.finances.FinancialReport;
 import mekhq.campaign.finances.Money;
 import mekhq.campaign.finances.Transaction;
+import mekhq.campaign.finances.TransactionLedger;
 import mekhq.campaign.mission.Contract;
 import mekhq.gui.adapter.FinanceTableMouseAdapter;
 import mekhq.gui.adapter.LoanTableMouseAdapter;
@@ -260,12 +261,12 @@ public final class FinancesTab extends CampaignGuiTab {
 
     private XYDataset setupFinanceDataset() {
         TimeSeries s1 = new TimeSeries("C-Bills");
-        List<Transaction> transactions = getCampaign().getFinances().getTransactions();
+        TransactionLedger ledger = getCampaign().getFinances().getLedger();
+        List<Transaction> transactions = ledger.getTransactions();
 
-        Money balance = Money.zero();
-        for (Transaction transaction : transactions) {
-            balance = balance.plus(transaction.getAmount());
-            LocalDate date = transaction.getDate();
+        for (int i = 0; i < transactions.size(); i++) {
+            Money balance = ledger.getRunningBalance(i);
+            LocalDate date = transactions.get(i).getDate();
             // since there may be more than one entry per day and the dataset for the graph can only have one entry per day
             // we use addOrUpdate() which assumes transactions are in sequential order by date so we always have the most
             // up-to-date entry for each day
@@ -430,7 +431,7 @@ public final class FinancesTab extends CampaignGuiTab {
 
     public void refreshFinancialTransactions() {
         SwingUtilities.invokeLater(() -> {
-            financeModel.setData(getCampaign().getFinances().getTransactions());
+            financeModel.setLedger(getCampaign().getFinances().getLedger());
             loanModel.setData(getCampaign().getFinances().getLoans());
             refreshFinancialReport();
         });
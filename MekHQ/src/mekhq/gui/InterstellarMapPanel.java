@@ -55,14 +55,17 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.vecmath.Vector2d;
@@ -82,8 +85,10 @@ import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.HPGLink;
 import mekhq.campaign.universe.PlanetarySystem;
+import mekhq.campaign.universe.PlanetarySystemGrid;
 import mekhq.campaign.universe.SocioIndustrialData;
 import mekhq.campaign.universe.Systems;
+import mekhq.campaign.universe.UniverseSnapshot;
 import mekhq.campaign.universe.enums.HPGRating;
 import mekhq.campaign.universe.enums.HiringHallLevel;
 import mekhq.campaign.universe.factionHints.FactionHints;
@@ -108,6 +113,19 @@ public class InterstellarMapPanel extends JPanel {
           new Vector2d(Math.cos(5.0 * Math.PI / 3.0), Math.sin(5.0 * Math.PI / 3.0))
     };
 
+    /** How far past each edge of the panel the cached map layers are drawn, as a fraction of its longer side */
+    private static final double LAYER_MARGIN = 0.25;
+
+    private static final Stroke THICK = new BasicStroke(2.0f);
+    private static final Stroke THIN = new BasicStroke(1.2f);
+    private static final Stroke DASHED = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
+          new float[] { 3 }, 0);
+    private static final Stroke DASHED_THICK = new BasicStroke(3.0f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
+          new float[] { 3 }, 0);
+    private static final Stroke DOTTED = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
+          new float[] { 2, 5 }, 0);
+    private static final Color DARK_CYAN = new Color(0, 100, 50);
+
     private final JLayeredPane pane;
     private final JPanel mapPanel;
     private final JViewport optionView;
@@ -135,6 +153,7 @@ public class InterstellarMapPanel extends JPanel {
     private boolean optionPanelHidden;
 
     private ArrayList<PlanetarySystem> systems;
+    private PlanetarySystemGrid systemGrid;
 
     private JumpPath jumpPath;
     private Campaign campaign;
@@ -150,6 +169,11 @@ public class InterstellarMapPanel extends JPanel {
     private transient double maxY;
     private transient LocalDate now;
 
+    private final MapLayer territoryLayer = new MapLayer();
+    private final MapLayer hpgLayer = new MapLayer();
+    private final MapLayer systemLayer = new MapLayer();
+    private int layerGeneration = 0;
+
     public InterstellarMapPanel(Campaign campaign, CampaignGUI view) {
         this.campaign = campaign;
         systems = this.campaign.getSystems();
@@ -443,439 +467,8 @@ public class InterstellarMapPanel extends JPanel {
         mapPanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g;
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2.setColor(Color.BLACK);
-                g2.fillRect(0, 0, getWidth(), getHeight());
-                double size = 1 + 5 * Math.log(conf.scale);
-                size = Math.max(min(size, conf.maxDotSize), conf.minDotSize);
-
-                final Stroke thick = new BasicStroke(2.0f);
-                final Stroke thin = new BasicStroke(1.2f);
-                final Stroke dashed = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
-                      new float[] { 3 }, 0);
-                final Stroke dashedThick = new BasicStroke(3.0f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
-                      new float[] { 3 }, 0);
-                final Stroke dotted = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
-                      new float[] { 2, 5 }, 0);
-                final Color darkCyan = new Color(0, 100, 50);
-
-                minX = scr2mapX(-size * 2.0);
-                minY = scr2mapY(getHeight() + size * 2.0);
-                maxX = scr2mapX(getWidth() + size * 2.0);
-                maxY = scr2mapY(-size * 2.0);
-                now = InterstellarMapPanel.this.campaign.getLocalDate();
-
-                Arc2D.Double arc = new Arc2D.Double();
-
-                // Draw auras around a selected planet
-                if (selectedSystem != null) {
-                    final double x = map2scrX(selectedSystem.getX());
-                    final double y = map2scrY(selectedSystem.getY());
-                    // Contract Search Radius Aura
-                    if (!InterstellarMapPanel.this.campaign.getCampaignOptions().getContractMarketMethod().isNone()
-                              && MekHQ.getMHQOptions().getInterstellarMapShowContractSearchRadius()) {
-                        final double z = map2scrX(selectedSystem.getX()
-                                                        +
-                                                        InterstellarMapPanel.this.campaign.getCampaignOptions()
-                                                              .getContractSearchRadius());
-                        final double contractSearchRadius = z - x;
-                        g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapContractSearchRadiusColour());
-                        g2.setStroke(dashedThick);
-                        arc.setArcByCenter(x, y, contractSearchRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-
-                    // Acquisition Search Radius Aura
-                    if (InterstellarMapPanel.this.campaign.getCampaignOptions().isUsePlanetaryAcquisition()
-                              && MekHQ.getMHQOptions().getInterstellarMapShowPlanetaryAcquisitionRadius()
-                              && (conf.scale > MekHQ.getMHQOptions()
-                                                     .getInterstellarMapShowPlanetaryAcquisitionRadiusMinimumZoom())) {
-                        final double z = map2scrX(selectedSystem.getX()
-                                                        + (MHQConstants.MAX_JUMP_RADIUS
-                                                                 *
-                                                                 InterstellarMapPanel.this.campaign.getCampaignOptions()
-                                                                       .getMaxJumpsPlanetaryAcquisition()));
-                        final double acquisitionRadius = z - x;
-                        g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapPlanetaryAcquisitionRadiusColour());
-                        g2.setStroke(dashedThick);
-                        arc.setArcByCenter(x, y, acquisitionRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-
-                    // Jump Radius Aura
-                    if (MekHQ.getMHQOptions().getInterstellarMapShowJumpRadius()
-                              && (conf.scale > MekHQ.getMHQOptions().getInterstellarMapShowJumpRadiusMinimumZoom())) {
-                        final double z = map2scrX(selectedSystem.getX() + MHQConstants.MAX_JUMP_RADIUS);
-                        final double jumpRadius = z - x;
-                        g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapJumpRadiusColour());
-                        g2.setStroke(dashedThick);
-                        arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-
-                    // Don't override HPG Network drawing
-                    if (optHPGNetwork.isSelected()) {
-                        final double z = map2scrX(selectedSystem.getX() + 50);
-                        final double jumpRadius = z - x;
-                        g2.setPaint(darkCyan);
-                        g2.setStroke(dotted);
-                        arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-                }
-
-                if ((conf.scale > 1.0) && optTerritory.isSelected()) {
-                    final double HEX_SIZE = 30;
-                    final double SPACING_X = HEX_SIZE * Math.sqrt(3) / 2.0;
-
-                    AffineTransform transform = getMap2ScrTransform();
-                    Paint defaultFactionPaint = new Color(0.0f, 0.0f, 0.0f, 0.25f);
-
-                    int minX = (int) Math.floor(scr2mapX(0.0) / SPACING_X);
-                    int maxX = (int) Math.ceil(scr2mapX(getWidth()) / SPACING_X);
-                    int minY = (int) Math.floor(scr2mapY(getHeight()) / HEX_SIZE);
-                    int maxY = (int) Math.ceil(scr2mapY(0.0) / HEX_SIZE);
-
-                    Faction indFaction = Factions.getInstance().getFaction("IND");
-
-                    for (int x = minX; x <= maxX; ++x) {
-                        for (int y = minY; y <= maxY; ++y) {
-                            double coordX = x * SPACING_X;
-                            double coordY = y * HEX_SIZE + (x % 2) * HEX_SIZE / 2.0;
-                            GeneralPath path = new GeneralPath();
-                            setupHexPath(path, coordX, coordY, HEX_SIZE / 2.0);
-
-                            Paint factionPaint = defaultFactionPaint;
-                            Set<Faction> hexFactions = new HashSet<>();
-
-                            List<PlanetarySystem> nearbySystems = Systems.getInstance()
-                                                                        .getNearbySystems(coordX,
-                                                                              coordY,
-                                                                              (int) Math.round(HEX_SIZE * 1.3));
-
-                            for (PlanetarySystem system : nearbySystems) {
-                                if (!isSystemEmpty(system) && path.contains(system.getX(), system.getY())) {
-                                    Set<Faction> factions = system.getFactionSet(now);
-                                    factions.remove(indFaction);
-                                    hexFactions.addAll(factions);
-                                }
-                            }
-
-                            if (hexFactions.isEmpty()) {
-                                for (PlanetarySystem system : nearbySystems) {
-                                    if (!isSystemEmpty(system)) {
-                                        Set<Faction> factions = system.getFactionSet(now);
-                                        hexFactions.addAll(factions);
-                                    }
-                                }
-                            }
-
-                            if (hexFactions.size() > 1) {
-                                hexFactions.remove(indFaction);
-                            }
-
-                            path.transform(transform);
-
-                            if (hexFactions.size() == 1) {
-                                // Single-faction hex
-                                Color factionColor = hexFactions.iterator().next().getColor();
-                                float[] colorComponents = new float[4];
-                                factionColor.getComponents(colorComponents);
-                                factionPaint = new Color(colorComponents[0], colorComponents[1], colorComponents[2],
-                                      0.25f);
-                            } else if (hexFactions.size() > 1) {
-                                // Create the painted stripes data
-                                int factionSize = hexFactions.size();
-                                Iterator<Faction> factionIterator = hexFactions.iterator();
-                                float[] colorComponents = new float[4];
-                                float[] paintFractions = new float[factionSize * 2];
-                                Color[] paintColors = new Color[factionSize * 2];
-                                for (int i = 0; i < factionSize; ++i) {
-                                    paintFractions[i * 2] = i * (1.0f / factionSize) + 0.001f;
-                                    paintFractions[i * 2 + 1] = (i + 1) * (1.0f / factionSize);
-                                    Color factionColor = factionIterator.next().getColor();
-                                    factionColor.getComponents(colorComponents);
-                                    factionColor = new Color(colorComponents[0], colorComponents[1], colorComponents[2],
-                                          0.25f);
-                                    paintColors[i * 2] = factionColor;
-                                    paintColors[i * 2 + 1] = factionColor;
-                                }
-                                paintFractions[0] = 0.0f;
-
-                                // Determine where to anchor the stripes
-                                Point2D firstPoint = new Point2D.Double(map2scrX(coordX), map2scrY(coordY));
-                                Point2D secondPoint = new Point2D.Double(
-                                      firstPoint.getX() + 6 * conf.scale,
-                                      firstPoint.getY() + 6 * conf.scale);
-                                factionPaint = new LinearGradientPaint(
-                                      firstPoint, secondPoint, paintFractions, paintColors,
-                                      CycleMethod.REPEAT);
-                            }
-
-                            g2.setPaint(factionPaint);
-                            g2.fill(path);
-                        }
-                    }
-                }
-
-                // draw a jump path
-                g2.setStroke(new BasicStroke(1.0f));
-                for (int i = 0; i < jumpPath.size(); i++) {
-                    PlanetarySystem systemB = jumpPath.get(i);
-                    double x = map2scrX(systemB.getX());
-                    double y = map2scrY(systemB.getY());
-                    // lest try rings
-                    g2.setPaint(Color.WHITE);
-                    arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    g2.setPaint(Color.BLACK);
-                    arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    g2.setPaint(Color.WHITE);
-                    arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    g2.setPaint(Color.BLACK);
-                    arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    if (i > 0) {
-                        PlanetarySystem systemA = jumpPath.get(i - 1);
-                        g2.setPaint(Color.WHITE);
-                        g2.draw(new Line2D.Double(map2scrX(systemA.getX()), map2scrY(systemA.getY()),
-                              map2scrX(systemB.getX()), map2scrY(systemB.getY())));
-                    }
-                }
-
-                // Brute-force HPG network drawing. Will be optimized
-                if (optHPGNetwork.isSelected()) {
-                    // Grab the network from the planet manager
-                    Collection<HPGLink> hpgNetwork = Systems.getInstance().getHPGNetwork(now);
-
-                    for (PlanetarySystem system : systems) {
-                        if (isSystemVisible(system, true)) {
-                            double x = map2scrX(system.getX());
-                            double y = map2scrY(system.getY());
-                            HPGRating hpgRating = ObjectUtility.nonNull(system.getHPG(now), HPGRating.X);
-                            if (hpgRating == HPGRating.A) {
-                                g2.setPaint(Color.CYAN);
-                                arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(thick);
-                                g2.draw(arc);
-                            }
-                            if (hpgRating == HPGRating.A || hpgRating == HPGRating.B) {
-                                g2.setPaint(Color.BLUE);
-                                arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(thin);
-                                g2.draw(arc);
-                            }
-                            if (hpgRating == HPGRating.C) {
-                                g2.setPaint(Color.ORANGE);
-                                arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(dashed);
-                                g2.draw(arc);
-                            }
-                            if (hpgRating == HPGRating.D) {
-                                g2.setPaint(Color.RED);
-                                arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(dotted);
-                                g2.draw(arc);
-                            }
-                        }
-                    }
-                    for (HPGLink link : hpgNetwork) {
-                        PlanetarySystem p1 = link.primary();
-                        PlanetarySystem p2 = link.secondary();
-                        if (isSystemVisible(p1, false) || isSystemVisible(p2, false)) {
-                            if (link.rating() == HPGRating.A) {
-                                g2.setPaint(Color.CYAN);
-                                g2.setStroke(thick);
-                                g2.draw(new Line2D.Double(map2scrX(p1.getX()), map2scrY(p1.getY()), map2scrX(p2.getX()),
-                                      map2scrY(p2.getY())));
-                            }
-                            if (link.rating() == HPGRating.B) {
-                                g2.setPaint(Color.BLUE);
-                                g2.setStroke(dashed);
-                                g2.draw(new Line2D.Double(map2scrX(p1.getX()), map2scrY(p1.getY()), map2scrX(p2.getX()),
-                                      map2scrY(p2.getY())));
-                            }
-                        }
-                    }
-                    g2.setStroke(new BasicStroke(1.0f));
-                }
-
-                // check to see if the unit is traveling on a jump path currently and if so
-                // draw this one too, in a different color
-                if (null != InterstellarMapPanel.this.campaign.getLocation().getJumpPath()) {
-                    for (int i = 0; i < InterstellarMapPanel.this.campaign.getLocation().getJumpPath().size(); i++) {
-                        PlanetarySystem systemB = InterstellarMapPanel.this.campaign.getLocation().getJumpPath().get(i);
-                        double x = map2scrX(systemB.getX());
-                        double y = map2scrY(systemB.getY());
-                        // lest try rings
-                        g2.setPaint(Color.YELLOW);
-                        arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        g2.setPaint(Color.BLACK);
-                        arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        g2.setPaint(Color.YELLOW);
-                        arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        g2.setPaint(Color.BLACK);
-                        arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        if (i > 0) {
-                            PlanetarySystem systemA = InterstellarMapPanel.this.campaign.getLocation()
-                                                            .getJumpPath()
-                                                            .get(i - 1);
-                            g2.setPaint(Color.YELLOW);
-                            g2.draw(new Line2D.Double(map2scrX(systemA.getX()), map2scrY(systemA.getY()),
-                                  map2scrX(systemB.getX()), map2scrY(systemB.getY())));
-                        }
-                    }
-                }
-
-                Map<Faction, String> capitals = new HashMap<>();
-                for (Faction faction : Factions.getInstance().getFactions()) {
-                    capitals.put(faction, faction.getStartingPlanet(InterstellarMapPanel.this.campaign.getLocalDate()));
-                }
-
-                boolean isUseFactionStandingOutlawing =
-                      campaign.getCampaignOptions().isUseFactionStandingOutlawedSafe();
-                Faction campaignFaction = campaign.getFaction();
-                FactionStandings factionStandings = campaign.getFactionStandings();
-                LocalDate today = campaign.getLocalDate();
-                List<AtBContract> activeAtBContracts = campaign.getActiveAtBContracts();
-
-                FactionHints factionHints = FactionHints.getInstance();
-
-                for (PlanetarySystem system : systems) {
-                    if (isSystemVisible(system, false)) {
-                        double x = map2scrX(system.getX());
-                        double y = map2scrY(system.getY());
-                        if (system.equals(InterstellarMapPanel.this.campaign.getCurrentSystem())) {
-                            // let's try rings
-                            g2.setPaint(Color.ORANGE);
-                            arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.BLACK);
-                            arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.ORANGE);
-                            arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.BLACK);
-                            arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                        }
-                        if ((null != selectedSystem) && selectedSystem.equals(system)) {
-                            // let's try rings
-                            g2.setPaint(Color.WHITE);
-                            arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.BLACK);
-                            arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.WHITE);
-                            arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.BLACK);
-                            arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                        }
-
-                        // if factions are selected, then we need to do it differently, because
-                        // of multiple factions per planet
-                        if (isFactionsSelected()) {
-                            Set<Faction> factions = system.getFactionSet(now);
-                            if ((null != factions) && !isSystemEmpty(system)) {
-                                int i = 0;
-                                for (Faction faction : factions) {
-                                    if (system.getId().equals(capitals.get(faction))) {
-                                        g2.setPaint(faction.getColor());
-                                        arc.setArcByCenter(x, y, size + 5, 0,
-                                              360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                        g2.fill(arc);
-                                        g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
-                                        arc.setArcByCenter(x, y, size + 3, 0,
-                                              360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                        g2.fill(arc);
-                                    } else {
-                                        if (system.getHiringHallLevel(InterstellarMapPanel.this.campaign.getLocalDate()) ==
-                                                  HiringHallLevel.GREAT) {
-                                            g2.setPaint(new Color(176, 196, 222));
-                                            arc.setArcByCenter(x, y, size + 5, 0,
-                                                  360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                            g2.fill(arc);
-                                            g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
-                                            arc.setArcByCenter(x, y, size + 3, 0,
-                                                  360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                            g2.fill(arc);
-                                        }
-                                    }
-
-                                    g2.setPaint(faction.getColor());
-                                    arc.setArcByCenter(x, y, size, 0, 360.0 * (1 - ((double) i) / factions.size()),
-                                          Arc2D.PIE);
-                                    g2.fill(arc);
-                                    ++i;
-                                }
-                            } else {
-                                if (optEmptySystems.isSelected()) {
-                                    // Just a dark grey circle then
-                                    g2.setPaint(Color.DARK_GRAY);
-                                    arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
-                                    g2.fill(arc);
-                                }
-                            }
-                        } else {
-                            g2.setPaint(getSystemColor(system));
-                            arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
-                            g2.fill(arc);
-                        }
-
-                        // Outlaw status image
-                        if (isUseFactionStandingOutlawing) {
-                            boolean isOutlawedInSystem = !FactionStandingUtilities.canEnterTargetSystem(campaignFaction,
-                                  factionStandings, null, system, today, activeAtBContracts, factionHints);
-                            if (isOutlawedInSystem) {
-                                int half = (int) (size * 0.8);
-                                g2.setPaint(Color.BLACK);
-                                Stroke oldStroke = g2.getStroke();
-                                g2.setStroke(new BasicStroke(4));
-                                g2.drawLine((int) (x - half), (int) (y - half), (int) (x + half), (int) (y + half));
-                                g2.drawLine((int) (x - half), (int) (y + half), (int) (x + half), (int) (y - half));
-                                g2.setStroke(oldStroke);
-                            }
-                        }
-                    }
-                }
-
-                // cycle through planets again and assign names - to make sure names go on
-                // outside
-                for (PlanetarySystem system : systems) {
-                    if (isSystemVisible(system, !optEmptySystems.isSelected())) {
-                        double x = map2scrX(system.getX());
-                        double y = map2scrY(system.getY());
-                        if ((conf.showPlanetNamesThreshold == 0) || (conf.scale > conf.showPlanetNamesThreshold)
-                                  || jumpPath.contains(system)
-                                  || ((InterstellarMapPanel.this.campaign.getLocation().getJumpPath() != null)
-                                            &&
-                                            InterstellarMapPanel.this.campaign.getLocation()
-                                                  .getJumpPath()
-                                                  .contains(system))) {
-                            final String planetName = system.getPrintableName(InterstellarMapPanel.this.campaign.getLocalDate());
-                            final float xPos = (float) (x + size * 1.8);
-                            final float yPos = (float) y;
-                            g2.setPaint(Color.BLACK);
-                            g2.drawString(planetName, xPos - 1f, yPos - 1f);
-                            g2.drawString(planetName, xPos + 1f, yPos - 1f);
-                            g2.drawString(planetName, xPos + 1f, yPos + 1f);
-                            g2.drawString(planetName, xPos - 1f, yPos + 1f);
-                            g2.setPaint(Color.WHITE);
-                            g2.drawString(planetName, xPos, yPos);
-                        }
-                    }
-                }
+                // Printing draws the map far larger than the panel, so don't cache it
+                paintMap((Graphics2D) g, !isPaintingForPrint());
             }
         };
         pane.add(mapPanel, Integer.valueOf(1));
@@ -973,7 +566,8 @@ public class InterstellarMapPanel extends JPanel {
     public void setCampaign(Campaign c) {
         this.campaign = c;
         this.systems = campaign.getSystems();
-        repaint();
+        systemGrid = null;
+        invalidateLayers();
     }
 
     public void setJumpPath(JumpPath path) {
@@ -1029,6 +623,617 @@ public class InterstellarMapPanel extends JPanel {
         return radioButton;
     }
 
+    /**
+     * Paints the whole map. The territory, the HPG network and the systems are drawn from their cached layers unless
+     * the map is being printed, while the selection and the jump paths are drawn fresh every time.
+     *
+     * @param g2            the graphics to paint to
+     * @param useLayerCache whether the cached layers may be used
+     */
+    private void paintMap(Graphics2D g2, boolean useLayerCache) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(Color.BLACK);
+        g2.fillRect(0, 0, mapPanel.getWidth(), mapPanel.getHeight());
+        final double size = getDotSize();
+
+        now = campaign.getLocalDate();
+        setVisibleArea(size, 0.0);
+
+        Arc2D.Double arc = new Arc2D.Double();
+
+        // Draw auras around a selected planet
+        if (selectedSystem != null) {
+            paintSelectedSystemAuras(g2, arc);
+        }
+
+        if ((conf.scale > 1.0) && optTerritory.isSelected()) {
+            territoryLayer.paint(g2, useLayerCache, List.of(), this::paintTerritory);
+        } else {
+            territoryLayer.clear();
+        }
+
+        // draw a jump path
+        g2.setStroke(new BasicStroke(1.0f));
+        paintJumpPath(g2, jumpPath, Color.WHITE, size, arc);
+
+        if (optHPGNetwork.isSelected()) {
+            hpgLayer.paint(g2, useLayerCache, List.of(), this::paintHPGNetwork);
+
+            // The current and selected systems are always shown on the network, even when they are empty
+            for (PlanetarySystem system : getAlwaysVisibleSystems()) {
+                if (isSystemEmpty(system)) {
+                    paintHPGRating(g2, system, size, arc);
+                }
+            }
+            g2.setStroke(new BasicStroke(1.0f));
+        } else {
+            hpgLayer.clear();
+        }
+
+        // check to see if the unit is traveling on a jump path currently and if so
+        // draw this one too, in a different color
+        final JumpPath campaignJumpPath = campaign.getLocation().getJumpPath();
+        if (null != campaignJumpPath) {
+            paintJumpPath(g2, campaignJumpPath, Color.YELLOW, size, arc);
+        }
+
+        // let's try rings
+        if (isSystemVisible(campaign.getCurrentSystem(), false)) {
+            paintRings(g2, campaign.getCurrentSystem(), Color.ORANGE, size, arc);
+        }
+        if (isSystemVisible(selectedSystem, false)) {
+            paintRings(g2, selectedSystem, Color.WHITE, size, arc);
+        }
+
+        systemLayer.paint(g2, useLayerCache, Arrays.asList(getSelectedColorOption(), optEmptySystems.isSelected(),
+              getOutlawMarkState()), this::paintSystems);
+
+        // The systems layer only names the systems shown at this zoom, the rest are named when they are on a jump
+        // path, selected or the current system
+        final Set<PlanetarySystem> namedSystems = new LinkedHashSet<>(getAlwaysVisibleSystems());
+        namedSystems.addAll(jumpPath.getSystems());
+        if (null != campaignJumpPath) {
+            namedSystems.addAll(campaignJumpPath.getSystems());
+        }
+        for (PlanetarySystem system : namedSystems) {
+            if (isSystemVisible(system, !optEmptySystems.isSelected()) && isNameShown(system, campaignJumpPath)
+                      && !isNameOnSystemLayer(system)) {
+                paintSystemName(g2, system, size);
+            }
+        }
+    }
+
+    private void paintSelectedSystemAuras(Graphics2D g2, Arc2D.Double arc) {
+        final double x = map2scrX(selectedSystem.getX());
+        final double y = map2scrY(selectedSystem.getY());
+        // Contract Search Radius Aura
+        if (!campaign.getCampaignOptions().getContractMarketMethod().isNone()
+                  && MekHQ.getMHQOptions().getInterstellarMapShowContractSearchRadius()) {
+            final double z = map2scrX(selectedSystem.getX() + campaign.getCampaignOptions().getContractSearchRadius());
+            final double contractSearchRadius = z - x;
+            g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapContractSearchRadiusColour());
+            g2.setStroke(DASHED_THICK);
+            arc.setArcByCenter(x, y, contractSearchRadius, 0, 360, Arc2D.OPEN);
+            g2.draw(arc);
+        }
+
+        // Acquisition Search Radius Aura
+        if (campaign.getCampaignOptions().isUsePlanetaryAcquisition()
+                  && MekHQ.getMHQOptions().getInterstellarMapShowPlanetaryAcquisitionRadius()
+                  && (conf.scale > MekHQ.getMHQOptions()
+                                         .getInterstellarMapShowPlanetaryAcquisitionRadiusMinimumZoom())) {
+            final double z = map2scrX(selectedSystem.getX()
+                                            + (MHQConstants.MAX_JUMP_RADIUS
+                                                     * campaign.getCampaignOptions()
+                                                             .getMaxJumpsPlanetaryAcquisition()));
+            final double acquisitionRadius = z - x;
+            g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapPlanetaryAcquisitionRadiusColour());
+            g2.setStroke(DASHED_THICK);
+            arc.setArcByCenter(x, y, acquisitionRadius, 0, 360, Arc2D.OPEN);
+            g2.draw(arc);
+        }
+
+        // Jump Radius Aura
+        if (MekHQ.getMHQOptions().getInterstellarMapShowJumpRadius()
+                  && (conf.scale > MekHQ.getMHQOptions().getInterstellarMapShowJumpRadiusMinimumZoom())) {
+            final double z = map2scrX(selectedSystem.getX() + MHQConstants.MAX_JUMP_RADIUS);
+            final double jumpRadius = z - x;
+            g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapJumpRadiusColour());
+            g2.setStroke(DASHED_THICK);
+            arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
+            g2.draw(arc);
+        }
+
+        // Don't override HPG Network drawing
+        if (optHPGNetwork.isSelected()) {
+            final double z = map2scrX(selectedSystem.getX() + 50);
+            final double jumpRadius = z - x;
+            g2.setPaint(DARK_CYAN);
+            g2.setStroke(DOTTED);
+            arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
+            g2.draw(arc);
+        }
+    }
+
+    private void paintTerritory(Graphics2D g2) {
+        final double HEX_SIZE = 30;
+        final double SPACING_X = HEX_SIZE * Math.sqrt(3) / 2.0;
+
+        AffineTransform transform = getMap2ScrTransform();
+        Paint defaultFactionPaint = new Color(0.0f, 0.0f, 0.0f, 0.25f);
+
+        int minHexX = (int) Math.floor(minX / SPACING_X);
+        int maxHexX = (int) Math.ceil(maxX / SPACING_X);
+        int minHexY = (int) Math.floor(minY / HEX_SIZE);
+        int maxHexY = (int) Math.ceil(maxY / HEX_SIZE);
+
+        Faction indFaction = Factions.getInstance().getFaction("IND");
+
+        for (int x = minHexX; x <= maxHexX; ++x) {
+            for (int y = minHexY; y <= maxHexY; ++y) {
+                double coordX = x * SPACING_X;
+                double coordY = y * HEX_SIZE + (x % 2) * HEX_SIZE / 2.0;
+                GeneralPath path = new GeneralPath();
+                setupHexPath(path, coordX, coordY, HEX_SIZE / 2.0);
+
+                Paint factionPaint = defaultFactionPaint;
+                Set<Faction> hexFactions = new HashSet<>();
+
+                List<PlanetarySystem> nearbySystems = Systems.getInstance()
+                                                            .getNearbySystems(coordX,
+                                                                  coordY,
+                                                                  (int) Math.round(HEX_SIZE * 1.3));
+
+                for (PlanetarySystem system : nearbySystems) {
+                    if (!isSystemEmpty(system) && path.contains(system.getX(), system.getY())) {
+                        for (Faction faction : getUniverse().getFactionSet(system)) {
+                            if (!faction.equals(indFaction)) {
+                                hexFactions.add(faction);
+                            }
+                        }
+                    }
+                }
+
+                if (hexFactions.isEmpty()) {
+                    for (PlanetarySystem system : nearbySystems) {
+                        if (!isSystemEmpty(system)) {
+                            hexFactions.addAll(getUniverse().getFactionSet(system));
+                        }
+                    }
+                }
+
+                if (hexFactions.size() > 1) {
+                    hexFactions.remove(indFaction);
+                }
+
+                path.transform(transform);
+
+                if (hexFactions.size() == 1) {
+                    // Single-faction hex
+                    Color factionColor = hexFactions.iterator().next().getColor();
+                    float[] colorComponents = new float[4];
+                    factionColor.getComponents(colorComponents);
+                    factionPaint = new Color(colorComponents[0], colorComponents[1], colorComponents[2], 0.25f);
+                } else if (hexFactions.size() > 1) {
+                    // Create the painted stripes data
+                    int factionSize = hexFactions.size();
+                    Iterator<Faction> factionIterator = hexFactions.iterator();
+                    float[] colorComponents = new float[4];
+                    float[] paintFractions = new float[factionSize * 2];
+                    Color[] paintColors = new Color[factionSize * 2];
+                    for (int i = 0; i < factionSize; ++i) {
+                        paintFractions[i * 2] = i * (1.0f / factionSize) + 0.001f;
+                        paintFractions[i * 2 + 1] = (i + 1) * (1.0f / factionSize);
+                        Color factionColor = factionIterator.next().getColor();
+                        factionColor.getComponents(colorComponents);
+                        factionColor = new Color(colorComponents[0], colorComponents[1], colorComponents[2], 0.25f);
+                        paintColors[i * 2] = factionColor;
+                        paintColors[i * 2 + 1] = factionColor;
+                    }
+                    paintFractions[0] = 0.0f;
+
+                    // Determine where to anchor the stripes
+                    Point2D firstPoint = new Point2D.Double(map2scrX(coordX), map2scrY(coordY));
+                    Point2D secondPoint = new Point2D.Double(
+                          firstPoint.getX() + 6 * conf.scale,
+                          firstPoint.getY() + 6 * conf.scale);
+                    factionPaint = new LinearGradientPaint(
+                          firstPoint, secondPoint, paintFractions, paintColors,
+                          CycleMethod.REPEAT);
+                }
+
+                g2.setPaint(factionPaint);
+                g2.fill(path);
+            }
+        }
+    }
+
+    private void paintHPGNetwork(Graphics2D g2) {
+        final double size = getDotSize();
+        Arc2D.Double arc = new Arc2D.Double();
+
+        for (PlanetarySystem system : systems) {
+            if (isInVisibleArea(system) && !isSystemEmpty(system)) {
+                paintHPGRating(g2, system, size, arc);
+            }
+        }
+
+        // Grab the network from the planet manager
+        Collection<HPGLink> hpgNetwork = Systems.getInstance().getHPGNetwork(now);
+        for (HPGLink link : hpgNetwork) {
+            PlanetarySystem p1 = link.primary();
+            PlanetarySystem p2 = link.secondary();
+            if (isLinkInVisibleArea(p1, p2)) {
+                if (link.rating() == HPGRating.A) {
+                    g2.setPaint(Color.CYAN);
+                    g2.setStroke(THICK);
+                    g2.draw(new Line2D.Double(map2scrX(p1.getX()), map2scrY(p1.getY()), map2scrX(p2.getX()),
+                          map2scrY(p2.getY())));
+                }
+                if (link.rating() == HPGRating.B) {
+                    g2.setPaint(Color.BLUE);
+                    g2.setStroke(DASHED);
+                    g2.draw(new Line2D.Double(map2scrX(p1.getX()), map2scrY(p1.getY()), map2scrX(p2.getX()),
+                          map2scrY(p2.getY())));
+                }
+            }
+        }
+    }
+
+    private void paintHPGRating(Graphics2D g2, PlanetarySystem system, double size, Arc2D.Double arc) {
+        double x = map2scrX(system.getX());
+        double y = map2scrY(system.getY());
+        HPGRating hpgRating = ObjectUtility.nonNull(getUniverse().getHPG(system), HPGRating.X);
+        if (hpgRating == HPGRating.A) {
+            g2.setPaint(Color.CYAN);
+            arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
+            g2.setStroke(THICK);
+            g2.draw(arc);
+        }
+        if (hpgRating == HPGRating.A || hpgRating == HPGRating.B) {
+            g2.setPaint(Color.BLUE);
+            arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
+            g2.setStroke(THIN);
+            g2.draw(arc);
+        }
+        if (hpgRating == HPGRating.C) {
+            g2.setPaint(Color.ORANGE);
+            arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
+            g2.setStroke(DASHED);
+            g2.draw(arc);
+        }
+        if (hpgRating == HPGRating.D) {
+            g2.setPaint(Color.RED);
+            arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
+            g2.setStroke(DOTTED);
+            g2.draw(arc);
+        }
+    }
+
+    private void paintJumpPath(Graphics2D g2, JumpPath path, Color color, double size, Arc2D.Double arc) {
+        for (int i = 0; i < path.size(); i++) {
+            PlanetarySystem systemB = path.get(i);
+            paintRings(g2, systemB, color, size, arc);
+            if (i > 0) {
+                PlanetarySystem systemA = path.get(i - 1);
+                g2.setPaint(color);
+                g2.draw(new Line2D.Double(map2scrX(systemA.getX()), map2scrY(systemA.getY()),
+                      map2scrX(systemB.getX()), map2scrY(systemB.getY())));
+            }
+        }
+    }
+
+    private void paintRings(Graphics2D g2, PlanetarySystem system, Color color, double size, Arc2D.Double arc) {
+        double x = map2scrX(system.getX());
+        double y = map2scrY(system.getY());
+        g2.setPaint(color);
+        arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
+        g2.fill(arc);
+        g2.setPaint(Color.BLACK);
+        arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
+        g2.fill(arc);
+        g2.setPaint(color);
+        arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
+        g2.fill(arc);
+        g2.setPaint(Color.BLACK);
+        arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
+        g2.fill(arc);
+    }
+
+    /**
+     * The outlaw marks on the systems layer depend on the contracts and faction standings, which can change during a
+     * day as contracts are accepted or standings are edited. Their current values are part of the layer's state, so
+     * the layer is drawn again when they change.
+     *
+     * @return the campaign faction, the factions of the active contracts and a copy of the faction standings, or an
+     *       empty list if outlaw marks are not shown
+     */
+    private List<Object> getOutlawMarkState() {
+        if (!campaign.getCampaignOptions().isUseFactionStandingOutlawedSafe()) {
+            return List.of();
+        }
+
+        final List<Object> state = new ArrayList<>();
+        state.add(campaign.getFaction());
+        for (AtBContract contract : campaign.getActiveAtBContracts()) {
+            state.add(contract.getEmployerFaction());
+            state.add(contract.getEnemy());
+        }
+        final FactionStandings factionStandings = campaign.getFactionStandings();
+        state.add(new HashMap<>(factionStandings.getAllFactionStandings()));
+        state.add(new HashMap<>(factionStandings.getAllClimateRegard()));
+        return state;
+    }
+
+    private void paintSystems(Graphics2D g2) {
+        final double size = getDotSize();
+        Arc2D.Double arc = new Arc2D.Double();
+
+        Map<Faction, String> capitals = new HashMap<>();
+        for (Faction faction : Factions.getInstance().getFactions()) {
+            capitals.put(faction, faction.getStartingPlanet(now));
+        }
+
+        boolean isUseFactionStandingOutlawing = campaign.getCampaignOptions().isUseFactionStandingOutlawedSafe();
+        Faction campaignFaction = campaign.getFaction();
+        FactionStandings factionStandings = campaign.getFactionStandings();
+        List<AtBContract> activeAtBContracts = campaign.getActiveAtBContracts();
+
+        FactionHints factionHints = FactionHints.getInstance();
+
+        for (PlanetarySystem system : systems) {
+            if (isInVisibleArea(system)) {
+                double x = map2scrX(system.getX());
+                double y = map2scrY(system.getY());
+
+                // if factions are selected, then we need to do it differently, because
+                // of multiple factions per planet
+                if (isFactionsSelected()) {
+                    Set<Faction> factions = getUniverse().getFactionSet(system);
+                    if ((null != factions) && !isSystemEmpty(system)) {
+                        int i = 0;
+                        for (Faction faction : factions) {
+                            if (system.getId().equals(capitals.get(faction))) {
+                                g2.setPaint(faction.getColor());
+                                arc.setArcByCenter(x, y, size + 5, 0,
+                                      360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                                g2.fill(arc);
+                                g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
+                                arc.setArcByCenter(x, y, size + 3, 0,
+                                      360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                                g2.fill(arc);
+                            } else {
+                                if (system.getHiringHallLevel(now) == HiringHallLevel.GREAT) {
+                                    g2.setPaint(new Color(176, 196, 222));
+                                    arc.setArcByCenter(x, y, size + 5, 0,
+                                          360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                                    g2.fill(arc);
+                                    g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
+                                    arc.setArcByCenter(x, y, size + 3, 0,
+                                          360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                                    g2.fill(arc);
+                                }
+                            }
+
+                            g2.setPaint(faction.getColor());
+                            arc.setArcByCenter(x, y, size, 0, 360.0 * (1 - ((double) i) / factions.size()),
+                                  Arc2D.PIE);
+                            g2.fill(arc);
+                            ++i;
+                        }
+                    } else {
+                        if (optEmptySystems.isSelected()) {
+                            // Just a dark grey circle then
+                            g2.setPaint(Color.DARK_GRAY);
+                            arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
+                            g2.fill(arc);
+                        }
+                    }
+                } else {
+                    g2.setPaint(getSystemColor(system));
+                    arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
+                    g2.fill(arc);
+                }
+
+                // Outlaw status image
+                if (isUseFactionStandingOutlawing) {
+                    boolean isOutlawedInSystem = !FactionStandingUtilities.canEnterTargetSystem(campaignFaction,
+                          factionStandings, null, system, now, activeAtBContracts, factionHints);
+                    if (isOutlawedInSystem) {
+                        int half = (int) (size * 0.8);
+                        g2.setPaint(Color.BLACK);
+                        Stroke oldStroke = g2.getStroke();
+                        g2.setStroke(new BasicStroke(4));
+                        g2.drawLine((int) (x - half), (int) (y - half), (int) (x + half), (int) (y + half));
+                        g2.drawLine((int) (x - half), (int) (y + half), (int) (x + half), (int) (y - half));
+                        g2.setStroke(oldStroke);
+                    }
+                }
+            }
+        }
+
+        // cycle through planets again and assign names - to make sure names go on
+        // outside
+        for (PlanetarySystem system : systems) {
+            if (isNameOnSystemLayer(system)) {
+                paintSystemName(g2, system, size);
+            }
+        }
+    }
+
+    private void paintSystemName(Graphics2D g2, PlanetarySystem system, double size) {
+        final String planetName = system.getPrintableName(now);
+        final float xPos = (float) (map2scrX(system.getX()) + size * 1.8);
+        final float yPos = (float) map2scrY(system.getY());
+        g2.setPaint(Color.BLACK);
+        g2.drawString(planetName, xPos - 1f, yPos - 1f);
+        g2.drawString(planetName, xPos + 1f, yPos - 1f);
+        g2.drawString(planetName, xPos + 1f, yPos + 1f);
+        g2.drawString(planetName, xPos - 1f, yPos + 1f);
+        g2.setPaint(Color.WHITE);
+        g2.drawString(planetName, xPos, yPos);
+    }
+
+    /**
+     * @return whether the systems layer names a system: a system is named there when names are shown at this zoom, it
+     *       is inside the drawn area, and it isn't hidden for being empty
+     */
+    private boolean isNameOnSystemLayer(PlanetarySystem system) {
+        return isPlanetNameZoom() && isInVisibleArea(system)
+                     && (optEmptySystems.isSelected() || !isSystemEmpty(system));
+    }
+
+    private boolean isNameShown(PlanetarySystem system, @Nullable JumpPath campaignJumpPath) {
+        return isPlanetNameZoom() || jumpPath.contains(system)
+                     || ((campaignJumpPath != null) && campaignJumpPath.contains(system));
+    }
+
+    private boolean isPlanetNameZoom() {
+        return (conf.showPlanetNamesThreshold == 0) || (conf.scale > conf.showPlanetNamesThreshold);
+    }
+
+    private double getDotSize() {
+        double size = 1 + 5 * Math.log(conf.scale);
+        return Math.max(min(size, conf.maxDotSize), conf.minDotSize);
+    }
+
+    /**
+     * Sets the area of the map, in map coordinates, which is being drawn.
+     *
+     * @param size   the size of the system dots
+     * @param margin how far past each edge of the panel to draw, in pixels
+     */
+    private void setVisibleArea(double size, double margin) {
+        // The map panel is enlarged past this panel while the map is being saved
+        minX = scr2mapX(-margin - size * 2.0);
+        minY = scr2mapY(mapPanel.getHeight() + margin + size * 2.0);
+        maxX = scr2mapX(mapPanel.getWidth() + margin + size * 2.0);
+        maxY = scr2mapY(-margin - size * 2.0);
+    }
+
+    private boolean isInVisibleArea(PlanetarySystem system) {
+        double x = system.getX();
+        double y = system.getY();
+        return (x >= minX) && (x <= maxX) && (y >= minY) && (y <= maxY);
+    }
+
+    private boolean isLinkInVisibleArea(PlanetarySystem p1, PlanetarySystem p2) {
+        return (Math.max(p1.getX(), p2.getX()) >= minX) && (Math.min(p1.getX(), p2.getX()) <= maxX)
+                     && (Math.max(p1.getY(), p2.getY()) >= minY) && (Math.min(p1.getY(), p2.getY()) <= maxY);
+    }
+
+    /**
+     * @return the current system and the selected system, which are drawn even when they would otherwise be hidden
+     */
+    private Set<PlanetarySystem> getAlwaysVisibleSystems() {
+        Set<PlanetarySystem> alwaysVisible = new LinkedHashSet<>();
+        if (campaign.getCurrentSystem() != null) {
+            alwaysVisible.add(campaign.getCurrentSystem());
+        }
+        if (selectedSystem != null) {
+            alwaysVisible.add(selectedSystem);
+        }
+        return alwaysVisible;
+    }
+
+    private @Nullable JRadioButton getSelectedColorOption() {
+        for (JRadioButton option : List.of(optFactions, optTech, optIndustry, optRawMaterials, optOutput,
+              optAgriculture, optPopulation, optHPG, optRecharge, optAcademies, optHiringHalls, optDiseases)) {
+            if (option.isSelected()) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Discards the cached map layers so they are drawn again on the next repaint. The layers are redrawn on their own
+     * when the zoom, the date, the map options or the inputs of the outlaw marks change; this is needed when something
+     * else they show may have changed, such as the campaign options.
+     */
+    public void invalidateLayers() {
+        layerGeneration++;
+        repaint();
+    }
+
+    /**
+     * A part of the map which only changes with the zoom, the date or the map options. It is drawn into an image a
+     * little larger than the panel, which is then only moved while the map is dragged, until it is dragged far enough
+     * for an edge of the image to show.
+     */
+    private final class MapLayer {
+        private BufferedImage image;
+        private List<Object> drawnState;
+        private double drawnCenterX;
+        private double drawnCenterY;
+        private int margin;
+
+        /**
+         * Paints this layer, drawing it again first if the cached image is out of date.
+         *
+         * @param g2       the graphics to paint to
+         * @param useCache whether to use the cached image, or just paint the layer directly
+         * @param options  anything else the layer depends on, beyond the zoom, the date and the panel size
+         * @param painter  draws the layer to the given graphics, within the area set by {@link #setVisibleArea}
+         */
+        void paint(Graphics2D g2, boolean useCache, List<?> options, Consumer<Graphics2D> painter) {
+            final int width = mapPanel.getWidth();
+            final int height = mapPanel.getHeight();
+            if (!useCache || (width <= 0) || (height <= 0)) {
+                painter.accept(g2);
+                return;
+            }
+
+            final List<Object> state = Arrays.asList(conf.scale, width, height, now, layerGeneration, options);
+            double offsetX = (conf.centerX - drawnCenterX) * conf.scale;
+            double offsetY = (conf.centerY - drawnCenterY) * conf.scale;
+            if ((image == null) || !state.equals(drawnState)
+                      || (Math.abs(offsetX) > margin) || (Math.abs(offsetY) > margin)) {
+                draw(width, height, painter);
+                drawnState = state;
+                offsetX = 0.0;
+                offsetY = 0.0;
+            }
+            g2.drawImage(image, (int) Math.round(offsetX) - margin, (int) Math.round(offsetY) - margin, null);
+        }
+
+        private void draw(int width, int height, Consumer<Graphics2D> painter) {
+            margin = (int) Math.ceil(Math.max(width, height) * LAYER_MARGIN);
+            final int imageWidth = width + 2 * margin;
+            final int imageHeight = height + 2 * margin;
+            if ((image == null) || (image.getWidth() != imageWidth) || (image.getHeight() != imageHeight)) {
+                image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+            }
+
+            final double size = getDotSize();
+            final Graphics2D g2 = image.createGraphics();
+            try {
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, imageWidth, imageHeight);
+                g2.setComposite(AlphaComposite.SrcOver);
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                g2.setFont(mapPanel.getFont());
+                g2.translate(margin, margin);
+                setVisibleArea(size, margin);
+                painter.accept(g2);
+            } finally {
+                g2.dispose();
+                setVisibleArea(size, 0.0);
+            }
+            drawnCenterX = conf.centerX;
+            drawnCenterY = conf.centerY;
+        }
+
+        /**
+         * Frees the cached image while the layer isn't shown.
+         */
+        void clear() {
+            image = null;
+            drawnState = null;
+        }
+    }
+
     private void setupHexPath(@Nullable GeneralPath path, double centerX, double centerY, double radius) {
         if (null == path) {
             return;
@@ -1079,26 +1284,24 @@ public class InterstellarMapPanel extends JPanel {
     }
 
     /**
-     * Calculate the nearest neighbor for the given point If anyone has a better algorithm than this, please, feel free
-     * to exchange my brute force thing... A good idea would be a voronoi diagram and the sweep algorithm from Steven
-     * Fortune.
+     * Calculate the nearest neighbor for the given point
      */
-    private PlanetarySystem nearestNeighbour(double x, double y) {
-        double minDiff = Double.MAX_VALUE;
-        double diff;
-        PlanetarySystem minPlanet = null;
-        for (PlanetarySystem p : systems) {
-            diff = Math.sqrt(Math.pow(x - p.getX(), 2) + Math.pow(y - p.getY(), 2));
-            if (diff < minDiff) {
-                minDiff = diff;
-                minPlanet = p;
-            }
+    private @Nullable PlanetarySystem nearestNeighbour(double x, double y) {
+        if (systemGrid == null) {
+            systemGrid = new PlanetarySystemGrid(systems);
         }
-        return minPlanet;
+        return systemGrid.nearest(x, y);
+    }
+
+    /**
+     * @return the resolved system data for the date currently being drawn
+     */
+    private UniverseSnapshot getUniverse() {
+        return Systems.getInstance().getSnapshot((null == now) ? campaign.getLocalDate() : now);
     }
 
     private boolean isSystemEmpty(PlanetarySystem system) {
-        Set<Faction> factions = system.getFactionSet(now);
+        Set<Faction> factions = getUniverse().getFactionSet(system);
         if ((null == factions) || factions.isEmpty()) {
             return true;
         }
@@ -66,6 +66,7 @@ import megamek.client.ui.util.UIUtil;
 import megamek.common.event.Subscribe;
 import mekhq.MekHQ;
 import mekhq.campaign.JumpPath;
+import mekhq.campaign.events.DaysAdvancedEvent;
 import mekhq.campaign.events.NewDayEvent;
 import mekhq.campaign.events.OptionsChangedEvent;
 import mekhq.campaign.finances.Money;
@@ -406,12 +407,20 @@ public final class MapTab extends CampaignGuiTab implements ActionListener {
 
     @Subscribe
     public void handle(NewDayEvent ev) {
-        panMap.repaint();
+        if (!ev.isPartOfBatch()) {
+            panMap.invalidateLayers();
+            suggestPlanet.setSuggestData(getCampaign().getSystemNames());
+        }
+    }
+
+    @Subscribe
+    public void handle(DaysAdvancedEvent ev) {
+        panMap.invalidateLayers();
         suggestPlanet.setSuggestData(getCampaign().getSystemNames());
     }
 
     @Subscribe
     public void handle(OptionsChangedEvent ev) {
-        panMap.repaint();
+        panMap.invalidateLayers();
     }
 }
@@ -42,9 +42,12 @@ import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.*;
 import javax.swing.RowSorter.SortKey;
 import javax.swing.table.TableColumn;
@@ -65,6 +68,7 @@ import mekhq.MHQOptionsChangedEvent;
 import mekhq.MekHQ;
 import mekhq.campaign.events.DeploymentChangedEvent;
 import mekhq.campaign.events.OptionsChangedEvent;
+import mekhq.campaign.events.OrganizationChangedEvent;
 import mekhq.campaign.events.OvertimeModeEvent;
 import mekhq.campaign.events.parts.PartWorkEvent;
 import mekhq.campaign.events.persons.PersonChangedEvent;
@@ -72,6 +76,7 @@ import mekhq.campaign.events.persons.PersonLogEvent;
 import mekhq.campaign.events.persons.PersonNewEvent;
 import mekhq.campaign.events.persons.PersonRemovedEvent;
 import mekhq.campaign.events.scenarios.ScenarioResolvedEvent;
+import mekhq.campaign.events.units.UnitChangedEvent;
 import mekhq.campaign.events.units.UnitRemovedEvent;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.QuickTrain;
@@ -85,6 +90,7 @@ import mekhq.gui.enums.PersonnelTabView;
 import mekhq.gui.enums.PersonnelTableModelColumn;
 import mekhq.gui.model.PersonnelTableModel;
 import mekhq.gui.panels.TutorialHyperlinkPanel;
+import mekhq.gui.sorter.PersonnelTableRowSorter;
 import mekhq.gui.utilities.JScrollPaneWithSpeed;
 import mekhq.gui.view.PersonViewPanel;
 
@@ -247,7 +253,7 @@ public final class PersonnelTab extends CampaignGuiTab {
         XTableColumnModel personColumnModel = new XTableColumnModel();
         personnelTable.setColumnModel(personColumnModel);
         personnelTable.createDefaultColumnsFromModel();
-        personnelSorter = new TableRowSorter<>(personModel);
+        personnelSorter = new PersonnelTableRowSorter(personModel);
         final ArrayList<SortKey> sortKeys = new ArrayList<>();
         for (final PersonnelTableModelColumn column : PersonnelTableModel.PERSONNEL_COLUMNS) {
             final Comparator<?> comparator = column.getComparator(getCampaign());
@@ -461,8 +467,46 @@ public final class PersonnelTab extends CampaignGuiTab {
         return selectedPersons;
     }
 
+    /**
+     * Refreshes only the rows of the people changed since the last refresh, falling back to a full refresh of the
+     * personnel list when one of them can't be updated in place.
+     */
+    private void refreshChangedPersons() {
+        final List<Person> selectedPersons = getSelectedPersons();
+        boolean refreshSelectedPerson = false;
+        boolean refreshed = true;
+        for (final Iterator<Person> iterator = changedPersons.iterator(); iterator.hasNext(); ) {
+            final Person person = iterator.next();
+            iterator.remove();
+            refreshed &= personModel.refreshPerson(person);
+            refreshSelectedPerson |= selectedPersons.contains(person);
+        }
+
+        if (!refreshed) {
+            refreshPersonnelList();
+            return;
+        }
+
+        // Changed values can move people in and out of the current filter, and resetting it re-sorts the table
+        filterPersonnel();
+        if (refreshSelectedPerson) {
+            refreshPersonnelView();
+        }
+    }
+
+    /**
+     * Re-filters the personnel table after a change that may have altered any person's displayed values.
+     */
+    private void refilterPersonnel() {
+        personModel.clearCachedValues();
+        filterPersonnel();
+    }
+
+    private final Set<Person> changedPersons = ConcurrentHashMap.newKeySet();
     private final ActionScheduler personnelListScheduler = new ActionScheduler(this::refreshPersonnelList);
-    private final ActionScheduler filterPersonnelScheduler = new ActionScheduler(this::filterPersonnel);
+    private final ActionScheduler changedPersonsScheduler = new ActionScheduler(this::refreshChangedPersons);
+    private final ActionScheduler filterPersonnelScheduler = new ActionScheduler(this::refilterPersonnel);
+    private final ActionScheduler personnelViewScheduler = new ActionScheduler(this::refreshPersonnelView);
 
     @Subscribe
     public void handle(OptionsChangedEvent ev) {
@@ -483,7 +527,13 @@ public final class PersonnelTab extends CampaignGuiTab {
 
     @Subscribe
     public void handle(PersonChangedEvent ev) {
-        personnelListScheduler.schedule();
+        if (ev.getPerson() == null) {
+            personnelListScheduler.schedule();
+            return;
+        }
+
+        changedPersons.add(ev.getPerson());
+        changedPersonsScheduler.schedule();
     }
 
     @Subscribe
@@ -498,7 +548,7 @@ public final class PersonnelTab extends CampaignGuiTab {
 
     @Subscribe
     public void handle(PersonLogEvent ev) {
-        refreshPersonnelView();
+        personnelViewScheduler.schedule();
     }
 
     @Subscribe
@@ -506,6 +556,18 @@ public final class PersonnelTab extends CampaignGuiTab {
         personnelListScheduler.schedule();
     }
 
+    @Subscribe
+    public void handle(OrganizationChangedEvent ev) {
+        // The force column of anyone in a moved unit or force
+        filterPersonnelScheduler.schedule();
+    }
+
+    @Subscribe
+    public void handle(UnitChangedEvent ev) {
+        // The unit column of the unit's crew
+        filterPersonnelScheduler.schedule();
+    }
+
     @Subscribe
     public void handle(UnitRemovedEvent ev) {
         filterPersonnelScheduler.schedule();
@@ -815,6 +815,10 @@ public final class RepairTab extends CampaignGuiTab implements ITechWorkPanel {
             ((TechSorter) techSorter.getComparator(0)).setPart(part);
         }
         techSorter.setRowFilter(techTypeFilter);
+
+        // The techs' time, overtime or the AsTech pool may have changed, so the task targets need working out again
+        taskModel.invalidateTargets();
+        taskTable.repaint();
     }
 
     /**
@@ -992,6 +996,8 @@ public final class RepairTab extends CampaignGuiTab implements ITechWorkPanel {
     private final ActionScheduler techsScheduler = new ActionScheduler(this::refreshTechsList);
     private final ActionScheduler taskScheduler = new ActionScheduler(this::refreshTaskList);
     private final ActionScheduler acquireScheduler = new ActionScheduler(this::refreshPartsAcquisition);
+    private final ActionScheduler filterTasksScheduler = new ActionScheduler(this::filterTasks);
+    private final ActionScheduler filterTechsScheduler = new ActionScheduler(this::filterTechs);
 
     @Subscribe
     public void handle(DeploymentChangedEvent ev) {
@@ -1041,7 +1047,7 @@ public final class RepairTab extends CampaignGuiTab implements ITechWorkPanel {
 
     @Subscribe
     public void handle(ProcurementEvent ev) {
-        filterTasks();
+        filterTasksScheduler.schedule();
         acquireScheduler.schedule();
     }
 
@@ -1058,11 +1064,11 @@ public final class RepairTab extends CampaignGuiTab implements ITechWorkPanel {
 
     @Subscribe
     public void handle(OvertimeModeEvent ev) {
-        filterTechs();
+        filterTechsScheduler.schedule();
     }
 
     @Subscribe
     public void handle(AsTechPoolChangedEvent ev) {
-        filterTechs();
+        filterTechsScheduler.schedule();
     }
 }
@@ -50,9 +50,15 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.imageio.ImageIO;
 import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JLabel;
@@ -62,6 +68,7 @@ import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.SwingUtilities;
 
+import megamek.common.annotations.Nullable;
 import megamek.common.util.ImageUtil;
 import megamek.logging.MMLogger;
 import mekhq.MekHQ;
@@ -93,6 +100,11 @@ public class StratConPanel extends JPanel implements ActionListener {
     public static final int HEX_X_RADIUS = 42;
     public static final int HEX_Y_RADIUS = 36;
 
+    /**
+     * Where the board image is drawn relative to the origin of the hex board; odd columns start half a hex up.
+     */
+    private static final int BOARD_IMAGE_Y = -HEX_Y_RADIUS;
+
     private static final String RIGHT_CLICK_COMMAND_MANAGE_FORCES = "ManageForces";
     private static final String RIGHT_CLICK_COMMAND_MANAGE_SCENARIO = "ManageScenario";
     private static final String RIGHT_CLICK_COMMAND_REVEAL_TRACK = "RevealTrack";
@@ -104,27 +116,6 @@ public class StratConPanel extends JPanel implements ActionListener {
     private static final String RIGHT_CLICK_COMMAND_REMOVE_SCENARIO = "RemoveScenario";
     private static final String RIGHT_CLICK_COMMAND_RESET_DEPLOYMENT = "ResetDeployment";
 
-    /**
-     * What to do when drawing a hex
-     */
-    private enum DrawHexType {
-        /**
-         * The interior of a hex
-         */
-        Hex,
-
-        /**
-         * The outline of a hex
-         */
-        Outline,
-
-        /**
-         * Pretend we're drawing a hex, but don't actually do it, useful for figuring out which hex a mouse click landed
-         * in, etc.
-         */
-        DryRun
-    }
-
     private StratConTrackState currentTrack;
     private StratConCampaignState campaignState;
     private final Campaign campaign;
@@ -147,6 +138,12 @@ public class StratConPanel extends JPanel implements ActionListener {
 
     private final Map<String, BufferedImage> imageCache = new HashMap<>();
 
+    private record HexTileKey(String terrainTile, boolean fogged) {}
+
+    private final Map<HexTileKey, BufferedImage> hexTiles = new HashMap<>();
+    private BufferedImage boardImage;
+    private List<Object> boardImageState;
+
     private boolean commitForces = false;
 
     public StratConScenarioWizard getStratConScenarioWizard() {
@@ -331,9 +328,11 @@ public class StratConPanel extends JPanel implements ActionListener {
         performInitialTransform(g2D);
         AffineTransform originTransform = g2D.getTransform();
 
-        drawHexes(g2D, DrawHexType.Hex);
-        g2D.setTransform(originTransform);
-        drawHexes(g2D, DrawHexType.Outline);
+        drawBoard(g2D);
+        StratConCoords clickedCoords = findClickedHex();
+        if (clickedCoords != null) {
+            drawSelectedHex(g2D, clickedCoords);
+        }
         g2D.setTransform(originTransform);
         g2D.translate(HEX_X_RADIUS, HEX_Y_RADIUS);
         drawFacilities(g2D);
@@ -372,154 +371,213 @@ public class StratConPanel extends JPanel implements ActionListener {
     }
 
     /**
-     * This method contains a dirty secret hack, described on line 253-258 The point of it is to draw all the hexes for
-     * the board. If it's a "dry run", we don't actually draw the hexes, we just pretend to until we "draw" one that
-     * encompasses the clicked point.
+     * Draws the terrain, fog of war, coordinate labels and outlines of every hex from the cached board image. The
+     * image is redrawn in full when the track, the track-wide reveal or the label style changes, and otherwise only
+     * the hexes the track reports as changed are redrawn.
      *
-     * @param g2D         - graphics object on which to draw
-     * @param drawHexType - whether to draw the hex backgrounds, hex outlines or a dry run for click detection
+     * @param g2D - graphics object on which to draw, at the origin of the hex board
      */
-    private boolean drawHexes(Graphics2D g2D, DrawHexType drawHexType) {
-        Polygon graphHex = generateGraphHex();
-        graphHex.translate(HEX_X_RADIUS,
-              HEX_Y_RADIUS); // I don't remember why, but omitting this causes facilities etc. to appear
-        // displaced
-        boolean pointFound = false;
+    private void drawBoard(Graphics2D g2D) {
+        boolean trackRevealed = currentTrack.hasActiveTrackReveal();
+        List<Object> state = Arrays.asList(currentTrack, currentTrack.getWidth(), currentTrack.getHeight(),
+              trackRevealed, MekHQ.getMHQOptions().getStratConHexCoordForeground(), g2D.getFont());
+        Set<StratConCoords> changedCoords = currentTrack.pollChangedCoords();
+
+        if ((boardImage == null) || !state.equals(boardImageState) || (changedCoords == null)) {
+            int width = getHexOffsetX(currentTrack.getWidth() - 1) + HEX_X_RADIUS * 2 + 1;
+            int height = currentTrack.getHeight() * HEX_Y_RADIUS * 2 + HEX_Y_RADIUS + 1;
+            boardImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            redrawBoard(g2D, trackRevealed, null);
+            boardImageState = state;
+        } else {
+            for (StratConCoords coords : changedCoords) {
+                if (!currentTrack.isOffTrack(coords)) {
+                    redrawBoard(g2D, trackRevealed, getTileBounds(coords.getX(), coords.getY()));
+                }
+            }
+        }
 
-        Point translatedClickedPoint = null;
+        g2D.drawImage(boardImage, 0, BOARD_IMAGE_Y, null);
+    }
 
-        // this was derived somewhat experimentally
-        // the clicked point always seems a little off, so we
-        // a) apply the current transform to it, prior to drawing all the hexes
-        // b) subtract an additional Y_RADIUS x 2 (Y_DIAMETER)
-        // this gets us the point within the clicked hex
-        // it's probably finicky, so any major changes to the rendering mechanism will
-        // likely break click detection
-        if (clickedPoint != null) {
-            translatedClickedPoint = (Point) clickedPoint.clone();
-
-            // since we have the possibility of scrolling, we need to convert the on-screen
-            // clicked coordinates
-            // to on-board coordinates. Thankfully, SwingUtilities provides the main
-            // computational ability for that
-            translatedClickedPoint = SwingUtilities.convertPoint(this, translatedClickedPoint, this.getParent());
-            translatedClickedPoint.translate((int) getVisibleRect().getX(), (int) getVisibleRect().getY());
-            translatedClickedPoint.translate(0, -HEX_Y_RADIUS);
-
-            // useful for graphics coords debugging
-            // g2D.setColor(Color.ORANGE);
-            // g2D.drawString(translatedClickedPoint.getX() + ", " +
-            // translatedClickedPoint.getY(), (int) clickedPoint.getX(), (int)
-            // clickedPoint.getY());
-        }
+    /**
+     * Draws hexes into the board image. Hex images overlap their neighbours' corners, so when only part of the board
+     * is redrawn every hex touching that part is drawn again, in the usual order.
+     *
+     * @param source        - the graphics the board will be painted to, whose font and rendering hints are used
+     * @param trackRevealed - whether the whole track is revealed
+     * @param area          - the part of the board to redraw, or null to redraw all of it
+     */
+    private void redrawBoard(Graphics2D source, boolean trackRevealed, @Nullable Rectangle area) {
+        Graphics2D g2D = boardImage.createGraphics();
+        try {
+            g2D.setRenderingHints(source.getRenderingHints());
+            g2D.translate(0, -BOARD_IMAGE_Y);
+            if (area != null) {
+                g2D.clip(area);
+                g2D.setComposite(AlphaComposite.Clear);
+                g2D.fill(area);
+                g2D.setComposite(AlphaComposite.SrcOver);
+            }
 
-        Font pushFont = g2D.getFont();
-        Font newFont = pushFont.deriveFont(BOLD, pushFont.getSize());
-        g2D.setFont(newFont);
+            Font pushFont = source.getFont();
+            g2D.setFont(pushFont.deriveFont(BOLD, pushFont.getSize()));
 
-        boolean trackRevealed = currentTrack.hasActiveTrackReveal();
+            for (int x = 0; x < currentTrack.getWidth(); x++) {
+                for (int y = 0; y < currentTrack.getHeight(); y++) {
+                    if ((area != null) && !area.intersects(getTileBounds(x, y))) {
+                        continue;
+                    }
+                    StratConCoords currentCoords = new StratConCoords(x, y);
+                    Polygon graphHex = getBoardHex(x, y);
 
-        for (int x = 0; x < currentTrack.getWidth(); x++) {
-            for (int y = 0; y < currentTrack.getHeight(); y++) {
-                StratConCoords currentCoords = new StratConCoords(x, y);
+                    boolean fogged = !trackRevealed && !currentTrack.coordsRevealed(x, y);
+                    g2D.drawImage(getHexTile(currentTrack.getTerrainTile(currentCoords), fogged), null,
+                          graphHex.xpoints[1], graphHex.ypoints[0]);
 
-                if (drawHexType == DrawHexType.Outline) {
-                    g2D.setColor(BLACK);
+                    // here we draw the coordinate labels
+                    g2D.setColor(MekHQ.getMHQOptions().getStratConHexCoordForeground());
+                    g2D.drawString(currentCoords.toBTString(),
+                          graphHex.xpoints[0] + (HEX_X_RADIUS / 5),
+                          graphHex.ypoints[0] + ((int) (g2D.getFontMetrics().getHeight() / 1.25)));
+                }
+            }
 
-                    // for legacy campaigns with no terrain data or if there's an un/poorly-defined
-                    // terrain type
-                    // we'll retain drawing a hex outline
-                    BufferedImage biomeImage = getImage(currentTrack.getTerrainTile(currentCoords),
-                          ImageType.TerrainTile);
+            // for legacy campaigns with no terrain data or if there's an un/poorly-defined terrain type
+            // we'll retain drawing a hex outline
+            g2D.setColor(BLACK);
+            for (int x = 0; x < currentTrack.getWidth(); x++) {
+                for (int y = 0; y < currentTrack.getHeight(); y++) {
+                    if (((area == null) || area.intersects(getTileBounds(x, y)))
+                              && (getImage(currentTrack.getTerrainTile(new StratConCoords(x, y)),
+                          ImageType.TerrainTile) == null)) {
+                        g2D.drawPolygon(getBoardHex(x, y));
+                    }
+                }
+            }
+        } finally {
+            g2D.dispose();
+        }
+    }
+
+    /**
+     * Gets the image of a single hex with its terrain and, if it hasn't been revealed, the fog of war. There are only
+     * as many of these as there are terrain types, so each is composed once and reused for every hex like it.
+     */
+    private BufferedImage getHexTile(String terrainTile, boolean fogged) {
+        return hexTiles.computeIfAbsent(new HexTileKey(terrainTile, fogged), key -> {
+            BufferedImage tile = new BufferedImage(HEX_X_RADIUS * 2 + 1, HEX_Y_RADIUS * 2 + 1,
+                  BufferedImage.TYPE_INT_ARGB);
+            Polygon graphHex = generateGraphHex();
+            graphHex.translate(HEX_X_RADIUS, HEX_Y_RADIUS);
+
+            Graphics2D g2D = tile.createGraphics();
+            try {
+                // note: this polygon fill is what the clicked hex is detected against, so the whole hex is filled
+                g2D.setColor(Color.DARK_GRAY);
+                g2D.fillPolygon(graphHex);
+
+                // draw a hex image if we've got one
+                BufferedImage biomeImage = getImage(key.terrainTile(), ImageType.TerrainTile);
+                if (biomeImage != null) {
+                    g2D.drawImage(biomeImage, null, 0, 0);
+                }
 
-                    if (biomeImage == null) {
-                        g2D.drawPolygon(graphHex);
+                // draw fog of war if applicable
+                if (key.fogged()) {
+                    BufferedImage fogOfWarLayerImage = getImage(StratConBiomeManifest.FOG_OF_WAR,
+                          ImageType.TerrainTile);
+                    if (fogOfWarLayerImage != null) {
+                        fogOfWarLayerImage = addTintToBufferedImage(fogOfWarLayerImage, BLUE);
+                        g2D.drawImage(fogOfWarLayerImage, null, 0, 0);
                     }
-                } else if (drawHexType == DrawHexType.Hex) {
-                    // note: this polygon fill is necessary for click detection, so it must be left
-                    // here
-                    g2D.setColor(Color.DARK_GRAY);
+
+                    // needs a little more contrast between revealed and un-revealed hexes
+                    g2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
                     g2D.fillPolygon(graphHex);
+                }
+            } finally {
+                g2D.dispose();
+            }
+            return tile;
+        });
+    }
 
-                    // draw a hex image if we've got one
-                    BufferedImage biomeImage = getImage(currentTrack.getTerrainTile(currentCoords),
-                          ImageType.TerrainTile);
+    /**
+     * Highlights the hex containing the clicked point.
+     *
+     * @param g2D - graphics object on which to draw, at the origin of the hex board
+     */
+    private void drawSelectedHex(Graphics2D g2D, StratConCoords coords) {
+        Polygon graphHex = getBoardHex(coords.getX(), coords.getY());
+        BufferedImage selectedHexImage = getImage(StratConBiomeManifest.HEX_SELECTED, ImageType.TerrainTile);
+        if (selectedHexImage != null) {
+            g2D.drawImage(selectedHexImage, null, graphHex.xpoints[1], graphHex.ypoints[0]);
+        } else {
+            g2D.setColor(Color.WHITE);
+            BasicStroke s = new BasicStroke((float) 8.0);
+            Stroke push = g2D.getStroke();
+            g2D.setStroke(s);
+            g2D.drawPolygon(graphHex);
+            g2D.setStroke(push);
+        }
+    }
 
-                    if (biomeImage != null) {
-                        // left-most and topmost point; experimentally adjusted to avoid empty space in
-                        // the top left
-                        g2D.drawImage(biomeImage, null, graphHex.xpoints[1], graphHex.ypoints[0]);
-                    }
+    /**
+     * Finds the hex containing the clicked point.
+     * <p>
+     * Side effects: sets the boardState clicked hex coordinates if the point is on the board.
+     *
+     * @return the coordinates of the clicked hex, or null if the point isn't on the board
+     */
+    private @Nullable StratConCoords findClickedHex() {
+        if (clickedPoint == null) {
+            return null;
+        }
 
-                    // draw fog of war if applicable
-                    if (!trackRevealed && !currentTrack.coordsRevealed(x, y)) {
-                        BufferedImage fogOfWarLayerImage = getImage(StratConBiomeManifest.FOG_OF_WAR,
-                              ImageType.TerrainTile);
-                        if (fogOfWarLayerImage != null) {
-                            fogOfWarLayerImage = addTintToBufferedImage(fogOfWarLayerImage, BLUE);
-                            g2D.drawImage(fogOfWarLayerImage, null, graphHex.xpoints[1], graphHex.ypoints[0]);
-                        }
-
-                        // needs a little more contrast between revealed and un-revealed hexes
-                        var push = g2D.getComposite();
-                        g2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
-                        g2D.fillPolygon(graphHex);
-                        g2D.setComposite(push);
-                    }
+        // this was derived somewhat experimentally
+        // the clicked point always seems a little off, so we
+        // a) apply the current transform to it, prior to checking all the hexes
+        // b) subtract an additional Y_RADIUS x 2 (Y_DIAMETER)
+        // this gets us the point within the clicked hex
+        // it's probably finicky, so any major changes to the rendering mechanism will
+        // likely break click detection
+        Point translatedClickedPoint = (Point) clickedPoint.clone();
 
-                    // useful for graphics coords debugging
-                    // g2D.setColor(Color.pink);
-                    // g2D.drawString(graphHex.getBounds().getX() + ", " +
-                    // graphHex.getBounds().getY(), (int) graphHex.getBounds().getX(), (int)
-                    // graphHex.getBounds().getY());
-                    // g2D.setColor(Color.DARK_GRAY);
-
-                    // draw selected hex and also detect the clicked hex
-                    if ((translatedClickedPoint != null) && graphHex.contains(translatedClickedPoint)) {
-                        BufferedImage selectedHexImage = getImage(StratConBiomeManifest.HEX_SELECTED,
-                              ImageType.TerrainTile);
-                        if (selectedHexImage != null) {
-                            g2D.drawImage(selectedHexImage, null, graphHex.xpoints[1], graphHex.ypoints[0]);
-                        } else {
-                            g2D.setColor(Color.WHITE);
-                            BasicStroke s = new BasicStroke((float) 8.0);
-                            Stroke push = g2D.getStroke();
-                            g2D.setStroke(s);
-                            g2D.drawPolygon(graphHex);
-                            g2D.setStroke(push);
-                        }
-
-                        boardState.selectedX = x;
-                        boardState.selectedY = y;
-                        pointFound = true;
-                    }
-                } else if (drawHexType == DrawHexType.DryRun) {
-                    if ((translatedClickedPoint != null) && graphHex.contains(translatedClickedPoint)) {
-                        boardState.selectedX = x;
-                        boardState.selectedY = y;
-                        pointFound = true;
-                    }
-                }
+        // since we have the possibility of scrolling, we need to convert the on-screen
+        // clicked coordinates
+        // to on-board coordinates. Thankfully, SwingUtilities provides the main
+        // computational ability for that
+        translatedClickedPoint = SwingUtilities.convertPoint(this, translatedClickedPoint, this.getParent());
+        translatedClickedPoint.translate((int) getVisibleRect().getX(), (int) getVisibleRect().getY());
+        translatedClickedPoint.translate(0, -HEX_Y_RADIUS);
 
-                // here we draw the coordinate labels
-                if (drawHexType == DrawHexType.Hex) {
-                    g2D.setColor(MekHQ.getMHQOptions().getStratConHexCoordForeground());
-                    g2D.drawString(currentCoords.toBTString(),
-                          graphHex.xpoints[0] + (HEX_X_RADIUS / 5),
-                          graphHex.ypoints[0] + ((int) (g2D.getFontMetrics().getHeight() / 1.25)));
+        for (int x = 0; x < currentTrack.getWidth(); x++) {
+            for (int y = 0; y < currentTrack.getHeight(); y++) {
+                if (getBoardHex(x, y).contains(translatedClickedPoint)) {
+                    boardState.selectedX = x;
+                    boardState.selectedY = y;
+                    return new StratConCoords(x, y);
                 }
-
-                int[] downwardVector = getDownwardYVector();
-                graphHex.translate(downwardVector[0], downwardVector[1]);
             }
-
-            int[] translationVector = getRightAndUpVector(x % 2 == 0);
-            graphHex.translate(translationVector[0], translationVector[1]);
         }
+        return null;
+    }
 
-        g2D.setFont(pushFont);
+    /**
+     * @return the outline of a hex where the board draws it, relative to the origin of the hex board
+     */
+    private Polygon getBoardHex(int x, int y) {
+        Polygon graphHex = generateGraphHex();
+        graphHex.translate(HEX_X_RADIUS + getHexOffsetX(x), HEX_Y_RADIUS + getHexOffsetY(x, y));
+        return graphHex;
+    }
 
-        return pointFound;
+    /**
+     * @return the area covered by a hex's image, relative to the origin of the hex board
+     */
+    private Rectangle getTileBounds(int x, int y) {
+        return new Rectangle(getHexOffsetX(x), getHexOffsetY(x, y), HEX_X_RADIUS * 2 + 1, HEX_Y_RADIUS * 2 + 1);
     }
 
     private BufferedImage getFacilityImage(StratConFacility facility) {
@@ -568,68 +626,45 @@ public class StratConPanel extends JPanel implements ActionListener {
      * Worker function to render icons representing scenarios to the given surface.
      */
     private void drawScenarios(Graphics2D g2D) {
-        Polygon scenarioMarker = new Polygon();
-        Polygon scenarioMarker2 = new Polygon();
         int xRadius = HEX_X_RADIUS / 3;
         int yRadius = HEX_Y_RADIUS / 3;
         int smallXRadius = xRadius / 2;
         int smallYRadius = xRadius / 2;
 
-        scenarioMarker.addPoint(-xRadius, -yRadius);
-        scenarioMarker.addPoint(-xRadius, yRadius);
-        scenarioMarker.addPoint(xRadius, yRadius);
-        scenarioMarker.addPoint(xRadius, -yRadius);
-
-        scenarioMarker2.addPoint(-smallXRadius, -smallYRadius);
-        scenarioMarker2.addPoint(-smallXRadius, smallYRadius);
-        scenarioMarker2.addPoint(smallXRadius, smallYRadius);
-        scenarioMarker2.addPoint(smallXRadius, -smallYRadius);
-
-        Polygon graphHex = generateGraphHex();
-
         boolean trackRevealed = currentTrack.hasActiveTrackReveal();
 
-        for (int x = 0; x < currentTrack.getWidth(); x++) {
-            for (int y = 0; y < currentTrack.getHeight(); y++) {
-                StratConCoords currentCoords = new StratConCoords(x, y);
-                StratConScenario scenario = currentTrack.getScenario(currentCoords);
-
-                // if there's a scenario here that has a deployment/battle date
-                // or if there's a scenario here and the hex has been revealed
-                // or if there's a scenario here, and we've gm-revealed everything
-                if ((scenario != null) &&
-                          ((scenario.getDeploymentDate() != null) ||
-                                 (scenario.isStrategicObjective() &&
-                                        currentTrack.getRevealedCoords().contains(currentCoords)) ||
-                                 currentTrack.isGmRevealed() ||
-                                 trackRevealed)) {
-                    g2D.setColor(MekHQ.getMHQOptions().getFontColorNegative());
-
-                    BufferedImage scenarioImage = getImage(StratConBiomeManifest.FORCE_HOSTILE, ImageType.TerrainTile);
-                    if (scenarioImage != null) {
-                        g2D.drawImage(scenarioImage, null, graphHex.xpoints[1], graphHex.ypoints[0]);
-                    } else {
-                        g2D.drawPolygon(scenarioMarker);
-                        g2D.drawPolygon(scenarioMarker2);
-                    }
-
-                    if (currentTrack.getFacility(currentCoords) == null) {
-                        drawTextEffect(g2D, scenarioMarker, scenario.getName(), currentCoords);
-                    } else if (currentTrack.getFacility(currentCoords).getOwner() == Allied) {
-                        drawTextEffect(g2D, scenarioMarker, "Under Attack!", currentCoords);
-                    }
+        for (StratConCoords currentCoords : getCoordsInDrawOrder(currentTrack.getScenarios().keySet())) {
+            StratConScenario scenario = currentTrack.getScenario(currentCoords);
+
+            // if there's a scenario here that has a deployment/battle date
+            // or if there's a scenario here and the hex has been revealed
+            // or if there's a scenario here, and we've gm-revealed everything
+            if ((scenario != null) &&
+                      ((scenario.getDeploymentDate() != null) ||
+                             (scenario.isStrategicObjective() &&
+                                    currentTrack.getRevealedCoords().contains(currentCoords)) ||
+                             currentTrack.isGmRevealed() ||
+                             trackRevealed)) {
+                int centerX = getHexOffsetX(currentCoords.getX());
+                int centerY = getHexOffsetY(currentCoords.getX(), currentCoords.getY());
+                Polygon scenarioMarker = generateMarker(centerX, centerY, xRadius, yRadius);
+
+                g2D.setColor(MekHQ.getMHQOptions().getFontColorNegative());
+
+                BufferedImage scenarioImage = getImage(StratConBiomeManifest.FORCE_HOSTILE, ImageType.TerrainTile);
+                if (scenarioImage != null) {
+                    g2D.drawImage(scenarioImage, null, centerX - HEX_X_RADIUS, centerY - HEX_Y_RADIUS);
+                } else {
+                    g2D.drawPolygon(scenarioMarker);
+                    g2D.drawPolygon(generateMarker(centerX, centerY, smallXRadius, smallYRadius));
                 }
 
-                int[] downwardVector = getDownwardYVector();
-                scenarioMarker.translate(downwardVector[0], downwardVector[1]);
-                scenarioMarker2.translate(downwardVector[0], downwardVector[1]);
-                graphHex.translate(downwardVector[0], downwardVector[1]);
+                if (currentTrack.getFacility(currentCoords) == null) {
+                    drawTextEffect(g2D, scenarioMarker, scenario.getName(), currentCoords);
+                } else if (currentTrack.getFacility(currentCoords).getOwner() == Allied) {
+                    drawTextEffect(g2D, scenarioMarker, "Under Attack!", currentCoords);
+                }
             }
-
-            int[] translationVector = getRightAndUpVector(x % 2 == 0);
-            scenarioMarker.translate(translationVector[0], translationVector[1]);
-            scenarioMarker2.translate(translationVector[0], translationVector[1]);
-            graphHex.translate(translationVector[0], translationVector[1]);
         }
     }
 
@@ -637,49 +672,33 @@ public class StratConPanel extends JPanel implements ActionListener {
      * Worker function to render facility icons to the given surface.
      */
     private void drawFacilities(Graphics2D g2D) {
-        Polygon facilityMarker = new Polygon();
         int xRadius = HEX_X_RADIUS / 3;
         int yRadius = HEX_Y_RADIUS / 3;
 
-        facilityMarker.addPoint(-xRadius, -yRadius);
-        facilityMarker.addPoint(-xRadius, yRadius);
-        facilityMarker.addPoint(xRadius, yRadius);
-        facilityMarker.addPoint(xRadius, -yRadius);
-
-        Polygon graphHex = generateGraphHex();
-
         boolean trackRevealed = currentTrack.hasActiveTrackReveal();
 
-        for (int x = 0; x < currentTrack.getWidth(); x++) {
-            for (int y = 0; y < currentTrack.getHeight(); y++) {
-                StratConCoords currentCoords = new StratConCoords(x, y);
-                StratConFacility facility = currentTrack.getFacility(currentCoords);
+        for (StratConCoords currentCoords : getCoordsInDrawOrder(currentTrack.getFacilities().keySet())) {
+            StratConFacility facility = currentTrack.getFacility(currentCoords);
 
-                if ((facility != null) && (facility.isVisible() || trackRevealed || currentTrack.isGmRevealed())) {
-                    g2D.setColor(facility.getOwner() == Allied ? Color.CYAN : Color.RED);
+            if ((facility != null) && (facility.isVisible() || trackRevealed || currentTrack.isGmRevealed())) {
+                int centerX = getHexOffsetX(currentCoords.getX());
+                int centerY = getHexOffsetY(currentCoords.getX(), currentCoords.getY());
+                Polygon facilityMarker = generateMarker(centerX, centerY, xRadius, yRadius);
 
-                    BufferedImage facilityImage = getFacilityImage(facility);
+                g2D.setColor(facility.getOwner() == Allied ? Color.CYAN : Color.RED);
 
-                    // draw the image if we can find one.
-                    // Note: we track our current position using the facility marker, so it cannot
-                    // be removed entirely
-                    if (facilityImage != null) {
-                        g2D.drawImage(facilityImage, null, graphHex.xpoints[1], graphHex.ypoints[0]);
-                    } else {
-                        g2D.drawPolygon(facilityMarker);
-                    }
+                BufferedImage facilityImage = getFacilityImage(facility);
 
-                    drawTextEffect(g2D, facilityMarker, facility.getFormattedDisplayableName(), currentCoords);
+                // draw the image if we can find one.
+                // Note: the text effect is positioned using the facility marker, so it is built either way
+                if (facilityImage != null) {
+                    g2D.drawImage(facilityImage, null, centerX - HEX_X_RADIUS, centerY - HEX_Y_RADIUS);
+                } else {
+                    g2D.drawPolygon(facilityMarker);
                 }
 
-                int[] downwardVector = getDownwardYVector();
-                facilityMarker.translate(downwardVector[0], downwardVector[1]);
-                graphHex.translate(downwardVector[0], downwardVector[1]);
+                drawTextEffect(g2D, facilityMarker, facility.getFormattedDisplayableName(), currentCoords);
             }
-
-            int[] translationVector = getRightAndUpVector(x % 2 == 0);
-            facilityMarker.translate(translationVector[0], translationVector[1]);
-            graphHex.translate(translationVector[0], translationVector[1]);
         }
     }
 
@@ -690,62 +709,70 @@ public class StratConPanel extends JPanel implements ActionListener {
         int xRadius = HEX_X_RADIUS / 3;
         int yRadius = HEX_Y_RADIUS / 3;
 
-        Shape forceMarker = new Ellipse2D.Double(-xRadius, -yRadius, xRadius * 2.0, yRadius * 2.0);
+        for (StratConCoords currentCoords : getCoordsInDrawOrder(currentTrack.getAssignedCoordForces().keySet())) {
+            int centerX = getHexOffsetX(currentCoords.getX());
+            int centerY = getHexOffsetY(currentCoords.getX(), currentCoords.getY());
+            Shape forceMarker = new Ellipse2D.Double(centerX - xRadius, centerY - yRadius, xRadius * 2.0,
+                  yRadius * 2.0);
+
+            for (int forceID : currentTrack.getAssignedCoordForces().get(currentCoords)) {
+                String forceName;
+                try {
+                    Formation formation = campaign.getFormation(forceID);
+                    forceName = formation.getName();
+                } catch (Exception e) {
+                    // If we can't successfully fetch the Force, there is no point trying
+                    // to draw it on the map.
+                    logger.error("Failed to fetch force from ID {}", forceID);
+                    continue;
+                }
 
-        Polygon graphHex = generateGraphHex();
+                g2D.setColor(Color.GREEN);
 
-        for (int x = 0; x < currentTrack.getWidth(); x++) {
-            for (int y = 0; y < currentTrack.getHeight(); y++) {
-                StratConCoords currentCoords = new StratConCoords(x, y);
-
-                if (currentTrack.getAssignedCoordForces().containsKey(currentCoords)) {
-                    for (int forceID : currentTrack.getAssignedCoordForces().get(currentCoords)) {
-                        String forceName;
-                        try {
-                            Formation formation = campaign.getFormation(forceID);
-                            forceName = formation.getName();
-                        } catch (Exception e) {
-                            // If we can't successfully fetch the Force, there is no point trying
-                            // to draw it on the map.
-                            logger.error("Failed to fetch force from ID {}", forceID);
-                            continue;
-                        }
-
-                        g2D.setColor(Color.GREEN);
-
-                        BufferedImage forceImage = getImage(StratConBiomeManifest.FORCE_FRIENDLY,
-                              ImageType.TerrainTile);
-                        if (forceImage != null) {
-                            g2D.drawImage(forceImage, null, graphHex.xpoints[1], graphHex.ypoints[0]);
-                        } else {
-                            g2D.draw(forceMarker);
-                        }
-
-                        Font currentFont = g2D.getFont();
-                        Font newFont = currentFont.deriveFont(Collections.singletonMap(TextAttribute.WEIGHT,
-                              TextAttribute.WEIGHT_BOLD));
-                        g2D.setFont(newFont);
-
-                        drawTextEffect(g2D, forceMarker, forceName, currentCoords);
-
-                        g2D.setFont(currentFont);
-                    }
+                BufferedImage forceImage = getImage(StratConBiomeManifest.FORCE_FRIENDLY, ImageType.TerrainTile);
+                if (forceImage != null) {
+                    g2D.drawImage(forceImage, null, centerX - HEX_X_RADIUS, centerY - HEX_Y_RADIUS);
+                } else {
+                    g2D.draw(forceMarker);
                 }
 
-                int[] downwardVector = getDownwardYVector();
-                AffineTransform ellipseTransform = new AffineTransform();
-                ellipseTransform.translate(downwardVector[0], downwardVector[1]);
-                graphHex.translate(downwardVector[0], downwardVector[1]);
-                forceMarker = ellipseTransform.createTransformedShape(forceMarker);
+                Font currentFont = g2D.getFont();
+                Font newFont = currentFont.deriveFont(Collections.singletonMap(TextAttribute.WEIGHT,
+                      TextAttribute.WEIGHT_BOLD));
+                g2D.setFont(newFont);
+
+                drawTextEffect(g2D, forceMarker, forceName, currentCoords);
+
+                g2D.setFont(currentFont);
             }
+        }
+    }
 
-            int[] translationVector = getRightAndUpVector(x % 2 == 0);
+    /**
+     * Worker function that generates a rectangular marker centered on the given point.
+     */
+    private Polygon generateMarker(int centerX, int centerY, int xRadius, int yRadius) {
+        Polygon marker = new Polygon();
+        marker.addPoint(centerX - xRadius, centerY - yRadius);
+        marker.addPoint(centerX - xRadius, centerY + yRadius);
+        marker.addPoint(centerX + xRadius, centerY + yRadius);
+        marker.addPoint(centerX + xRadius, centerY - yRadius);
+        return marker;
+    }
 
-            AffineTransform ellipseTransform = new AffineTransform();
-            ellipseTransform.translate(translationVector[0], translationVector[1]);
-            graphHex.translate(translationVector[0], translationVector[1]);
-            forceMarker = ellipseTransform.createTransformedShape(forceMarker);
+    /**
+     * Orders the given on-track coordinates column by column, top to bottom, which is the order the board has always
+     * been drawn in. Markers drawn later overlap earlier ones, so the overlays keep to it.
+     */
+    private List<StratConCoords> getCoordsInDrawOrder(Collection<StratConCoords> coords) {
+        List<StratConCoords> ordered = new ArrayList<>(coords.size());
+        for (StratConCoords currentCoords : coords) {
+            if (!currentTrack.isOffTrack(currentCoords)) {
+                ordered.add(currentCoords);
+            }
         }
+        ordered.sort(Comparator.comparingInt(StratConCoords::getX).thenComparingInt(StratConCoords::getY));
+        return ordered;
     }
 
     /**
@@ -794,33 +821,17 @@ public class StratConPanel extends JPanel implements ActionListener {
     }
 
     /**
-     * Returns the translation that we need to make to render the "next downward" hex.
-     *
-     * @return Two-dimensional array with the first element being the x vector and the second being the y vector
+     * Returns how far right of the first column the given column of hexes is drawn.
      */
-    private int[] getDownwardYVector() {
-        return new int[] { 0, HEX_Y_RADIUS * 2 };
+    private static int getHexOffsetX(int x) {
+        return x * (int) Math.floor(HEX_X_RADIUS * 1.5);
     }
 
     /**
-     * Returns the translation that we need to make to move from the bottom of a column to the top of the next column to
-     * the right.
-     *
-     * @param evenColumn Whether the column we're currently in is odd or even
-     *
-     * @return Two-dimensional array with the first element being the x vector and the second being the y vector
+     * Returns how far below the top row the given hex is drawn; odd columns sit half a hex higher than even ones.
      */
-    private int[] getRightAndUpVector(boolean evenColumn) {
-        int yRadius = HEX_Y_RADIUS;
-
-        int yTranslation = currentTrack.getHeight() * yRadius * 2;
-        if (evenColumn) {
-            yTranslation += yRadius;
-        } else {
-            yTranslation -= yRadius;
-        }
-
-        return new int[] { (int) Math.floor(HEX_X_RADIUS * 1.5), -yTranslation };
+    private static int getHexOffsetY(int x, int y) {
+        return (y * HEX_Y_RADIUS * 2) - ((x % 2 == 0) ? 0 : HEX_Y_RADIUS);
     }
 
     /**
@@ -833,23 +844,16 @@ public class StratConPanel extends JPanel implements ActionListener {
     }
 
     /**
-     * Worker function that takes the current clicked point and a graphics 2D object and detects which hex was clicked
-     * by doing a dry run hex render.
+     * Worker function that takes the current clicked point and detects which hex was clicked.
      * <p>
-     * Dependent upon clickedPoint being set and having an active graphics object for this class.
+     * Dependent upon clickedPoint being set.
      * <p>
-     * Side effects: the dry run sets the boardState clicked hex coordinates.
+     * Side effects: sets the boardState clicked hex coordinates.
      *
      * @return Whether the clicked point was found on the hex board
      */
     private boolean detectClickedHex() {
-        Graphics2D g2D = (Graphics2D) getGraphics();
-        AffineTransform transform = g2D.getTransform();
-        performInitialTransform(g2D);
-        boolean pointFoundOnBoard = drawHexes(g2D, DrawHexType.DryRun);
-        g2D.setTransform(transform);
-
-        return pointFoundOnBoard;
+        return findClickedHex() != null;
     }
 
     /**
@@ -55,6 +55,7 @@ import megamek.client.ui.util.UIUtil;
 import megamek.common.event.Subscribe;
 import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.events.DaysAdvancedEvent;
 import mekhq.campaign.events.NewDayEvent;
 import mekhq.campaign.events.StratConDeploymentEvent;
 import mekhq.campaign.events.missions.MissionCompletedEvent;
@@ -561,6 +562,14 @@ public class StratConTab extends CampaignGuiTab {
 
     @Subscribe
     public void handleNewDay(NewDayEvent ev) {
+        if (!ev.isPartOfBatch()) {
+            repopulateTrackList();
+            updateCampaignState();
+        }
+    }
+
+    @Subscribe
+    public void handleDaysAdvanced(DaysAdvancedEvent ev) {
         repopulateTrackList();
         updateCampaignState();
     }
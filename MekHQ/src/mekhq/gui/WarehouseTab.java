@@ -711,15 +711,17 @@ public final class WarehouseTab extends CampaignGuiTab implements ITechWorkPanel
 
     private final ActionScheduler partsScheduler = new ActionScheduler(this::refreshPartsList);
     private final ActionScheduler techsScheduler = new ActionScheduler(this::refreshTechsList);
+    private final ActionScheduler filterPartsScheduler = new ActionScheduler(this::filterParts);
+    private final ActionScheduler filterTechsScheduler = new ActionScheduler(this::filterTechs);
 
     @Subscribe
     public void handle(UnitRemovedEvent ev) {
-        filterParts();
+        filterPartsScheduler.schedule();
     }
 
     @Subscribe
     public void handle(UnitChangedEvent ev) {
-        filterParts();
+        filterPartsScheduler.schedule();
     }
 
     @Subscribe
@@ -744,7 +746,7 @@ public final class WarehouseTab extends CampaignGuiTab implements ITechWorkPanel
 
     @Subscribe
     public void handle(PartChangedEvent ev) {
-        filterParts();
+        filterPartsScheduler.schedule();
     }
 
     @Subscribe
@@ -762,12 +764,12 @@ public final class WarehouseTab extends CampaignGuiTab implements ITechWorkPanel
 
     @Subscribe
     public void handle(OvertimeModeEvent ev) {
-        filterTechs();
+        filterTechsScheduler.schedule();
     }
 
     @Subscribe
     public void handle(AsTechPoolChangedEvent ev) {
-        filterTechs();
+        filterTechsScheduler.schedule();
     }
 
     @Subscribe
@@ -62,6 +62,7 @@ import megamek.common.annotations.Nullable;
 import megamek.common.enums.SkillLevel;
 import megamek.logging.MMLogger;
 import mekhq.campaign.campaignOptions.CampaignOptions;
+import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.campaign.personnel.skills.enums.SkillSubType;
 import mekhq.gui.baseComponents.roundedComponents.RoundedJButton;
@@ -711,6 +712,7 @@ public class SkillsTab {
             // Update Skill Milestones
             updateSkillMilestones(type);
         }
+        Person.invalidateAllDerivedStats();
 
         // Edge Costs
         options.setEdgeCost((int) spnEdgeCost.getValue());
@@ -50,8 +50,6 @@ import java.awt.event.WindowEvent;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
-import java.util.ArrayList;
-import java.util.List;
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -68,8 +66,11 @@ import megamek.common.ui.EnhancedTabbedPane;
 import megamek.logging.MMLogger;
 import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignDayAdvancer;
+import mekhq.campaign.DayAdvancer;
 import mekhq.campaign.events.ReportEvent;
 import mekhq.gui.CampaignGUI;
+import mekhq.gui.CampaignGUINewDayListener;
 import mekhq.gui.CommandCenterTab;
 import mekhq.gui.DailyReportLogPanel;
 import mekhq.gui.baseComponents.AbstractMHQDialogBasic;
@@ -446,106 +447,31 @@ public class AdvanceDaysDialog extends AbstractMHQDialogBasic {
         }
 
         setRunning(true);
-        boolean firstDay = true;
-        final List<String> generalReports = new ArrayList<>();
-        final List<String> skillReports = new ArrayList<>();
-        final List<String> battleReports = new ArrayList<>();
-        final List<String> politicsReports = new ArrayList<>();
-        final List<String> personnelReports = new ArrayList<>();
-        final List<String> medicalReports = new ArrayList<>();
-        final List<String> financesReports = new ArrayList<>();
-        final List<String> acquisitionsReports = new ArrayList<>();
-        final List<String> technicalReports = new ArrayList<>();
-        Campaign campaign = getGUI().getCampaign();
-        for (; days > 0; days--) {
-            try {
-                if (!campaign.newDay()) {
-                    break;
-                }
-
-                final String generalReport = campaign.getCurrentReportHTML();
-                final String skillReport = campaign.getSkillReportHTML();
-                final String battleReport = campaign.getBattleReportHTML();
-                final String politicsReport = campaign.getPoliticsReportHTML();
-                final String personnelReport = campaign.getPersonnelReportHTML();
-                final String medicalReport = campaign.getMedicalReportHTML();
-                final String financesReport = campaign.getFinancesReportHTML();
-                final String acquisitionsReport = campaign.getAcquisitionsReportHTML();
-                final String technicalReport = campaign.getTechnicalReportHTML();
-                if (firstDay) {
-                    getDailyLogPanel().refreshLog(generalReport, GENERAL);
-                    getSkillLogPanel().refreshLog(skillReport, SKILL_CHECKS);
-                    getBattleLogPanel().refreshLog(battleReport, BATTLE);
-                    getPoliticsLogPanel().refreshLog(politicsReport, POLITICS);
-                    getPersonnelLogPanel().refreshLog(personnelReport, PERSONNEL);
-                    getMedicalLogPanel().refreshLog(medicalReport, MEDICAL);
-                    getFinancesLogPanel().refreshLog(financesReport, ACQUISITIONS);
-                    getAcquisitionsLogPanel().refreshLog(acquisitionsReport, ACQUISITIONS);
-                    getTechnicalLogPanel().refreshLog(technicalReport, TECHNICAL);
-                    firstDay = false;
-                } else {
-                    generalReports.add("<hr>");
-                    generalReports.add(generalReport);
-
-                    skillReports.add("<hr>");
-                    skillReports.add(skillReport);
-
-                    battleReports.add("<hr>");
-                    battleReports.add(battleReport);
-
-                    politicsReports.add("<hr>");
-                    politicsReports.add(politicsReport);
-
-                    personnelReports.add("<hr>");
-                    personnelReports.add(personnelReport);
-
-                    medicalReports.add("<hr>");
-                    medicalReports.add(medicalReport);
-
-                    financesReports.add("<hr>");
-                    financesReports.add(financesReport);
-
-                    acquisitionsReports.add("<hr>");
-                    acquisitionsReports.add(acquisitionsReport);
-
-                    technicalReports.add("<hr>");
-                    technicalReports.add(technicalReport);
-                }
-                generalReports.addAll(campaign.fetchAndClearNewReports());
-                skillReports.addAll(campaign.fetchAndClearNewSkillReports());
-                battleReports.addAll(campaign.fetchAndClearNewBattleReports());
-                politicsReports.addAll(campaign.fetchAndClearNewPoliticsReports());
-                personnelReports.addAll(campaign.fetchAndClearNewPersonnelReports());
-                medicalReports.addAll(campaign.fetchAndClearNewMedicalReports());
-                financesReports.addAll(campaign.fetchAndClearNewFinancesReports());
-                acquisitionsReports.addAll(campaign.fetchAndClearNewAcquisitionsReports());
-                technicalReports.addAll(campaign.fetchAndClearNewTechnicalReports());
-            } catch (Exception ex) {
-                LOGGER.error("", ex);
-                break;
-            }
+        final Campaign campaign = getGUI().getCampaign();
+        final DayAdvancer advancer = new CampaignDayAdvancer(campaign, new CampaignGUINewDayListener(getGUI()));
+        boolean failed = false;
+        try {
+            // The tabs refresh once, when the advancer triggers a DaysAdvancedEvent at the end of the batch
+            advancer.advanceDays(days);
+        } catch (Exception ex) {
+            LOGGER.error("", ex);
+            failed = true;
         }
-
         setRunning(false);
-        getDailyLogPanel().appendLog(generalReports, GENERAL);
-        getSkillLogPanel().appendLog(skillReports, SKILL_CHECKS);
-        getBattleLogPanel().appendLog(battleReports, BATTLE);
-        getPoliticsLogPanel().appendLog(politicsReports, POLITICS);
-        getPersonnelLogPanel().appendLog(personnelReports, PERSONNEL);
-        getMedicalLogPanel().appendLog(medicalReports, MEDICAL);
-        getFinancesLogPanel().appendLog(financesReports, FINANCES);
-        getAcquisitionsLogPanel().appendLog(acquisitionsReports, ACQUISITIONS);
-        getTechnicalLogPanel().appendLog(technicalReports, TECHNICAL);
+        refreshLogs(campaign);
 
         // We couldn't advance all days for some reason,
         // set the spinner to the number of remaining days
-        if (days > 0) {
-            getSpnDays().setValue(days);
+        final int remaining = days - Math.toIntExact(ChronoUnit.DAYS.between(today, campaign.getLocalDate()));
+        if (remaining > 0) {
+            getSpnDays().setValue(remaining);
         }
 
-        getGUI().refreshCalendar();
-        getGUI().refreshLocation();
-        getGUI().refreshAllTabs();
+        if (failed) {
+            getGUI().refreshCalendar();
+            getGUI().refreshLocation();
+            getGUI().refreshAllTabs();
+        }
     }
 
     @Subscribe(priority = 1)
@@ -553,16 +479,19 @@ public class AdvanceDaysDialog extends AbstractMHQDialogBasic {
         if (isRunning()) {
             evt.cancel();
         } else {
-            Campaign campaign = getGUI().getCampaign();
-            getDailyLogPanel().refreshLog(campaign.getCurrentReportHTML(), GENERAL);
-            getSkillLogPanel().refreshLog(campaign.getSkillReportHTML(), SKILL_CHECKS);
-            getBattleLogPanel().refreshLog(campaign.getBattleReportHTML(), BATTLE);
-            getPoliticsLogPanel().refreshLog(campaign.getPoliticsReportHTML(), POLITICS);
-            getPersonnelLogPanel().refreshLog(campaign.getPersonnelReportHTML(), PERSONNEL);
-            getMedicalLogPanel().refreshLog(campaign.getMedicalReportHTML(), MEDICAL);
-            getFinancesLogPanel().refreshLog(campaign.getFinancesReportHTML(), FINANCES);
-            getAcquisitionsLogPanel().refreshLog(campaign.getAcquisitionsReportHTML(), ACQUISITIONS);
-            getTechnicalLogPanel().refreshLog(campaign.getTechnicalReportHTML(), TECHNICAL);
+            refreshLogs(getGUI().getCampaign());
         }
     }
+
+    private void refreshLogs(final Campaign campaign) {
+        getDailyLogPanel().refreshLog(campaign.getCurrentReportHTML(), GENERAL);
+        getSkillLogPanel().refreshLog(campaign.getSkillReportHTML(), SKILL_CHECKS);
+        getBattleLogPanel().refreshLog(campaign.getBattleReportHTML(), BATTLE);
+        getPoliticsLogPanel().refreshLog(campaign.getPoliticsReportHTML(), POLITICS);
+        getPersonnelLogPanel().refreshLog(campaign.getPersonnelReportHTML(), PERSONNEL);
+        getMedicalLogPanel().refreshLog(campaign.getMedicalReportHTML(), MEDICAL);
+        getFinancesLogPanel().refreshLog(campaign.getFinancesReportHTML(), FINANCES);
+        getAcquisitionsLogPanel().refreshLog(campaign.getAcquisitionsReportHTML(), ACQUISITIONS);
+        getTechnicalLogPanel().refreshLog(campaign.getTechnicalReportHTML(), TECHNICAL);
+    }
 }
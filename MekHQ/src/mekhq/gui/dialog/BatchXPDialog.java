@@ -65,6 +65,7 @@ import mekhq.campaign.personnel.skills.Skill;
 import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.gui.enums.PersonnelTableModelColumn;
 import mekhq.gui.model.PersonnelTableModel;
+import mekhq.gui.sorter.PersonnelTableRowSorter;
 import mekhq.gui.utilities.JScrollPaneWithSpeed;
 
 public final class BatchXPDialog extends JDialog {
@@ -131,7 +132,7 @@ public final class BatchXPDialog extends JDialog {
         personnelTable.setIntercellSpacing(new Dimension(1, 0));
         personnelTable.setShowGrid(false);
 
-        personnelSorter = new TableRowSorter<>(personnelModel);
+        personnelSorter = new PersonnelTableRowSorter(personnelModel);
         personnelSorter.setSortsOnUpdates(true);
 
         final XTableColumnModel columnModel = (XTableColumnModel) personnelTable.getColumnModel();
@@ -349,6 +350,7 @@ public final class BatchXPDialog extends JDialog {
     }
 
     private void updatePersonnelTable() {
+        personnelModel.clearCachedValues();
         personnelSorter.sort();
         if (!choiceNoSkill.equals(choiceSkill.getSelectedItem())) {
             int rows = personnelTable.getRowCount();
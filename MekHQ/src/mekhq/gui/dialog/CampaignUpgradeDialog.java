@@ -59,6 +59,7 @@ import mekhq.campaign.Campaign;
 import mekhq.campaign.campaignOptions.CampaignOptionsFreebieTracker;
 import mekhq.campaign.enums.DailyReportType;
 import mekhq.campaign.events.OptionsChangedEvent;
+import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.SpecialAbility;
 import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogCore;
@@ -199,6 +200,7 @@ public class CampaignUpgradeDialog {
                     storedType.setHeroicLevel(presetType.getHeroicLevel());
                     storedType.setLegendaryLevel(presetType.getLegendaryLevel());
                 }
+                Person.invalidateAllDerivedStats();
 
                 SpecialAbility.replaceSpecialAbilities(chosenPreset.getSpecialAbilities());
 
@@ -44,6 +44,12 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.*;
 import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
@@ -54,8 +60,8 @@ import megamek.client.ui.entityreadout.EntityReadout;
 import megamek.client.ui.preferences.JWindowPreference;
 import megamek.client.ui.preferences.PreferencesNode;
 import megamek.codeUtilities.StringUtility;
+import megamek.common.annotations.Nullable;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
@@ -63,6 +69,7 @@ import mekhq.MekHQ;
 import mekhq.Utilities;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.parts.Refit;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.gui.utilities.JScrollPaneWithSpeed;
 
@@ -87,6 +94,8 @@ public class ChooseRefitDialog extends JDialog {
 
     private boolean confirmed = false;
     private boolean customize = false;
+
+    private RefitWorker refitWorker;
     // endregion Variable Declarations
 
     // region Constructors
@@ -234,21 +243,30 @@ public class ChooseRefitDialog extends JDialog {
     // endregion Initialization
 
     private void confirmRefit() {
+        stopPopulatingRefits();
         confirmed = getSelectedRefit() != null;
         customize = false;
         setVisible(false);
     }
 
     private void confirmCustomize() {
+        stopPopulatingRefits();
         confirmed = getSelectedRefit() != null;
         customize = true;
         setVisible(false);
     }
 
     private void cancel() {
+        stopPopulatingRefits();
         setVisible(false);
     }
 
+    @Override
+    public void dispose() {
+        stopPopulatingRefits();
+        super.dispose();
+    }
+
     public boolean isConfirmed() {
         return confirmed;
     }
@@ -285,26 +303,98 @@ public class ChooseRefitDialog extends JDialog {
         SwingUtilities.invokeLater(() -> scrNewUnit.getVerticalScrollBar().setValue(0));
     }
 
+    /**
+     * Starts finding the refits available to the unit. The variants are parsed in the background on several threads,
+     * and each fixable refit is added to the table as soon as it is ready.
+     */
     private void populateRefits() {
-        List<Refit> refits = new ArrayList<>();
-        Entity e = unit.getEntity();
-        String chassis = e.getFullChassis();
-        for (String model : Utilities.getAllVariants(e, campaign)) {
-            model = StringUtility.isNullOrBlank(model) ? "" : " " + model;
+        refitModel = new RefitTableModel(new ArrayList<>());
+        refitWorker = new RefitWorker();
+        refitWorker.execute();
+    }
+
+    private void stopPopulatingRefits() {
+        if (refitWorker != null) {
+            refitWorker.cancel(true);
+        }
+    }
+
+    private @Nullable Entity loadVariant(String chassis, String model) {
+        model = StringUtility.isNullOrBlank(model) ? "" : " " + model;
+        try {
+            MekSummary summary = Utilities.retrieveUnit(chassis + model);
+            return EntityTemplateCache.getInstance().getEntity(summary);
+        } catch (EntityLoadingException ex) {
+            logger.error("", ex);
+        }
+        return null;
+    }
+
+    private @Nullable Refit createRefit(Entity refitEn) {
+        Refit r = new Refit(unit, refitEn, false, false, false);
+        return (null == r.checkFixable()) ? r : null;
+    }
+
+    /**
+     * Evaluates every variant of the unit as a refit. Only the variants' unit files are parsed on the pooled threads;
+     * each refit is then calculated and checked on the event dispatch thread, as that reads the warehouse and briefly
+     * changes the unit being refit.
+     */
+    private class RefitWorker extends SwingWorker<Void, Entity> {
+        @Override
+        protected Void doInBackground() throws InterruptedException {
+            Entity e = unit.getEntity();
+            String chassis = e.getFullChassis();
+            List<String> variants = Utilities.getAllVariants(e, campaign);
+            if (variants.isEmpty() || isCancelled()) {
+                return null;
+            }
+
+            final int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), variants.size()));
+            final AtomicInteger threadCount = new AtomicInteger();
+            final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+                final Thread thread = new Thread(runnable, "Refit Variant Loader " + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
             try {
-                MekSummary summary = Utilities.retrieveUnit(chassis + model);
-                Entity refitEn = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
-                if (null != refitEn) {
-                    Refit r = new Refit(unit, refitEn, false, false, false);
-                    if (null == r.checkFixable()) {
-                        refits.add(r);
+                final CompletionService<Entity> completionService = new ExecutorCompletionService<>(executor);
+                for (String model : variants) {
+                    completionService.submit(() -> loadVariant(chassis, model));
+                }
+
+                // Publish in completion order so the table fills as quickly as possible
+                for (int i = 0; (i < variants.size()) && !isCancelled(); i++) {
+                    try {
+                        Entity refitEn = completionService.take().get();
+                        if (refitEn != null) {
+                            publish(refitEn);
+                        }
+                    } catch (ExecutionException ex) {
+                        logger.error("Could not load a variant of {}", unit.getName(), ex.getCause());
                     }
                 }
-            } catch (EntityLoadingException ex) {
-                logger.error("", ex);
+            } finally {
+                executor.shutdownNow();
             }
+            return null;
+        }
+
+        @Override
+        protected void process(List<Entity> refitEntities) {
+            List<Refit> refits = new ArrayList<>();
+            for (Entity refitEn : refitEntities) {
+                if (isCancelled()) {
+                    return;
+                }
+
+                Refit refit = createRefit(refitEn);
+                if (refit != null) {
+                    refits.add(refit);
+                }
+            }
+            refitModel.addRefits(refits);
         }
-        refitModel = new RefitTableModel(refits);
     }
 
     /**
@@ -423,6 +513,20 @@ public class ChooseRefitDialog extends JDialog {
             fireTableDataChanged();
         }
 
+        /**
+         * Appends refits to the end of the table.
+         *
+         * @param refits the refits to add
+         */
+        public void addRefits(List<Refit> refits) {
+            if (refits.isEmpty()) {
+                return;
+            }
+            int firstRow = data.size();
+            data.addAll(refits);
+            fireTableRowsInserted(firstRow, data.size() - 1);
+        }
+
         public Renderer getRenderer() {
             return new Renderer();
         }
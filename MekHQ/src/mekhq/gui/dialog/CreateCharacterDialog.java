@@ -1347,6 +1347,7 @@ public class CreateCharacterDialog extends JDialog implements DialogOptionListen
                 person.getOptions().getOption(option.getName()).setValue(newVar.getValue());
             }
         }
+        person.invalidateDerivedStats();
     }
 
     public void refreshOptions() {
@@ -1475,6 +1476,7 @@ public class CreateCharacterDialog extends JDialog implements DialogOptionListen
                 person.getOptions().getOption(option.getName()).setValue(newVar.getValue());
             }
         }
+        person.invalidateDerivedStats();
     }
 
     private int getSkillXpSpent() {
@@ -1768,6 +1768,7 @@ public class CustomizePersonDialog extends JDialog implements DialogOptionListen
                 person.getOptions().getOption(option.getName()).setValue(newVar.getValue());
             }
         }
+        person.invalidateDerivedStats();
     }
 
     public void refreshOptions() {
@@ -1892,6 +1893,7 @@ public class CustomizePersonDialog extends JDialog implements DialogOptionListen
                 person.getOptions().getOption(option.getName()).setValue(newVar.getValue());
             }
         }
+        person.invalidateDerivedStats();
     }
 
     private void changeSkillValue(String type) {
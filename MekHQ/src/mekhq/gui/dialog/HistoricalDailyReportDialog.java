@@ -39,7 +39,6 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.ResourceBundle;
 import javax.swing.JButton;
@@ -92,7 +91,7 @@ public class HistoricalDailyReportDialog extends JDialog {
 
         if (MekHQ.getMHQOptions().getHistoricalDailyLog()) {
             JLabel pickTimeLabel = new JLabel(resourceMap.getString("pickTime.text"));
-            Integer[] days = new Integer[] { 7, 30, 60, 90, MHQConstants.MAX_HISTORICAL_LOG_DAYS };
+            Integer[] days = new Integer[] { 7, 30, 60, 90, 180, MHQConstants.MAX_HISTORICAL_LOG_DAYS };
             pickTime = new JComboBox<>(days);
             logPanel = new DailyReportLogPanel(gui);
             JLabel daysLabel = new JLabel(resourceMap.getString("days.text"));
@@ -165,19 +164,18 @@ public class HistoricalDailyReportDialog extends JDialog {
     private void updateLogPanel(Integer days) {
         logPanel.clearLogPanel();
         LocalDate trackDay = null;
-        for (LogEntry log : gui.getCampaign().inMemoryLogHistory) {
-            if (ChronoUnit.DAYS.between(log.getDate(), gui.getCampaign().getLocalDate()) < days) {
-                if (!log.getDate().equals(trackDay)) {
-                    logPanel.appendLog(Collections.singletonList("<hr>"), GENERAL);
-                    logPanel.appendLog(Collections.singletonList("<b>" +
-                                                                       MekHQ.getMHQOptions()
-                                                                             .getDisplayFormattedDate(log.getDate()) +
-                                                                       "</b>"), GENERAL);
-                    logPanel.appendLog(Collections.singletonList("<br><br>"), GENERAL);
-                    trackDay = log.getDate();
-                }
-                logPanel.appendLog(Collections.singletonList(log.getDesc() + "<br>"), GENERAL);
+        LocalDate since = gui.getCampaign().getLocalDate().minusDays(days - 1);
+        for (LogEntry log : gui.getCampaign().getDailyLogHistory().getEntriesSince(since)) {
+            if (!log.getDate().equals(trackDay)) {
+                logPanel.appendLog(Collections.singletonList("<hr>"), GENERAL);
+                logPanel.appendLog(Collections.singletonList("<b>" +
+                                                                   MekHQ.getMHQOptions()
+                                                                         .getDisplayFormattedDate(log.getDate()) +
+                                                                   "</b>"), GENERAL);
+                logPanel.appendLog(Collections.singletonList("<br><br>"), GENERAL);
+                trackDay = log.getDate();
             }
+            logPanel.appendLog(Collections.singletonList(log.getDesc() + "<br>"), GENERAL);
         }
     }
 }
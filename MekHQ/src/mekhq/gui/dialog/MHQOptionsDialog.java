@@ -179,6 +179,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
     private JRadioButton optionSaveYearly;
     private JCheckBox checkSaveBeforeScenarios;
     private JCheckBox checkSaveBeforeContractEnd;
+    private JCheckBox checkSaveInBackground;
     private JSpinner spinnerSavedGamesCount;
     // endregion Autosave
 
@@ -907,6 +908,9 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
 
         checkSaveBeforeContractEnd = new JCheckBox(resources.getString("checkSaveBeforeMissionEnd.text"));
 
+        checkSaveInBackground = new JCheckBox(resources.getString("checkSaveInBackground.text"));
+        checkSaveInBackground.setToolTipText(resources.getString("checkSaveInBackground.toolTipText"));
+
         JLabel labelSavedGamesCount = new JLabel(resources.getString("labelSavedGamesCount.text"));
         spinnerSavedGamesCount = new JSpinner(new SpinnerNumberModel(1, 1, 10, 1));
         labelSavedGamesCount.setLabelFor(spinnerSavedGamesCount);
@@ -927,6 +931,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
                                       .addComponent(optionSaveYearly)
                                       .addComponent(checkSaveBeforeScenarios)
                                       .addComponent(checkSaveBeforeContractEnd)
+                                      .addComponent(checkSaveInBackground)
                                       .addGroup(layout.createParallelGroup(Alignment.LEADING)
                                                       .addComponent(labelSavedGamesCount)
                                                       .addComponent(spinnerSavedGamesCount,
@@ -942,6 +947,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
                                         .addComponent(optionSaveYearly)
                                         .addComponent(checkSaveBeforeScenarios)
                                         .addComponent(checkSaveBeforeContractEnd)
+                                        .addComponent(checkSaveInBackground)
                                         .addGroup(layout.createSequentialGroup()
                                                         .addComponent(labelSavedGamesCount)
                                                         .addComponent(spinnerSavedGamesCount)));
@@ -1623,6 +1629,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
         options.setAutosaveYearlyValue(optionSaveYearly.isSelected());
         options.setAutosaveBeforeScenariosValue(checkSaveBeforeScenarios.isSelected());
         options.setAutosaveBeforeMissionEndValue(checkSaveBeforeContractEnd.isSelected());
+        options.setAutosaveInBackgroundValue(checkSaveInBackground.isSelected());
         options.setMaximumNumberOfAutoSavesValue((Integer) spinnerSavedGamesCount.getValue());
 
         options.setNewDayAsTechPoolFill(chkNewDayAsTechPoolFill.isSelected());
@@ -1826,6 +1833,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
         optionSaveYearly.setSelected(options.getAutosaveYearlyValue());
         checkSaveBeforeScenarios.setSelected(options.getAutosaveBeforeScenariosValue());
         checkSaveBeforeContractEnd.setSelected(options.getAutosaveBeforeMissionEndValue());
+        checkSaveInBackground.setSelected(options.getAutosaveInBackgroundValue());
         spinnerSavedGamesCount.setValue(options.getMaximumNumberOfAutoSavesValue());
 
         chkNewDayAsTechPoolFill.setSelected(options.getNewDayAsTechPoolFill());
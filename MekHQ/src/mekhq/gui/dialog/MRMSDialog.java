@@ -114,6 +114,7 @@ public class MRMSDialog extends JDialog {
     private JCheckBox useRushJobBox;
     private JCheckBox allowCarryoverBox;
     private JCheckBox optimizeToCompleteTodayBox;
+    private JCheckBox optimizeAssignmentsBox;
     private JCheckBox scrapImpossibleBox;
     private JCheckBox useAssignedTechsFirstBox;
     private JCheckBox replacePodPartsBox;
@@ -503,6 +504,13 @@ public class MRMSDialog extends JDialog {
             replacePodPartsBox.setName("replacePodPartsBox");
             gridBagConstraints.gridy = gridRowIdx++;
             pnlOptions.add(replacePodPartsBox, gridBagConstraints);
+
+            optimizeAssignmentsBox = new JCheckBox(resources.getString("optimizeAssignmentsBox.text"));
+            optimizeAssignmentsBox.setToolTipText(wordWrap(resources.getString(
+                  "optimizeAssignmentsBox.toolTipText")));
+            optimizeAssignmentsBox.setName("optimizeAssignmentsBox");
+            gridBagConstraints.gridy = gridRowIdx++;
+            pnlOptions.add(optimizeAssignmentsBox, gridBagConstraints);
         }
 
         JPanel pnlItems = new JPanel(new GridBagLayout());
@@ -1137,6 +1145,7 @@ public class MRMSDialog extends JDialog {
             getScrapImpossibleBox().setSelected(campaignOptions.isMRMSScrapImpossible());
             getUseAssignedTechsFirstBox().setSelected(campaignOptions.isMRMSUseAssignedTechsFirst());
             getReplacePodPartsBox().setSelected(campaignOptions.isMRMSReplacePod());
+            getOptimizeAssignmentsBox().setSelected(campaignOptions.isMRMSOptimizeAssignments());
         }
     }
 
@@ -1152,6 +1161,7 @@ public class MRMSDialog extends JDialog {
             campaignOptions.setMRMSScrapImpossible(scrapImpossibleBox.isSelected());
             campaignOptions.setMRMSUseAssignedTechsFirst(useAssignedTechsFirstBox.isSelected());
             campaignOptions.setMRMSReplacePod(replacePodPartsBox.isSelected());
+            campaignOptions.setMRMSOptimizeAssignments(optimizeAssignmentsBox.isSelected());
         }
 
         for (PartRepairType partRepairType : PartRepairType.getMRMSValidTypes()) {
@@ -1228,6 +1238,10 @@ public class MRMSDialog extends JDialog {
         return replacePodPartsBox;
     }
 
+    public JCheckBox getOptimizeAssignmentsBox() {
+        return optimizeAssignmentsBox;
+    }
+
     public static class MRMSOptionControl {
         private JCheckBox activeBox = null;
         private JComboBox<String> minSkillCBox = null;
@@ -85,6 +85,7 @@ import mekhq.gui.CampaignGUI;
 import mekhq.gui.enums.PersonnelFilter;
 import mekhq.gui.enums.PersonnelTableModelColumn;
 import mekhq.gui.model.PersonnelTableModel;
+import mekhq.gui.sorter.PersonnelTableRowSorter;
 import mekhq.gui.utilities.JScrollPaneWithSpeed;
 import mekhq.gui.view.PersonViewPanel;
 import mekhq.utilities.ReportingUtilities;
@@ -263,7 +264,7 @@ public class PersonnelMarketDialog extends JDialog {
         tablePersonnel.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
         tablePersonnel.getSelectionModel().addListSelectionListener(this::personChanged);
 
-        sorter = new TableRowSorter<>(personnelModel);
+        sorter = new PersonnelTableRowSorter(personnelModel);
 
         final XTableColumnModel columnModel = (XTableColumnModel) tablePersonnel.getColumnModel();
         final ArrayList<SortKey> sortKeys = new ArrayList<>();
@@ -37,6 +37,7 @@ import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.getEffective
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.ResourceBundle;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import javax.swing.JTable;
 import javax.swing.SortOrder;
@@ -82,7 +83,7 @@ import mekhq.gui.sorter.EducationLevelSorter;
 import mekhq.gui.sorter.FormattedNumberSorter;
 import mekhq.gui.sorter.IntegerStringSorter;
 import mekhq.gui.sorter.LevelSorter;
-import mekhq.gui.sorter.PersonRankStringSorter;
+import mekhq.gui.sorter.PersonRankSorter;
 import mekhq.gui.sorter.ReasoningSorter;
 import mekhq.utilities.ReportingUtilities;
 
@@ -1451,12 +1452,19 @@ public enum PersonnelTableModelColumn {
         };
     }
 
+    /**
+     * @return the comparator for the values {@link mekhq.gui.model.PersonnelTableModel#getSortValueAt(int, int)}
+     *       gives this column: the person for {@link #RANK}, a {@link Long} sort key for columns with a
+     *       {@link #getSortKeyParser() sort key parser}, and the cell text otherwise
+     */
     public Comparator<?> getComparator(final Campaign campaign) {
+        if (getSortKeyParser() != null) {
+            return Comparator.<Long>naturalOrder();
+        }
+
         return switch (this) {
-            case RANK -> new PersonRankStringSorter(campaign);
+            case RANK -> new PersonRankSorter(new NaturalOrderComparator());
             case HIGHEST_EDUCATION, CURRENT_EDUCATION -> new EducationLevelSorter();
-            case AGE, BIRTHDAY, RECRUITMENT_DATE, LAST_RANK_CHANGE_DATE, DUE_DATE, RETIREMENT_DATE, DEATH_DATE ->
-                  new DateStringComparator();
             case SKILL_LEVEL -> new LevelSorter();
             case MEK,
                  GROUND_VEHICLE,
@@ -1488,6 +1496,30 @@ public enum PersonnelTableModelColumn {
                  TRAINING,
                  ADMINISTRATION,
                  NEGOTIATION -> new BonusSorter();
+            case STRENGTH, BODY, REFLEXES, DEXTERITY, INTELLIGENCE, WILLPOWER, CHARISMA, EDGE ->
+                  new AttributeScoreSorter();
+            case REASONING -> new ReasoningSorter();
+            default -> new NaturalOrderComparator();
+        };
+    }
+
+    /**
+     * @return {@code true} if this column is sorted on the person itself rather than on the cell text
+     */
+    public boolean isSortedByPerson() {
+        return this == RANK;
+    }
+
+    /**
+     * Numeric and date columns are sorted on a number worked out once from each cell, so sorting doesn't parse the
+     * text again on every comparison.
+     *
+     * @return how to turn this column's text into a sort key, or {@code null} if it is sorted on the text
+     */
+    public @Nullable ToLongFunction<String> getSortKeyParser() {
+        return switch (this) {
+            case AGE, BIRTHDAY, RECRUITMENT_DATE, LAST_RANK_CHANGE_DATE, DUE_DATE, RETIREMENT_DATE, DEATH_DATE ->
+                  DateStringComparator::getSortKey;
             case INJURIES,
                  KILLS,
                  XP,
@@ -1500,12 +1532,9 @@ public enum PersonnelTableModelColumn {
                  BLOODMARK,
                  SPA_COUNT,
                  IMPLANT_COUNT,
-                 LOYALTY -> new IntegerStringSorter();
-            case STRENGTH, BODY, REFLEXES, DEXTERITY, INTELLIGENCE, WILLPOWER, CHARISMA, EDGE ->
-                  new AttributeScoreSorter();
-            case REASONING -> new ReasoningSorter();
-            case SALARY -> new FormattedNumberSorter();
-            default -> new NaturalOrderComparator();
+                 LOYALTY -> IntegerStringSorter::getSortKey;
+            case SALARY -> FormattedNumberSorter::getSortKey;
+            default -> null;
         };
     }
 
@@ -35,8 +35,11 @@ package mekhq.gui.menus;
 
 import java.awt.event.ActionEvent;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 
 import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
@@ -45,6 +48,7 @@ import mekhq.campaign.events.units.UnitChangedEvent;
 import mekhq.campaign.force.Formation;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.enums.TransporterType;
+import mekhq.campaign.utilities.AutomatedTransportAssignments;
 import mekhq.campaign.utilities.CampaignTransportUtilities;
 import mekhq.gui.baseComponents.JScrollableMenu;
 import mekhq.utilities.MHQInternationalization;
@@ -94,19 +98,67 @@ public abstract class AssignForceToTransportMenu extends JScrollableMenu {
         }
 
         Set<JScrollableMenu> transporterTypeMenus = createTransporterTypeMenus(units);
-        if (transporterTypeMenus.isEmpty()) {
+        boolean canAutomaticallyAssign = (units.size() > 1) && hasRoomForAnyUnit(units);
+        if (transporterTypeMenus.isEmpty() && !canAutomaticallyAssign) {
             return;
         }
 
         //Assign Unit to {campaignTransportTypeName}
         setText(MHQInternationalization.getTextAt("mekhq.resources.AssignForceToTransport",
               "AssignForceToTransportMenu." + campaignTransportType.name() + ".text"));
+        if (canAutomaticallyAssign) {
+            // Automatically Assign Transports
+            JMenuItem automaticallyAssignMenu = new JMenuItem(MHQInternationalization.getTextAt(
+                  "mekhq.resources.AssignForceToTransport", "AssignForceToTransportMenu.automaticallyAssign.text"));
+            automaticallyAssignMenu.addActionListener(evt -> automaticallyAssignAction(units));
+            add(automaticallyAssignMenu);
+        }
         for (JScrollableMenu transporterTypeMenu : transporterTypeMenus) {
             add(transporterTypeMenu);
         }
     }
 
 
+    /**
+     * @param units units being assigned a transport
+     *
+     * @return true if any transport has room for at least one of the units, whichever transporter type it uses
+     */
+    private boolean hasRoomForAnyUnit(final Set<Unit> units) {
+        for (Unit unit : units) {
+            for (TransporterType transporterType : CampaignTransportUtilities.mapICarryableToTransporters(
+                  campaignTransportType, unit.getEntity())) {
+                if (campaign.hasTransportsByType(campaignTransportType, transporterType,
+                      CampaignTransportUtilities.transportCapacityUsage(transporterType, unit.getEntity()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads all the units into whichever transports have room for them, and warns about any that couldn't be loaded.
+     *
+     * @param units units being assigned a transport
+     *
+     * @see AutomatedTransportAssignments
+     */
+    private void automaticallyAssignAction(final Set<Unit> units) {
+        AutomatedTransportAssignments assignments = new AutomatedTransportAssignments(campaign,
+              campaignTransportType, units);
+        assignments.loadTransports();
+
+        List<Unit> unassignedUnits = assignments.getUnassignedUnits();
+        if (!unassignedUnits.isEmpty()) {
+            JOptionPane.showMessageDialog(null, MHQInternationalization.getFormattedTextAt(
+                  "mekhq.resources.AssignForceToTransport",
+                  "AssignForceToTransportMenu.warningCouldNotAutomaticallyAssign.text",
+                  unassignedUnits.stream().map(Unit::getName).collect(Collectors.joining(", "))),
+                  "Warning", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
     /**
      * Create the menus for selecting a transporter type to try and load these units into
      *
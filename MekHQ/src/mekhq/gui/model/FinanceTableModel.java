@@ -34,12 +34,14 @@ package mekhq.gui.model;
 
 import java.awt.Component;
 import java.util.ArrayList;
+import java.util.List;
 import javax.swing.JTable;
 import javax.swing.SwingConstants;
 
 import mekhq.MekHQ;
 import mekhq.campaign.finances.Money;
 import mekhq.campaign.finances.Transaction;
+import mekhq.campaign.finances.TransactionLedger;
 import mekhq.gui.utilities.MekHqTableCellRenderer;
 
 /**
@@ -54,10 +56,28 @@ public class FinanceTableModel extends DataTableModel<Transaction> {
     public static final int COL_BALANCE = 5;
     public static final int N_COL = 6;
 
+    private TransactionLedger ledger;
+
     public FinanceTableModel() {
         data = new ArrayList<>();
     }
 
+    /**
+     * Shows the transactions of a ledger, taking the balance column from its running balances.
+     */
+    public void setLedger(final TransactionLedger ledger) {
+        this.ledger = ledger;
+        setData(ledger.getTransactions());
+    }
+
+    @Override
+    public void setData(List<Transaction> array) {
+        if ((ledger != null) && (ledger.getTransactions() != array)) {
+            ledger = null;
+        }
+        super.setData(array);
+    }
+
     @Override
     public int getColumnCount() {
         return N_COL;
@@ -83,10 +103,6 @@ public class FinanceTableModel extends DataTableModel<Transaction> {
         }
         Transaction transaction = getTransaction(row);
         Money amount = transaction.getAmount();
-        Money balance = Money.zero();
-        for (int i = 0; i <= row; i++) {
-            balance = balance.plus(getTransaction(i).getAmount());
-        }
 
         if (col == COL_CATEGORY) {
             return transaction.getType();
@@ -105,7 +121,7 @@ public class FinanceTableModel extends DataTableModel<Transaction> {
                 return "";
             }
         } else if (col == COL_BALANCE) {
-            return balance.toAmountAndSymbolString();
+            return getBalance(row).toAmountAndSymbolString();
         } else if (col == COL_DATE) {
             return MekHQ.getMHQOptions().getDisplayFormattedDate(transaction.getDate());
         } else {
@@ -113,6 +129,18 @@ public class FinanceTableModel extends DataTableModel<Transaction> {
         }
     }
 
+    private Money getBalance(int row) {
+        if (ledger != null) {
+            return ledger.getRunningBalance(row);
+        }
+
+        Money balance = Money.zero();
+        for (int i = 0; i <= row; i++) {
+            balance = balance.plus(getTransaction(i).getAmount());
+        }
+        return balance;
+    }
+
     public int getColumnWidth(int c) {
         return switch (c) {
             case COL_DESC -> 150;
@@ -38,7 +38,11 @@ import java.awt.Component;
 import java.awt.Image;
 import java.awt.Toolkit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
 import javax.swing.JTable;
 import javax.swing.UIManager;
 import javax.swing.table.DefaultTableCellRenderer;
@@ -73,6 +77,12 @@ public class PersonnelTableModel extends DataTableModel<Person> {
     private PersonnelMarket personnelMarket;
     private boolean loadAssignmentFromMarket;
     private boolean groupByUnit;
+
+    // A snapshot of the current rows, indexed [column][row] and filled in as each column is first shown or sorted on.
+    // It is thrown away whenever the rows are replaced, and single rows are cleared by refreshPerson.
+    private final String[][] cellValues = new String[PERSONNEL_COLUMNS.length][];
+    private final long[][] sortKeys = new long[PERSONNEL_COLUMNS.length][];
+    private final Map<Person, Integer> rowsByPerson = new IdentityHashMap<>();
     //endregion Variable Declarations
 
     public PersonnelTableModel(Campaign c) {
@@ -115,7 +125,102 @@ public class PersonnelTableModel extends DataTableModel<Person> {
 
     @Override
     public Object getValueAt(final int row, final int column) {
-        return getValueAt(getPerson(row), PERSONNEL_COLUMNS[column]);
+        if ((row < 0) || (row >= getRowCount())) {
+            return getValueAt(null, PERSONNEL_COLUMNS[column]);
+        }
+
+        String[] values = cellValues[column];
+        if (values == null) {
+            values = new String[getRowCount()];
+            cellValues[column] = values;
+        }
+
+        if (values[row] == null) {
+            values[row] = getValueAt(getPerson(row), PERSONNEL_COLUMNS[column]);
+        }
+
+        return values[row];
+    }
+
+    /**
+     * Gets the value a row is sorted on for a column, which is typed so that the column's comparator doesn't need to
+     * parse the cell text back.
+     *
+     * @return the person for columns sorted by person, a {@link Long} sort key for numeric and date columns, and the
+     *       cell text otherwise
+     *
+     * @see PersonnelTableModelColumn#getComparator(Campaign)
+     */
+    public Object getSortValueAt(final int row, final int column) {
+        final PersonnelTableModelColumn personnelColumn = PERSONNEL_COLUMNS[column];
+        if (personnelColumn.isSortedByPerson()) {
+            return getPerson(row);
+        }
+
+        final ToLongFunction<String> sortKeyParser = personnelColumn.getSortKeyParser();
+        if (sortKeyParser == null) {
+            return getValueAt(row, column);
+        }
+
+        long[] keys = sortKeys[column];
+        if (keys == null) {
+            keys = new long[getRowCount()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = sortKeyParser.applyAsLong((String) getValueAt(i, column));
+            }
+            sortKeys[column] = keys;
+        }
+
+        return keys[row];
+    }
+
+    /**
+     * Recalculates a single person's row after they've changed, instead of rebuilding the whole table.
+     *
+     * @return {@code false} if the person has no row of their own, or if the rows are grouped by unit and a change
+     *       could move them in or out of the table, in which case {@link #refreshData()} is needed instead
+     */
+    public boolean refreshPerson(final Person person) {
+        final Integer row = rowsByPerson.get(person);
+        if ((row == null) || isGroupByUnit()) {
+            return false;
+        }
+
+        for (int column = 0; column < PERSONNEL_COLUMNS.length; column++) {
+            if (cellValues[column] != null) {
+                cellValues[column][row] = null;
+            }
+
+            if (sortKeys[column] != null) {
+                sortKeys[column][row] = PERSONNEL_COLUMNS[column].getSortKeyParser()
+                                              .applyAsLong((String) getValueAt(row, column));
+            }
+        }
+
+        fireTableRowsUpdated(row, row);
+        return true;
+    }
+
+    /**
+     * Drops the snapshot of every row, for changes that can touch any row without changing which people are shown.
+     */
+    public void clearCachedValues() {
+        Arrays.fill(cellValues, null);
+        Arrays.fill(sortKeys, null);
+        if (getRowCount() > 0) {
+            fireTableRowsUpdated(0, getRowCount() - 1);
+        }
+    }
+
+    @Override
+    public void setData(final List<Person> array) {
+        Arrays.fill(cellValues, null);
+        Arrays.fill(sortKeys, null);
+        rowsByPerson.clear();
+        for (int row = 0; row < array.size(); row++) {
+            rowsByPerson.put(array.get(row), row);
+        }
+        super.setData(array);
     }
 
     public String getValueAt(final @Nullable Person person,
@@ -268,7 +373,7 @@ public class PersonnelTableModel extends DataTableModel<Person> {
             final PersonnelTableModelColumn personnelColumn = PERSONNEL_COLUMNS[table.convertColumnIndexToModel(column)];
             final Person person = getPerson(modelRow);
 
-            setText(getValueAt(person, personnelColumn));
+            setText((String) getValueAt(modelRow, personnelColumn.ordinal()));
 
             switch (personnelColumn) {
                 case PERSON:
@@ -362,5 +467,6 @@ public class PersonnelTableModel extends DataTableModel<Person> {
     public void loadAssignmentFromMarket(PersonnelMarket personnelMarket) {
         this.personnelMarket = personnelMarket;
         this.loadAssignmentFromMarket = (null != personnelMarket);
+        clearCachedValues();
     }
 }
@@ -53,6 +53,7 @@ import mekhq.campaign.parts.missing.MissingPart;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.Skill;
 import mekhq.campaign.work.IPartWork;
+import mekhq.campaign.work.RepairTargetMatrix;
 import mekhq.gui.CampaignGUI;
 import mekhq.gui.ITechWorkPanel;
 import mekhq.gui.RepairTaskInfo;
@@ -65,6 +66,8 @@ public class TaskTableModel extends DataTableModel<IPartWork> {
 
     private final CampaignGUI gui;
     private final ITechWorkPanel panel;
+    /** Target numbers for the tasks on display, so repainting does not repeat the warehouse lookups */
+    private RepairTargetMatrix targetMatrix;
 
     private interface REPAIR_STATE { // TODO : Enum Swapover
         int AVAILABLE = 0;
@@ -79,6 +82,21 @@ public class TaskTableModel extends DataTableModel<IPartWork> {
         data = new ArrayList<>();
         this.gui = gui;
         this.panel = panel;
+        targetMatrix = new RepairTargetMatrix(gui.getCampaign());
+    }
+
+    @Override
+    public void setData(List<IPartWork> array) {
+        invalidateTargets();
+        super.setData(array);
+    }
+
+    /**
+     * Forgets the remembered target numbers. They depend on the overtime setting, the AsTech pool and each tech's
+     * remaining minutes, so this should be called whenever any of those may have changed.
+     */
+    public void invalidateTargets() {
+        targetMatrix = new RepairTargetMatrix(gui.getCampaign());
     }
 
     @Override
@@ -137,7 +155,7 @@ public class TaskTableModel extends DataTableModel<IPartWork> {
                 availableLevel = REPAIR_STATE.SCHEDULED;
             } else {
                 if (part instanceof MissingPart) {
-                    if (!((MissingPart) part).isReplacementAvailable()) {
+                    if (!targetMatrix.isReplacementAvailable((MissingPart) part)) {
                         PartInventory inventories = gui.getCampaign()
                                                           .getPartInventory(((MissingPart) part).getNewPart());
 
@@ -214,7 +232,7 @@ public class TaskTableModel extends DataTableModel<IPartWork> {
                     }
 
                     if (null != tech) {
-                        TargetRoll roll = gui.getCampaign().getTargetFor(part, tech);
+                        TargetRoll roll = targetMatrix.getTargetFor(part, tech);
 
                         if ((roll.getValue() == TargetRoll.IMPOSSIBLE) ||
                                   (roll.getValue() == TargetRoll.AUTOMATIC_FAIL) ||
@@ -377,7 +377,7 @@ public class UnitTableModel extends DataTableModel<Unit> {
                 int cycleLength = campaign.getCampaignOptions().getMaintenanceCycleDays();
                 yield (unit.getMaintenanceCycleDuration(cycleLength) - daysSinceLastMaintenance) + " days";
             }
-            case COL_BV -> entity.calculateBattleValue(true, unit.getEntity().getCrew() == null);
+            case COL_BV -> unit.getBattleValue(true, unit.getEntity().getCrew() == null);
             case COL_REPAIR -> unit.getPartsNeedingFixing().size();
             case COL_PARTS -> unit.getPartsNeeded().size();
             case COL_SITE -> Unit.getSiteName(unit.getSite());
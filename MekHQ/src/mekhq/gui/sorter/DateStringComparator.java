@@ -39,6 +39,21 @@ import java.util.Objects;
 import mekhq.MekHQ;
 
 public class DateStringComparator implements Comparator<String> {
+    /**
+     * Turns a cell into a number that sorts the same way this comparator would: {@code "-"} first, then anything that
+     * isn't a date, then the dates in order.
+     */
+    public static long getSortKey(String value) {
+        if ((value == null) || "-".equals(value)) {
+            return Long.MIN_VALUE;
+        }
+
+        try {
+            return MekHQ.getMHQOptions().parseDisplayFormattedDate(value).toEpochDay();
+        } catch (Exception ignored) {
+            return Long.MIN_VALUE + 1;
+        }
+    }
 
     @Override
     public int compare(String o1, String o2) {
@@ -49,6 +49,26 @@ public class FormattedNumberSorter implements Comparator<String> {
     private static final String PLUS_SIGN = "+";
     private static final DecimalFormat FORMAT = new DecimalFormat();
 
+    /**
+     * Turns a cell into a number that sorts the same way this comparator would, with empty cells first.
+     */
+    public static long getSortKey(String value) {
+        if (value.startsWith(PLUS_SIGN)) {
+            value = value.substring(1);
+        }
+
+        if (value.isBlank()) {
+            return Long.MIN_VALUE;
+        }
+
+        try {
+            return FORMAT.parse(value).longValue();
+        } catch (ParseException e) {
+            LOGGER.error("", e);
+            return 0;
+        }
+    }
+
     @Override
     public int compare(String s0, String s1) {
         // Cut off leading "+" sign if there
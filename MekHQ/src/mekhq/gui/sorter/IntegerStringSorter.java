@@ -36,6 +36,21 @@ import java.util.Comparator;
 import java.util.Objects;
 
 public class IntegerStringSorter implements Comparator<String> {
+    /**
+     * Turns a cell into a number that sorts the same way this comparator would: {@code "-"} first, then anything that
+     * isn't a whole number, then the numbers themselves.
+     */
+    public static long getSortKey(String value) {
+        if ((value == null) || "-".equals(value)) {
+            return Long.MIN_VALUE;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (Exception ignored) {
+            return Long.MIN_VALUE + 1;
+        }
+    }
 
     @Override
     public int compare(String o1, String o2) {
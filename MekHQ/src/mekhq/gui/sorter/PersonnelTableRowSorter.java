@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.gui.sorter;
+
+import javax.swing.table.TableRowSorter;
+
+import mekhq.gui.enums.PersonnelTableModelColumn;
+import mekhq.gui.model.PersonnelTableModel;
+
+/**
+ * A row sorter for the {@link PersonnelTableModel} that sorts on the model's typed sort values rather than the
+ * displayed text, so the column comparators compare people and precomputed numbers instead of re-parsing strings on
+ * every comparison.
+ *
+ * @see PersonnelTableModel#getSortValueAt(int, int)
+ * @see PersonnelTableModelColumn#getComparator(mekhq.campaign.Campaign)
+ */
+public class PersonnelTableRowSorter extends TableRowSorter<PersonnelTableModel> {
+    public PersonnelTableRowSorter(final PersonnelTableModel model) {
+        super(model);
+    }
+
+    @Override
+    public void setModel(final PersonnelTableModel model) {
+        super.setModel(model);
+        setModelWrapper(new PersonnelModelWrapper(model));
+    }
+
+    private static class PersonnelModelWrapper extends ModelWrapper<PersonnelTableModel, Integer> {
+        private final PersonnelTableModel model;
+
+        private PersonnelModelWrapper(final PersonnelTableModel model) {
+            this.model = model;
+        }
+
+        @Override
+        public PersonnelTableModel getModel() {
+            return model;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return (model == null) ? 0 : model.getColumnCount();
+        }
+
+        @Override
+        public int getRowCount() {
+            return (model == null) ? 0 : model.getRowCount();
+        }
+
+        @Override
+        public Object getValueAt(final int row, final int column) {
+            return model.getSortValueAt(row, column);
+        }
+
+        @Override
+        public String getStringValueAt(final int row, final int column) {
+            final Object value = model.getValueAt(row, column);
+            return (value == null) ? "" : value.toString();
+        }
+
+        @Override
+        public Integer getIdentifier(final int row) {
+            return row;
+        }
+    }
+}
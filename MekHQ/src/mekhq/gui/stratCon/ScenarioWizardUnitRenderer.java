@@ -97,7 +97,7 @@ public class ScenarioWizardUnitRenderer extends JLabel implements ListCellRender
               statusCloseFormat,
               unit.getEntity().getCrew().getGunnery(),
               unit.getEntity().getCrew().getPiloting(),
-              unit.getEntity().calculateBattleValue(true, true),
+              unit.getBattleValue(true, true),
               forceName));
 
         if (isSelected) {
@@ -1205,7 +1205,7 @@ public class StratConScenarioWizard extends JDialog {
         if (usesBV) {
             selectedItems = 0;
             for (Unit unit : changedList.getSelectedValuesList()) {
-                selectedItems += unit.getEntity().calculateBattleValue(true, true);
+                selectedItems += unit.getBattleValue(true, true);
                 selectionCountLabel.setText(String.format("%d %s",
                       selectedItems,
                       resources.getString("unitsSelectedLabel.bv")));
@@ -190,7 +190,7 @@ public class ForceViewPanel extends JScrollablePanel {
             Unit unit = campaign.getUnit(uid);
             if (null != unit) {
                 // Never factor in C3 in this check. It will cause the TO&E to lock up for large campaigns.
-                bv += unit.getEntity().calculateBattleValue(true, !unit.hasPilot());
+                bv += unit.getBattleValue(true, !unit.hasPilot());
                 cost = cost.plus(unit.getEntity().getCost(true));
                 ton += unit.getEntity().getWeight();
                 String unitTypeName = UnitType.getTypeDisplayableName(unit.getEntity().getUnitType());
@@ -563,7 +563,7 @@ public class ForceViewPanel extends JScrollablePanel {
 
         // Never factor in C3 in this check. It will cause the TO&E to lock up for large campaigns.
         toReturn += "<font><b>BV:</b> " +
-                          unit.getEntity().calculateBattleValue(true, null == unit.getEntity().getCrew()) +
+                          unit.getBattleValue(true, null == unit.getEntity().getCrew()) +
                           "<br/>";
         toReturn += unit.getStatus();
         Entity entity = unit.getEntity();
@@ -660,7 +660,7 @@ public class ForceViewPanel extends JScrollablePanel {
             Unit unit = campaign.getUnit(uid);
             if (null != unit) {
                 boolean crewExists = unit.getCommander() != null;
-                battleValue += unit.getEntity().calculateBattleValue(true, !crewExists);
+                battleValue += unit.getBattleValue(true, !crewExists);
                 cost = cost.plus(unit.getEntity().getCost(true));
                 tonnage += unit.getEntity().getWeight();
                 number++;
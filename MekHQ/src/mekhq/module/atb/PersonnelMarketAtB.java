@@ -219,6 +219,7 @@ public class PersonnelMarketAtB implements PersonnelMarketMethod {
         if (mod < 0) {
             int lvl = p.getSkill(skillName).getLevel() + mod;
             p.getSkill(skillName).setLevel(Math.max(lvl, 0));
+            p.invalidateDerivedStats();
         }
     }
 
@@ -32,12 +32,18 @@
  */
 package mekhq.service;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -45,6 +51,13 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
 
@@ -58,6 +71,40 @@ import mekhq.campaign.Campaign;
 public class AutosaveService implements IAutosaveService {
     private static final MMLogger LOGGER = MMLogger.create(AutosaveService.class);
 
+    /**
+     * The longest {@link #awaitPendingAutosaves()} will wait for background writes to finish.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Background autosaves are shared by every service instance, so they are written one at a time and in order.
+     */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "MekHQ Autosave Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The newest snapshot waiting to be written. Requests that arrive while the writer is busy replace any snapshot
+     * still waiting here, so a backlog collapses into a single write of the most recent state.
+     */
+    private static final AtomicReference<AutosaveSnapshot> PENDING = new AtomicReference<>();
+
+    /**
+     * The serialized state of a campaign, and the autosave settings in effect, at the moment an autosave was
+     * requested.
+     *
+     * @param savesDirectoryPath the directory autosaves are written to
+     * @param maximumAutosaves   the number of autosaves to keep
+     * @param campaignName       the campaign name, used to name the autosave file
+     * @param dateText           the formatted campaign date, used to name the autosave file
+     * @param xml                the uncompressed campaign XML
+     */
+    private record AutosaveSnapshot(String savesDirectoryPath, int maximumAutosaves, String campaignName,
+          String dateText, byte[] xml) {
+    }
+
     // region Constructors
     public AutosaveService() {
 
@@ -99,28 +146,102 @@ public class AutosaveService implements IAutosaveService {
         }
     }
 
+    @Override
+    public void awaitPendingAutosaves() {
+        // The writer is single-threaded, so once this marker has run every earlier save has finished
+        final Future<?> marker = WRITER.submit(() -> {
+        });
+        try {
+            marker.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException ex) {
+            LOGGER.warn("Timed out after {}s waiting for a background autosave to finish", SHUTDOWN_TIMEOUT_SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            LOGGER.error("", ex);
+        }
+    }
+
     private void performAutosave(final Campaign campaign) {
         try {
-            final String fileName = getAutosaveFilename(campaign);
-            if (!StringUtility.isNullOrBlank(fileName)) {
-                try (FileOutputStream fos = new FileOutputStream(fileName);
-                      GZIPOutputStream gos = new GZIPOutputStream(fos);
-                      OutputStreamWriter osw = new OutputStreamWriter(gos, StandardCharsets.UTF_8);
-                      PrintWriter writer = new PrintWriter(osw)) {
-                    campaign.writeToXML(writer, false);
-                    writer.flush();
+            final AutosaveSnapshot snapshot = createSnapshot(campaign);
+            if (MekHQ.getMHQOptions().getAutosaveInBackgroundValue()) {
+                // Only the newest waiting snapshot is kept; if the writer is idle, wake it up
+                if (PENDING.getAndSet(snapshot) == null) {
+                    WRITER.execute(AutosaveService::writePendingAutosave);
                 }
             } else {
-                LOGGER.error("Unable to perform an autosave because of a null or empty file name");
+                writeAutosave(snapshot);
             }
         } catch (Exception ex) {
             LOGGER.error("", ex);
         }
     }
 
-    private @Nullable String getAutosaveFilename(final Campaign campaign) {
+    /**
+     * Serializes the campaign into memory on the calling thread, so the saved state is consistent with the moment the
+     * autosave was requested regardless of when it reaches the disk.
+     */
+    private static AutosaveSnapshot createSnapshot(final Campaign campaign) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStreamWriter osw = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+              PrintWriter writer = new PrintWriter(osw)) {
+            campaign.writeToXML(writer, false);
+            writer.flush();
+        }
+        return new AutosaveSnapshot(MekHQ.getCampaignsDirectory().getValue(),
+              MekHQ.getMHQOptions().getMaximumNumberOfAutoSavesValue(),
+              campaign.getName(),
+              campaign.getLocalDate()
+                    .format(DateTimeFormatter.ofPattern(MHQConstants.FILENAME_DATE_FORMAT)
+                                  .withLocale(MekHQ.getMHQOptions().getDateLocale())),
+              buffer.toByteArray());
+    }
+
+    private static void writePendingAutosave() {
+        final AutosaveSnapshot snapshot = PENDING.getAndSet(null);
+        if (snapshot != null) {
+            try {
+                writeAutosave(snapshot);
+            } catch (Exception ex) {
+                LOGGER.error("", ex);
+            }
+        }
+    }
+
+    /**
+     * Compresses the snapshot into a temporary file beside the autosave, then renames it into place so an
+     * interrupted write can never leave a truncated autosave behind.
+     */
+    private static synchronized void writeAutosave(final AutosaveSnapshot snapshot) throws IOException {
+        final String fileName = getAutosaveFilename(snapshot);
+        if (StringUtility.isNullOrBlank(fileName)) {
+            LOGGER.error("Unable to perform an autosave because of a null or empty file name");
+            return;
+        }
+
+        final Path target = Paths.get(fileName);
+        final Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(temporary);
+                  GZIPOutputStream gos = new GZIPOutputStream(os)) {
+                gos.write(snapshot.xml());
+            }
+
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            // Only left behind if the write or the move failed
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static @Nullable String getAutosaveFilename(final AutosaveSnapshot snapshot) {
         // Get all autosave files in ascending order of date creation
-        final String savesDirectoryPath = MekHQ.getCampaignsDirectory().getValue();
+        final String savesDirectoryPath = snapshot.savesDirectoryPath();
         final File folder = new File(savesDirectoryPath);
         final File[] files = folder.listFiles();
         if (files != null) {
@@ -130,7 +251,7 @@ public class AutosaveService implements IAutosaveService {
                                                    .collect(Collectors.toList());
 
             // Delete older autosave files if needed
-            final int maxNumberAutoSaves = MekHQ.getMHQOptions().getMaximumNumberOfAutoSavesValue();
+            final int maxNumberAutoSaves = snapshot.maximumAutosaves();
 
             int index = 0;
             while ((autosaveFiles.size() >= maxNumberAutoSaves) && (autosaveFiles.size() > index)) {
@@ -150,10 +271,8 @@ public class AutosaveService implements IAutosaveService {
             while (repeatedName) {
                 fileName = String.format("Autosave-%d-%s-%s.cpnx.gz",
                       index++,
-                      campaign.getName(),
-                      campaign.getLocalDate()
-                            .format(DateTimeFormatter.ofPattern(MHQConstants.FILENAME_DATE_FORMAT)
-                                          .withLocale(MekHQ.getMHQOptions().getDateLocale())));
+                      snapshot.campaignName(),
+                      snapshot.dateText());
 
                 repeatedName = false;
                 for (final File file : autosaveFiles) {
@@ -58,4 +58,10 @@ public interface IAutosaveService {
      * @param campaign Campaign to save
      */
     void requestBeforeMissionEndAutosave(Campaign campaign);
+
+    /**
+     * Waits, for a bounded time, until any autosaves still being written in the background have reached the disk.
+     * This should be called before the application exits.
+     */
+    void awaitPendingAutosaves();
 }
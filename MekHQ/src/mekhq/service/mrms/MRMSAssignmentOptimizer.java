@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.service.mrms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decides which tech works on which part when several units are repaired or salvaged together. The usual mass
+ * repair/salvage pass hands each part to the best tech still free at that moment, so a tech who is the only one able
+ * to handle a later part can be used up on an earlier part anyone could have done. This looks at every part and every
+ * tech at once instead.
+ *
+ * <p>It is a plain data problem: a task is a part with the techs able to do it, and each option carries the target
+ * number and minutes that tech would need. An assignment is worth the task's priority times the chance of passing the
+ * roll, scaled down by how much of the work can't be finished today when it carries over. Tasks are picked by regret,
+ * the most to lose if their best tech goes elsewhere, and a single relocation pass afterwards moves work between techs
+ * where that frees enough time for a task left without one.</p>
+ */
+final class MRMSAssignmentOptimizer {
+    /**
+     * Keeps ties in the order the usual pass would have used without outweighing any real difference in value.
+     */
+    private static final double RANK_PENALTY = 1e-6;
+
+    /**
+     * One tech able to work on a task.
+     *
+     * @param techIndex    the tech's index into the minutes passed to {@link #solve}
+     * @param targetNumber the target number the tech would roll against
+     * @param minutes      the minutes the work would take
+     * @param rank         the tech's place in the order the usual pass would hand the task out, lower first
+     */
+    record Option(int techIndex, int targetNumber, int minutes, int rank) {
+    }
+
+    /**
+     * One part waiting for a tech.
+     *
+     * @param priority       how much finishing this task matters compared with the others
+     * @param minimumMinutes the fewest minutes a tech must have left to start on it
+     * @param allowCarryover whether the work may run into the next day
+     * @param options        the techs able to do it
+     */
+    record Task(double priority, int minimumMinutes, boolean allowCarryover, List<Option> options) {
+    }
+
+    private MRMSAssignmentOptimizer() {
+    }
+
+    /**
+     * @return the priority of tasks on the unit at {@code unitIndex} out of {@code unitCount}, from just over 1 for
+     *       the last unit up to 2 for the first
+     */
+    static double unitPriority(int unitIndex, int unitCount) {
+        return 1.0 + ((double) (unitCount - unitIndex) / unitCount);
+    }
+
+    /**
+     * @return the chance of rolling at least {@code targetNumber} on 2d6
+     */
+    static double successChance(int targetNumber) {
+        if (targetNumber <= 2) {
+            return 1.0;
+        } else if (targetNumber > 12) {
+            return 0.0;
+        }
+
+        int ways = 0;
+
+        for (int roll = targetNumber; roll <= 12; roll++) {
+            ways += 6 - Math.abs(roll - 7);
+        }
+
+        return ways / 36.0;
+    }
+
+    /**
+     * Assigns techs to tasks. Every task that can still be given a tech gets one; the choices only decide which.
+     *
+     * @param tasks       the tasks to assign
+     * @param techMinutes the minutes each tech has left, indexed as in {@link Option#techIndex()}
+     *
+     * @return for each task, the index of the chosen option or {@code -1} if none could be given
+     */
+    static int[] solve(List<Task> tasks, int[] techMinutes) {
+        int[] remaining = Arrays.copyOf(techMinutes, techMinutes.length);
+        int[] assignments = new int[tasks.size()];
+        int[] consumed = new int[tasks.size()];
+        Arrays.fill(assignments, -1);
+
+        List<List<Integer>> tasksByTech = new ArrayList<>(techMinutes.length);
+
+        for (int i = 0; i < techMinutes.length; i++) {
+            tasksByTech.add(new ArrayList<>());
+        }
+
+        for (int taskIndex = 0; taskIndex < tasks.size(); taskIndex++) {
+            for (Option option : tasks.get(taskIndex).options()) {
+                if (isKnownTech(option, remaining)) {
+                    tasksByTech.get(option.techIndex()).add(taskIndex);
+                }
+            }
+        }
+
+        // Best and second-best values per task, recalculated only when a tech they rely on loses time
+        int[] bestOptions = new int[tasks.size()];
+        double[] bestValues = new double[tasks.size()];
+        double[] regrets = new double[tasks.size()];
+
+        for (int taskIndex = 0; taskIndex < tasks.size(); taskIndex++) {
+            rate(tasks.get(taskIndex), taskIndex, remaining, bestOptions, bestValues, regrets);
+        }
+
+        while (true) {
+            int chosenTask = -1;
+
+            for (int taskIndex = 0; taskIndex < tasks.size(); taskIndex++) {
+                if ((assignments[taskIndex] >= 0) || (bestOptions[taskIndex] < 0)) {
+                    continue;
+                }
+
+                if ((chosenTask < 0) ||
+                          (regrets[taskIndex] > regrets[chosenTask]) ||
+                          ((regrets[taskIndex] == regrets[chosenTask]) &&
+                                 (bestValues[taskIndex] > bestValues[chosenTask]))) {
+                    chosenTask = taskIndex;
+                }
+            }
+
+            if (chosenTask < 0) {
+                break;
+            }
+
+            Task task = tasks.get(chosenTask);
+            Option option = task.options().get(bestOptions[chosenTask]);
+            int techIndex = option.techIndex();
+            int minutes = Math.min(option.minutes(), remaining[techIndex]);
+
+            assignments[chosenTask] = bestOptions[chosenTask];
+            consumed[chosenTask] = minutes;
+            remaining[techIndex] -= minutes;
+
+            for (int taskIndex : tasksByTech.get(techIndex)) {
+                if (assignments[taskIndex] < 0) {
+                    rate(tasks.get(taskIndex), taskIndex, remaining, bestOptions, bestValues, regrets);
+                }
+            }
+        }
+
+        relocate(tasks, remaining, assignments, consumed);
+
+        return assignments;
+    }
+
+    /**
+     * Tries once to give each task left without a tech a same-day slot, by moving a task already assigned to that tech
+     * onto another tech with enough time to finish it today. Only moves that raise the total value are made.
+     */
+    private static void relocate(List<Task> tasks, int[] remaining, int[] assignments, int[] consumed) {
+        for (int unassigned = 0; unassigned < tasks.size(); unassigned++) {
+            if (assignments[unassigned] >= 0) {
+                continue;
+            }
+
+            Task task = tasks.get(unassigned);
+            double bestGain = 0.0;
+            int bestOption = -1;
+            int bestMovedTask = -1;
+            int bestMovedOption = -1;
+
+            for (int optionIndex = 0; optionIndex < task.options().size(); optionIndex++) {
+                Option option = task.options().get(optionIndex);
+
+                if (!isKnownTech(option, remaining)) {
+                    continue;
+                }
+
+                int techIndex = option.techIndex();
+                int needed = Math.max(Math.max(option.minutes(), task.minimumMinutes()), 1);
+
+                for (int assigned = 0; assigned < tasks.size(); assigned++) {
+                    if (assignments[assigned] < 0) {
+                        continue;
+                    }
+
+                    Task movedTask = tasks.get(assigned);
+                    Option current = movedTask.options().get(assignments[assigned]);
+
+                    if ((current.techIndex() != techIndex) ||
+                              (consumed[assigned] != current.minutes()) ||
+                              (remaining[techIndex] + consumed[assigned] < needed)) {
+                        continue;
+                    }
+
+                    for (int movedOption = 0; movedOption < movedTask.options().size(); movedOption++) {
+                        Option target = movedTask.options().get(movedOption);
+
+                        if (!isKnownTech(target, remaining) ||
+                                  (target.techIndex() == techIndex) ||
+                                  (remaining[target.techIndex()] < Math.max(Math.max(target.minutes(),
+                                        movedTask.minimumMinutes()), 1))) {
+                            continue;
+                        }
+
+                        double gain = value(task, option, 1.0) +
+                                            value(movedTask, target, 1.0) -
+                                            value(movedTask, current, 1.0);
+
+                        if (gain > bestGain) {
+                            bestGain = gain;
+                            bestOption = optionIndex;
+                            bestMovedTask = assigned;
+                            bestMovedOption = movedOption;
+                        }
+                    }
+                }
+            }
+
+            if (bestOption < 0) {
+                continue;
+            }
+
+            Option option = task.options().get(bestOption);
+            Option target = tasks.get(bestMovedTask).options().get(bestMovedOption);
+
+            remaining[option.techIndex()] += consumed[bestMovedTask] - option.minutes();
+            remaining[target.techIndex()] -= target.minutes();
+
+            assignments[bestMovedTask] = bestMovedOption;
+            consumed[bestMovedTask] = target.minutes();
+            assignments[unassigned] = bestOption;
+            consumed[unassigned] = option.minutes();
+        }
+    }
+
+    /**
+     * Finds a task's best option with the time techs have left, and its regret: how much worse off the task would be
+     * with its second-best option, or with nothing if there isn't one.
+     */
+    private static void rate(Task task, int taskIndex, int[] remaining, int[] bestOptions, double[] bestValues,
+          double[] regrets) {
+        int bestOption = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double secondValue = Double.NEGATIVE_INFINITY;
+
+        for (int optionIndex = 0; optionIndex < task.options().size(); optionIndex++) {
+            Option option = task.options().get(optionIndex);
+
+            if (!isKnownTech(option, remaining)) {
+                continue;
+            }
+
+            int minutesLeft = remaining[option.techIndex()];
+
+            if ((minutesLeft <= 0) ||
+                      (minutesLeft < task.minimumMinutes()) ||
+                      ((minutesLeft < option.minutes()) && !task.allowCarryover())) {
+                continue;
+            }
+
+            double completion = (minutesLeft >= option.minutes()) ? 1.0 : ((double) minutesLeft / option.minutes());
+            double optionValue = value(task, option, completion);
+
+            if (optionValue > bestValue) {
+                secondValue = bestValue;
+                bestValue = optionValue;
+                bestOption = optionIndex;
+            } else if (optionValue > secondValue) {
+                secondValue = optionValue;
+            }
+        }
+
+        bestOptions[taskIndex] = bestOption;
+        bestValues[taskIndex] = bestValue;
+        regrets[taskIndex] = (bestOption < 0) ?
+                                   0.0 :
+                                   (bestValue - ((secondValue == Double.NEGATIVE_INFINITY) ? 0.0 : secondValue));
+    }
+
+    private static double value(Task task, Option option, double completion) {
+        return (task.priority() * successChance(option.targetNumber()) * completion) - (RANK_PENALTY * option.rank());
+    }
+
+    private static boolean isKnownTech(Option option, int[] remaining) {
+        return (option.techIndex() >= 0) && (option.techIndex() < remaining.length);
+    }
+}
@@ -54,6 +54,7 @@ public class MRMSConfiguredOptions {
     private boolean useAssignedTechsFirst;
     private boolean scrapImpossible;
     private boolean replacePodParts;
+    private boolean optimizeAssignments;
     private List<MRMSOption> mrmsOptions;
     private transient boolean hasActiveMRMSOption;
     //endregion Variable Declarations
@@ -79,6 +80,7 @@ public class MRMSConfiguredOptions {
         setScrapImpossible(options.isMRMSScrapImpossible());
         setUseAssignedTechsFirst(options.isMRMSUseAssignedTechsFirst());
         setReplacePodParts(options.isMRMSReplacePod());
+        setOptimizeAssignments(options.isMRMSOptimizeAssignments());
         setMRMSOptions(options.getMRMSOptions());
         setHasActiveMRMSOption(getMRMSOptions().stream().anyMatch(MRMSOption::isActive));
     }
@@ -103,6 +105,10 @@ public class MRMSConfiguredOptions {
             setReplacePodParts(mrmsDialog.getReplacePodPartsBox().isSelected());
         }
 
+        if (mrmsDialog.getOptimizeAssignmentsBox() != null) {
+            setOptimizeAssignments(mrmsDialog.getOptimizeAssignmentsBox().isSelected());
+        }
+
         setMRMSOptions(new ArrayList<>());
         for (PartRepairType partRepairType : PartRepairType.getMRMSValidTypes()) {
             MRMSOptionControl mrmsOptionControl = mrmsDialog.getMRMSOptionControls().get(partRepairType);
@@ -205,6 +211,18 @@ public class MRMSConfiguredOptions {
         this.replacePodParts = replacePodParts;
     }
 
+    /**
+     * @return {@code true} to plan each day's unit repairs across all units at once with
+     *       {@link MRMSAssignmentOptimizer}, instead of handing out techs one part at a time
+     */
+    public boolean isOptimizeAssignments() {
+        return optimizeAssignments;
+    }
+
+    public void setOptimizeAssignments(boolean optimizeAssignments) {
+        this.optimizeAssignments = optimizeAssignments;
+    }
+
     public List<MRMSOption> getMRMSOptions() {
         return mrmsOptions;
     }
@@ -42,10 +42,15 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 
+import megamek.common.annotations.Nullable;
 import megamek.common.battleArmor.BattleArmor;
 import megamek.common.rolls.TargetRoll;
 import megamek.common.units.Aero;
@@ -69,6 +74,7 @@ import mekhq.campaign.personnel.skills.SkillModifierData;
 import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.work.IPartWork;
+import mekhq.campaign.work.RepairTargetMatrix;
 import mekhq.campaign.work.WorkTime;
 import mekhq.gui.sorter.UnitStatusSorter;
 import mekhq.service.mrms.MRMSService.MRMSUnitAction.STATUS;
@@ -108,6 +114,7 @@ public class MRMSService {
         campaign.addReport(TECHNICAL, resources.getString("MRMS.StartWarehouse.report"));
 
         List<Person> techs = campaign.getTechs(true);
+        RepairTargetMatrix targetMatrix = new RepairTargetMatrix(campaign);
 
         MRMSPartSet partSet = new MRMSPartSet();
 
@@ -125,14 +132,19 @@ public class MRMSService {
              * or those that meet our criteria as defined in the campaign
              * configurations
              */
-            List<IPartWork> parts = filterParts(selectedParts, mrmsOptionsByType, techs, campaign);
+            List<IPartWork> parts = filterParts(selectedParts, mrmsOptionsByType, techs, campaign, targetMatrix);
 
             if (!parts.isEmpty()) {
                 for (IPartWork partWork : parts) {
                     Part part = (Part) partWork;
                     part.resetModeToNormal();
 
-                    List<Person> validTechs = filterTechs(partWork, techs, mrmsOptionsByType, true, campaign);
+                    List<Person> validTechs = filterTechs(partWork,
+                          techs,
+                          mrmsOptionsByType,
+                          true,
+                          campaign,
+                          targetMatrix);
 
                     if (validTechs.isEmpty()) {
                         continue;
@@ -147,7 +159,8 @@ public class MRMSService {
                               validTechs,
                               mrmsOptionsByType,
                               configuredOptions,
-                              true));
+                              true,
+                              targetMatrix));
                     }
                 }
             }
@@ -175,11 +188,13 @@ public class MRMSService {
         }
 
         List<MRMSOption> activeMRMSOptions = configuredOptions.getActiveMRMSOptions();
+        RepairTargetMatrix targetMatrix = new RepairTargetMatrix(campaign);
         MRMSUnitAction unitAction = performUnitMRMS(campaign,
               unit,
               unit.isSalvage(),
               activeMRMSOptions,
-              configuredOptions);
+              configuredOptions,
+              targetMatrix);
 
         String actionDescriptor = unit.isSalvage() ? resources.getString("Salvage") : resources.getString("Repair");
         String msg = String.format(
@@ -216,7 +231,7 @@ public class MRMSService {
 
         if (!techs.isEmpty()) {
             List<IPartWork> parts = unit.getPartsNeedingService(true);
-            parts = filterParts(parts, null, techs, campaign);
+            parts = filterParts(parts, null, techs, campaign, targetMatrix);
 
             if (!parts.isEmpty()) {
                 String color = spanOpeningWithCustomColor(getWarningColor());
@@ -279,14 +294,29 @@ public class MRMSService {
         }
         Map<MRMSUnitAction.STATUS, List<MRMSUnitAction>> unitActionsByStatus = new HashMap<>();
         List<MRMSOption> activeMRMSOptions = configuredOptions.getActiveMRMSOptions();
+        RepairTargetMatrix targetMatrix = new RepairTargetMatrix(campaign);
+        List<MRMSUnitAction> unitActions;
 
-        for (Unit unit : units) {
-            MRMSUnitAction unitAction = performUnitMRMS(campaign,
-                  unit,
-                  unit.isSalvage(),
+        if (configuredOptions.isOptimizeAssignments()) {
+            unitActions = performOptimizedUnitsMRMS(campaign,
+                  units,
                   activeMRMSOptions,
-                  configuredOptions);
+                  configuredOptions,
+                  targetMatrix);
+        } else {
+            unitActions = new ArrayList<>();
+
+            for (Unit unit : units) {
+                unitActions.add(performUnitMRMS(campaign,
+                      unit,
+                      unit.isSalvage(),
+                      activeMRMSOptions,
+                      configuredOptions,
+                      targetMatrix));
+            }
+        }
 
+        for (MRMSUnitAction unitAction : unitActions) {
             List<MRMSUnitAction> list = unitActionsByStatus.computeIfAbsent(unitAction.getStatus(),
                   k -> new ArrayList<>());
 
@@ -367,7 +397,7 @@ public class MRMSService {
                 for (List<MRMSUnitAction> mrmsUnitActions : unitActionsByStatus.values()) {
                     for (MRMSUnitAction mrmsUnitAction : mrmsUnitActions) {
                         List<IPartWork> parts = mrmsUnitAction.getUnit().getPartsNeedingService(true);
-                        int tempCount = filterParts(parts, null, techs, campaign).size();
+                        int tempCount = filterParts(parts, null, techs, campaign, targetMatrix).size();
 
                         if (tempCount > 0) {
                             unitCount++;
@@ -432,7 +462,7 @@ public class MRMSService {
     }
 
     private static MRMSUnitAction performUnitMRMS(Campaign campaign, Unit unit, boolean isSalvage,
-          List<MRMSOption> mrmsOptions, MRMSConfiguredOptions configuredOptions) {
+          List<MRMSOption> mrmsOptions, MRMSConfiguredOptions configuredOptions, RepairTargetMatrix targetMatrix) {
         List<Person> techs = campaign.getTechs(true);
 
         if (techs.isEmpty()) {
@@ -471,14 +501,11 @@ public class MRMSService {
                   techs,
                   mrmsOptionsByType,
                   isSalvage,
-                  configuredOptions);
+                  configuredOptions,
+                  targetMatrix);
 
             performMoreRepairs = currentUnitAction.getPartSet().isHasRepairs();
-            unitAction.merge(currentUnitAction);
-
-            if (unitAction.isStatusNoActions()) {
-                unitAction.setStatus(currentUnitAction.getStatus());
-            }
+            mergeUnitAction(unitAction, currentUnitAction);
         }
 
         debugLog("Finished fixing %s in %s ns", "performUnitMRMS", unit.getName(), System.nanoTime() - time);
@@ -486,19 +513,277 @@ public class MRMSService {
         return unitAction;
     }
 
+    /**
+     * Works on all the units together rather than one after another. Each round every unit is prepared and all of
+     * their parts are planned, then {@link MRMSAssignmentOptimizer} decides which tech takes which part across the
+     * whole list before any work is done. Units earlier in the list are still favoured, but a tech is no longer spent
+     * on an early unit's part when another tech could do it just as well and the first is the only one able to handle
+     * a later unit. Units stripping a bad limb are worked on straight away the usual way, as their parts only exist
+     * while the unit is flipped to salvage.
+     *
+     * @return one action per unit, in the same order as the units
+     */
+    private static List<MRMSUnitAction> performOptimizedUnitsMRMS(Campaign campaign, List<Unit> units,
+          List<MRMSOption> mrmsOptions, MRMSConfiguredOptions configuredOptions, RepairTargetMatrix targetMatrix) {
+        Map<Unit, MRMSUnitAction> unitActions = new LinkedHashMap<>();
+
+        if (campaign.getTechs(true).isEmpty()) {
+            for (Unit unit : units) {
+                unitActions.put(unit, new MRMSUnitAction(unit, unit.isSalvage(), MRMSUnitAction.STATUS.NO_TECHS));
+            }
+
+            return new ArrayList<>(unitActions.values());
+        }
+
+        for (Unit unit : units) {
+            unitActions.put(unit, new MRMSUnitAction(unit, unit.isSalvage(), MRMSUnitAction.STATUS.NO_ACTIONS));
+        }
+
+        Map<PartRepairType, MRMSOption> mrmsOptionsByType = new HashMap<>();
+
+        for (MRMSOption mrmsOption : mrmsOptions) {
+            mrmsOptionsByType.put(mrmsOption.getType(), mrmsOption);
+        }
+
+        long time = System.nanoTime();
+
+        // As with a single unit, keep going while work gets done, since some parts only open up once others are
+        // finished. A unit that had nothing done in a round won't have anything done later either.
+        Set<Unit> activeUnits = new HashSet<>(units);
+
+        while (!activeUnits.isEmpty()) {
+            List<Person> allTechs = campaign.getTechs(true);
+            List<UnitPass> unitPasses = new ArrayList<>();
+            List<PlannedRepair> plannedRepairs = new ArrayList<>();
+            List<Integer> plannedUnitIndices = new ArrayList<>();
+
+            for (int unitIndex = 0; unitIndex < units.size(); unitIndex++) {
+                Unit unit = units.get(unitIndex);
+
+                if (!activeUnits.contains(unit)) {
+                    continue;
+                }
+
+                List<Person> techs = new ArrayList<>();
+
+                for (Person tech : allTechs) {
+                    if (tech.canTech(unit.getEntity())) {
+                        techs.add(tech);
+                    }
+                }
+
+                UnitPass unitPass = prepareUnitPass(campaign,
+                      unit,
+                      techs,
+                      mrmsOptionsByType,
+                      unitActions.get(unit).isSalvaging(),
+                      configuredOptions,
+                      targetMatrix);
+
+                if (unitPass.isEnded()) {
+                    mergeUnitAction(unitActions.get(unit), unitPass.unitAction());
+                    activeUnits.remove(unit);
+                    continue;
+                }
+
+                if (unitPass.scrappingLimbMode()) {
+                    repairUnitPassParts(campaign, unitPass, techs, mrmsOptionsByType, configuredOptions, targetMatrix);
+                    MRMSUnitAction currentUnitAction = finishUnitPass(unitPass, configuredOptions);
+
+                    if (!currentUnitAction.getPartSet().isHasRepairs()) {
+                        activeUnits.remove(unit);
+                    }
+
+                    mergeUnitAction(unitActions.get(unit), currentUnitAction);
+                    continue;
+                }
+
+                unitPasses.add(unitPass);
+
+                for (IPartWork partWork : unitPass.parts()) {
+                    if (partWork instanceof Part) {
+                        ((Part) partWork).resetModeToNormal();
+                    }
+
+                    List<Person> validTechs = filterTechs(partWork,
+                          techs,
+                          mrmsOptionsByType,
+                          false,
+                          campaign,
+                          targetMatrix);
+
+                    if (validTechs.isEmpty()) {
+                        unitPass.unitAction().addPartAction(MRMSPartAction.createNoTechs(partWork));
+                        continue;
+                    }
+
+                    PartRepairPlan plan = planPartRepair(campaign,
+                          partWork,
+                          unit,
+                          validTechs,
+                          mrmsOptionsByType,
+                          configuredOptions,
+                          targetMatrix);
+
+                    if (plan.terminalAction() != null) {
+                        unitPass.unitAction().addPartAction(plan.terminalAction());
+                    } else {
+                        plannedRepairs.add(new PlannedRepair(unitPass, techs, partWork, plan));
+                        plannedUnitIndices.add(unitIndex);
+                    }
+                }
+            }
+
+            int[] assignments = assignPlannedRepairs(plannedRepairs, plannedUnitIndices, units.size(), allTechs);
+
+            for (int i = 0; i < plannedRepairs.size(); i++) {
+                PlannedRepair plannedRepair = plannedRepairs.get(i);
+                IPartWork partWork = plannedRepair.partWork();
+
+                // An earlier replacement this round may have used up the spare this one was counting on. The
+                // greedy path sees that as nobody being able to do the work, so report it the same way.
+                if ((partWork instanceof MissingPart missingPart) &&
+                          !targetMatrix.isReplacementAvailable(missingPart)) {
+                    plannedRepair.unitPass().unitAction().addPartAction(MRMSPartAction.createNoTechs(partWork));
+                    continue;
+                }
+
+                RepairCandidate candidate = (assignments[i] < 0) ?
+                                                  null :
+                                                  plannedRepair.plan().candidates().get(assignments[i]);
+
+                if ((candidate == null) || !canStillTakeOn(candidate, plannedRepair.plan())) {
+                    plannedRepair.unitPass().unitAction().addPartAction(MRMSPartAction.createNoTechs(partWork));
+                    continue;
+                }
+
+                plannedRepair.unitPass()
+                      .unitAction()
+                      .addPartAction(commitPartRepair(campaign,
+                            partWork,
+                            candidate,
+                            plannedRepair.techs(),
+                            false,
+                            targetMatrix));
+            }
+
+            for (UnitPass unitPass : unitPasses) {
+                MRMSUnitAction currentUnitAction = finishUnitPass(unitPass, configuredOptions);
+                Unit unit = currentUnitAction.getUnit();
+
+                if (!currentUnitAction.getPartSet().isHasRepairs()) {
+                    activeUnits.remove(unit);
+                }
+
+                mergeUnitAction(unitActions.get(unit), currentUnitAction);
+            }
+        }
+
+        debugLog("Finished fixing %s units in %s ns", "performOptimizedUnitsMRMS", units.size(),
+              System.nanoTime() - time);
+
+        return new ArrayList<>(unitActions.values());
+    }
+
+    /**
+     * Hands the planned repairs to {@link MRMSAssignmentOptimizer}. Each candidate tech becomes an option whose rank is
+     * their place in the order the part would normally be handed out, so ties go the way they always have.
+     *
+     * @return for each planned repair, the index of the chosen candidate or {@code -1} if it wasn't assigned
+     */
+    private static int[] assignPlannedRepairs(List<PlannedRepair> plannedRepairs, List<Integer> plannedUnitIndices,
+          int unitCount, List<Person> techs) {
+        Map<Person, Integer> techIndices = new IdentityHashMap<>();
+        int[] techMinutes = new int[techs.size()];
+
+        for (int i = 0; i < techs.size(); i++) {
+            techIndices.put(techs.get(i), i);
+            techMinutes[i] = techs.get(i).getMinutesLeft();
+        }
+
+        List<MRMSAssignmentOptimizer.Task> tasks = new ArrayList<>(plannedRepairs.size());
+
+        for (int i = 0; i < plannedRepairs.size(); i++) {
+            PartRepairPlan plan = plannedRepairs.get(i).plan();
+            List<MRMSAssignmentOptimizer.Option> options = new ArrayList<>();
+
+            for (int rank = 0; rank < plan.candidates().size(); rank++) {
+                RepairCandidate candidate = plan.candidates().get(rank);
+                Integer techIndex = techIndices.get(candidate.tech());
+
+                // Keep the positions lined up with the candidates; an unknown tech simply can't be picked
+                options.add(new MRMSAssignmentOptimizer.Option((techIndex == null) ? -1 : techIndex,
+                      candidate.targetNumber(),
+                      candidate.expectedTime(),
+                      rank));
+            }
+
+            tasks.add(new MRMSAssignmentOptimizer.Task(MRMSAssignmentOptimizer.unitPriority(plannedUnitIndices.get(i),
+                  unitCount), plan.dailyTimeMin(), plan.allowCarryover(), options));
+        }
+
+        return MRMSAssignmentOptimizer.solve(tasks, techMinutes);
+    }
+
+    /**
+     * Checks the minutes a tech has left still cover a part, as the plan may have been made before they took on other
+     * work.
+     */
+    private static boolean canStillTakeOn(RepairCandidate candidate, PartRepairPlan plan) {
+        int minutesLeft = candidate.tech().getMinutesLeft();
+
+        if ((minutesLeft <= 0) || (minutesLeft < plan.dailyTimeMin())) {
+            return false;
+        }
+
+        return plan.allowCarryover() || (minutesLeft >= candidate.expectedTime());
+    }
+
+    private static void mergeUnitAction(MRMSUnitAction unitAction, MRMSUnitAction currentUnitAction) {
+        unitAction.merge(currentUnitAction);
+
+        if (unitAction.isStatusNoActions()) {
+            unitAction.setStatus(currentUnitAction.getStatus());
+        }
+    }
+
     private static MRMSUnitAction performUnitMassTechAction(Campaign campaign, Unit unit, List<Person> techs,
           Map<PartRepairType, MRMSOption> mrmsOptionsByType, boolean salvaging,
-          MRMSConfiguredOptions configuredOptions) {
+          MRMSConfiguredOptions configuredOptions, RepairTargetMatrix targetMatrix) {
+        UnitPass unitPass = prepareUnitPass(campaign,
+              unit,
+              techs,
+              mrmsOptionsByType,
+              salvaging,
+              configuredOptions,
+              targetMatrix);
+
+        if (unitPass.isEnded()) {
+            return unitPass.unitAction();
+        }
+
+        repairUnitPassParts(campaign, unitPass, techs, mrmsOptionsByType, configuredOptions, targetMatrix);
+
+        return finishUnitPass(unitPass, configuredOptions);
+    }
+
+    /**
+     * Gets a unit ready for a round of work: scraps what can't be fixed, handles pod space and bad limbs, then filters
+     * the parts left down to those that can be worked on today.
+     */
+    private static UnitPass prepareUnitPass(Campaign campaign, Unit unit, List<Person> techs,
+          Map<PartRepairType, MRMSOption> mrmsOptionsByType, boolean salvaging,
+          MRMSConfiguredOptions configuredOptions, RepairTargetMatrix targetMatrix) {
         List<IPartWork> parts = unit.getPartsNeedingService(true);
 
         if (parts.isEmpty()) {
             parts = unit.getPartsNeedingService(false);
 
             if (!parts.isEmpty()) {
-                return new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.ALL_PARTS_IN_PROCESS);
+                return UnitPass.ended(new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.ALL_PARTS_IN_PROCESS));
             }
 
-            return new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.NO_PARTS);
+            return UnitPass.ended(new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.NO_PARTS));
         }
 
         for (IPartWork partWork : parts) {
@@ -552,7 +837,7 @@ public class MRMSService {
         }
 
         if (techs.isEmpty()) {
-            return new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.NO_TECHS);
+            return UnitPass.ended(new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.NO_TECHS));
         }
 
         /*
@@ -586,7 +871,9 @@ public class MRMSService {
                 MRMSOption mrmsOption = mrmsOptionsByType.get(PartRepairType.GENERAL_LOCATION);
 
                 if ((null == mrmsOption) || !mrmsOption.isActive()) {
-                    return new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.UNFIXABLE_LIMB);
+                    return UnitPass.ended(new MRMSUnitAction(unit,
+                          salvaging,
+                          MRMSUnitAction.STATUS.UNFIXABLE_LIMB));
                 }
 
                 /*
@@ -688,29 +975,44 @@ public class MRMSService {
             configuredOptions.setAllowCarryover(false);
         }
 
+        // Scrapping, pod space settings and the salvage flag above can all change which parts are fixable
+        targetMatrix.invalidateUnit(unit);
+
         /*
          * Filter our parts list to only those that aren't being worked on or
          * those that meet our criteria as defined in the campaign
          * configurations
          */
-        parts = filterParts(parts, mrmsOptionsByType, techs, campaign);
+        parts = filterParts(parts, mrmsOptionsByType, techs, campaign, targetMatrix);
 
         if (parts.isEmpty()) {
             if (scrappingLimbMode) {
                 unit.setSalvage(false);
             }
 
-            return new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.NO_PARTS);
+            return UnitPass.ended(new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.NO_PARTS));
         }
 
-        MRMSUnitAction unitAction = new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.ACTIONS_PERFORMED);
+        return new UnitPass(new MRMSUnitAction(unit, salvaging, MRMSUnitAction.STATUS.ACTIONS_PERFORMED),
+              parts,
+              scrappingLimbMode,
+              originalAllowCarryover);
+    }
 
-        for (IPartWork partWork : parts) {
+    /**
+     * Works through a prepared unit's parts one at a time, handing each to the best tech still free for it.
+     */
+    private static void repairUnitPassParts(Campaign campaign, UnitPass unitPass, List<Person> techs,
+          Map<PartRepairType, MRMSOption> mrmsOptionsByType, MRMSConfiguredOptions configuredOptions,
+          RepairTargetMatrix targetMatrix) {
+        MRMSUnitAction unitAction = unitPass.unitAction();
+
+        for (IPartWork partWork : unitPass.parts()) {
             if (partWork instanceof Part) {
                 ((Part) partWork).resetModeToNormal();
             }
 
-            List<Person> validTechs = filterTechs(partWork, techs, mrmsOptionsByType, false, campaign);
+            List<Person> validTechs = filterTechs(partWork, techs, mrmsOptionsByType, false, campaign, targetMatrix);
 
             if (validTechs.isEmpty()) {
                 unitAction.addPartAction(MRMSPartAction.createNoTechs(partWork));
@@ -719,16 +1021,24 @@ public class MRMSService {
 
             unitAction.addPartAction(repairPart(campaign,
                   partWork,
-                  unit,
+                  unitAction.getUnit(),
                   validTechs,
                   mrmsOptionsByType,
                   configuredOptions,
-                  false));
+                  false,
+                  targetMatrix));
         }
+    }
 
-        if (scrappingLimbMode) {
-            unit.setSalvage(false);
-            configuredOptions.setAllowCarryover(originalAllowCarryover);
+    /**
+     * Puts back anything {@link #prepareUnitPass} changed for the duration of the pass.
+     */
+    private static MRMSUnitAction finishUnitPass(UnitPass unitPass, MRMSConfiguredOptions configuredOptions) {
+        MRMSUnitAction unitAction = unitPass.unitAction();
+
+        if (unitPass.scrappingLimbMode()) {
+            unitAction.getUnit().setSalvage(false);
+            configuredOptions.setAllowCarryover(unitPass.originalAllowCarryover());
         }
 
         if (unitAction.getPartSet().isOnlyNoTechs()) {
@@ -739,15 +1049,44 @@ public class MRMSService {
         return unitAction;
     }
 
+    /**
+     * Picks the tech for a part and has them work on it.
+     */
     private static MRMSPartAction repairPart(Campaign campaign, IPartWork partWork, Unit unit, List<Person> techs,
           Map<PartRepairType, MRMSOption> mrmsOptionsByType, MRMSConfiguredOptions configuredOptions,
-          boolean warehouseMode) {
+          boolean warehouseMode, RepairTargetMatrix targetMatrix) {
+        PartRepairPlan plan = planPartRepair(campaign,
+              partWork,
+              unit,
+              techs,
+              mrmsOptionsByType,
+              configuredOptions,
+              targetMatrix);
+
+        if (plan.terminalAction() != null) {
+            return plan.terminalAction();
+        }
+
+        return commitPartRepair(campaign, partWork, plan.candidates().get(0), techs, warehouseMode, targetMatrix);
+    }
+
+    /**
+     * Weighs every tech for a part without doing any work on it. The work time search changes the part's mode in
+     * place, so the target numbers here are recalculated each time, reusing only the part checks held in the target
+     * matrix.
+     *
+     * @return either the action that ends this attempt, or the techs able to do the work in the order the part would
+     *       be handed to them
+     */
+    private static PartRepairPlan planPartRepair(Campaign campaign, IPartWork partWork, Unit unit,
+          List<Person> techs, Map<PartRepairType, MRMSOption> mrmsOptionsByType,
+          MRMSConfiguredOptions configuredOptions, RepairTargetMatrix targetMatrix) {
         // We were doing this check for every tech, that's unnecessary as it
         // doesn't change from tech to tech
         MRMSOption mrmsOptions = mrmsOptionsByType.get(IPartWork.findCorrectMRMSType(partWork));
 
         if (mrmsOptions == null) {
-            return MRMSPartAction.createOptionDisabled(partWork);
+            return PartRepairPlan.terminal(MRMSPartAction.createOptionDisabled(partWork));
         }
 
         long repairPartTime = System.nanoTime();
@@ -758,6 +1097,7 @@ public class MRMSService {
         List<Person> overflowDayTechs = new ArrayList<>();
         List<Person> sameDayAssignedTechs = new ArrayList<>();
         List<Person> overflowDayAssignedTechs = new ArrayList<>();
+        Map<Person, RepairCandidate> candidatesByTech = new HashMap<>();
         int highestAvailableTechSkill = -1;
 
         for (Person tech : techs) {
@@ -799,7 +1139,7 @@ public class MRMSService {
 
             // We really only have to check one tech of each skill level
             if (!techSkillToWorktimeMap.containsKey(skill.getType().getName() + "-" + skill.getLevel())) {
-                TargetRoll targetRoll = campaign.getTargetFor(partWork, tech);
+                TargetRoll targetRoll = campaign.getTargetFor(partWork, tech, targetMatrix);
                 WorkTime selectedWorktime = WorkTime.NORMAL;
 
                 if (!canChangeWorkTime) {
@@ -812,7 +1152,7 @@ public class MRMSService {
                                  configuredOptions.isUseExtraTime()) {
                     debugLog("... is above preferred TN and trying to increase time", "repairPart");
                     WorkTimeCalculation workTimeCalc = calculateNewMRMSWorktime(partWork, tech,
-                          mrmsOptions, campaign, true, highestAvailableTechSkill);
+                          mrmsOptions, campaign, true, highestAvailableTechSkill, targetMatrix);
 
                     if (workTimeCalc.getWorkTime() != null) {
                         selectedWorktime = workTimeCalc.getWorkTime();
@@ -820,8 +1160,9 @@ public class MRMSService {
                         debugLog("... is above preferred TN but has no suitable time settings with max available tech",
                               "repairPart");
 
-                        return MRMSPartAction.createMaxSkillReached(partWork, highestAvailableTechSkill,
-                              mrmsOptions.getTargetNumberPreferred());
+                        return PartRepairPlan.terminal(MRMSPartAction.createMaxSkillReached(partWork,
+                              highestAvailableTechSkill,
+                              mrmsOptions.getTargetNumberPreferred()));
                     } else {
                         debugLog("... is above preferred TN but has no suitable time settings", "repairPart");
 
@@ -834,7 +1175,7 @@ public class MRMSService {
                                  configuredOptions.isUseRushJob()) {
                     debugLog("... is below preferred TN and trying to decrease time", "repairPart");
                     WorkTimeCalculation workTimeCalc = calculateNewMRMSWorktime(partWork, tech,
-                          mrmsOptions, campaign, false, highestAvailableTechSkill);
+                          mrmsOptions, campaign, false, highestAvailableTechSkill, targetMatrix);
 
                     if (workTimeCalc.getWorkTime() != null) {
                         selectedWorktime = workTimeCalc.getWorkTime();
@@ -842,8 +1183,9 @@ public class MRMSService {
                         debugLog("... is below preferred TN but has no suitable time settings with max available tech",
                               "repairPart");
 
-                        return MRMSPartAction.createMaxSkillReached(partWork, highestAvailableTechSkill,
-                              mrmsOptions.getTargetNumberPreferred());
+                        return PartRepairPlan.terminal(MRMSPartAction.createMaxSkillReached(partWork,
+                              highestAvailableTechSkill,
+                              mrmsOptions.getTargetNumberPreferred()));
                     } else {
                         debugLog("... is above preferred TN but has no suitable time settings", "repairPart");
 
@@ -859,7 +1201,7 @@ public class MRMSService {
             }
 
             // Fallback TN check to account for discrepancies between Techs
-            TargetRoll targetRoll = campaign.getTargetFor(partWork, tech);
+            TargetRoll targetRoll = campaign.getTargetFor(partWork, tech, targetMatrix);
             if (canChangeWorkTime) {
                 WorkTime workTime = techSkillToWorktimeMap.get(skill.getType().getName() + "-" + skill.getLevel());
                 if (null == workTime) {
@@ -868,7 +1210,7 @@ public class MRMSService {
                 }
                 ((Part) partWork).setMode(workTime);
                 // Get updated TN with worktime in mind
-                targetRoll = campaign.getTargetFor(partWork, tech);
+                targetRoll = campaign.getTargetFor(partWork, tech, targetMatrix);
                 ((Part) partWork).resetModeToNormal();
             }
 
@@ -909,6 +1251,8 @@ public class MRMSService {
                 isSameDayTech = true;
             }
 
+            candidatesByTech.put(tech, new RepairCandidate(tech, workTime, targetRoll.getValue(), expectedTime));
+
             if (isSameDayTech) {
                 if (assigned) {
                     sameDayAssignedTechs.add(tech);
@@ -951,15 +1295,36 @@ public class MRMSService {
         if (validTechs.isEmpty()) {
             debugLog("Ending because there are no techs", "repairPart");
 
-            return MRMSPartAction.createNoTechs(partWork);
+            return PartRepairPlan.terminal(MRMSPartAction.createNoTechs(partWork));
         }
 
-        Person tech = validTechs.get(0);
+        List<RepairCandidate> candidates = new ArrayList<>(validTechs.size());
 
-        Skill skill = tech.getSkillForWorkingOn(partWork);
-        WorkTime workTime = getWorkTime(canChangeWorkTime, techSkillToWorktimeMap, skill, tech);
+        for (Person tech : validTechs) {
+            candidates.add(candidatesByTech.get(tech));
+        }
+
+        debugLog("Planned in %s ns", "repairPart", System.nanoTime() - repairPartTime);
+
+        return new PartRepairPlan(null,
+              candidates,
+              mrmsOptions.getDailyTimeMin(),
+              configuredOptions.isAllowCarryover());
+    }
+
+    /**
+     * Has the chosen tech work on the part, then drops what the target matrix knew about anything the work touched.
+     */
+    private static MRMSPartAction commitPartRepair(Campaign campaign, IPartWork partWork, RepairCandidate candidate,
+          List<Person> techs, boolean warehouseMode, RepairTargetMatrix targetMatrix) {
+        long repairPartTime = System.nanoTime();
+
+        Person tech = candidate.tech();
+
+        setPartWorkTime(partWork, candidate.workTime());
 
-        setPartWorkTime(partWork, workTime);
+        // Repairs can move the part off its unit, so note where it was first
+        Unit workedUnit = partWork.getUnit();
 
         if (warehouseMode && (partWork instanceof Part)) {
             campaign.fixWarehousePart((Part) partWork, tech);
@@ -967,6 +1332,8 @@ public class MRMSService {
             campaign.fixPart(partWork, tech);
         }
 
+        targetMatrix.invalidateAfterWork(partWork, workedUnit, tech);
+
         // If this tech has no time left, filter them out so we don't
         // spend cycles on them in the future
         if (tech.getMinutesLeft() <= 0) {
@@ -1012,7 +1379,7 @@ public class MRMSService {
     }
 
     private static List<IPartWork> filterParts(List<IPartWork> parts, Map<PartRepairType, MRMSOption> mrmsOptionsByType,
-          List<Person> techs, Campaign campaign) {
+          List<Person> techs, Campaign campaign, RepairTargetMatrix targetMatrix) {
         List<IPartWork> newParts = new ArrayList<>();
 
         if (techs.isEmpty() || parts.isEmpty()) {
@@ -1026,7 +1393,7 @@ public class MRMSService {
                 continue;
             }
 
-            if ((partWork instanceof MissingPart) && !((MissingPart) partWork).isReplacementAvailable()) {
+            if ((partWork instanceof MissingPart missingPart) && !targetMatrix.isReplacementAvailable(missingPart)) {
                 continue;
             }
 
@@ -1081,7 +1448,7 @@ public class MRMSService {
                 techCache.put(skillName, tech);
             }
 
-            TargetRoll roll = campaign.getTargetFor(partWork, tech);
+            TargetRoll roll = targetMatrix.getTargetFor(partWork, tech);
 
             if ((roll.getValue() == TargetRoll.IMPOSSIBLE) ||
                       (roll.getValue() == TargetRoll.AUTOMATIC_FAIL) ||
@@ -1096,7 +1463,8 @@ public class MRMSService {
     }
 
     private static List<Person> filterTechs(IPartWork partWork, List<Person> techs,
-          Map<PartRepairType, MRMSOption> mrmsOptionsByType, boolean warehouseMode, Campaign campaign) {
+          Map<PartRepairType, MRMSOption> mrmsOptionsByType, boolean warehouseMode, Campaign campaign,
+          RepairTargetMatrix targetMatrix) {
         List<Person> validTechs = new ArrayList<>();
 
         if (techs.isEmpty()) {
@@ -1141,7 +1509,7 @@ public class MRMSService {
             }
 
             // Check if we can actually even repair this part
-            TargetRoll targetRoll = campaign.getTargetFor(partWork, tech);
+            TargetRoll targetRoll = targetMatrix.getTargetFor(partWork, tech);
 
             if ((targetRoll.getValue() == TargetRoll.IMPOSSIBLE) ||
                       (targetRoll.getValue() == TargetRoll.AUTOMATIC_FAIL) ||
@@ -1180,7 +1548,7 @@ public class MRMSService {
     }
 
     private static WorkTimeCalculation calculateNewMRMSWorktime(IPartWork partWork, Person tech, MRMSOption mrmsOption,
-          Campaign campaign, boolean increaseTime, int highestAvailableTechSkill) {
+          Campaign campaign, boolean increaseTime, int highestAvailableTechSkill, RepairTargetMatrix targetMatrix) {
         long time = System.nanoTime();
 
         debugLog("...... starting calculateNewMRMSWorktime", "calculateNewMRMSWorktime");
@@ -1191,7 +1559,7 @@ public class MRMSService {
             ((Part) partWork).resetModeToNormal();
         }
 
-        TargetRoll targetRoll = campaign.getTargetFor(partWork, tech);
+        TargetRoll targetRoll = campaign.getTargetFor(partWork, tech, targetMatrix);
 
         if ((targetRoll.getValue() == TargetRoll.IMPOSSIBLE) ||
                   (targetRoll.getValue() == TargetRoll.AUTOMATIC_FAIL) ||
@@ -1240,7 +1608,7 @@ public class MRMSService {
                       "calculateNewMRMSWorktime",
                       System.nanoTime() - time);
 
-                targetRoll = campaign.getTargetFor(partWork, tech);
+                targetRoll = campaign.getTargetFor(partWork, tech, targetMatrix);
 
                 WorkTimeCalculation wtc = new WorkTimeCalculation(null);
                 if (targetRoll.getValue() <= mrmsOption.getTargetNumberMax()) {
@@ -1260,7 +1628,7 @@ public class MRMSService {
                 ((Part) partWork).setMode(newWorkTime);
             }
 
-            targetRoll = campaign.getTargetFor(partWork, tech);
+            targetRoll = campaign.getTargetFor(partWork, tech, targetMatrix);
 
             // If our roll is impossible, revert to the previous one
             if ((targetRoll.getValue() == TargetRoll.IMPOSSIBLE) ||
@@ -1336,6 +1704,43 @@ public class MRMSService {
         }
     }
 
+    /**
+     * A tech able to work on a part, with the work time and target number they would use.
+     */
+    private record RepairCandidate(Person tech, WorkTime workTime, int targetNumber, int expectedTime) {
+    }
+
+    /**
+     * The result of weighing every tech for a part: either the action that ends the attempt, or the able techs in the
+     * order the part would be handed to them.
+     */
+    private record PartRepairPlan(@Nullable MRMSPartAction terminalAction, List<RepairCandidate> candidates,
+          int dailyTimeMin, boolean allowCarryover) {
+        static PartRepairPlan terminal(MRMSPartAction terminalAction) {
+            return new PartRepairPlan(terminalAction, List.of(), 0, false);
+        }
+    }
+
+    /**
+     * A unit with its parts filtered and ready to be worked on, or the action explaining why there's nothing to do.
+     */
+    private record UnitPass(MRMSUnitAction unitAction, @Nullable List<IPartWork> parts, boolean scrappingLimbMode,
+          boolean originalAllowCarryover) {
+        static UnitPass ended(MRMSUnitAction unitAction) {
+            return new UnitPass(unitAction, null, false, false);
+        }
+
+        boolean isEnded() {
+            return parts == null;
+        }
+    }
+
+    /**
+     * A part planned during an optimized pass, kept with the unit pass and tech list it belongs to.
+     */
+    private record PlannedRepair(UnitPass unitPass, List<Person> techs, IPartWork partWork, PartRepairPlan plan) {
+    }
+
     private record TechSorter(IPartWork partWork) implements Comparator<Person> {
 
         @Override
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import static java.util.Arrays.sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import megamek.client.generator.RandomCallsignGenerator;
+import megamek.client.generator.RandomNameGenerator;
+import megamek.common.loaders.MekSummaryCache;
+import mekhq.campaign.finances.CurrencyManager;
+import mekhq.campaign.finances.financialInstitutions.FinancialInstitutions;
+import mekhq.campaign.mission.atb.AtBScenarioModifier;
+import mekhq.campaign.personnel.Bloodname;
+import mekhq.campaign.personnel.SpecialAbility;
+import mekhq.campaign.personnel.backgrounds.RandomCompanyNameGenerator;
+import mekhq.campaign.personnel.medical.advancedMedical.InjuryTypes;
+import mekhq.campaign.personnel.ranks.Ranks;
+import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.universe.Factions;
+import mekhq.campaign.universe.Systems;
+import mekhq.campaign.universe.eras.Eras;
+
+/**
+ * The shared harness behind the standalone campaign benchmarks: finding the campaign files, loading the static data
+ * they depend on, reading each file into memory and printing the results table.
+ */
+final class CampaignBenchmarks {
+    /**
+     * Measures a single campaign and prints its rows of the results table.
+     */
+    @FunctionalInterface
+    interface CampaignRun {
+        /**
+         * @param file the campaign file being measured, for labelling the rows
+         * @param xml  the campaign's XML, already decompressed
+         */
+        void run(File file, byte[] xml) throws Exception;
+    }
+
+    private CampaignBenchmarks() {
+    }
+
+    /**
+     * Runs a benchmark over every campaign file in the target given as the first argument (default
+     * {@code campaigns}), then exits. A campaign that fails is reported in the table and the rest still run.
+     *
+     * @param args         the benchmark's command line arguments
+     * @param headerFormat the {@link String#format} pattern of the table header
+     * @param columns      the column titles
+     * @param campaignRun  measures one campaign
+     */
+    static void run(String[] args, String headerFormat, Object[] columns, CampaignRun campaignRun) throws Exception {
+        File target = new File((args.length > 0) ? args[0] : "campaigns");
+
+        List<File> files = findCampaignFiles(target);
+        if (files.isEmpty()) {
+            System.out.println("No campaign files found in: " + target.getAbsolutePath());
+            System.exit(1);
+        }
+
+        System.out.println("Loading static data...");
+        initializeStaticData();
+
+        System.out.printf(Locale.ROOT, headerFormat, columns);
+        for (File file : files) {
+            try {
+                campaignRun.run(file, readCampaignXml(file));
+            } catch (Exception ex) {
+                System.out.printf(Locale.ROOT, "%-40s failed: %s%n", file.getName(), ex);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static List<File> findCampaignFiles(File target) {
+        List<File> files = new ArrayList<>();
+        if (target.isFile()) {
+            files.add(target);
+        } else if (target.isDirectory()) {
+            File[] children = target.listFiles();
+            if (children != null) {
+                sort(children);
+                for (File child : children) {
+                    if (child.isDirectory()) {
+                        files.addAll(findCampaignFiles(child));
+                    } else if (child.getName().endsWith(".cpnx") || child.getName().endsWith(".cpnx.gz")) {
+                        files.add(child);
+                    }
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Mirrors the basic data loading done at startup, which campaign loading depends on.
+     */
+    private static void initializeStaticData() throws Exception {
+        CurrencyManager.getInstance().loadCurrencies();
+        Eras.initializeEras();
+        FinancialInstitutions.initializeFinancialInstitutions();
+        InjuryTypes.registerAll();
+        Ranks.initializeRankSystems();
+        SkillType.initializeTypes();
+        SpecialAbility.initializeSPA(false);
+        AtBScenarioModifier.initializeScenarioModifiers(false);
+        Factions.setInstance(Factions.loadDefault(false));
+        RandomNameGenerator.getInstance();
+        RandomCallsignGenerator.getInstance();
+        RandomCompanyNameGenerator.getInstance();
+        Bloodname.loadBloodnameData();
+        Systems.setInstance(Systems.loadDefault());
+        while (!MekSummaryCache.getInstance().isInitialized()) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Reads the campaign file into memory up front, decompressing it if needed, so only the work being measured is
+     * timed.
+     */
+    private static byte[] readCampaignXml(File file) throws IOException {
+        byte[] contents = Files.readAllBytes(file.toPath());
+        if ((contents.length >= 2) && (contents[0] == (byte) 0x1f) && (contents[1] == (byte) 0x8b)) {
+            try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(contents))) {
+                return is.readAllBytes();
+            }
+        }
+        return contents;
+    }
+}
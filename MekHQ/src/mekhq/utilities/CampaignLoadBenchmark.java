@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Locale;
+
+import mekhq.campaign.io.CampaignXmlParser;
+
+/**
+ * Standalone tool that compares the streaming campaign loader ({@link CampaignXmlParser#parse()}) against the
+ * whole-document DOM loader ({@link CampaignXmlParser#parseDocument()}).
+ *
+ * <p>For every campaign file given on the command line (or every {@code .cpnx}/{@code .cpnx.gz} file found in a given
+ * directory) both loaders are warmed up and then timed over a number of iterations. Alongside the wall-clock time,
+ * the peak heap usage of each load is reported, measured from the JVM's memory pool peak counters after a full
+ * collection.</p>
+ *
+ * <p>Run it through the Gradle {@code benchmarkCampaignLoad} task, which defaults to the bundled sample campaigns:</p>
+ * <pre>{@code ./gradlew benchmarkCampaignLoad --args="campaigns 5"}</pre>
+ */
+public class CampaignLoadBenchmark {
+    private static final int DEFAULT_ITERATIONS = 5;
+    private static final int WARMUP_ITERATIONS = 2;
+
+    private enum Loader {
+        DOM, STREAMING
+    }
+
+    /**
+     * @param args the campaign file or directory to load (default {@code campaigns}), followed by an optional number
+     *             of timed iterations per loader
+     */
+    public static void main(String[] args) throws Exception {
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+
+        CampaignBenchmarks.run(args, "%-40s %-10s %12s %12s%n",
+              new Object[] { "Campaign", "Loader", "Mean (ms)", "Peak (MiB)" }, (file, xml) -> {
+                  for (Loader loader : Loader.values()) {
+                      for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                          load(loader, xml);
+                      }
+
+                      long totalNanos = 0;
+                      long peakBytes = 0;
+                      for (int i = 0; i < iterations; i++) {
+                          System.gc();
+                          resetPeakUsage();
+                          long start = System.nanoTime();
+                          load(loader, xml);
+                          totalNanos += System.nanoTime() - start;
+                          peakBytes = Math.max(peakBytes, getPeakHeapUsage());
+                      }
+
+                      System.out.printf(Locale.ROOT, "%-40s %-10s %12.1f %12.1f%n", file.getName(), loader,
+                            totalNanos / 1e6 / iterations, peakBytes / (1024.0 * 1024.0));
+                  }
+              });
+    }
+
+    private static void load(Loader loader, byte[] xml) throws Exception {
+        CampaignXmlParser parser = new CampaignXmlParser(new ByteArrayInputStream(xml), null);
+        if (loader == Loader.DOM) {
+            parser.parseDocument();
+        } else {
+            parser.parse();
+        }
+    }
+
+    private static void resetPeakUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long getPeakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
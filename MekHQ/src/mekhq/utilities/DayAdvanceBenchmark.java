@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.Locale;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignDayAdvancer;
+import mekhq.campaign.CampaignNewDayManager;
+import mekhq.campaign.NewDayListener;
+import mekhq.campaign.io.CampaignXmlParser;
+
+/**
+ * Standalone tool that measures how many days per second a campaign can be advanced without the GUI.
+ *
+ * <p>Each campaign is loaded twice: one copy is advanced a day at a time, clearing and rebuilding the daily reports
+ * for every day as the GUI does, and the other is advanced in a single batch through {@link CampaignDayAdvancer}.
+ * Both use {@link NewDayListener#HEADLESS}, so no informational dialogs are shown.</p>
+ *
+ * <p>Run it through the Gradle {@code benchmarkDayAdvance} task, which defaults to the bundled sample campaigns:</p>
+ * <pre>{@code ./gradlew benchmarkDayAdvance --args="campaigns 90"}</pre>
+ */
+public class DayAdvanceBenchmark {
+    private static final int DEFAULT_DAYS = 30;
+
+    /**
+     * @param args the campaign file or directory to load (default {@code campaigns}), followed by an optional number
+     *             of days to advance
+     */
+    public static void main(String[] args) throws Exception {
+        int days = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_DAYS;
+
+        CampaignBenchmarks.run(args, "%-40s %-10s %8s %12s %12s%n",
+              new Object[] { "Campaign", "Mode", "Days", "Time (ms)", "Days/s" }, (file, xml) -> {
+                  Campaign daily = load(xml);
+                  long start = System.nanoTime();
+                  int advanced = 0;
+                  while ((advanced < days)
+                               && new CampaignNewDayManager(daily, NewDayListener.HEADLESS, false, false).newDay()) {
+                      advanced++;
+                  }
+                  print(file, "daily", advanced, System.nanoTime() - start);
+
+                  Campaign batched = load(xml);
+                  start = System.nanoTime();
+                  advanced = new CampaignDayAdvancer(batched, NewDayListener.HEADLESS).advanceDays(days);
+                  print(file, "batched", advanced, System.nanoTime() - start);
+              });
+    }
+
+    private static Campaign load(byte[] xml) throws Exception {
+        return new CampaignXmlParser(new ByteArrayInputStream(xml), null).parse();
+    }
+
+    private static void print(File file, String mode, int days, long nanos) {
+        double millis = nanos / 1e6;
+        System.out.printf(Locale.ROOT, "%-40s %-10s %8d %12.1f %12.2f%n", file.getName(), mode, days, millis,
+              (millis > 0) ? (days * 1000.0 / millis) : 0.0);
+    }
+}
@@ -45,6 +45,7 @@ import megamek.common.annotations.Nullable;
 import megamek.common.equipment.BombLoadout;
 import megamek.common.equipment.enums.BombType.BombTypeEnum;
 import megamek.common.loaders.MULParser;
+import megamek.common.options.GameOptions;
 import megamek.common.units.*;
 import megamek.logging.MMLogger;
 import megamek.utilities.xml.MMXMLUtility;
@@ -576,17 +577,36 @@ public class MHQXMLUtility extends MMXMLUtility {
     public static @Nullable Entity parseSingleEntityMul(final Element element,
           final @Nullable Campaign campaign)
           throws IllegalArgumentException {
-        final List<Entity> entities = new MULParser(element, ((campaign == null) ? null : campaign.getGameOptions()))
-                                            .getEntities();
+        final Entity entity = parseUnboundEntityMul(element, (campaign == null) ? null : campaign.getGameOptions());
+        if ((entity != null) && (campaign != null)) {
+            entity.setGame(campaign.getGame());
+        }
+        return entity;
+    }
+
+    /**
+     * Parses the given node as if it was a .mul file and returns the first entity it contains, without binding it to
+     * a game. This does not touch any campaign state, so it may be called from a background thread provided no other
+     * thread is reading the same document.
+     *
+     * @param element     the xml tag to parse
+     * @param gameOptions the game options to parse using, which may be null to ignore them
+     *
+     * @return the first entity parsed from the given element, or {@code null} if anything is wrong with the input
+     *
+     * @throws IllegalArgumentException if the given element parses to multiple entities
+     * @see #parseSingleEntityMul(Element, Campaign)
+     */
+    public static @Nullable Entity parseUnboundEntityMul(final Element element,
+          final @Nullable GameOptions gameOptions)
+          throws IllegalArgumentException {
+        final List<Entity> entities = new MULParser(element, gameOptions).getEntities();
 
         switch (entities.size()) {
             case 0:
                 return null;
             case 1:
                 final Entity entity = entities.get(0);
-                if (campaign != null) {
-                    entity.setGame(campaign.getGame());
-                }
                 LOGGER.trace("Returning {} from getEntityFromXmlString(String)...", entity);
                 return entity;
             default:
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.io.CampaignXmlParser;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.work.IPartWork;
+import mekhq.service.mrms.MRMSService;
+
+/**
+ * Standalone tool that compares the usual one-part-at-a-time tech assignment of mass repair/salvage against the
+ * optimizing mode that plans the assignments for all units together.
+ *
+ * <p>Each campaign is loaded twice and {@link MRMSService#mrmsAllUnits(Campaign)} is run once on each copy, with the
+ * campaign's mass repair/salvage settings left as saved apart from the optimizing option. Alongside the wall-clock
+ * time, it reports how many parts were finished outright, how many were started (including those carried over to
+ * another day) and how many tech minutes were spent.</p>
+ *
+ * <p>Run it through the Gradle {@code benchmarkMRMS} task, which defaults to the bundled sample campaigns:</p>
+ * <pre>{@code ./gradlew benchmarkMRMS --args="campaigns"}</pre>
+ */
+public class MRMSBenchmark {
+    /**
+     * @param args the campaign file or directory to load (default {@code campaigns})
+     */
+    public static void main(String[] args) throws Exception {
+        CampaignBenchmarks.run(args, "%-40s %-10s %12s %10s %10s %12s%n",
+              new Object[] { "Campaign", "Mode", "Time (ms)", "Finished", "Started", "Tech min" }, (file, xml) -> {
+                  run(file, xml, false);
+                  run(file, xml, true);
+              });
+    }
+
+    private static void run(File file, byte[] xml, boolean optimize) throws Exception {
+        Campaign campaign = new CampaignXmlParser(new ByteArrayInputStream(xml), null).parse();
+        campaign.getCampaignOptions().setMRMSOptimizeAssignments(optimize);
+
+        // Units that end up stripped are removed from the campaign, so keep counting the ones we started with
+        List<Unit> units = new ArrayList<>(campaign.getServiceableUnits());
+        int partsBefore = countParts(units, false);
+        int inProgressBefore = partsBefore - countParts(units, true);
+        int minutesBefore = countTechMinutes(campaign);
+
+        long start = System.nanoTime();
+        MRMSService.mrmsAllUnits(campaign);
+        long nanos = System.nanoTime() - start;
+
+        int partsAfter = countParts(units, false);
+        int inProgressAfter = partsAfter - countParts(units, true);
+
+        System.out.printf(Locale.ROOT, "%-40s %-10s %12.1f %10d %10d %12d%n", file.getName(),
+              optimize ? "optimized" : "greedy", nanos / 1e6, partsBefore - partsAfter,
+              (partsBefore - partsAfter) + (inProgressAfter - inProgressBefore),
+              minutesBefore - countTechMinutes(campaign));
+    }
+
+    /**
+     * @param onlyNotBeingWorkedOn {@code true} to skip parts a tech has already started on
+     */
+    private static int countParts(List<Unit> units, boolean onlyNotBeingWorkedOn) {
+        int count = 0;
+        for (Unit unit : units) {
+            for (IPartWork partWork : unit.getPartsNeedingService(onlyNotBeingWorkedOn)) {
+                if (!onlyNotBeingWorkedOn || !partWork.isBeingWorkedOn()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countTechMinutes(Campaign campaign) {
+        int minutes = 0;
+        for (Person tech : campaign.getTechs()) {
+            minutes += tech.getMinutesLeft();
+        }
+        return minutes;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import mekhq.campaign.finances.CurrencyManager;
+import mekhq.campaign.finances.Money;
+import mekhq.campaign.finances.MoneyAccumulator;
+
+/**
+ * Standalone tool that compares the ways a large number of {@link Money} values can be summed: chaining
+ * {@link Money#plus(Money)}, collecting into a list for {@link Money#plus(List)} as {@code Finances} used to, and
+ * adding into a {@link MoneyAccumulator}.
+ *
+ * <p>The amounts are a mix of whole C-bill values and values with fractions, similar to transaction amounts and part
+ * prices after quality multipliers. Each approach is warmed up first and then timed; the bytes allocated per sum are
+ * reported alongside when the JVM can measure them.</p>
+ *
+ * <p>Run it through the Gradle {@code benchmarkMoneyAccumulator} task:</p>
+ * <pre>{@code ./gradlew benchmarkMoneyAccumulator --args="20000 200"}</pre>
+ */
+public class MoneyAccumulatorBenchmark {
+    private static final int DEFAULT_VALUES = 10_000;
+    private static final int DEFAULT_ITERATIONS = 100;
+
+    /**
+     * @param args an optional number of values to sum, followed by an optional number of timed iterations
+     */
+    public static void main(String[] args) throws Exception {
+        int valueCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_VALUES;
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+
+        CurrencyManager.getInstance().loadCurrencies();
+        List<Money> values = createValues(valueCount);
+
+        System.out.printf(Locale.ROOT, "Summing %d values, %d iterations%n", valueCount, iterations);
+        System.out.printf(Locale.ROOT, "%-20s %14s %16s %24s%n", "Method", "Mean (us)", "Alloc/sum (KiB)",
+              "Result");
+        run("Money.plus chain", values, iterations, MoneyAccumulatorBenchmark::sumByChaining);
+        run("Money.plus(List)", values, iterations, MoneyAccumulatorBenchmark::sumByList);
+        run("MoneyAccumulator", values, iterations, MoneyAccumulatorBenchmark::sumByAccumulator);
+        System.exit(0);
+    }
+
+    private static List<Money> createValues(int count) {
+        Random random = new Random(42);
+        List<Money> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double amount = random.nextInt(2_000_000) - 500_000;
+            if ((i % 4) == 0) {
+                // Part prices run through quality and resale multipliers end up with fractions
+                amount *= 0.9;
+            }
+            values.add(Money.of(amount));
+        }
+        return values;
+    }
+
+    private static Money sumByChaining(List<Money> values) {
+        Money total = Money.zero();
+        for (Money value : values) {
+            total = total.plus(value);
+        }
+        return total;
+    }
+
+    private static Money sumByList(List<Money> values) {
+        return Money.zero().plus(values.stream().map(Function.identity()).collect(Collectors.toList()));
+    }
+
+    private static Money sumByAccumulator(List<Money> values) {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (Money value : values) {
+            total.add(value);
+        }
+        return total.toMoney();
+    }
+
+    private static void run(String name, List<Money> values, int iterations, Function<List<Money>, Money> summer) {
+        Money result = null;
+        for (int i = 0; i < Math.max(10, iterations / 5); i++) {
+            result = summer.apply(values);
+        }
+
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            result = summer.apply(values);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = getAllocatedBytes() - allocatedBefore;
+
+        System.out.printf(Locale.ROOT, "%-20s %14.1f %16s %24s%n", name, elapsed / 1e3 / iterations,
+              (allocatedBefore < 0) ? "n/a" : String.format(Locale.ROOT, "%.1f", allocated / 1024.0 / iterations),
+              result.toAmountString());
+    }
+
+    /**
+     * @return the bytes allocated so far by the current thread, or {@code -1} if the JVM cannot report it
+     */
+    private static long getAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean) {
+            return threadBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
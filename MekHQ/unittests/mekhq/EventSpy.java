@@ -40,6 +40,7 @@ import java.util.function.Predicate;
 import megamek.common.annotations.Nullable;
 import megamek.common.event.MMEvent;
 import megamek.common.event.Subscribe;
+import mekhq.campaign.events.DaysAdvancedEvent;
 import mekhq.campaign.events.parts.PartArrivedEvent;
 import mekhq.campaign.events.parts.PartChangedEvent;
 import mekhq.campaign.events.parts.PartNewEvent;
@@ -136,4 +137,9 @@ public class EventSpy implements AutoCloseable {
     public void handle(PersonStatusChangedEvent e) {
         record(e);
     }
+
+    @Subscribe
+    public void handle(DaysAdvancedEvent e) {
+        record(e);
+    }
 }
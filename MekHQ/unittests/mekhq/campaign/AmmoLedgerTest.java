@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static mekhq.campaign.parts.AmmoUtilities.getAmmoType;
+import static mekhq.campaign.parts.AmmoUtilities.getInfantryWeapon;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import megamek.common.equipment.AmmoType;
+import megamek.common.equipment.EquipmentTypeLookup;
+import mekhq.campaign.campaignOptions.CampaignOptions;
+import mekhq.campaign.finances.Finances;
+import mekhq.campaign.finances.Money;
+import mekhq.campaign.parts.AmmoStorage;
+import mekhq.campaign.parts.InfantryAmmoStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AmmoLedgerTest {
+    private Campaign mockCampaign;
+    private CampaignOptions mockCampaignOptions;
+    private Warehouse warehouse;
+    private Quartermaster quartermaster;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockCampaign = mock(Campaign.class);
+        mockCampaignOptions = mock(CampaignOptions.class);
+        when(mockCampaign.getCampaignOptions()).thenReturn(mockCampaignOptions);
+        when(mockCampaign.getFinances()).thenReturn(mock(Finances.class));
+
+        warehouse = new Warehouse();
+        when(mockCampaign.getWarehouse()).thenReturn(warehouse);
+
+        quartermaster = new Quartermaster(mockCampaign);
+        when(mockCampaign.getQuartermaster()).thenReturn(quartermaster);
+    }
+
+    private void assertLedgerConsistent() {
+        assertEquals(List.of(), warehouse.getAmmoLedger().checkConsistency(warehouse.getParts()));
+    }
+
+    @Test
+    public void ledgerFollowsAddedAndRemovedAmmo() {
+        when(mockCampaignOptions.isUseAmmoByType()).thenReturn(true);
+
+        AmmoType ammoType = getAmmoType("ISSRM4 Inferno Ammo");
+        AmmoType compatibleAmmoType = getAmmoType("ISSRM2 Inferno Ammo");
+        AmmoType incompatibleAmmoType = getAmmoType("ISLRM5 Ammo");
+
+        quartermaster.addAmmo(ammoType, ammoType.getShots());
+        quartermaster.addAmmo(compatibleAmmoType, compatibleAmmoType.getShots() * 10);
+        quartermaster.addAmmo(incompatibleAmmoType, incompatibleAmmoType.getShots());
+        assertLedgerConsistent();
+
+        int shotsAvailable = quartermaster.getAmmoAvailable(ammoType);
+        int shotsNeeded = 2 * ammoType.getShots();
+        int shotsRemoved = quartermaster.removeAmmo(ammoType, shotsNeeded);
+
+        assertEquals(shotsNeeded, shotsRemoved);
+        assertEquals(shotsAvailable - shotsRemoved, quartermaster.getAmmoAvailable(ammoType));
+        assertEquals(incompatibleAmmoType.getShots(), quartermaster.getAmmoAvailable(incompatibleAmmoType));
+        assertLedgerConsistent();
+
+        // Draining everything removes the parts from the ledger as well as the warehouse
+        quartermaster.removeAmmo(ammoType, quartermaster.getAmmoAvailable(ammoType));
+        quartermaster.removeAmmo(incompatibleAmmoType, incompatibleAmmoType.getShots());
+        assertEquals(0, quartermaster.getAmmoAvailable(ammoType));
+        assertEquals(0, quartermaster.getAmmoAvailable(compatibleAmmoType));
+        assertEquals(0, quartermaster.getAmmoAvailable(incompatibleAmmoType));
+        assertLedgerConsistent();
+    }
+
+    @Test
+    public void ledgerCountsAmmoOnceItArrives() {
+        AmmoType ammoType = getAmmoType("ISSRM4 Ammo");
+
+        AmmoStorage onHand = new AmmoStorage(0, ammoType, ammoType.getShots(), mockCampaign);
+        warehouse.addPart(onHand);
+
+        AmmoStorage inTransit = new AmmoStorage(0, ammoType, ammoType.getShots(), mockCampaign);
+        inTransit.setDaysToArrival(10);
+        warehouse.addPart(inTransit);
+
+        assertEquals(ammoType.getShots(), quartermaster.getAmmoAvailable(ammoType));
+        assertLedgerConsistent();
+
+        quartermaster.arrivePart(inTransit);
+
+        // The arriving ammo is merged into the ammo already on hand
+        assertEquals(1, warehouse.getParts().size());
+        assertEquals(2 * ammoType.getShots(), quartermaster.getAmmoAvailable(ammoType));
+        assertLedgerConsistent();
+    }
+
+    @Test
+    public void ledgerFollowsSoldAmmo() {
+        AmmoType ammoType = getAmmoType("ISSRM4 Ammo");
+
+        AmmoStorage ammo = spy(new AmmoStorage(0, ammoType, 100, mockCampaign));
+        doReturn(Money.of(100.0)).when(ammo).getActualValue();
+        warehouse.addPart(ammo);
+
+        quartermaster.sellAmmo(ammo, 40);
+        assertEquals(60, quartermaster.getAmmoAvailable(ammoType));
+        assertLedgerConsistent();
+
+        quartermaster.sellAmmo(ammo);
+        assertEquals(0, quartermaster.getAmmoAvailable(ammoType));
+        assertTrue(warehouse.getParts().isEmpty());
+        assertLedgerConsistent();
+    }
+
+    @Test
+    public void ledgerDoesNotTreatInfantryAmmoAsCompatible() {
+        when(mockCampaignOptions.isUseAmmoByType()).thenReturn(true);
+
+        AmmoType ammoType = getAmmoType("ISSRM4 Inferno Ammo");
+        AmmoType compatibleAmmoType = getAmmoType("ISSRM2 Inferno Ammo");
+
+        AmmoStorage infantryAmmo = new InfantryAmmoStorage(0, compatibleAmmoType, 100,
+              getInfantryWeapon(EquipmentTypeLookup.INFANTRY_ASSAULT_RIFLE), mockCampaign);
+        warehouse.addPart(infantryAmmo);
+        AmmoStorage ammo = new AmmoStorage(0, ammoType, ammoType.getShots(), mockCampaign);
+        warehouse.addPart(ammo);
+
+        assertEquals(ammoType.getShots(), quartermaster.getAmmoAvailable(ammoType));
+        assertLedgerConsistent();
+    }
+
+    @Test
+    public void reindexRebuildsLedger() {
+        AmmoType ammoType = getAmmoType("ISSRM4 Ammo");
+
+        AmmoStorage ammo = new AmmoStorage(0, ammoType, ammoType.getShots(), mockCampaign);
+        warehouse.addPart(ammo);
+
+        warehouse.reindexParts();
+
+        assertSame(ammo, warehouse.getAmmoLedger().findSameAmmo(ammoType));
+        assertLedgerConsistent();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static mekhq.campaign.enums.DailyReportType.GENERAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.event.Subscribe;
+import mekhq.EventSpy;
+import mekhq.MekHQ;
+import mekhq.campaign.events.DayEndingEvent;
+import mekhq.campaign.events.DaysAdvancedEvent;
+import mekhq.campaign.personnel.ranks.Ranks;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import testUtilities.MHQTestUtilities;
+
+public class CampaignDayAdvancerTest {
+    @BeforeAll
+    public static void setupAll() {
+        EquipmentType.initializeTypes();
+        Ranks.initializeRankSystems();
+    }
+
+    @Test
+    public void testAdvancesEveryRequestedDay() {
+        Campaign campaign = MHQTestUtilities.getTestCampaign();
+        List<Boolean> continuingFlags = new ArrayList<>();
+        CampaignDayAdvancer advancer = new CampaignDayAdvancer(campaign, isContinuingBatch -> {
+            assertTrue(campaign.isBatchingReports());
+            continuingFlags.add(isContinuingBatch);
+            return true;
+        });
+
+        try (EventSpy eventSpy = new EventSpy()) {
+            assertEquals(3, advancer.advanceDays(3));
+
+            assertEquals(List.of(false, true, true), continuingFlags);
+            assertFalse(campaign.isBatchingReports());
+            DaysAdvancedEvent event = eventSpy.findEvent(DaysAdvancedEvent.class, e -> e.getCampaign() == campaign);
+            assertNotNull(event);
+            assertEquals(3, event.getDays());
+        }
+    }
+
+    @Test
+    public void testStopsWhenADayIsPrevented() {
+        Campaign campaign = MHQTestUtilities.getTestCampaign();
+        int[] steps = { 0 };
+        CampaignDayAdvancer advancer = new CampaignDayAdvancer(campaign, isContinuingBatch -> ++steps[0] < 3);
+
+        try (EventSpy eventSpy = new EventSpy()) {
+            assertEquals(2, advancer.advanceDays(5));
+
+            assertEquals(3, steps[0]);
+            assertFalse(campaign.isBatchingReports());
+            DaysAdvancedEvent event = eventSpy.findEvent(DaysAdvancedEvent.class, e -> e.getCampaign() == campaign);
+            assertNotNull(event);
+            assertEquals(2, event.getDays());
+        }
+    }
+
+    @Test
+    public void testEndsBatchWhenADayFails() {
+        Campaign campaign = MHQTestUtilities.getTestCampaign();
+        CampaignDayAdvancer advancer = new CampaignDayAdvancer(campaign, isContinuingBatch -> {
+            throw new IllegalStateException("day failed");
+        });
+
+        assertThrows(IllegalStateException.class, () -> advancer.advanceDays(2));
+        assertFalse(campaign.isBatchingReports());
+    }
+
+    @Test
+    public void testDayRequiringADecisionStopsTheBatch() {
+        Campaign campaign = MHQTestUtilities.getTestCampaign();
+        LocalDate today = campaign.getLocalDate();
+        Object decisionRequired = new Object() {
+            @Subscribe
+            public void handle(DayEndingEvent event) {
+                event.cancel();
+            }
+        };
+
+        MekHQ.registerHandler(decisionRequired);
+        try (EventSpy eventSpy = new EventSpy()) {
+            assertEquals(0, new CampaignDayAdvancer(campaign, NewDayListener.HEADLESS).advanceDays(3));
+
+            assertEquals(today, campaign.getLocalDate());
+            DaysAdvancedEvent event = eventSpy.findEvent(DaysAdvancedEvent.class, e -> e.getCampaign() == campaign);
+            assertNotNull(event);
+            assertEquals(0, event.getDays());
+        } finally {
+            MekHQ.unregisterHandler(decisionRequired);
+        }
+    }
+
+    @Test
+    public void testReportsAccumulateAcrossTheBatch() {
+        Campaign campaign = MHQTestUtilities.getTestCampaign();
+        int[] day = { 0 };
+        CampaignDayAdvancer advancer = new CampaignDayAdvancer(campaign, isContinuingBatch -> {
+            campaign.addReport(GENERAL, "Report for day " + (++day[0]));
+            return true;
+        });
+
+        advancer.advanceDays(2);
+
+        List<String> reports = campaign.getCurrentReport();
+        assertTrue(reports.contains("Report for day 1"));
+        assertTrue(reports.contains("Report for day 2"));
+        String html = campaign.getCurrentReportHTML();
+        assertTrue(html.contains("Report for day 1"));
+        assertTrue(html.contains("Report for day 2"));
+    }
+}
@@ -33,9 +33,11 @@
 package mekhq.campaign;
 
 
+import static mekhq.campaign.enums.DailyReportType.GENERAL;
 import static mekhq.campaign.unit.enums.TransporterType.ASF_BAY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -303,6 +305,31 @@ public class CampaignTest {
 
     }
 
+    @Test
+    void testReportBatchBuildsSameHtmlOnceBatchEnds() {
+        Campaign unbatched = MHQTestUtilities.getTestCampaign();
+        Campaign batched = MHQTestUtilities.getTestCampaign();
+        List<String> reports = List.of("<b>First day</b>", "Report one", "<b>Second day</b>", "Report two");
+
+        for (String report : reports) {
+            unbatched.addReport(GENERAL, report);
+        }
+
+        batched.beginReportBatch();
+        assertTrue(batched.isBatchingReports());
+        for (String report : reports) {
+            batched.addReport(GENERAL, report);
+        }
+        // The HTML is only built once the batch ends
+        assertEquals("", batched.getCurrentReportHTML());
+        assertTrue(batched.fetchAndClearNewReports().isEmpty());
+
+        batched.endReportBatch();
+        assertFalse(batched.isBatchingReports());
+        assertEquals(unbatched.getCurrentReportHTML(), batched.getCurrentReportHTML());
+        assertEquals(unbatched.getCurrentReport(), batched.getCurrentReport());
+    }
+
     private static Person[] invokeFindTopCommanders(Campaign campaign) throws Exception {
         Method findTopCommanders = Campaign.class.getDeclaredMethod("findTopCommanders");
         findTopCommanders.setAccessible(true);
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mekhq.campaign.JumpPathPlanner.JumpFilter;
+import mekhq.campaign.universe.JumpGraph;
+import mekhq.campaign.universe.PlanetarySystem;
+import org.junit.jupiter.api.Test;
+
+public class JumpPathPlannerTest {
+
+    private PlanetarySystem createSystem(final String id, final double x, final double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        when(system.getDistanceTo(any(PlanetarySystem.class))).thenAnswer(invocation -> {
+            PlanetarySystem other = invocation.getArgument(0);
+            return Math.hypot(x - other.getX(), y - other.getY());
+        });
+        return system;
+    }
+
+    private List<PlanetarySystem> createLine() {
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int i = 0; i <= 6; i++) {
+            systems.add(createSystem("S" + i, i * 10.0, 0.0));
+        }
+        return systems;
+    }
+
+    private List<String> ids(JumpPath path) {
+        return path.getSystems().stream().map(PlanetarySystem::getId).toList();
+    }
+
+    @Test
+    public void testGraphConnectsSystemsWithinJumpRange() {
+        List<PlanetarySystem> systems = createLine();
+        JumpGraph graph = JumpGraph.build(systems);
+
+        int start = graph.indexOf("S0");
+        List<String> neighbours = new ArrayList<>();
+        for (int edge = graph.getEdgeStart(start); edge < graph.getEdgeEnd(start); edge++) {
+            neighbours.add(graph.getSystem(graph.getEdgeTarget(edge)).getId());
+        }
+        neighbours.sort(String::compareTo);
+
+        assertEquals(List.of("S1", "S2", "S3"), neighbours);
+        assertEquals(-1, graph.indexOf("missing"));
+    }
+
+    @Test
+    public void testFindPathUsesFewestJumps() {
+        List<PlanetarySystem> systems = createLine();
+        JumpPathPlanner planner = new JumpPathPlanner(JumpGraph.build(systems));
+
+        JumpPath path = planner.findPath(systems.get(0), systems.get(6), system -> 1.0, JumpFilter.any());
+
+        assertEquals(List.of("S0", "S3", "S6"), ids(path));
+    }
+
+    @Test
+    public void testFindPathRespectsFilter() {
+        List<PlanetarySystem> systems = createLine();
+        JumpPathPlanner planner = new JumpPathPlanner(JumpGraph.build(systems));
+
+        JumpFilter avoidS3 = (graph, from, to) -> !graph.getSystem(to).getId().equals("S3");
+        JumpPath path = planner.findPath(systems.get(0), systems.get(6), system -> 1.0, avoidS3);
+
+        assertEquals(List.of("S0", "S2", "S5", "S6"), ids(path));
+    }
+
+    @Test
+    public void testUnreachableDestinationReturnsPartialPath() {
+        List<PlanetarySystem> systems = createLine();
+        PlanetarySystem isolated = createSystem("Isolated", 500.0, 500.0);
+        systems.add(isolated);
+        JumpPathPlanner planner = new JumpPathPlanner(JumpGraph.build(systems));
+
+        JumpPath path = planner.findPath(systems.get(0), isolated, system -> 1.0, JumpFilter.any());
+
+        assertEquals("S0", path.getFirstSystem().getId());
+        assertFalse(path.getSystems().contains(isolated));
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import megamek.common.equipment.EquipmentType;
+import mekhq.campaign.campaignOptions.CampaignOptions;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.ranks.Ranks;
+import mekhq.campaign.personnel.skills.SkillType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import testUtilities.MHQTestUtilities;
+
+class PersonnelDayEvaluatorTest {
+    private static final LocalDate FIRST_OF_MONTH = LocalDate.of(3151, 6, 1);
+
+    private Campaign campaign;
+
+    @BeforeAll
+    static void setupAll() {
+        EquipmentType.initializeTypes();
+        Ranks.initializeRankSystems();
+    }
+
+    @BeforeEach
+    void setup() {
+        campaign = MHQTestUtilities.getTestCampaign();
+        campaign.setLocalDate(FIRST_OF_MONTH);
+    }
+
+    private List<Person> createPersonnel(int count) {
+        List<Person> personnel = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person person = new Person(campaign);
+            person.setDateOfBirth(FIRST_OF_MONTH.minusYears(25).plusDays(i + 1));
+            personnel.add(person);
+        }
+        return personnel;
+    }
+
+    @Test
+    void testEvaluateAllMatchesSerialEvaluation() {
+        List<Person> personnel = createPersonnel(PersonnelDayEvaluator.PARALLEL_THRESHOLD * 4);
+
+        List<PersonnelDayEvaluator.Evaluation> parallel = new PersonnelDayEvaluator(campaign).evaluateAll(personnel);
+
+        PersonnelDayEvaluator serialEvaluator = new PersonnelDayEvaluator(campaign);
+        assertEquals(personnel.size(), parallel.size());
+        for (int i = 0; i < personnel.size(); i++) {
+            PersonnelDayEvaluator.Evaluation expected = serialEvaluator.evaluate(personnel.get(i));
+            PersonnelDayEvaluator.Evaluation actual = parallel.get(i);
+
+            assertEquals(personnel.get(i), actual.person());
+            assertEquals(expected.age(), actual.age());
+            assertEquals(expected.vocationalXpRoll(), actual.vocationalXpRoll());
+            assertEquals(expected.fatigueRecovery(), actual.fatigueRecovery());
+            assertEquals(expected.academy(), actual.academy());
+        }
+    }
+
+    @Test
+    void testMonthlyRollsOnlyOnFirstOfMonth() {
+        Person person = createPersonnel(1).get(0);
+
+        int roll = new PersonnelDayEvaluator(campaign).evaluate(person).vocationalXpRoll();
+        assertTrue(roll >= 2 && roll <= 12);
+
+        campaign.setLocalDate(FIRST_OF_MONTH.plusDays(1));
+        assertEquals(0, new PersonnelDayEvaluator(campaign).evaluate(person).vocationalXpRoll());
+    }
+
+    @Test
+    void testBirthdayIsAnnounced() {
+        CampaignOptions campaignOptions = campaign.getCampaignOptions();
+        campaignOptions.setAnnounceBirthdays(true);
+        campaignOptions.setAnnounceOfficersOnly(false);
+        campaignOptions.setAnnounceRecruitmentAnniversaries(false);
+
+        Person person = new Person(campaign);
+        person.setDateOfBirth(FIRST_OF_MONTH.minusYears(30));
+
+        PersonnelDayEvaluator.Evaluation evaluation = new PersonnelDayEvaluator(campaign).evaluate(person);
+
+        assertTrue(evaluation.isBirthday());
+        assertEquals(30, evaluation.age());
+        assertEquals(1, evaluation.anniversaryReports().size());
+    }
+
+    @Test
+    void testNoAnnouncementsWhenNotBirthday() {
+        campaign.getCampaignOptions().setAnnounceRecruitmentAnniversaries(false);
+
+        Person person = new Person(campaign);
+        person.setDateOfBirth(FIRST_OF_MONTH.minusYears(30).plusDays(3));
+
+        PersonnelDayEvaluator.Evaluation evaluation = new PersonnelDayEvaluator(campaign).evaluate(person);
+
+        assertFalse(evaluation.isBirthday());
+        assertTrue(evaluation.anniversaryReports().isEmpty());
+    }
+
+    @Test
+    void testAutoAwardReadsExperienceLevelAfterTheDaysChanges() {
+        Person person = createPersonnel(1).get(0);
+        person.setPrimaryRoleDirect(PersonnelRole.DOCTOR);
+
+        PersonnelDayEvaluator evaluator = new PersonnelDayEvaluator(campaign);
+        evaluator.evaluateAll(List.of(person));
+        assertEquals(0, evaluator.rollAutoAwardSupportPoints(person));
+
+        // A change made earlier in the day, after evaluation, must be seen by the award, as in the serial loop
+        person.addSkill(SkillType.S_SURGERY, 7, 0);
+        int experienceLevel = person.getExperienceLevel(campaign, false);
+        assertTrue(experienceLevel > 0);
+
+        // The serial loop rolled one die per experience level, with a full multiplier for a support role alone
+        Random random = evaluator.createRandom(person, PersonnelDayEvaluator.AUTO_AWARD_STREAM);
+        int expected = 0;
+        for (int i = 0; i < experienceLevel; i++) {
+            expected += random.nextInt(6) + 1;
+        }
+
+        assertEquals(expected, evaluator.rollAutoAwardSupportPoints(person));
+    }
+
+    @Test
+    void testFatigueRecoveryOnlyOnMonday() {
+        Person person = createPersonnel(1).get(0);
+        LocalDate monday = FIRST_OF_MONTH.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+
+        campaign.setLocalDate(monday);
+        assertTrue(new PersonnelDayEvaluator(campaign).evaluate(person).fatigueRecovery() > 0);
+
+        campaign.setLocalDate(monday.plusDays(1));
+        assertEquals(0, new PersonnelDayEvaluator(campaign).evaluate(person).fatigueRecovery());
+    }
+
+    @Test
+    void testNoAcademyForNonStudents() {
+        Person person = createPersonnel(1).get(0);
+
+        assertNull(new PersonnelDayEvaluator(campaign).evaluate(person).academy());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static mekhq.campaign.Campaign.REPORT_LINEBREAK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ReportHtmlBuilderTest {
+    @Test
+    public void testAppendedReportsAreJoinedWithLineBreaks() {
+        ReportHtmlBuilder builder = new ReportHtmlBuilder();
+        assertTrue(builder.isEmpty());
+
+        builder.append("First");
+        assertFalse(builder.isEmpty());
+        assertEquals("First", builder.toHtml());
+
+        builder.append("Second");
+        builder.append("Third");
+        assertEquals("First" + REPORT_LINEBREAK + "Second" + REPORT_LINEBREAK + "Third", builder.toHtml());
+    }
+
+    @Test
+    public void testEmptyReportsAddNoLineBreak() {
+        ReportHtmlBuilder builder = new ReportHtmlBuilder();
+        builder.append("");
+        assertTrue(builder.isEmpty());
+
+        builder.append("First");
+        assertEquals("First", builder.toHtml());
+    }
+
+    @Test
+    public void testReplaceAndSet() {
+        ReportHtmlBuilder builder = new ReportHtmlBuilder();
+        builder.append("Old");
+
+        builder.replaceWith(List.of("New", "Reports"));
+        assertEquals("New" + REPORT_LINEBREAK + "Reports", builder.toHtml());
+
+        builder.set("");
+        assertTrue(builder.isEmpty());
+        assertEquals("", builder.toHtml());
+
+        builder.set("<b>Set</b>");
+        builder.append("Appended");
+        assertEquals("<b>Set</b>" + REPORT_LINEBREAK + "Appended", builder.toHtml());
+    }
+}
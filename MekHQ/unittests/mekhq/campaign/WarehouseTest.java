@@ -1015,6 +1015,58 @@ public class WarehouseTest {
         assertTrue(sparePart.isSpare());
     }
 
+    @Test
+    public void testCheckForExistingSparePartOnlyMatchesSameAmmoType() {
+        Campaign mockCampaign = mock(Campaign.class);
+        Warehouse warehouse = new Warehouse();
+
+        AmmoStorage otherAmmo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC10 Ammo"), 10);
+        warehouse.addPart(otherAmmo);
+        AmmoStorage firstAmmo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 20);
+        warehouse.addPart(firstAmmo);
+        AmmoStorage secondAmmo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 20);
+        warehouse.addPart(secondAmmo);
+
+        AmmoStorage newAmmo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 20);
+
+        // The lowest ID match is returned, as when every part was scanned
+        assertEquals(firstAmmo, warehouse.checkForExistingSparePart(newAmmo));
+
+        warehouse.removePart(firstAmmo);
+        assertEquals(secondAmmo, warehouse.checkForExistingSparePart(newAmmo));
+
+        warehouse.removePart(secondAmmo);
+        assertNull(warehouse.checkForExistingSparePart(newAmmo));
+    }
+
+    @Test
+    public void testGetSparePartsCount() {
+        Campaign mockCampaign = mock(Campaign.class);
+        Warehouse warehouse = new Warehouse();
+
+        Part firstLocation = spy(new MekLocation());
+        firstLocation.setCampaign(mockCampaign);
+        firstLocation.setQuantity(1);
+        warehouse.addPart(firstLocation);
+
+        Part secondLocation = spy(new MekLocation());
+        secondLocation.setCampaign(mockCampaign);
+        secondLocation.setQuantity(2);
+        warehouse.addPart(secondLocation);
+
+        Part unitLocation = spy(new MekLocation());
+        unitLocation.setCampaign(mockCampaign);
+        unitLocation.setUnit(createMockUnit());
+        warehouse.addPart(unitLocation);
+
+        warehouse.addPart(createMockArmor(mockCampaign, EquipmentType.T_ARMOR_STANDARD, 16));
+
+        assertEquals(3, warehouse.getSparePartsCount(new MekLocation()));
+
+        warehouse.removePart(secondLocation);
+        assertEquals(1, warehouse.getSparePartsCount(new MekLocation()));
+    }
+
     /**
      * Creates a mock part with the given ID.
      *
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.campaignOptions.CampaignOptions;
+import mekhq.campaign.finances.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+
+class FinancesTest {
+    private static final LocalDate START = LocalDate.of(3025, 1, 1);
+    private static final LocalDate NEW_YEAR = LocalDate.of(3026, 1, 1);
+
+    private static Finances createFinances() {
+        Finances finances = new Finances();
+        finances.credit(TransactionType.STARTING_CAPITAL, START, Money.of(10000), "");
+        finances.debit(TransactionType.SALARIES, START.plusDays(20), Money.of(1000), "");
+        finances.credit(TransactionType.CONTRACT_PAYMENT, LocalDate.of(3025, 3, 1), Money.of(3000), "");
+        finances.debit(TransactionType.SALARIES, LocalDate.of(3025, 3, 1), Money.of(1000), "");
+        return finances;
+    }
+
+    private static Campaign mockCampaign(LocalDate date) {
+        Campaign campaign = mock(Campaign.class);
+        CampaignOptions campaignOptions = mock(CampaignOptions.class);
+        when(campaign.getCampaignOptions()).thenReturn(campaignOptions);
+        when(campaign.getLocalDate()).thenReturn(date);
+        return campaign;
+    }
+
+    @Test
+    void testProfitsExcludeStartingCapital() {
+        Finances finances = createFinances();
+
+        assertEquals(Money.of(11000), finances.getBalance());
+        assertEquals(Money.of(1000), finances.getProfits());
+    }
+
+    @Test
+    void testNewFiscalYearArchivesMonthlySummaries() {
+        Finances finances = createFinances();
+
+        finances.newFiscalYear(mockCampaign(NEW_YEAR));
+
+        assertEquals(1, finances.getTransactions().size());
+        assertEquals(Money.of(11000), finances.getBalance());
+        assertEquals(Money.zero(), finances.getProfits());
+
+        List<FinancialPeriodSummary> summaries = List.copyOf(finances.getArchivedPeriods());
+        assertEquals(2, summaries.size());
+        assertEquals(START, summaries.get(0).startDate());
+        assertEquals(2, summaries.get(0).transactionCount());
+        assertEquals(Money.of(9000), summaries.get(0).closingBalance());
+        assertEquals(Money.of(2000), summaries.get(1).getNetChange());
+        assertEquals(Money.of(11000), summaries.get(1).closingBalance());
+    }
+
+    @Test
+    void testArchivedPeriodsRemainQueryable() {
+        Finances finances = createFinances();
+        finances.newFiscalYear(mockCampaign(NEW_YEAR));
+        finances.debit(TransactionType.SALARIES, NEW_YEAR.plusDays(5), Money.of(500), "");
+
+        assertEquals(Money.of(9000), finances.getBalanceAt(LocalDate.of(3025, 2, 10)));
+        assertEquals(Money.of(11000), finances.getBalanceAt(LocalDate.of(3025, 12, 31)));
+        assertEquals(Money.of(10500), finances.getBalanceAt(NEW_YEAR.plusDays(5)));
+        assertEquals(Money.zero(), finances.getBalanceAt(START.minusDays(1)));
+
+        assertEquals(Money.of(-2500),
+              finances.getTransactionTotal(TransactionType.SALARIES, START, NEW_YEAR.plusDays(10)));
+        assertEquals(Money.of(-1000),
+              finances.getTransactionTotal(TransactionType.SALARIES, LocalDate.of(3025, 3, 1),
+                    LocalDate.of(3025, 3, 31)));
+    }
+
+    @Test
+    void testRolloverDayTransactionsSurviveTheNextRollover() {
+        Finances finances = createFinances();
+        // Posted on the rollover day before the ledger is cleared, so it is archived with the closing year
+        finances.credit(TransactionType.MISCELLANEOUS, NEW_YEAR, Money.of(400), "");
+        finances.newFiscalYear(mockCampaign(NEW_YEAR));
+        finances.debit(TransactionType.SALARIES, NEW_YEAR.plusDays(5), Money.of(500), "");
+
+        LocalDate followingYear = NEW_YEAR.plusYears(1);
+        finances.credit(TransactionType.MISCELLANEOUS, followingYear, Money.of(100), "");
+        finances.newFiscalYear(mockCampaign(followingYear));
+
+        List<FinancialPeriodSummary> summaries = List.copyOf(finances.getArchivedPeriods());
+        assertEquals(4, summaries.size());
+        FinancialPeriodSummary january = summaries.get(2);
+        assertEquals(NEW_YEAR, january.startDate());
+        assertEquals(3, january.transactionCount());
+        assertEquals(Money.of(400), january.getTotal(TransactionType.MISCELLANEOUS));
+        assertEquals(Money.of(-500), january.getTotal(TransactionType.SALARIES));
+        assertEquals(Money.of(10900), january.closingBalance());
+
+        assertEquals(Money.of(11000), finances.getBalance());
+        assertEquals(Money.of(10900), finances.getBalanceAt(NEW_YEAR.plusMonths(1)));
+        assertEquals(Money.of(400),
+              finances.getTransactionTotal(TransactionType.MISCELLANEOUS, START, NEW_YEAR.plusMonths(6)));
+        assertEquals(Money.of(500),
+              finances.getTransactionTotal(TransactionType.MISCELLANEOUS, START, followingYear.plusMonths(1)));
+    }
+}
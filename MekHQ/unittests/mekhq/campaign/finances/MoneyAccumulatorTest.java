@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyAccumulatorTest {
+    @Test
+    void testEmptyAccumulatorIsZero() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+
+        assertTrue(accumulator.isZero());
+        assertEquals(Money.zero(), accumulator.toMoney());
+    }
+
+    @Test
+    void testMatchesChainedPlus() {
+        List<Money> values = List.of(Money.of(100), Money.of(-25.5), Money.of(0.01), Money.of(1_234_567.89),
+              Money.of(100).multipliedBy(0.333), Money.zero());
+
+        Money expected = Money.zero();
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        for (Money value : values) {
+            expected = expected.plus(value);
+            accumulator.add(value);
+        }
+
+        assertFalse(accumulator.isZero());
+        assertEquals(expected, accumulator.toMoney());
+        assertEquals(0, new BigDecimal("1234675.70").compareTo(accumulator.toMoney().getAmount()));
+    }
+
+    @Test
+    void testNullIsTreatedAsZero() {
+        MoneyAccumulator accumulator = new MoneyAccumulator().add(Money.of(10)).add(null).add(null, 5);
+
+        assertEquals(Money.of(10), accumulator.toMoney());
+    }
+
+    @Test
+    void testAddWithQuantity() {
+        MoneyAccumulator accumulator = new MoneyAccumulator().add(Money.of(12.5), 4)
+                                             .add(Money.of(0.1).multipliedBy(0.5), 3);
+
+        assertEquals(Money.of(12.5).multipliedBy(4).plus(Money.of(0.05).multipliedBy(3)), accumulator.toMoney());
+    }
+
+    @Test
+    void testAddDouble() {
+        MoneyAccumulator accumulator = new MoneyAccumulator().add(200000.0).add(0.125);
+
+        assertEquals(Money.zero().plus(200000.0).plus(0.125), accumulator.toMoney());
+    }
+
+    @Test
+    void testOverflowFallsBackToExactArithmetic() {
+        Money huge = new Money(Money.zero().wrapped().withAmount(BigDecimal.valueOf(Long.MAX_VALUE / 100)));
+
+        MoneyAccumulator accumulator = new MoneyAccumulator().add(huge)
+                                             .add(huge)
+                                             .add(huge, 3)
+                                             .add(huge.multipliedBy(-1));
+
+        assertEquals(huge.multipliedBy(4), accumulator.toMoney());
+    }
+
+    @Test
+    void testAddAccumulator() {
+        MoneyAccumulator first = new MoneyAccumulator().add(Money.of(10)).add(Money.of(1).multipliedBy(0.001));
+        MoneyAccumulator second = new MoneyAccumulator().add(Money.of(5));
+
+        second.add(first);
+
+        assertEquals(Money.of(15.001), second.toMoney());
+    }
+
+    @Test
+    void testClear() {
+        MoneyAccumulator accumulator = new MoneyAccumulator().add(Money.of(10)).add(Money.of(1).multipliedBy(0.001));
+
+        accumulator.clear();
+
+        assertTrue(accumulator.isZero());
+        assertEquals(Money.zero(), accumulator.toMoney());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import mekhq.campaign.finances.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+
+class TransactionLedgerTest {
+    private static final LocalDate JANUARY_1 = LocalDate.of(3025, 1, 1);
+    private static final LocalDate JANUARY_15 = LocalDate.of(3025, 1, 15);
+    private static final LocalDate FEBRUARY_1 = LocalDate.of(3025, 2, 1);
+    private static final LocalDate MARCH_1 = LocalDate.of(3025, 3, 1);
+
+    private static Transaction transaction(TransactionType type, LocalDate date, double amount) {
+        return new Transaction(type, date, Money.of(amount), "");
+    }
+
+    private static TransactionLedger createLedger() {
+        TransactionLedger ledger = new TransactionLedger();
+        ledger.addTransaction(transaction(TransactionType.STARTING_CAPITAL, JANUARY_1, 1000));
+        ledger.addTransaction(transaction(TransactionType.SALARIES, JANUARY_15, -200));
+        ledger.addTransaction(transaction(TransactionType.CONTRACT_PAYMENT, FEBRUARY_1, 500));
+        ledger.addTransaction(transaction(TransactionType.SALARIES, FEBRUARY_1, -200));
+        ledger.addTransaction(transaction(TransactionType.SALARIES, MARCH_1, -250));
+        return ledger;
+    }
+
+    @Test
+    void testEmptyLedger() {
+        TransactionLedger ledger = new TransactionLedger();
+
+        assertEquals(Money.zero(), ledger.getBalance());
+        assertEquals(Money.zero(), ledger.getBalanceAt(MARCH_1));
+        assertEquals(Money.zero(), ledger.getTotal(TransactionType.SALARIES));
+        assertNull(ledger.getEarliestDate());
+    }
+
+    @Test
+    void testRunningBalances() {
+        TransactionLedger ledger = createLedger();
+
+        assertEquals(Money.of(850), ledger.getBalance());
+        assertEquals(Money.of(1000), ledger.getRunningBalance(0));
+        assertEquals(Money.of(800), ledger.getRunningBalance(1));
+        assertEquals(Money.of(1100), ledger.getRunningBalance(3));
+    }
+
+    @Test
+    void testBalanceAtDate() {
+        TransactionLedger ledger = createLedger();
+
+        assertEquals(Money.zero(), ledger.getBalanceAt(JANUARY_1.minusDays(1)));
+        assertEquals(Money.of(1000), ledger.getBalanceAt(JANUARY_1));
+        assertEquals(Money.of(800), ledger.getBalanceAt(JANUARY_15.plusDays(3)));
+        assertEquals(Money.of(1100), ledger.getBalanceAt(FEBRUARY_1));
+        assertEquals(Money.of(850), ledger.getBalanceAt(MARCH_1.plusYears(1)));
+    }
+
+    @Test
+    void testTotalsForPeriod() {
+        TransactionLedger ledger = createLedger();
+
+        assertEquals(Money.of(-650), ledger.getTotal(TransactionType.SALARIES));
+        assertEquals(Money.of(-400), ledger.getTotal(TransactionType.SALARIES, JANUARY_15, FEBRUARY_1));
+        assertEquals(Money.of(-450), ledger.getTotal(TransactionType.SALARIES, FEBRUARY_1, MARCH_1));
+        assertEquals(Money.of(-150), ledger.getTotal(JANUARY_15, MARCH_1));
+        assertEquals(Money.zero(), ledger.getTotal(TransactionType.TAXES, JANUARY_1, MARCH_1));
+        assertEquals(3, ledger.getTransactionCount(JANUARY_15, FEBRUARY_1));
+
+        Map<TransactionType, Money> totals = ledger.getTotalsByType(FEBRUARY_1, FEBRUARY_1.plusMonths(1).minusDays(1));
+        assertEquals(2, totals.size());
+        assertEquals(Money.of(500), totals.get(TransactionType.CONTRACT_PAYMENT));
+        assertEquals(Money.of(-200), totals.get(TransactionType.SALARIES));
+    }
+
+    @Test
+    void testOutOfOrderTransactionIsIndexedByDate() {
+        TransactionLedger ledger = createLedger();
+        ledger.addTransaction(transaction(TransactionType.FINE, JANUARY_15, -50));
+
+        // The running balance follows the order the transactions were recorded in...
+        assertEquals(Money.of(800), ledger.getBalance());
+        // ...while date queries see the fine on the date it happened
+        assertEquals(Money.of(750), ledger.getBalanceAt(JANUARY_15));
+        assertEquals(Money.of(-50), ledger.getTotal(TransactionType.FINE, JANUARY_1, JANUARY_15));
+        assertEquals(JANUARY_1, ledger.getEarliestDate());
+        assertEquals(MARCH_1, ledger.getLatestDate());
+    }
+
+    @Test
+    void testDirectChangesToTheTransactionList() {
+        TransactionLedger ledger = createLedger();
+        assertEquals(Money.of(850), ledger.getBalance());
+
+        ledger.getTransactions().add(transaction(TransactionType.MISCELLANEOUS, MARCH_1, 10));
+        assertEquals(Money.of(860), ledger.getBalance());
+
+        ledger.getTransactions().remove(0);
+        assertEquals(Money.of(-140), ledger.getBalance());
+
+        ledger.getTransactions().get(0).setAmount(Money.of(-100));
+        ledger.invalidate();
+        assertEquals(Money.of(-40), ledger.getBalance());
+        assertEquals(Money.of(-550), ledger.getTotal(TransactionType.SALARIES));
+    }
+}
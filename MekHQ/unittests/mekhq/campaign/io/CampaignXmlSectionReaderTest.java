@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+class CampaignXmlSectionReaderTest {
+    private static final String CAMPAIGN = """
+          <?xml version="1.0" encoding="UTF-8"?>
+          <campaign version="0.50.11">
+              <info>
+                  <name>Test &amp; Co.</name>
+              </info>
+              <!-- a comment between sections -->
+              <units>
+                  <unit id="1" type="Mek"><entity chassis="Atlas"/></unit>
+                  <unit id="2" type="Tank"><![CDATA[raw <text>]]></unit>
+              </units>
+              <custom><name>Custom</name></custom>
+          </campaign>
+          """;
+
+    private static CampaignXmlSectionReader reader(String xml) {
+        return new CampaignXmlSectionReader(new ByteArrayInputStream(xml.strip().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testReadRootAttribute() throws Exception {
+        CampaignXmlSectionReader reader = reader(CAMPAIGN);
+
+        assertEquals("0.50.11", reader.readRootAttribute("version"));
+        assertEquals("", reader.readRootAttribute("missing"));
+    }
+
+    @Test
+    void testForEachSectionVisitsWantedSectionsInDocumentOrder() throws Exception {
+        List<String> names = new ArrayList<>();
+        reader(CAMPAIGN).forEachSection(name -> !name.equals("units"), section -> names.add(section.getNodeName()));
+
+        assertEquals(List.of("info", "custom"), names);
+    }
+
+    @Test
+    void testLaterPassesReplayTheDocument() throws Exception {
+        List<String> names = new ArrayList<>();
+        try (CampaignXmlSectionReader reader = reader(CAMPAIGN)) {
+            reader.forEachSection("custom"::equals, section -> names.add(section.getNodeName()));
+            reader.forEachSection("info"::equals, section -> names.add(section.getNodeName()));
+            reader.forEachSection(name -> true, section -> names.add(section.getNodeName()));
+
+            assertEquals("0.50.11", reader.readRootAttribute("version"));
+        }
+
+        assertEquals(List.of("custom", "info", "info", "units", "custom"), names);
+    }
+
+    @Test
+    void testClosedReaderRejectsFurtherPasses() throws Exception {
+        CampaignXmlSectionReader reader = reader(CAMPAIGN);
+        reader.forEachSection(name -> true, section -> {
+        });
+        reader.close();
+
+        assertThrows(CampaignXmlParseException.class, () -> reader.forEachSection(name -> true, section -> {
+        }));
+    }
+
+    @Test
+    void testSectionMatchesDomStructure() throws Exception {
+        List<Element> sections = new ArrayList<>();
+        reader(CAMPAIGN).forEachSection("units"::equals, section -> {
+            // Handlers rely on the section being a child of the campaign element
+            assertEquals("campaign", section.getParentNode().getNodeName());
+            sections.add(section);
+        });
+
+        assertEquals(1, sections.size());
+        List<Element> units = new ArrayList<>();
+        NodeList children = sections.get(0).getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            if (children.item(i).getNodeType() == Node.ELEMENT_NODE) {
+                units.add((Element) children.item(i));
+            }
+        }
+
+        assertEquals(2, units.size());
+        assertEquals("1", units.get(0).getAttribute("id"));
+        assertEquals("Atlas", ((Element) units.get(0).getFirstChild()).getAttribute("chassis"));
+        assertEquals("Tank", units.get(1).getAttribute("type"));
+        assertEquals("raw <text>", units.get(1).getTextContent());
+
+        // The fragment is released once the handler returns
+        assertNull(sections.get(0).getParentNode());
+    }
+
+    @Test
+    void testEntitiesAreResolved() throws Exception {
+        List<String> names = new ArrayList<>();
+        reader(CAMPAIGN).forEachSection("info"::equals, section -> names.add(section.getTextContent().strip()));
+
+        assertEquals(List.of("Test & Co."), names);
+    }
+
+    @Test
+    void testHandlerExceptionsPropagate() {
+        CampaignXmlParseException expected = new CampaignXmlParseException("stop");
+        CampaignXmlParseException actual = assertThrows(CampaignXmlParseException.class,
+              () -> reader(CAMPAIGN).forEachSection(name -> true, section -> {
+                  throw expected;
+              }));
+
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void testMalformedDocumentThrows() {
+        assertThrows(CampaignXmlParseException.class,
+              () -> reader("<campaign><info></campaign>").forEachSection(name -> true, section -> {
+              }));
+    }
+
+    @Test
+    void testDoctypeIsRejected() {
+        String xml = """
+              <?xml version="1.0"?>
+              <!DOCTYPE campaign [<!ENTITY boom "boom">]>
+              <campaign version="0.50.11"><info>&boom;</info></campaign>
+              """;
+
+        assertThrows(CampaignXmlParseException.class,
+              () -> reader(xml).forEachSection(name -> true, section -> {
+              }));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import megamek.Version;
+import megamek.common.game.Game;
+import megamek.common.units.Entity;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.unit.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class UnitEntityPreloaderTest {
+    private static final int UNIT_COUNT = UnitEntityPreloader.PARALLEL_THRESHOLD * 3;
+
+    private Document document;
+    private Element unitsElement;
+    private List<Element> unitElements;
+    private Map<String, Entity> entitiesByModel;
+
+    @BeforeEach
+    public void setUp() throws ParserConfigurationException {
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        unitsElement = document.createElement("units");
+        document.appendChild(unitsElement);
+        unitElements = new ArrayList<>();
+        entitiesByModel = new HashMap<>();
+
+        for (int i = 0; i < UNIT_COUNT; i++) {
+            String model = "M" + i;
+            Element unitElement = document.createElement("unit");
+            unitElement.setAttribute("id", UUID.randomUUID().toString());
+            Element entityElement = document.createElement("entity");
+            entityElement.setAttribute("chassis", "Test");
+            entityElement.setAttribute("model", model);
+            unitElement.appendChild(entityElement);
+            unitsElement.appendChild(unitElement);
+            unitElements.add(unitElement);
+
+            Entity entity = mock(Entity.class);
+            when(entity.getExternalIdAsString()).thenReturn("-1");
+            entitiesByModel.put(model, entity);
+        }
+    }
+
+    /**
+     * Looks the entity up by model, finishing the earliest units last so that completion order differs from document
+     * order.
+     */
+    private Entity parse(Element element) throws InterruptedException {
+        String model = element.getAttribute("model");
+        Thread.sleep(UNIT_COUNT - Integer.parseInt(model.substring(1)));
+        return entitiesByModel.get(model);
+    }
+
+    private Element entityElementOf(Element unitElement) {
+        return (Element) unitElement.getElementsByTagName("entity").item(0);
+    }
+
+    @Test
+    public void testParallelParseMatchesSerialParseInDocumentOrder() throws Exception {
+        UnitEntityPreloader preloader = UnitEntityPreloader.preload(unitsElement, null,
+              (element, gameOptions) -> parse(element));
+
+        for (Element unitElement : unitElements) {
+            Entity serial = parse(entityElementOf(unitElement));
+            assertSame(serial, preloader.takeEntity(unitElement));
+        }
+        assertNull(preloader.getMissingUnitList());
+    }
+
+    @Test
+    public void testPreloadedEntityIsBoundLikeTheSerialLoader() {
+        UnitEntityPreloader preloader = UnitEntityPreloader.preload(unitsElement, null,
+              (element, gameOptions) -> parse(element));
+        Element unitElement = unitElements.get(0);
+        Entity entity = preloader.takeEntity(unitElement);
+
+        // Parsing must leave binding to the unit load, which binds to the campaign's game as the serial loader does
+        verify(entity, never()).setGame(any());
+
+        Campaign campaign = mock(Campaign.class);
+        Game game = mock(Game.class);
+        when(campaign.getGame()).thenReturn(game);
+        Unit unit = Unit.generateInstanceFromXML(unitElement, new Version(), campaign, entity);
+
+        assertSame(entity, unit.getEntity());
+        verify(entity).setGame(game);
+    }
+
+    @Test
+    public void testFailedParallelParseIsRetriedSerially() {
+        Thread callingThread = Thread.currentThread();
+        UnitEntityPreloader preloader = UnitEntityPreloader.preload(unitsElement, null, (element, gameOptions) -> {
+            if ((Thread.currentThread() != callingThread) && element.getAttribute("model").equals("M3")) {
+                throw new IllegalStateException("Only fails off the calling thread");
+            }
+            return parse(element);
+        });
+
+        assertSame(entitiesByModel.get("M3"), preloader.takeEntity(unitElements.get(3)));
+    }
+
+    @Test
+    public void testMissingUnitsAreListed() {
+        UnitEntityPreloader preloader = UnitEntityPreloader.preload(unitsElement, null, (element, gameOptions) ->
+              element.getAttribute("model").equals("M5") ? null : parse(element));
+
+        assertEquals("\nTest M5", preloader.getMissingUnitList());
+        assertNull(preloader.takeEntity(unitElements.get(5)));
+    }
+}
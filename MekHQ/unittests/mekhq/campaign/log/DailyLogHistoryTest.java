@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DailyLogHistoryTest {
+    private static final LocalDate START = LocalDate.of(3025, 1, 1);
+
+    @Test
+    public void testEntriesAreReadBackInOrderFromTheRequestedDay(@TempDir Path tempDir) {
+        DailyLogHistory history = new DailyLogHistory(365, tempDir);
+        for (int day = 0; day < 100; day++) {
+            history.add(START.plusDays(day), "");
+            history.add(START.plusDays(day), "Report for day " + day);
+        }
+
+        List<LogEntry> entries = history.getEntriesSince(START.plusDays(95));
+
+        assertEquals(10, entries.size());
+        for (int i = 0; i < entries.size(); i += 2) {
+            int day = 95 + (i / 2);
+            assertEquals(START.plusDays(day), entries.get(i).getDate());
+            assertEquals("", entries.get(i).getDesc());
+            assertEquals("Report for day " + day, entries.get(i + 1).getDesc());
+        }
+    }
+
+    @Test
+    public void testEntriesSurviveUnicode(@TempDir Path tempDir) {
+        DailyLogHistory history = new DailyLogHistory(365, tempDir);
+        history.add(START, "<b>\u00C6rospace</b> \u2605");
+
+        List<LogEntry> entries = history.getEntriesSince(START);
+
+        assertEquals(1, entries.size());
+        assertEquals("<b>\u00C6rospace</b> \u2605", entries.get(0).getDesc());
+    }
+
+    @Test
+    public void testOldSegmentsAreDiscarded(@TempDir Path tempDir) {
+        int maxDays = 60;
+        DailyLogHistory history = new DailyLogHistory(maxDays, tempDir);
+        for (int day = 0; day < 400; day++) {
+            history.add(START.plusDays(day), "Report for day " + day);
+        }
+
+        // Only the segments holding the last maxDays days, plus the one being written, are kept
+        assertTrue(history.getSegmentCount() <= (maxDays / DailyLogHistory.SEGMENT_DAYS) + 2);
+
+        LocalDate today = START.plusDays(399);
+        List<LogEntry> entries = history.getEntriesSince(today.minusDays(maxDays - 1));
+        assertEquals(maxDays, entries.size());
+        assertEquals("Report for day 399", entries.get(entries.size() - 1).getDesc());
+    }
+
+    @Test
+    public void testMovingTheDateBackKeepsEveryEntry(@TempDir Path tempDir) {
+        DailyLogHistory history = new DailyLogHistory(365, tempDir);
+        history.add(START.plusDays(5), "Later");
+        history.add(START.plusDays(2), "Earlier");
+        history.add(START.plusDays(3), "Next");
+
+        List<LogEntry> entries = history.getEntriesSince(START.plusDays(3));
+
+        assertEquals(2, entries.size());
+        assertEquals("Later", entries.get(0).getDesc());
+        assertEquals("Next", entries.get(1).getDesc());
+    }
+
+    @Test
+    public void testClearDiscardsEverything(@TempDir Path tempDir) {
+        DailyLogHistory history = new DailyLogHistory(365, tempDir);
+        history.add(START, "Report");
+
+        history.clear();
+
+        assertEquals(0, history.getSegmentCount());
+        assertTrue(history.getEntriesSince(START).isEmpty());
+    }
+
+    @Test
+    public void testCloseDeletesTheDirectory(@TempDir Path tempDir) {
+        DailyLogHistory history = new DailyLogHistory(365, tempDir);
+        for (int day = 0; day < DailyLogHistory.SEGMENT_DAYS * 2; day++) {
+            history.add(START.plusDays(day), "Report for day " + day);
+        }
+        Path directory = history.getDirectory();
+        assertNotNull(directory);
+        assertTrue(Files.isDirectory(directory));
+
+        history.close();
+
+        assertFalse(Files.exists(directory));
+        assertEquals(0, history.getSegmentCount());
+
+        // Nothing is recorded after closing
+        history.add(START, "After closing");
+        assertTrue(history.getEntriesSince(START).isEmpty());
+        assertFalse(Files.exists(directory));
+    }
+}
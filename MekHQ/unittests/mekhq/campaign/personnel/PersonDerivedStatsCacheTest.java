@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import mekhq.campaign.personnel.PersonDerivedStatsCache.ExperienceLevelKey;
+import mekhq.campaign.personnel.PersonDerivedStatsCache.ModifierDataKey;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.skills.SkillModifierData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PersonDerivedStatsCacheTest {
+    private static final LocalDate TODAY = LocalDate.of(3025, 1, 1);
+    private static final ModifierDataKey MODIFIER_KEY = new ModifierDataKey(true, true, false, TODAY, false);
+    private static final ExperienceLevelKey LEVEL_KEY = new ExperienceLevelKey(PersonnelRole.MEKWARRIOR, false, false,
+          false, false, true, false, TODAY);
+
+    private PersonDerivedStatsCache cache;
+    private AtomicInteger calculations;
+    private Supplier<SkillModifierData> calculator;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PersonDerivedStatsCache();
+        calculations = new AtomicInteger();
+        calculator = () -> {
+            calculations.incrementAndGet();
+            return new SkillModifierData(null, null, 0, new ArrayList<>(), 0);
+        };
+    }
+
+    @Test
+    void testRepeatedLookupsAreCalculatedOnce() {
+        SkillModifierData first = cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+        SkillModifierData second = cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+
+        assertSame(first, second);
+        assertEquals(1, calculations.get());
+    }
+
+    @Test
+    void testDifferentKeysAreCachedSeparately() {
+        ModifierDataKey tomorrow = new ModifierDataKey(true, true, false, TODAY.plusDays(1), false);
+
+        cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+        cache.getSkillModifierData(tomorrow, 0, calculator);
+        cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    void testInvalidateRecalculates() {
+        SkillModifierData first = cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+        cache.invalidate();
+        SkillModifierData second = cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+
+        assertNotSame(first, second);
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    void testOptionsVersionChangeRecalculates() {
+        cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+        cache.getSkillModifierData(MODIFIER_KEY, 1, calculator);
+        cache.getSkillModifierData(MODIFIER_KEY, 1, calculator);
+
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    void testInvalidateAllRecalculatesEveryCache() {
+        PersonDerivedStatsCache other = new PersonDerivedStatsCache();
+        cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+        other.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+
+        PersonDerivedStatsCache.invalidateAll();
+        cache.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+        other.getSkillModifierData(MODIFIER_KEY, 0, calculator);
+
+        assertEquals(4, calculations.get());
+    }
+
+    @Test
+    void testExperienceLevelIsCachedUntilInvalidated() {
+        AtomicInteger level = new AtomicInteger(3);
+
+        assertEquals(3, cache.getExperienceLevel(LEVEL_KEY, 0, level::get));
+        level.set(4);
+        assertEquals(3, cache.getExperienceLevel(LEVEL_KEY, 0, level::get));
+
+        cache.invalidate();
+        assertEquals(4, cache.getExperienceLevel(LEVEL_KEY, 0, level::get));
+    }
+
+    @Test
+    void testAcquireAbilityChangesOptionsVersion() {
+        PersonnelOptions options = new PersonnelOptions();
+        int before = options.getModificationCount();
+
+        options.acquireAbility(PersonnelOptions.LVL3_ADVANTAGES, PersonnelOptions.FLAW_GLASS_JAW, true);
+
+        assertEquals(before + 1, options.getModificationCount());
+    }
+}
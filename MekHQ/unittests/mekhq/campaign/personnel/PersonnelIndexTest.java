@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.enums.PersonnelStatus;
+import mekhq.campaign.randomEvents.prisoners.enums.PrisonerStatus;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.universe.Factions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PersonnelIndexTest {
+    private Campaign mockCampaign;
+    private List<Person> roster;
+    private PersonnelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        mockCampaign = mock(Campaign.class);
+        when(mockCampaign.getFaction()).thenReturn(Factions.getInstance().getDefaultFaction());
+
+        roster = new ArrayList<>();
+        index = new PersonnelIndex(() -> roster);
+    }
+
+    private Person createPerson(PersonnelStatus status, PersonnelRole role) {
+        Person person = new Person(mockCampaign);
+        person.setStatus(status);
+        person.setPrimaryRoleDirect(role);
+        roster.add(person);
+        return person;
+    }
+
+    @Test
+    void testIndexIsBuiltFromRosterInOrder() {
+        Person first = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+        Person second = createPerson(PersonnelStatus.KIA, PersonnelRole.MEKWARRIOR);
+        Person third = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.DOCTOR);
+
+        assertEquals(List.of(first, third), List.copyOf(index.getPersonnelWithStatus(PersonnelStatus.ACTIVE)));
+        assertEquals(List.of(first, second),
+              List.copyOf(index.getPersonnelWithPrimaryRole(PersonnelRole.MEKWARRIOR)));
+        assertEquals(List.of(first, third), List.copyOf(index.getPersonnelNotDeparted()));
+        assertTrue(index.getPersonnelWithStatus(PersonnelStatus.POW).isEmpty());
+    }
+
+    @Test
+    void testUpdateRefilesAndKeepsRosterOrder() {
+        Person first = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+        Person second = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+        Person third = createPerson(PersonnelStatus.MIA, PersonnelRole.MEKWARRIOR);
+        index.getActiveFlexiblePersonnel();
+
+        first.setStatus(PersonnelStatus.MIA);
+        index.update(first);
+        third.setStatus(PersonnelStatus.ACTIVE);
+        index.update(third);
+
+        assertEquals(List.of(second, third), List.copyOf(index.getActiveFlexiblePersonnel()));
+        assertEquals(List.of(first), List.copyOf(index.getPersonnelWithStatus(PersonnelStatus.MIA)));
+    }
+
+    @Test
+    void testAddAndRemove() {
+        Person first = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+        index.getActiveFlexiblePersonnel();
+
+        Person prisoner = new Person(mockCampaign);
+        prisoner.setPrisonerStatusDirect(PrisonerStatus.PRISONER);
+        roster.add(prisoner);
+        index.add(prisoner);
+
+        assertEquals(List.of(prisoner),
+              List.copyOf(index.getPersonnelWithPrisonerStatus(PrisonerStatus.PRISONER)));
+
+        roster.remove(first);
+        index.remove(first);
+
+        assertEquals(List.of(prisoner), List.copyOf(index.getActiveFlexiblePersonnel()));
+    }
+
+    @Test
+    void testInvalidateRebuildsFromRoster() {
+        Person person = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+        index.getActiveFlexiblePersonnel();
+
+        // Someone put on the roster without being added is only seen after the index is invalidated
+        Person unfiled = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.DOCTOR);
+        assertEquals(List.of(person), List.copyOf(index.getActiveFlexiblePersonnel()));
+
+        index.invalidate();
+
+        assertEquals(List.of(person, unfiled), List.copyOf(index.getActiveFlexiblePersonnel()));
+    }
+
+    @Test
+    void testSettersRefileWithoutAnUpdate() {
+        Person person = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+        index.getActiveFlexiblePersonnel();
+
+        person.setStatus(PersonnelStatus.MIA);
+        person.setPrimaryRoleDirect(PersonnelRole.DOCTOR);
+        person.setSecondaryRoleDirect(PersonnelRole.MEKWARRIOR);
+        person.setPrisonerStatusDirect(PrisonerStatus.BONDSMAN);
+
+        Unit unit = mock(Unit.class);
+        when(unit.getId()).thenReturn(UUID.randomUUID());
+        person.setUnit(unit);
+
+        assertTrue(index.getActiveFlexiblePersonnel().isEmpty());
+        assertEquals(List.of(person), List.copyOf(index.getPersonnelWithStatus(PersonnelStatus.MIA)));
+        assertTrue(index.getPersonnelWithPrimaryRole(PersonnelRole.MEKWARRIOR).isEmpty());
+        assertEquals(List.of(person), List.copyOf(index.getPersonnelWithPrimaryRole(PersonnelRole.DOCTOR)));
+        assertEquals(List.of(person), List.copyOf(index.getPersonnelWithSecondaryRole(PersonnelRole.MEKWARRIOR)));
+        assertEquals(List.of(person), List.copyOf(index.getPersonnelWithPrisonerStatus(PrisonerStatus.BONDSMAN)));
+        assertEquals(List.of(person), List.copyOf(index.getPersonnelAssignedTo(unit.getId())));
+
+        person.setUnit(null);
+        assertTrue(index.getPersonnelAssignedTo(unit.getId()).isEmpty());
+    }
+
+    @Test
+    void testRemovedPersonIsNotRefiled() {
+        Person person = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+        index.getActiveFlexiblePersonnel();
+
+        roster.remove(person);
+        index.remove(person);
+        person.setStatus(PersonnelStatus.MIA);
+
+        assertTrue(index.getPersonnelWithStatus(PersonnelStatus.MIA).isEmpty());
+    }
+
+    @Test
+    void testViewsAreUnmodifiable() {
+        Person person = createPerson(PersonnelStatus.ACTIVE, PersonnelRole.MEKWARRIOR);
+
+        assertThrows(UnsupportedOperationException.class,
+              () -> index.getPersonnelWithStatus(PersonnelStatus.ACTIVE).remove(person));
+        assertThrows(UnsupportedOperationException.class,
+              () -> index.getPersonnelWithStatus(PersonnelStatus.POW).add(person));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.stratCon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the changed coordinates tracking in {@link StratConTrackState}
+ */
+class StratConTrackStateTest {
+
+    @Test
+    void pollChangedCoords_initially_reportsEverythingChanged() {
+        StratConTrackState track = new StratConTrackState();
+
+        assertNull(track.pollChangedCoords());
+        assertTrue(track.pollChangedCoords().isEmpty());
+    }
+
+    @Test
+    void pollChangedCoords_afterRevealAndTerrainChange_reportsOnlyThoseCoords() {
+        StratConTrackState track = new StratConTrackState();
+        track.pollChangedCoords();
+
+        track.revealCoords(new StratConCoords(1, 2));
+        track.setTerrainTile(new StratConCoords(3, 4), "Forest");
+
+        assertEquals(Set.of(new StratConCoords(1, 2), new StratConCoords(3, 4)), track.pollChangedCoords());
+        assertTrue(track.pollChangedCoords().isEmpty());
+    }
+
+    @Test
+    void pollChangedCoords_revealingRevealedCoords_reportsNothing() {
+        StratConTrackState track = new StratConTrackState();
+        track.revealCoords(new StratConCoords(1, 2));
+        track.pollChangedCoords();
+
+        track.revealCoords(new StratConCoords(1, 2));
+
+        assertTrue(track.pollChangedCoords().isEmpty());
+        assertTrue(track.coordsRevealed(1, 2));
+    }
+
+    @Test
+    void pollChangedCoords_afterReplacingRevealedCoords_reportsEverythingChanged() {
+        StratConTrackState track = new StratConTrackState();
+        track.pollChangedCoords();
+
+        track.setRevealedCoords(new HashSet<>());
+
+        assertNull(track.pollChangedCoords());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import megamek.common.units.Crew;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BattleValueCacheTest {
+    private Entity mockEntity;
+    private Crew mockCrew;
+    private BattleValueCache cache;
+
+    @BeforeEach
+    void setUp() {
+        mockCrew = mock(Crew.class);
+        when(mockCrew.getGunnery()).thenReturn(4);
+        when(mockCrew.getPiloting()).thenReturn(5);
+
+        mockEntity = mock(Entity.class);
+        when(mockEntity.getCrew()).thenReturn(mockCrew);
+        when(mockEntity.calculateBattleValue()).thenReturn(1000);
+        when(mockEntity.calculateBattleValue(true, true)).thenReturn(800);
+        when(mockEntity.calculateBattleValue(true, false)).thenReturn(900);
+        when(mockEntity.getGenericBattleValue()).thenReturn(700);
+
+        cache = new BattleValueCache();
+    }
+
+    @Test
+    void testReusesCalculatedValues() {
+        assertEquals(1000, cache.getBattleValue(mockEntity));
+        assertEquals(1000, cache.getBattleValue(mockEntity));
+        assertEquals(700, cache.getGenericBattleValue(mockEntity));
+        assertEquals(700, cache.getGenericBattleValue(mockEntity));
+
+        verify(mockEntity, times(1)).calculateBattleValue();
+        verify(mockEntity, times(1)).getGenericBattleValue();
+    }
+
+    @Test
+    void testKeepsFlagCombinationsApart() {
+        assertEquals(800, cache.getBattleValue(mockEntity, true, true));
+        assertEquals(900, cache.getBattleValue(mockEntity, true, false));
+        assertEquals(800, cache.getBattleValue(mockEntity, true, true));
+
+        verify(mockEntity, times(1)).calculateBattleValue(true, true);
+        verify(mockEntity, times(1)).calculateBattleValue(true, false);
+    }
+
+    @Test
+    void testClearRecalculates() {
+        cache.getBattleValue(mockEntity);
+        cache.clear();
+        cache.getBattleValue(mockEntity);
+
+        verify(mockEntity, times(2)).calculateBattleValue();
+    }
+
+    @Test
+    void testCrewSkillChangeRecalculates() {
+        cache.getBattleValue(mockEntity);
+        when(mockCrew.getGunnery()).thenReturn(3);
+        when(mockEntity.calculateBattleValue()).thenReturn(1100);
+
+        assertEquals(1100, cache.getBattleValue(mockEntity));
+        verify(mockEntity, times(2)).calculateBattleValue();
+    }
+
+    @Test
+    void testNewEntityRecalculates() {
+        cache.getBattleValue(mockEntity);
+
+        Entity refitEntity = mock(Entity.class);
+        when(refitEntity.getCrew()).thenReturn(mockCrew);
+        when(refitEntity.calculateBattleValue()).thenReturn(1200);
+
+        assertEquals(1200, cache.getBattleValue(refitEntity));
+    }
+
+    @Test
+    void testHandlesMissingCrew() {
+        when(mockEntity.getCrew()).thenReturn(null);
+
+        assertEquals(1000, cache.getBattleValue(mockEntity));
+        assertEquals(1000, cache.getBattleValue(mockEntity));
+        verify(mockEntity, times(1)).calculateBattleValue();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.equipment.Mounted;
+import megamek.common.loaders.EntityLoadingException;
+import megamek.common.loaders.MekFileParser;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import testUtilities.MHQTestUtilities;
+
+public class EntityTemplateCacheTest {
+    private static final File GRIFFIN = new File(MHQTestUtilities.TEST_UNIT_DATA_DIR + "Griffin GRF-1E Sparky.mtf");
+    private static final File CRUSADER = new File(MHQTestUtilities.TEST_UNIT_DATA_DIR + "Crusader CRD-7M.mtf");
+
+    @BeforeAll
+    public static void beforeAll() {
+        EquipmentType.initializeTypes();
+    }
+
+    @Test
+    public void testRepeatedLoadsAreCopiesOfTheTemplate() throws EntityLoadingException {
+        EntityTemplateCache cache = new EntityTemplateCache(EntityTemplateCache.MAX_CACHED_BYTES);
+
+        Entity first = cache.getEntity(GRIFFIN, null);
+        assertNotNull(first);
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getHits());
+
+        // Changing the entity we were handed must not leak into later copies
+        int originalArmor = first.getArmor(0);
+        first.setArmor(0, 0);
+
+        Entity second = cache.getEntity(GRIFFIN, null);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertEquals(first.getShortName(), second.getShortName());
+        assertEquals(originalArmor, second.getArmor(0));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testCopyMatchesFreshlyParsedEntity() throws EntityLoadingException {
+        EntityTemplateCache cache = new EntityTemplateCache(EntityTemplateCache.MAX_CACHED_BYTES);
+        cache.getEntity(CRUSADER, null);
+
+        Entity copy = cache.getEntity(CRUSADER, null);
+        assertNotNull(copy);
+        assertEquals(1, cache.getHits());
+
+        Entity parsed = new MekFileParser(CRUSADER, null).getEntity();
+        assertEquals(typesOf(parsed.getEquipment()), typesOf(copy.getEquipment()));
+        assertEquals(typesOf(parsed.getAmmo()), typesOf(copy.getAmmo()));
+        assertEquals(parsed.getAmmo().stream().map(Mounted::getBaseShotsLeft).toList(),
+              copy.getAmmo().stream().map(Mounted::getBaseShotsLeft).toList());
+        assertEquals(parsed.calculateBattleValue(), copy.calculateBattleValue());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTemplateIsEvicted() throws EntityLoadingException {
+        EntityTemplateCache sizingCache = new EntityTemplateCache(EntityTemplateCache.MAX_CACHED_BYTES);
+        sizingCache.getEntity(GRIFFIN, null);
+        sizingCache.getEntity(CRUSADER, null);
+        long bothBytes = sizingCache.getCachedBytes();
+
+        // Only room for one of the two units
+        EntityTemplateCache cache = new EntityTemplateCache(bothBytes - 1);
+        cache.getEntity(GRIFFIN, null);
+        cache.getEntity(CRUSADER, null);
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertTrue(cache.getCachedBytes() < bothBytes);
+
+        // The Crusader is still cached, the Griffin has to be parsed again
+        cache.getEntity(CRUSADER, null);
+        assertEquals(1, cache.getHits());
+        cache.getEntity(GRIFFIN, null);
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void testModifiedUnitFileIsParsedAgain(@TempDir Path tempDir) throws EntityLoadingException, IOException {
+        File unitFile = tempDir.resolve(GRIFFIN.getName()).toFile();
+        Files.copy(GRIFFIN.toPath(), unitFile.toPath());
+
+        EntityTemplateCache cache = new EntityTemplateCache(EntityTemplateCache.MAX_CACHED_BYTES);
+        cache.getEntity(unitFile, null);
+
+        long lastModified = unitFile.lastModified();
+        assertTrue(unitFile.setLastModified(lastModified + 10_000));
+        assertNotEquals(lastModified, unitFile.lastModified());
+
+        cache.getEntity(unitFile, null);
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    private static List<EquipmentType> typesOf(List<? extends Mounted<?>> mounted) {
+        return mounted.stream().map(Mounted::getType).map(EquipmentType.class::cast).toList();
+    }
+}
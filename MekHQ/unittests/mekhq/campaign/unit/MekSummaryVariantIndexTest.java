@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.UnitType;
+import org.junit.jupiter.api.Test;
+
+public class MekSummaryVariantIndexTest {
+    private static final String MEK = UnitType.getTypeName(UnitType.MEK);
+    private static final String TANK = UnitType.getTypeName(UnitType.TANK);
+    private static final String BATTLE_ARMOR = UnitType.getTypeName(UnitType.BATTLE_ARMOR);
+
+    private static MekSummary summary(String chassis, String model, String unitType, double tons) {
+        MekSummary summary = mock(MekSummary.class);
+        when(summary.getChassis()).thenReturn(chassis);
+        when(summary.getModel()).thenReturn(model);
+        when(summary.getUnitType()).thenReturn(unitType);
+        when(summary.getTons()).thenReturn(tons);
+        when(summary.getTWWeight()).thenReturn(tons);
+        return summary;
+    }
+
+    @Test
+    public void testFindsVariantsSharingChassisTypeAndTonnage() {
+        MekSummary griffin1N = summary("Griffin", "GRF-1N", MEK, 55);
+        MekSummary griffin1S = summary("GRIFFIN", "GRF-1S", MEK, 55);
+        MekSummary heavyGriffin = summary("Griffin", "GRF-9X", MEK, 60);
+        MekSummary griffinTank = summary("Griffin", "Tank", TANK, 55);
+        MekSummary shadowHawk = summary("Shadow Hawk", "SHD-2H", MEK, 55);
+        MekSummary[] summaries = { griffin1N, griffin1S, heavyGriffin, griffinTank, shadowHawk };
+
+        MekSummaryVariantIndex index = new MekSummaryVariantIndex();
+        List<MekSummary> variants = index.getVariants(summaries, "griffin", MEK, 55);
+
+        assertEquals(List.of(griffin1N, griffin1S), variants);
+        assertEquals(List.of(griffinTank), index.getVariants(summaries, "Griffin", TANK, 55));
+        assertTrue(index.getVariants(summaries, "Griffin", MEK, 50).isEmpty());
+        assertTrue(index.getVariants(summaries, null, MEK, 55).isEmpty());
+    }
+
+    @Test
+    public void testBattleArmorIsIndexedByTroopers() {
+        MekSummary elementalSquad = summary("Elemental", "Point", BATTLE_ARMOR, 5);
+        MekSummary elementalPair = summary("Elemental", "Pair", BATTLE_ARMOR, 2.9);
+        MekSummary[] summaries = { elementalSquad, elementalPair };
+
+        MekSummaryVariantIndex index = new MekSummaryVariantIndex();
+
+        assertEquals(List.of(elementalSquad), index.getVariants(summaries, "Elemental", BATTLE_ARMOR, 5));
+        assertEquals(List.of(elementalPair), index.getVariants(summaries, "Elemental", BATTLE_ARMOR, 2));
+    }
+
+    @Test
+    public void testReloadedCacheIsReindexed() {
+        MekSummary griffin1N = summary("Griffin", "GRF-1N", MEK, 55);
+        MekSummary griffin1S = summary("Griffin", "GRF-1S", MEK, 55);
+
+        MekSummaryVariantIndex index = new MekSummaryVariantIndex();
+        assertEquals(List.of(griffin1N), index.getVariants(new MekSummary[] { griffin1N }, "Griffin", MEK, 55));
+        assertEquals(List.of(griffin1N, griffin1S),
+              index.getVariants(new MekSummary[] { griffin1N, griffin1S }, "Griffin", MEK, 55));
+    }
+}
@@ -35,6 +35,7 @@ package mekhq.campaign.universe;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -134,6 +135,31 @@ public class FactionBorderTrackerTest {
         assertEquals(0, border.size());
     }
 
+    @Test
+    public void testDateChangeKeepsUnchangedBorders() {
+        FactionBorderTracker tracker = buildTestTracker();
+        tracker.setDefaultBorderSize(1, 1, 1);
+
+        FactionBorders borders = tracker.getBorders(factionUs);
+        List<PlanetarySystem> border = tracker.getBorderSystems(factionUs, factionThem);
+        tracker.setDate(tracker.getLastUpdated().plusDays(1));
+
+        assertSame(borders, tracker.getBorders(factionUs));
+        assertSame(border, tracker.getBorderSystems(factionUs, factionThem));
+    }
+
+    @Test
+    public void testSetBorderSizeRecalculatesBorderSystems() {
+        FactionBorderTracker tracker = buildTestTracker();
+        tracker.setDefaultBorderSize(1, 1, 1);
+
+        assertEquals(2, tracker.getBorderSystems(factionUs, factionThem).size());
+
+        tracker.setBorderSize(factionUs, 3);
+
+        assertEquals(8, tracker.getBorderSystems(factionUs, factionThem).size());
+    }
+
     @Test
     public void testDefaultBorderSize() {
         Faction is = createFaction("is", false, false);
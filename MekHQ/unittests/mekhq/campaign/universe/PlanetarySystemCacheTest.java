@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static testUtilities.MHQTestUtilities.TEST_CANON_SYSTEMS_DIR;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PlanetarySystemCacheTest {
+    private static final LocalDate TODAY = LocalDate.of(3067, 1, 1);
+
+    @Test
+    public void testRoundTrip(final @TempDir Path temporaryDirectory) {
+        Systems systems = new Systems();
+        systems.load(TEST_CANON_SYSTEMS_DIR);
+        List<File> sources = List.of(new File(TEST_CANON_SYSTEMS_DIR + "Galatea.yml"),
+              new File(TEST_CANON_SYSTEMS_DIR + "Skye.yml"));
+        File cacheFile = temporaryDirectory.resolve("systems.cache").toFile();
+
+        new PlanetarySystemCache(cacheFile, sources).write(systems.getSystems().values(), 1.5);
+        PlanetarySystemCache.CachedSystems cached = new PlanetarySystemCache(cacheFile, sources).read();
+
+        assertNotNull(cached);
+        assertEquals(1.5, cached.parseSeconds());
+        assertEquals(systems.getSystems().size(), cached.systems().size());
+        for (PlanetarySystem system : cached.systems()) {
+            PlanetarySystem original = systems.getSystemById(system.getId());
+            assertNotNull(original);
+            assertEquals(original.getX(), system.getX());
+            assertEquals(original.getPopulation(TODAY), system.getPopulation(TODAY));
+            assertEquals(original.getHPG(TODAY), system.getHPG(TODAY));
+            assertEquals(original.getPlanets().size(), system.getPlanets().size());
+        }
+    }
+
+    @Test
+    public void testChangedSourcesInvalidateCache(final @TempDir Path temporaryDirectory) {
+        Systems systems = new Systems();
+        systems.load(TEST_CANON_SYSTEMS_DIR);
+        File cacheFile = temporaryDirectory.resolve("systems.cache").toFile();
+
+        new PlanetarySystemCache(cacheFile, List.of(new File(TEST_CANON_SYSTEMS_DIR + "Galatea.yml")))
+              .write(systems.getSystems().values(), 1.0);
+
+        assertNull(new PlanetarySystemCache(cacheFile,
+              List.of(new File(TEST_CANON_SYSTEMS_DIR + "Skye.yml"))).read());
+    }
+
+    @Test
+    public void testEditKeepingSizeAndTimeInvalidatesCache(final @TempDir Path temporaryDirectory) throws IOException {
+        Systems systems = new Systems();
+        systems.load(TEST_CANON_SYSTEMS_DIR);
+        Path source = temporaryDirectory.resolve("Galatea.yml");
+        Files.copy(Path.of(TEST_CANON_SYSTEMS_DIR + "Galatea.yml"), source);
+        long lastModified = source.toFile().lastModified();
+        File cacheFile = temporaryDirectory.resolve("systems.cache").toFile();
+
+        new PlanetarySystemCache(cacheFile, List.of(source.toFile())).write(systems.getSystems().values(), 1.0);
+        assertNotNull(new PlanetarySystemCache(cacheFile, List.of(source.toFile())).read());
+
+        // Change one character and put the modification time back, as restoring an old copy would
+        byte[] contents = Files.readAllBytes(source);
+        contents[contents.length / 2] = (byte) ((contents[contents.length / 2] == 'x') ? 'y' : 'x');
+        Files.write(source, contents);
+        assertTrue(source.toFile().setLastModified(lastModified));
+
+        assertNull(new PlanetarySystemCache(cacheFile, List.of(source.toFile())).read());
+    }
+
+    @Test
+    public void testMissingCacheFile(final @TempDir Path temporaryDirectory) {
+        File cacheFile = temporaryDirectory.resolve("missing.cache").toFile();
+
+        assertNull(new PlanetarySystemCache(cacheFile, List.of()).read());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PlanetarySystemGridTest {
+    private static PlanetarySystem system(double x, double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        return system;
+    }
+
+    private static double distance(PlanetarySystem system, double x, double y) {
+        return Math.hypot(system.getX() - x, system.getY() - y);
+    }
+
+    @Test
+    public void testEmptyGridHasNoNearestSystem() {
+        assertNull(new PlanetarySystemGrid(List.of()).nearest(0.0, 0.0));
+    }
+
+    @Test
+    public void testFindsNearestAcrossCells() {
+        PlanetarySystem terra = system(0.0, 0.0);
+        PlanetarySystem nearby = system(-31.0, -2.0);
+        PlanetarySystem distant = system(500.0, -700.0);
+        PlanetarySystemGrid grid = new PlanetarySystemGrid(List.of(terra, nearby, distant));
+
+        assertSame(terra, grid.nearest(1.0, 1.0));
+        assertSame(nearby, grid.nearest(-20.0, 0.0));
+        assertSame(distant, grid.nearest(450.0, -650.0));
+        // Far outside the occupied cells
+        assertSame(distant, grid.nearest(5000.0, -5000.0));
+    }
+
+    @Test
+    public void testMatchesLinearSearch() {
+        Random random = new Random(42);
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            systems.add(system(random.nextDouble() * 1200.0 - 600.0, random.nextDouble() * 1200.0 - 600.0));
+        }
+        PlanetarySystemGrid grid = new PlanetarySystemGrid(systems);
+
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextDouble() * 1600.0 - 800.0;
+            double y = random.nextDouble() * 1600.0 - 800.0;
+            double nearestDistance = Double.MAX_VALUE;
+            for (PlanetarySystem system : systems) {
+                nearestDistance = Math.min(nearestDistance, distance(system, x, y));
+            }
+            assertEquals(nearestDistance, distance(grid.nearest(x, y), x, y), 1e-9);
+        }
+    }
+
+    @Test
+    public void testEmptyGridHasNoSystemsWithin() {
+        assertTrue(new PlanetarySystemGrid(List.of()).within(-100.0, -100.0, 100.0, 100.0).isEmpty());
+    }
+
+    @Test
+    public void testWithinIncludesEdges() {
+        PlanetarySystem terra = system(0.0, 0.0);
+        PlanetarySystem corner = system(60.0, 60.0);
+        PlanetarySystem outside = system(60.5, 10.0);
+        PlanetarySystemGrid grid = new PlanetarySystemGrid(List.of(terra, corner, outside));
+
+        assertEquals(Set.of(terra, corner), new HashSet<>(grid.within(0.0, 0.0, 60.0, 60.0)));
+        assertTrue(grid.within(1000.0, 1000.0, 2000.0, 2000.0).isEmpty());
+    }
+
+    @Test
+    public void testWithinMatchesLinearSearch() {
+        Random random = new Random(42);
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            systems.add(system(random.nextDouble() * 1200.0 - 600.0, random.nextDouble() * 1200.0 - 600.0));
+        }
+        PlanetarySystemGrid grid = new PlanetarySystemGrid(systems);
+
+        for (int i = 0; i < 100; i++) {
+            double minX = random.nextDouble() * 1600.0 - 800.0;
+            double minY = random.nextDouble() * 1600.0 - 800.0;
+            // Mix small regions, which walk the cells, with ones large enough to check every system
+            double size = random.nextDouble() * ((i % 2 == 0) ? 100.0 : 1500.0);
+            Set<PlanetarySystem> expected = new HashSet<>();
+            for (PlanetarySystem system : systems) {
+                if ((system.getX() >= minX) && (system.getX() <= minX + size)
+                          && (system.getY() >= minY) && (system.getY() <= minY + size)) {
+                    expected.add(system);
+                }
+            }
+            assertEquals(expected, new HashSet<>(grid.within(minX, minY, minX + size, minY + size)));
+        }
+    }
+}
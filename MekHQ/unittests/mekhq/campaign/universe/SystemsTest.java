@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class SystemsTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(3025, 1, 1);
+    private static final LocalDate SECOND_DAY = FIRST_DAY.plusDays(1);
+
+    private PlanetarySystem createSystem(final String id, final double x, final double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        when(system.getDistanceTo(any(PlanetarySystem.class))).thenAnswer(invocation -> {
+            PlanetarySystem other = invocation.getArgument(0);
+            return Math.hypot(x - other.getX(), y - other.getY());
+        });
+        return system;
+    }
+
+    @Test
+    public void testReplacingSystemRebuildsJumpGraph() {
+        TestSystems systems = new TestSystems();
+        systems.addPlanetarySystem(createSystem("Alpha", 0.0, 0.0));
+        systems.addPlanetarySystem(createSystem("Beta", 10.0, 0.0));
+        JumpGraph graph = systems.getJumpGraph();
+
+        PlanetarySystem movedBeta = createSystem("Beta", 100.0, 0.0);
+        systems.addPlanetarySystem(movedBeta);
+        JumpGraph rebuilt = systems.getJumpGraph();
+
+        assertSame(movedBeta, rebuilt.getSystem(rebuilt.indexOf("Beta")));
+        assertSame(rebuilt, systems.getJumpGraph());
+        assertSame(graph.getSystem(graph.indexOf("Alpha")), rebuilt.getSystem(rebuilt.indexOf("Alpha")));
+    }
+
+    @Test
+    public void testSnapshotsForDifferentDatesAreBothCached() {
+        TestSystems systems = new TestSystems();
+        systems.addPlanetarySystem(createSystem("Alpha", 0.0, 0.0));
+
+        UniverseSnapshot first = systems.getSnapshot(FIRST_DAY);
+        UniverseSnapshot second = systems.getSnapshot(SECOND_DAY);
+
+        assertSame(first, systems.getSnapshot(FIRST_DAY));
+        assertSame(second, systems.getSnapshot(SECOND_DAY));
+    }
+
+    @Test
+    public void testUndatedSnapshotIsCached() {
+        TestSystems systems = new TestSystems();
+        systems.addPlanetarySystem(createSystem("Alpha", 0.0, 0.0));
+
+        assertSame(systems.getSnapshot(null), systems.getSnapshot(null));
+    }
+
+    @Test
+    public void testChangingSystemsDropsSnapshots() {
+        TestSystems systems = new TestSystems();
+        systems.addPlanetarySystem(createSystem("Alpha", 0.0, 0.0));
+        UniverseSnapshot snapshot = systems.getSnapshot(FIRST_DAY);
+
+        systems.addPlanetarySystem(createSystem("Alpha", 5.0, 0.0));
+
+        assertNotSame(snapshot, systems.getSnapshot(FIRST_DAY));
+    }
+}
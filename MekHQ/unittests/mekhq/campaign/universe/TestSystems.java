@@ -54,7 +54,7 @@ public class TestSystems extends Systems {
     }
 
     public void addPlanetarySystem(PlanetarySystem system) {
-        systemList.put(system.getId(), system);
+        putSystem(system);
     }
 
 }
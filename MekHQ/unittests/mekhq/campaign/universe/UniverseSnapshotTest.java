@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import mekhq.campaign.universe.enums.HPGRating;
+import org.junit.jupiter.api.Test;
+
+public class UniverseSnapshotTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(3025, 1, 1);
+    private static final LocalDate SECOND_DAY = FIRST_DAY.plusDays(1);
+
+    private PlanetarySystem createSystem(final String id, final long population) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getPopulation(any())).thenReturn(population);
+        when(system.getHPG(any())).thenReturn(HPGRating.B);
+        return system;
+    }
+
+    @Test
+    public void testBuildResolvesAllSystems() {
+        PlanetarySystem alpha = createSystem("Alpha", 1000L);
+        PlanetarySystem beta = createSystem("Beta", 0L);
+
+        UniverseSnapshot snapshot = UniverseSnapshot.build(List.of(alpha, beta), FIRST_DAY);
+
+        assertEquals(FIRST_DAY, snapshot.getDate());
+        assertEquals(2, snapshot.size());
+        assertEquals(1000L, snapshot.getPopulation(alpha));
+        assertEquals(0L, snapshot.getPopulation(beta));
+        assertEquals(HPGRating.B, snapshot.getHPG(alpha));
+    }
+
+    @Test
+    public void testAdvanceOnlyResolvesChangedSystems() {
+        PlanetarySystem alpha = createSystem("Alpha", 1000L);
+        PlanetarySystem beta = createSystem("Beta", 500L);
+        UniverseSnapshot snapshot = UniverseSnapshot.build(List.of(alpha, beta), FIRST_DAY);
+
+        when(alpha.hasEventBetween(FIRST_DAY, SECOND_DAY)).thenReturn(true);
+        when(alpha.getPopulation(SECOND_DAY)).thenReturn(2000L);
+
+        UniverseSnapshot advanced = snapshot.advanceTo(SECOND_DAY);
+
+        assertEquals(SECOND_DAY, advanced.getDate());
+        assertEquals(2000L, advanced.getPopulation(alpha));
+        assertEquals(500L, advanced.getPopulation(beta));
+        assertEquals(1000L, snapshot.getPopulation(alpha));
+        verify(beta, never()).getPopulation(SECOND_DAY);
+    }
+
+    @Test
+    public void testAdvanceToSameDateReturnsSameSnapshot() {
+        UniverseSnapshot snapshot = UniverseSnapshot.build(List.of(createSystem("Alpha", 1L)), FIRST_DAY);
+
+        assertSame(snapshot, snapshot.advanceTo(FIRST_DAY));
+    }
+
+    @Test
+    public void testUnknownSystemFallsBackToDirectLookup() {
+        UniverseSnapshot snapshot = UniverseSnapshot.build(List.of(createSystem("Alpha", 1L)), FIRST_DAY);
+        PlanetarySystem unknown = createSystem("Unknown", 42L);
+
+        assertEquals(42L, snapshot.getPopulation(unknown));
+    }
+
+    @Test
+    public void testPrimaryPlanetIsResolved() {
+        PlanetarySystem inhabited = createSystem("Alpha", 1000L);
+        Planet planet = mock(Planet.class);
+        when(planet.isEmpty(FIRST_DAY)).thenReturn(false);
+        when(inhabited.getPrimaryPlanet()).thenReturn(planet);
+        PlanetarySystem noPlanet = createSystem("Beta", 0L);
+
+        UniverseSnapshot snapshot = UniverseSnapshot.build(List.of(inhabited, noPlanet), FIRST_DAY);
+
+        assertFalse(snapshot.isPrimaryPlanetEmpty(inhabited));
+        assertTrue(snapshot.isPrimaryPlanetEmpty(noPlanet));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.utilities;
+
+import static mekhq.campaign.unit.enums.TransporterType.DOCKING_COLLAR;
+import static mekhq.campaign.unit.enums.TransporterType.HEAVY_VEHICLE_BAY;
+import static mekhq.campaign.unit.enums.TransporterType.LIGHT_VEHICLE_BAY;
+import static mekhq.campaign.unit.enums.TransporterType.MEK_BAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Map;
+
+import mekhq.campaign.utilities.TransportBinPacker.Placement;
+import org.junit.jupiter.api.Test;
+
+class TransportBinPackerTest {
+
+    @Test
+    void pack_fillsTightestTransportFirst() {
+        TransportBinPacker<String> packer = new TransportBinPacker<>();
+        packer.addTransport("Union", MEK_BAY, 12);
+        packer.addTransport("Leopard", MEK_BAY, 4);
+        for (int i = 0; i < 5; i++) {
+            packer.addUnit("Mek " + i, Map.of(MEK_BAY, 1.0));
+        }
+
+        Map<String, Placement<String>> placements = packer.pack((transport, unit) -> true);
+
+        assertEquals(5, placements.size());
+        assertEquals(4, placements.values().stream().filter(p -> p.transport().equals("Leopard")).count());
+        assertEquals(1, placements.values().stream().filter(p -> p.transport().equals("Union")).count());
+    }
+
+    @Test
+    void pack_usesAnyTransporterTypeTheUnitFits() {
+        TransportBinPacker<String> packer = new TransportBinPacker<>();
+        packer.addTransport("Leopard", HEAVY_VEHICLE_BAY, 1);
+        packer.addUnit("Light Tank", Map.of(LIGHT_VEHICLE_BAY, 1.0, HEAVY_VEHICLE_BAY, 1.0));
+        packer.addUnit("Mek", Map.of(MEK_BAY, 1.0));
+
+        Map<String, Placement<String>> placements = packer.pack((transport, unit) -> true);
+
+        assertEquals(new Placement<>("Leopard", HEAVY_VEHICLE_BAY), placements.get("Light Tank"));
+        assertFalse(placements.containsKey("Mek"));
+    }
+
+    @Test
+    void pack_doesNotOverfillTransports() {
+        TransportBinPacker<String> packer = new TransportBinPacker<>();
+        packer.addTransport("Leopard", MEK_BAY, 2);
+        packer.addUnit("Mek 1", Map.of(MEK_BAY, 1.0));
+        packer.addUnit("Mek 2", Map.of(MEK_BAY, 1.0));
+        packer.addUnit("Mek 3", Map.of(MEK_BAY, 1.0));
+
+        assertEquals(2, packer.pack((transport, unit) -> true).size());
+    }
+
+    @Test
+    void pack_respectsLoadCheck() {
+        TransportBinPacker<String> packer = new TransportBinPacker<>();
+        packer.addTransport("Union", MEK_BAY, 12);
+        packer.addTransport("Leopard", MEK_BAY, 4);
+        packer.addUnit("Mek", Map.of(MEK_BAY, 1.0));
+
+        Map<String, Placement<String>> placements = packer.pack((transport, unit) -> !transport.equals("Leopard"));
+
+        assertEquals("Union", placements.get("Mek").transport());
+    }
+
+    @Test
+    void pack_neverLoadsAUnitIntoItselfOrItsCargo() {
+        TransportBinPacker<String> packer = new TransportBinPacker<>();
+        packer.addTransport("JumpShip", DOCKING_COLLAR, 2);
+        packer.addTransport("DropShip", DOCKING_COLLAR, 1);
+        packer.addUnit("DropShip", Map.of(DOCKING_COLLAR, 1.0));
+        packer.addUnit("JumpShip", Map.of(DOCKING_COLLAR, 1.0));
+
+        Map<String, Placement<String>> placements = packer.pack((transport, unit) -> true);
+
+        assertEquals(1, placements.size());
+        for (Map.Entry<String, Placement<String>> placement : placements.entrySet()) {
+            assertNotEquals(placement.getKey(), placement.getValue().transport());
+        }
+    }
+}
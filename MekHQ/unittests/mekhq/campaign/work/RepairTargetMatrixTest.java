@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.work;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import megamek.common.rolls.TargetRoll;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.parts.missing.MissingPart;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.unit.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RepairTargetMatrixTest {
+    private Campaign mockCampaign;
+    private Unit mockUnit;
+    private Person mockTech;
+    private RepairTargetMatrix targetMatrix;
+
+    @BeforeEach
+    void setUp() {
+        mockCampaign = mock(Campaign.class);
+        when(mockCampaign.getTargetFor(any(IPartWork.class), any(Person.class), any()))
+              .thenAnswer(inv -> new TargetRoll(6, "test"));
+
+        mockUnit = mock(Unit.class);
+        mockTech = mock(Person.class);
+        targetMatrix = new RepairTargetMatrix(mockCampaign);
+    }
+
+    private IPartWork createPart(Unit unit) {
+        IPartWork partWork = mock(IPartWork.class);
+        when(partWork.getMode()).thenReturn(WorkTime.NORMAL);
+        when(partWork.getUnit()).thenReturn(unit);
+        return partWork;
+    }
+
+    private MissingPart createMissingPart(Unit unit, boolean replacementAvailable) {
+        MissingPart missingPart = mock(MissingPart.class);
+        when(missingPart.getMode()).thenReturn(WorkTime.NORMAL);
+        when(missingPart.getUnit()).thenReturn(unit);
+        when(missingPart.isReplacementAvailable()).thenReturn(replacementAvailable);
+        return missingPart;
+    }
+
+    @Test
+    void testTargetIsCalculatedOncePerCell() {
+        IPartWork partWork = createPart(mockUnit);
+
+        TargetRoll first = targetMatrix.getTargetFor(partWork, mockTech);
+        TargetRoll second = targetMatrix.getTargetFor(partWork, mockTech);
+
+        assertSame(first, second);
+        verify(mockCampaign, times(1)).getTargetFor(partWork, mockTech, targetMatrix);
+    }
+
+    @Test
+    void testEachWorkTimeHasItsOwnCell() {
+        IPartWork partWork = createPart(mockUnit);
+
+        targetMatrix.getTargetFor(partWork, mockTech);
+        when(partWork.getMode()).thenReturn(WorkTime.EXTRA_2);
+        targetMatrix.getTargetFor(partWork, mockTech);
+        targetMatrix.getTargetFor(partWork, mockTech);
+
+        verify(mockCampaign, times(2)).getTargetFor(partWork, mockTech, targetMatrix);
+    }
+
+    @Test
+    void testInvalidateTechOnlyDropsThatColumn() {
+        IPartWork partWork = createPart(mockUnit);
+        Person otherTech = mock(Person.class);
+        targetMatrix.getTargetFor(partWork, mockTech);
+        targetMatrix.getTargetFor(partWork, otherTech);
+
+        targetMatrix.invalidateTech(mockTech);
+        targetMatrix.getTargetFor(partWork, mockTech);
+        targetMatrix.getTargetFor(partWork, otherTech);
+
+        verify(mockCampaign, times(2)).getTargetFor(partWork, mockTech, targetMatrix);
+        verify(mockCampaign, times(1)).getTargetFor(partWork, otherTech, targetMatrix);
+    }
+
+    @Test
+    void testInvalidateUnitOnlyDropsItsRows() {
+        Unit otherUnit = mock(Unit.class);
+        IPartWork partWork = createPart(mockUnit);
+        IPartWork otherPartWork = createPart(otherUnit);
+        targetMatrix.checkFixable(partWork);
+        targetMatrix.checkFixable(otherPartWork);
+
+        targetMatrix.invalidateUnit(mockUnit);
+        targetMatrix.checkFixable(partWork);
+        targetMatrix.checkFixable(otherPartWork);
+
+        verify(partWork, times(2)).checkFixable();
+        verify(otherPartWork, times(1)).checkFixable();
+    }
+
+    @Test
+    void testAsTechPoolChangeRecalculates() {
+        IPartWork partWork = createPart(mockUnit);
+        targetMatrix.getTargetFor(partWork, mockTech);
+
+        when(mockCampaign.getAsTechPoolMinutes()).thenReturn(120);
+        targetMatrix.getTargetFor(partWork, mockTech);
+
+        verify(mockCampaign, times(2)).getTargetFor(partWork, mockTech, targetMatrix);
+    }
+
+    @Test
+    void testReplacementLookupIsShared() {
+        MissingPart missingPart = createMissingPart(mockUnit, true);
+
+        assertTrue(targetMatrix.isReplacementAvailable(missingPart));
+        assertTrue(targetMatrix.isReplacementAvailable(missingPart));
+
+        verify(missingPart, times(1)).isReplacementAvailable();
+    }
+
+    @Test
+    void testReplacingAPartRefreshesOtherReplacementLookups() {
+        Unit otherUnit = mock(Unit.class);
+        MissingPart replaced = createMissingPart(mockUnit, true);
+        MissingPart waiting = createMissingPart(otherUnit, true);
+        targetMatrix.isReplacementAvailable(replaced);
+        targetMatrix.isReplacementAvailable(waiting);
+
+        // The only spare went to the first part
+        when(waiting.isReplacementAvailable()).thenReturn(false);
+        targetMatrix.invalidateAfterWork(replaced, mockUnit, mockTech);
+
+        assertFalse(targetMatrix.isReplacementAvailable(waiting));
+    }
+
+    @Test
+    void testRepairingAPartKeepsOtherReplacementLookups() {
+        Unit otherUnit = mock(Unit.class);
+        IPartWork repaired = createPart(mockUnit);
+        MissingPart waiting = createMissingPart(otherUnit, true);
+        targetMatrix.isReplacementAvailable(waiting);
+
+        targetMatrix.invalidateAfterWork(repaired, mockUnit, mockTech);
+        targetMatrix.isReplacementAvailable(waiting);
+
+        verify(waiting, times(1)).isReplacementAvailable();
+    }
+}
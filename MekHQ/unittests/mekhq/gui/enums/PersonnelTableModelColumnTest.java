@@ -35,11 +35,15 @@ package mekhq.gui.enums;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.Comparator;
 import java.util.ResourceBundle;
+import java.util.function.ToLongFunction;
 import javax.swing.SortOrder;
 import javax.swing.SwingConstants;
 
@@ -48,12 +52,10 @@ import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
 import mekhq.gui.sorter.AttributeScoreSorter;
 import mekhq.gui.sorter.BonusSorter;
-import mekhq.gui.sorter.DateStringComparator;
 import mekhq.gui.sorter.EducationLevelSorter;
-import mekhq.gui.sorter.FormattedNumberSorter;
 import mekhq.gui.sorter.IntegerStringSorter;
 import mekhq.gui.sorter.LevelSorter;
-import mekhq.gui.sorter.PersonRankStringSorter;
+import mekhq.gui.sorter.PersonRankSorter;
 import mekhq.gui.sorter.ReasoningSorter;
 import org.junit.jupiter.api.Test;
 
@@ -822,13 +824,12 @@ public class PersonnelTableModelColumnTest {
         final Campaign mockCampaign = mock(Campaign.class);
         for (final PersonnelTableModelColumn personnelTableModelColumn : columns) {
             switch (personnelTableModelColumn) {
-                case RANK -> assertInstanceOf(PersonRankStringSorter.class,
+                case RANK -> assertInstanceOf(PersonRankSorter.class,
                       personnelTableModelColumn.getComparator(mockCampaign));
                 case HIGHEST_EDUCATION, CURRENT_EDUCATION -> assertInstanceOf(EducationLevelSorter.class,
                       personnelTableModelColumn.getComparator(mockCampaign));
                 case AGE, BIRTHDAY, RECRUITMENT_DATE, LAST_RANK_CHANGE_DATE, DUE_DATE, RETIREMENT_DATE, DEATH_DATE ->
-                      assertInstanceOf(DateStringComparator.class,
-                            personnelTableModelColumn.getComparator(mockCampaign));
+                      assertSame(Comparator.naturalOrder(), personnelTableModelColumn.getComparator(mockCampaign));
                 case SKILL_LEVEL ->
                       assertInstanceOf(LevelSorter.class, personnelTableModelColumn.getComparator(mockCampaign));
                 case MEK,
@@ -874,14 +875,14 @@ public class PersonnelTableModelColumnTest {
                      BLOODMARK,
                      SPA_COUNT,
                      IMPLANT_COUNT,
-                     LOYALTY -> assertInstanceOf(IntegerStringSorter.class,
+                     LOYALTY -> assertSame(Comparator.naturalOrder(),
                       personnelTableModelColumn.getComparator(mockCampaign));
                 case REASONING -> assertInstanceOf(ReasoningSorter.class,
                       personnelTableModelColumn.getComparator(mockCampaign));
                 case STRENGTH, BODY, REFLEXES, DEXTERITY, INTELLIGENCE, WILLPOWER, CHARISMA, EDGE -> assertInstanceOf(
                       AttributeScoreSorter.class,
                       personnelTableModelColumn.getComparator(mockCampaign));
-                case SALARY -> assertInstanceOf(FormattedNumberSorter.class,
+                case SALARY -> assertSame(Comparator.naturalOrder(),
                       personnelTableModelColumn.getComparator(mockCampaign));
                 default -> assertInstanceOf(NaturalOrderComparator.class,
                       personnelTableModelColumn.getComparator(mockCampaign));
@@ -889,6 +890,49 @@ public class PersonnelTableModelColumnTest {
         }
     }
 
+    @Test
+    public void testIsSortedByPerson() {
+        for (final PersonnelTableModelColumn personnelTableModelColumn : columns) {
+            if (personnelTableModelColumn == PersonnelTableModelColumn.RANK) {
+                assertTrue(personnelTableModelColumn.isSortedByPerson());
+            } else {
+                assertFalse(personnelTableModelColumn.isSortedByPerson());
+            }
+        }
+    }
+
+    @Test
+    public void testGetSortKeyParserMatchesIntegerStringSorter() {
+        final ToLongFunction<String> parser = PersonnelTableModelColumn.XP.getSortKeyParser();
+        assertNotNull(parser);
+
+        final IntegerStringSorter sorter = new IntegerStringSorter();
+        final String[] values = { "-", "abc", "-5", "0", "7", "12", "120" };
+        for (final String first : values) {
+            for (final String second : values) {
+                assertEquals(Integer.signum(sorter.compare(first, second)),
+                      Integer.signum(Long.compare(parser.applyAsLong(first), parser.applyAsLong(second))),
+                      first + " vs " + second);
+            }
+        }
+    }
+
+    @Test
+    public void testGetSortKeyParserFormattedNumbers() {
+        final ToLongFunction<String> parser = PersonnelTableModelColumn.SALARY.getSortKeyParser();
+        assertNotNull(parser);
+        assertTrue(parser.applyAsLong("") < parser.applyAsLong("-100"));
+        assertTrue(parser.applyAsLong("-100") < parser.applyAsLong("+25"));
+        assertTrue(parser.applyAsLong("900") < parser.applyAsLong("10000"));
+    }
+
+    @Test
+    public void testGetSortKeyParserTextColumns() {
+        assertNull(PersonnelTableModelColumn.RANK.getSortKeyParser());
+        assertNull(PersonnelTableModelColumn.FIRST_NAME.getSortKeyParser());
+        assertNull(PersonnelTableModelColumn.SKILL_LEVEL.getSortKeyParser());
+    }
+
     @Test
     public void testGetDefaultSortOrder() {
         for (final PersonnelTableModelColumn personnelTableModelColumn : columns) {
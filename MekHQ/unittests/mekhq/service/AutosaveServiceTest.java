@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import mekhq.MHQOptions;
+import mekhq.MekHQ;
+import mekhq.campaign.Campaign;
+import mekhq.gui.utilities.ObservableString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+class AutosaveServiceTest {
+    private static final String CAMPAIGN_XML = "<campaign version=\"0.50.11\"/>";
+
+    @TempDir
+    private Path savesDirectory;
+
+    private MockedStatic<MekHQ> mekHQ;
+    private MHQOptions options;
+    private Campaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        options = mock(MHQOptions.class);
+        when(options.getAutosaveDailyValue()).thenReturn(true);
+        when(options.getMaximumNumberOfAutoSavesValue()).thenReturn(2);
+        when(options.getDateLocale()).thenReturn(Locale.US);
+
+        mekHQ = mockStatic(MekHQ.class);
+        mekHQ.when(MekHQ::getMHQOptions).thenReturn(options);
+        mekHQ.when(MekHQ::getCampaignsDirectory)
+              .thenReturn(new ObservableString("campaignsDirectory", savesDirectory.toString()));
+
+        campaign = mock(Campaign.class);
+        when(campaign.getName()).thenReturn("Test");
+        when(campaign.getLocalDate()).thenReturn(LocalDate.of(3025, 1, 1));
+        doAnswer(invocation -> {
+            PrintWriter writer = invocation.getArgument(0);
+            writer.print(CAMPAIGN_XML);
+            return null;
+        }).when(campaign).writeToXML(any(PrintWriter.class), anyBoolean());
+    }
+
+    @AfterEach
+    void tearDown() {
+        mekHQ.close();
+    }
+
+    private List<Path> listSaves() throws IOException {
+        try (Stream<Path> files = Files.list(savesDirectory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static String readSave(Path save) throws IOException {
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(save))) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void testForegroundAutosaveIsWrittenBeforeReturning() throws IOException {
+        when(options.getAutosaveInBackgroundValue()).thenReturn(false);
+
+        new AutosaveService().requestDayAdvanceAutosave(campaign);
+
+        List<Path> saves = listSaves();
+        assertEquals(1, saves.size());
+        assertTrue(saves.get(0).getFileName().toString().startsWith("Autosave-1-Test-"));
+        assertEquals(CAMPAIGN_XML, readSave(saves.get(0)));
+    }
+
+    @Test
+    void testBackgroundAutosaveIsWrittenByShutdown() throws IOException {
+        when(options.getAutosaveInBackgroundValue()).thenReturn(true);
+
+        AutosaveService service = new AutosaveService();
+        service.requestDayAdvanceAutosave(campaign);
+        service.awaitPendingAutosaves();
+
+        // The temporary file has been renamed into place
+        List<Path> saves = listSaves();
+        assertEquals(1, saves.size());
+        assertTrue(saves.get(0).getFileName().toString().endsWith(".cpnx.gz"));
+        assertEquals(CAMPAIGN_XML, readSave(saves.get(0)));
+    }
+
+    @Test
+    void testSnapshotIsTakenWhenRequested() throws IOException {
+        when(options.getAutosaveInBackgroundValue()).thenReturn(true);
+
+        AutosaveService service = new AutosaveService();
+        service.requestDayAdvanceAutosave(campaign);
+        // Later changes to the campaign must not leak into a save that is already queued
+        when(campaign.getName()).thenReturn("Renamed");
+        service.awaitPendingAutosaves();
+
+        List<Path> saves = listSaves();
+        assertEquals(1, saves.size());
+        assertTrue(saves.get(0).getFileName().toString().startsWith("Autosave-1-Test-"));
+    }
+
+    @Test
+    void testRotationKeepsMaximumNumberOfAutosaves() throws IOException {
+        when(options.getAutosaveInBackgroundValue()).thenReturn(false);
+
+        AutosaveService service = new AutosaveService();
+        for (int i = 0; i < 4; i++) {
+            service.requestDayAdvanceAutosave(campaign);
+        }
+
+        assertEquals(2, listSaves().size());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.service.mrms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mekhq.service.mrms.MRMSAssignmentOptimizer.Option;
+import mekhq.service.mrms.MRMSAssignmentOptimizer.Task;
+import org.junit.jupiter.api.Test;
+
+class MRMSAssignmentOptimizerTest {
+    @Test
+    void testSuccessChanceMatches2d6() {
+        assertEquals(1.0, MRMSAssignmentOptimizer.successChance(2));
+        assertEquals(1.0, MRMSAssignmentOptimizer.successChance(-5));
+        assertEquals(21 / 36.0, MRMSAssignmentOptimizer.successChance(7), 1e-9);
+        assertEquals(1 / 36.0, MRMSAssignmentOptimizer.successChance(12), 1e-9);
+        assertEquals(0.0, MRMSAssignmentOptimizer.successChance(13));
+    }
+
+    @Test
+    void testUnitPriorityFavoursEarlierUnits() {
+        assertEquals(2.0, MRMSAssignmentOptimizer.unitPriority(0, 4));
+        assertTrue(MRMSAssignmentOptimizer.unitPriority(1, 4) > MRMSAssignmentOptimizer.unitPriority(2, 4));
+        assertTrue(MRMSAssignmentOptimizer.unitPriority(3, 4) > 1.0);
+    }
+
+    @Test
+    void testKeepsOnlyCapableTechFreeForLaterTask() {
+        // The first task would go to tech 0 when handed out in order, leaving nobody for the second
+        Task first = new Task(2.0, 0, false, List.of(new Option(0, 6, 480, 0), new Option(1, 6, 480, 1)));
+        Task second = new Task(1.0, 0, false, List.of(new Option(0, 6, 480, 0)));
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(List.of(first, second), new int[] { 480, 480 });
+
+        assertArrayEquals(new int[] { 1, 0 }, assignments);
+    }
+
+    @Test
+    void testPrefersLowerRankOnTies() {
+        Task task = new Task(1.0, 0, false, List.of(new Option(0, 6, 60, 1), new Option(1, 6, 60, 0)));
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(List.of(task), new int[] { 480, 480 });
+
+        assertArrayEquals(new int[] { 1 }, assignments);
+    }
+
+    @Test
+    void testPrefersBetterTargetNumber() {
+        Task task = new Task(1.0, 0, false, List.of(new Option(0, 9, 60, 0), new Option(1, 5, 60, 1)));
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(List.of(task), new int[] { 480, 480 });
+
+        assertArrayEquals(new int[] { 1 }, assignments);
+    }
+
+    @Test
+    void testDoesNotOverbookWithoutCarryover() {
+        Task first = new Task(1.0, 0, false, List.of(new Option(0, 6, 300, 0)));
+        Task second = new Task(2.0, 0, false, List.of(new Option(0, 6, 300, 0)));
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(List.of(first, second), new int[] { 480 });
+
+        assertArrayEquals(new int[] { -1, 0 }, assignments);
+    }
+
+    @Test
+    void testCarryoverUsesRemainingMinutes() {
+        Task first = new Task(2.0, 0, true, List.of(new Option(0, 6, 300, 0)));
+        Task second = new Task(1.0, 0, true, List.of(new Option(0, 6, 300, 0)));
+        Task third = new Task(1.0, 0, true, List.of(new Option(0, 6, 300, 0)));
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(List.of(first, second, third), new int[] { 480 });
+
+        assertArrayEquals(new int[] { 0, 0, -1 }, assignments);
+    }
+
+    @Test
+    void testRespectsMinimumMinutes() {
+        Task task = new Task(1.0, 120, true, List.of(new Option(0, 6, 60, 0), new Option(1, 6, 60, 1)));
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(List.of(task), new int[] { 100, 480 });
+
+        assertArrayEquals(new int[] { 1 }, assignments);
+    }
+
+    @Test
+    void testIgnoresUnknownTechs() {
+        Task task = new Task(1.0, 0, false, List.of(new Option(-1, 2, 60, 0), new Option(3, 2, 60, 1)));
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(List.of(task), new int[] { 480 });
+
+        assertArrayEquals(new int[] { -1 }, assignments);
+    }
+
+    @Test
+    void testNeverExceedsTechMinutes() {
+        int[] techMinutes = { 480, 240, 480 };
+        List<Task> tasks = new ArrayList<>();
+
+        for (int i = 0; i < 12; i++) {
+            tasks.add(new Task(MRMSAssignmentOptimizer.unitPriority(i / 3, 4),
+                  0,
+                  false,
+                  List.of(new Option(i % 3, 4 + (i % 5), 90 + (15 * i), 0),
+                        new Option((i + 1) % 3, 6, 120, 1))));
+        }
+
+        int[] assignments = MRMSAssignmentOptimizer.solve(tasks, techMinutes);
+        int[] used = new int[techMinutes.length];
+        int assignedCount = 0;
+
+        for (int i = 0; i < tasks.size(); i++) {
+            if (assignments[i] >= 0) {
+                Option option = tasks.get(i).options().get(assignments[i]);
+                used[option.techIndex()] += option.minutes();
+                assignedCount++;
+            }
+        }
+
+        for (int tech = 0; tech < techMinutes.length; tech++) {
+            assertTrue(used[tech] <= techMinutes[tech], "Tech " + tech + " is overbooked");
+        }
+
+        assertTrue(assignedCount > 0);
+    }
+}
@@ -82,6 +82,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 
 /**
  * JUnit Tests for {@link MRMSService}
@@ -144,7 +145,8 @@ public class MRMSServiceTest {
 
         //Part p = mock(Part.class);
         when(mockCampaign.getTargetFor(any(IPartWork.class), any(Person.class))).thenReturn(mockBaseTargetRoll);
-        doAnswer(inv -> {
+        when(mockCampaign.getTargetFor(any(IPartWork.class), any(Person.class), any())).thenReturn(mockBaseTargetRoll);
+        Answer<TargetRoll> targetRollAnswer = inv -> {
             Part part = inv.getArgument(0);
             if (part.equals(lastPartWork) && part.getMode() == lastPartWork.getMode()) {
                 return mockBaseTargetRoll;
@@ -165,7 +167,9 @@ public class MRMSServiceTest {
                 when(mockBaseTargetRoll.getValue()).thenReturn(targetRoll);
             }
             return mockBaseTargetRoll;
-        }).when(mockCampaign).getTargetFor(any(Part.class), any(Person.class));
+        };
+        doAnswer(targetRollAnswer).when(mockCampaign).getTargetFor(any(Part.class), any(Person.class));
+        doAnswer(targetRollAnswer).when(mockCampaign).getTargetFor(any(Part.class), any(Person.class), any());
     }
 
 